@@ -0,0 +1,10000 @@
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 26, '01/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '01/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '01/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '01/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '01/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 33, '01/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '01/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '01/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '01/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '01/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '01/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '01/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 16, '01/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '01/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '01/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '01/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 24, '01/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '01/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '01/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '01/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '01/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '01/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 22, '01/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '01/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '01/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '01/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '01/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 34, '01/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '01/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '02/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '02/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '02/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '02/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '02/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 29, '02/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '02/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '02/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 15, '02/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '02/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '02/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '02/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '02/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '02/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '02/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 30, '02/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '02/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '02/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '02/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '02/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 27, '02/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '02/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '02/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '03/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '03/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 17, '03/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '03/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '03/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 12, '03/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '03/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '03/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '03/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '03/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '03/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '03/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 27, '03/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '03/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '03/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '03/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '03/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '03/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '03/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 13, '03/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '03/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '03/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 17, '03/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '03/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '03/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '03/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '04/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 12, '04/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '04/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '04/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 22, '04/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '04/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '04/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '04/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '04/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '04/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 20, '04/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '04/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '04/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '04/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '04/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '04/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 25, '04/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '04/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '04/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '04/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '04/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '04/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '04/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 21, '04/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '04/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '04/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '05/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '05/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 27, '05/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '05/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '05/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '05/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '05/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '05/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 37, '05/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '05/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '05/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '05/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '05/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '05/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '05/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 30, '05/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '05/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '05/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '05/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '05/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '05/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '05/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '05/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 28, '05/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '06/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '06/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '06/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 18, '06/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '06/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '06/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '06/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '06/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '06/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '06/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 34, '06/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '06/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '06/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '06/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '06/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '06/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '06/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '06/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '06/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 22, '06/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '06/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '06/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '07/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '07/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 25, '07/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '07/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 12, '07/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '07/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '07/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '07/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '07/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '07/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '07/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '07/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 31, '07/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '07/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '07/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '07/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '07/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '07/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '07/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 22, '07/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '07/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '07/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '07/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 23, '07/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '07/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '08/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '08/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 15, '08/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '08/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '08/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '08/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '08/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '08/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 32, '08/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '08/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '08/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '08/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '08/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '08/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '08/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '08/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 18, '08/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '08/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '08/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '08/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '08/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 15, '08/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '08/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 14, '08/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '08/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '08/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '09/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '09/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '09/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 38, '09/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '09/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '09/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '09/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '09/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '09/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '09/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '09/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 23, '09/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '09/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '09/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '09/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '09/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '09/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 36, '09/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '09/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '09/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '09/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '10/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '10/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '10/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '10/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 33, '10/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '10/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '10/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '10/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '10/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '10/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '10/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '10/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '10/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 20, '10/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '10/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '10/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '10/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '10/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '10/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 37, '10/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '10/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '10/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '10/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '10/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '11/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '11/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '11/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 24, '11/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '11/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '11/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '11/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '11/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '11/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '11/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 33, '11/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '11/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '11/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '11/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '11/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '11/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '11/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '11/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 27, '11/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '11/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '11/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '11/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '12/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '12/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 17, '12/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '12/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '12/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '12/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '12/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 23, '12/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '12/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '12/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '12/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '12/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 16, '12/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '12/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '12/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '12/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '12/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 21, '12/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '12/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '12/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '12/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 26, '12/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '12/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '12/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '12/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '12/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 24, '12/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '12/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '12/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '01/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '01/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '01/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '01/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '01/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 25, '01/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '01/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '01/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '01/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '01/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 27, '01/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '01/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '01/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '01/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 23, '01/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '01/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '01/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 12, '01/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '01/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '01/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '01/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '01/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '01/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '01/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 20, '01/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '02/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '02/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '02/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 22, '02/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '02/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '02/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '02/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '02/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '02/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '02/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '02/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '02/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 25, '02/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '02/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '02/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '02/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '02/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 26, '02/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '02/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '02/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '02/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '02/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '02/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '02/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 29, '02/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '03/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '03/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '03/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '03/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '03/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 22, '03/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '03/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '03/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '03/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '03/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '03/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 25, '03/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '03/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '03/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '03/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '03/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '03/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 12, '03/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '03/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '03/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 23, '03/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '03/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 16, '03/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '03/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '03/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '03/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '04/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '04/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '04/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '04/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '04/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 15, '04/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '04/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '04/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 35, '04/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '04/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '04/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '04/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '04/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '04/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 28, '04/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '04/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '04/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '04/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '04/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '04/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '04/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 32, '04/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '04/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '05/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '05/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '05/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '05/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 31, '05/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '05/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 12, '05/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '05/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '05/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '05/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '05/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '05/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '05/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '05/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '05/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '05/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 29, '05/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '05/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '05/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '05/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '05/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '05/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '05/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 30, '05/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '05/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '05/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '06/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '06/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '06/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 23, '06/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '06/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '06/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '06/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '06/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 31, '06/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '06/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '06/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '06/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '06/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '06/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '06/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 20, '06/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '06/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '06/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '06/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '06/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 24, '06/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '06/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '06/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '06/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '07/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '07/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 19, '07/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '07/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '07/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '07/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '07/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 29, '07/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '07/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '07/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '07/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '07/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '07/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '07/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 19, '07/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '07/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '07/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '07/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '07/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 24, '07/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '07/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '07/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '07/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '07/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '07/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 17, '07/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '07/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '08/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '08/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 35, '08/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '08/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '08/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '08/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '08/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '08/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 12, '08/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '08/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '08/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '08/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '08/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 25, '08/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '08/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '08/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '08/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '08/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '08/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '08/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 16, '08/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '08/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '08/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '08/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '08/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 17, '08/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '09/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '09/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '09/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '09/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '09/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 12, '09/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '09/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '09/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 29, '09/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '09/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '09/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '09/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '09/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '09/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '09/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '09/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 27, '09/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '09/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '09/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '09/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '09/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 35, '09/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '09/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '09/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '09/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '10/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '10/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '10/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '10/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 32, '10/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '10/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '10/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '10/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '10/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '10/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '10/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '10/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 13, '10/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '10/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '10/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '10/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 35, '10/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '10/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '10/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '10/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 15, '10/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '10/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '10/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '11/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '11/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '11/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '11/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '11/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 22, '11/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '11/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '11/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '11/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '11/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 20, '11/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '11/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 16, '11/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '11/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '11/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '11/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 15, '11/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '11/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '11/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 12, '11/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '11/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 12, '11/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '11/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '11/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '11/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '11/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '11/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '11/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '12/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '12/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '12/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 31, '12/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '12/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '12/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '12/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '12/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '12/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '12/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '12/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 18, '12/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '12/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '12/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 18, '12/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '12/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '12/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '12/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '12/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 27, '12/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '12/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '12/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '12/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '12/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '12/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 32, '12/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '01/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 12, '01/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '01/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '01/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '01/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '01/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '01/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '01/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '01/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '01/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 32, '01/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '01/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '01/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '01/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '01/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '01/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 12, '01/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '01/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '01/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '01/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 34, '01/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '01/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 12, '01/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '01/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '01/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '01/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '02/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '02/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '02/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '02/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '02/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 20, '02/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '02/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '02/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '02/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '02/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 30, '02/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '02/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '02/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 12, '02/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '02/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '02/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '02/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '02/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '02/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 16, '02/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '02/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '02/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '02/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '02/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 23, '02/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '03/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '03/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '03/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '03/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '03/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 16, '03/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '03/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '03/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '03/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 34, '03/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '03/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '03/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '03/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '03/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '03/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '03/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 32, '03/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '03/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '03/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '03/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '03/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 21, '03/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '03/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '03/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '04/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '04/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '04/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '04/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '04/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 27, '04/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '04/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '04/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '04/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '04/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '04/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 26, '04/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '04/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '04/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '04/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '04/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '04/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '04/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 29, '04/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '04/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '04/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '04/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '04/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 24, '04/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '05/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '05/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '05/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '05/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '05/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 20, '05/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '05/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '05/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '05/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 34, '05/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '05/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '05/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '05/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 16, '05/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '05/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '05/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '05/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '05/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '05/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '05/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '05/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '05/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 20, '05/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '06/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '06/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '06/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '06/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 33, '06/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '06/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '06/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '06/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '06/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '06/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 24, '06/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '06/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '06/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 12, '06/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '06/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '06/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '06/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '06/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 12, '06/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '06/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '06/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '06/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '06/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '06/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '07/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 22, '07/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '07/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '07/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '07/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '07/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 20, '07/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '07/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '07/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '07/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '07/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 17, '07/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '07/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 14, '07/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '07/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '07/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '07/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '07/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '07/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 34, '07/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '07/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '07/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '07/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '07/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '07/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '08/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 15, '08/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '08/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '08/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '08/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '08/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 21, '08/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '08/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '08/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 24, '08/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '08/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '08/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '08/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '08/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '08/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '08/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '08/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '08/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 32, '08/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '08/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '08/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '08/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '08/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '08/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '08/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 12, '08/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '08/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '09/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 25, '09/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '09/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '09/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '09/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '09/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '09/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 37, '09/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '09/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '09/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '09/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '09/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '09/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '09/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '09/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 17, '09/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '09/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '09/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '09/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '09/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 19, '09/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '09/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '09/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '10/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 15, '10/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '10/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '10/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '10/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 29, '10/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '10/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '10/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '10/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '10/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '10/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '10/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 13, '10/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '10/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '10/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 13, '10/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '10/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '10/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '10/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 19, '10/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '10/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 18, '10/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '10/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '11/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '11/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '11/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '11/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '11/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 19, '11/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '11/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '11/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '11/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '11/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 22, '11/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '11/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '11/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '11/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '11/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 23, '11/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '11/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -3, '11/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '11/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '11/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '11/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 16, '11/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '11/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '11/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '12/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 18, '12/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '12/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '12/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '12/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '12/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 13, '12/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '12/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '12/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 13, '12/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -6, '12/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '12/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '12/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 29, '12/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '12/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '12/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -5, '12/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -4, '12/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), 26, '12/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Court'), -7, '12/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), 28, '01/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '01/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '01/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '01/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '01/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '01/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '01/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '01/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '01/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '01/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '01/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), 26, '01/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '01/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '01/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '01/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '01/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '01/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '01/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '01/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '01/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '01/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '01/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '01/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '02/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '02/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '02/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '02/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), 19, '02/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '02/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '02/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '02/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '02/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '02/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '02/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '02/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '02/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '02/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), 12, '02/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '02/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '02/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '02/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '02/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '02/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '02/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), 17, '02/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '03/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '03/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '03/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '03/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '03/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '03/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), 33, '03/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '03/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '03/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '03/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '03/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), 12, '03/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '03/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '03/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '03/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '03/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '03/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '03/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '03/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '03/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '03/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '03/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '03/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '03/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '03/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '03/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), 19, '03/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '03/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '04/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '04/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '04/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '04/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), 26, '04/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '04/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '04/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '04/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '04/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '04/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '04/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '04/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '04/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '04/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '04/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '04/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '04/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '04/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '04/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '04/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '04/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '05/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '05/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '05/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '05/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '05/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '05/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '05/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '05/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), 35, '05/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '05/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '05/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '05/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '05/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), 14, '05/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '05/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), 8, '05/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '05/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '05/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), 8, '05/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '05/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '05/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '05/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '05/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '06/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '06/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '06/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '06/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '06/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '06/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '06/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '06/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '06/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '06/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '06/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '06/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '06/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '06/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '06/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '06/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '06/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '06/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '06/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '06/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '06/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '06/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '06/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), 31, '06/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '07/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '07/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '07/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '07/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '07/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), 11, '07/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '07/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '07/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '07/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '07/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '07/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '07/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '07/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '07/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), 19, '07/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '07/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '07/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), 16, '07/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '07/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '07/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '07/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), 11, '07/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '07/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '07/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '07/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '08/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '08/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '08/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '08/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '08/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '08/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '08/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '08/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '08/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '08/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '08/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '08/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '08/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '08/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), 17, '08/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '08/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '08/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '08/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '08/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '08/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), 21, '08/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '08/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '08/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '09/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), 17, '09/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '09/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '09/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '09/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '09/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '09/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '09/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '09/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '09/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '09/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '09/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '09/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '09/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '09/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '09/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '09/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '09/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '09/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '09/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '09/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '10/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), 36, '10/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '10/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '10/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '10/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), 10, '10/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '10/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '10/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '10/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '10/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '10/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '10/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), 9, '10/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '10/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '10/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '10/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '10/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '10/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '10/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '10/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), 10, '10/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '10/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), 12, '10/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '10/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '10/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '10/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '11/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '11/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '11/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '11/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '11/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '11/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '11/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), 16, '11/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '11/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '11/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '11/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), 9, '11/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '11/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '11/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '11/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '11/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '11/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '11/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '11/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '11/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '11/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '11/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), 20, '11/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '12/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '12/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '12/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '12/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '12/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '12/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), 13, '12/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '12/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '12/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '12/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '12/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '12/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '12/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '12/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '12/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '12/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '12/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '12/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '12/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), 18, '12/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '12/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '12/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '01/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '01/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '01/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '01/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '01/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '01/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '01/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '01/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '01/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '01/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '01/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '01/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), 11, '01/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '01/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '01/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '01/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '01/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '01/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '01/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), 39, '01/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '01/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '01/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '02/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '02/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '02/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '02/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), 11, '02/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '02/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '02/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), 8, '02/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '02/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '02/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '02/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '02/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '02/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '02/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '02/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '02/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '02/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '02/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '02/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '02/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '02/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), 15, '02/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '02/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '03/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '03/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '03/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '03/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '03/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '03/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '03/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '03/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), 22, '03/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '03/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), 8, '03/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '03/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '03/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '03/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), 8, '03/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '03/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '03/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '03/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '03/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '03/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '03/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '03/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '03/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '03/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), 17, '03/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '04/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '04/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '04/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '04/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '04/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '04/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '04/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '04/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '04/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '04/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '04/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), 22, '04/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '04/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '04/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '04/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '04/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), 10, '04/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '04/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '04/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '04/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '04/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '04/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '04/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '05/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '05/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '05/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '05/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '05/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '05/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '05/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '05/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '05/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '05/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '05/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '05/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '05/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '05/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), 28, '05/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '05/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '05/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '05/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '05/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), 12, '05/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '05/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '05/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '05/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '05/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '05/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '06/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '06/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '06/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '06/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), 10, '06/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '06/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '06/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '06/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), 19, '06/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '06/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '06/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '06/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '06/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '06/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '06/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '06/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '06/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '06/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '06/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '06/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '06/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '06/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '06/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '07/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '07/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '07/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '07/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '07/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), 32, '07/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '07/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '07/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '07/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '07/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '07/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '07/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '07/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '07/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '07/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '07/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '07/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '07/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '07/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '07/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '07/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '07/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '08/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '08/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '08/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '08/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), 31, '08/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '08/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '08/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '08/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '08/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '08/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '08/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '08/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '08/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '08/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '08/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '08/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '08/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), 16, '08/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '08/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '08/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '08/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '08/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '08/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '09/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '09/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '09/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '09/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '09/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '09/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '09/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '09/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '09/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '09/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), 9, '09/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '09/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '09/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '09/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '09/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '09/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '09/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), 10, '09/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '09/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '09/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '09/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), 24, '09/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '09/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '10/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '10/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), 15, '10/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '10/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '10/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '10/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), 21, '10/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '10/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '10/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '10/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '10/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '10/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '10/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '10/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '10/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '10/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '10/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '10/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '10/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '10/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '10/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '10/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '10/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '10/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), 13, '10/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '11/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '11/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '11/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '11/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '11/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '11/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '11/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '11/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '11/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '11/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '11/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '11/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '11/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), 33, '11/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '11/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '11/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), 15, '11/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '11/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '11/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '11/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '11/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '11/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '12/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '12/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '12/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '12/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '12/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), 19, '12/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '12/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '12/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '12/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '12/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), 8, '12/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '12/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '12/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '12/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '12/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '12/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '12/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '12/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '12/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '12/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '12/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '12/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '12/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '12/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '01/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '01/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '01/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '01/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '01/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '01/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '01/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '01/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '01/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), 31, '01/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '01/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), 19, '01/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '01/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '01/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '01/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '01/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '01/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '01/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), 8, '01/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '01/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '01/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '01/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '02/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '02/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '02/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), 13, '02/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '02/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '02/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '02/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '02/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '02/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '02/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '02/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '02/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '02/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '02/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '02/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '02/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '02/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '02/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '02/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '02/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '02/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '03/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), 31, '03/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '03/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '03/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '03/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '03/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '03/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '03/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '03/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '03/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), 11, '03/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '03/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '03/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '03/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '03/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '03/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '03/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '03/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '03/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '03/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '03/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '03/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '04/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '04/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '04/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), 27, '04/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '04/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '04/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '04/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), 17, '04/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '04/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), 12, '04/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '04/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '04/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '04/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '04/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '04/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '04/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '04/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '04/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '04/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '04/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '04/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '04/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '04/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '05/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '05/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '05/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '05/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), 15, '05/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '05/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '05/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '05/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '05/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '05/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '05/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '05/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '05/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '05/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '05/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '05/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '05/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '05/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '05/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '05/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '05/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), 38, '05/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '05/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), 8, '05/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '05/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), 8, '05/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '05/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '06/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '06/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '06/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '06/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '06/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '06/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '06/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '06/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '06/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '06/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '06/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '06/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '06/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '06/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '06/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '06/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '06/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '06/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '06/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '06/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '06/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '07/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '07/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), 15, '07/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '07/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '07/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '07/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '07/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '07/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '07/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '07/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '07/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '07/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '07/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), 8, '07/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '07/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '07/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '07/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '07/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), 14, '07/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '07/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '07/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '07/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '07/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '07/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '08/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), 35, '08/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '08/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '08/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '08/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '08/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '08/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '08/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '08/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '08/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '08/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '08/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '08/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), 25, '08/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '08/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), 14, '08/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '08/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '08/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '08/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '08/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '08/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '08/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '08/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '08/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '08/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '09/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '09/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '09/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '09/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '09/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '09/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '09/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '09/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '09/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '09/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '09/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '09/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '09/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '09/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '09/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '09/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), 15, '09/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '09/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), 30, '09/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '09/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '09/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '09/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '09/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '09/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '10/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '10/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '10/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '10/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '10/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '10/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), 18, '10/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '10/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '10/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '10/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '10/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '10/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '10/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '10/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '10/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '10/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), 16, '10/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '10/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '10/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '10/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '10/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '10/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), 11, '10/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '10/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), 8, '10/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '10/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '10/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '11/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '11/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '11/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '11/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '11/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '11/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '11/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '11/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '11/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '11/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '11/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '11/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '11/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '11/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '11/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '11/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '11/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '11/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), 28, '11/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '11/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '11/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '11/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '11/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '12/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '12/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '12/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '12/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '12/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '12/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -3, '12/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '12/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -1, '12/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '12/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Noir'), -2, '12/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 11, '01/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '01/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 26, '01/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '01/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '01/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '01/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '01/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 16, '01/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '01/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '01/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 12, '01/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '01/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '01/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '01/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '01/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 19, '01/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '01/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '01/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '01/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 10, '01/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '01/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '01/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '01/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '01/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '01/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '02/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '02/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '02/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '02/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '02/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 32, '02/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '02/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 10, '02/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '02/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '02/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '02/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '02/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '02/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '02/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '02/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '02/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '02/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '02/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 23, '02/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '02/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '02/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '02/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '03/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 15, '03/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '03/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '03/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 12, '03/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '03/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '03/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '03/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '03/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '03/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '03/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '03/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '03/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '03/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 36, '03/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '03/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '03/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '03/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '03/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '03/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '03/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '03/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '04/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '04/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '04/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 11, '04/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '04/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '04/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '04/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 24, '04/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '04/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '04/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '04/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '04/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '04/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '04/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 17, '04/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '04/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '04/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '04/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '04/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 37, '04/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '04/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '04/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 10, '04/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '04/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '04/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '05/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '05/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '05/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '05/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '05/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '05/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '05/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '05/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 30, '05/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '05/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '05/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '05/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '05/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '05/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 14, '05/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '05/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '05/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '05/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '05/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 19, '05/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '05/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '05/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '05/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '05/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '06/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '06/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '06/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '06/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 27, '06/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '06/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 10, '06/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '06/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 10, '06/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '06/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '06/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '06/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '06/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '06/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '06/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '06/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '06/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '06/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '06/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '06/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '06/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '06/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 28, '06/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '06/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '07/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '07/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '07/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '07/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '07/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '07/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '07/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '07/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 39, '07/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '07/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '07/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '07/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '07/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '07/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '07/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '07/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '07/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '07/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '07/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '07/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 13, '07/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '07/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 22, '07/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '08/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 10, '08/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '08/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '08/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '08/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 12, '08/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '08/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '08/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '08/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '08/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '08/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '08/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '08/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '08/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 14, '08/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '08/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 11, '08/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '08/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 10, '08/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '08/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '08/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '08/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '08/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '08/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '08/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '09/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '09/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 15, '09/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '09/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '09/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '09/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '09/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '09/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '09/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '09/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '09/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '09/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '09/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 34, '09/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '09/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '09/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '09/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 14, '09/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '09/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '09/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '09/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 10, '09/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '09/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '09/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '10/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '10/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '10/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '10/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '10/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '10/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '10/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '10/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '10/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 13, '10/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '10/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '10/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '10/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '10/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 11, '10/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '10/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '10/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '10/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 24, '10/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '10/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '10/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '10/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '11/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '11/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '11/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 15, '11/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '11/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '11/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '11/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '11/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 14, '11/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '11/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '11/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '11/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '11/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '11/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 42, '11/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '11/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '11/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '11/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '11/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 12, '11/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '11/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '11/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '11/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '11/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '11/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '12/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '12/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '12/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '12/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '12/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '12/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '12/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 10, '12/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '12/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '12/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '12/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 24, '12/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '12/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '12/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '12/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '12/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '12/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '12/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '12/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 25, '12/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '12/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '12/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '12/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '12/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '12/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '01/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '01/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 18, '01/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '01/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '01/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '01/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '01/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '01/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '01/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '01/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 29, '01/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '01/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '01/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '01/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '01/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '01/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '01/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '01/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '01/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 31, '01/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '02/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '02/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '02/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '02/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '02/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '02/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '02/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '02/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '02/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 30, '02/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '02/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '02/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '02/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '02/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 23, '02/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '02/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '02/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '02/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '02/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 12, '02/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '02/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '02/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '02/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '02/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 16, '02/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '03/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '03/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '03/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '03/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '03/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 14, '03/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '03/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 10, '03/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '03/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '03/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '03/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '03/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '03/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '03/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '03/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '03/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '03/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '03/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '03/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '03/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '03/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 37, '03/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '03/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '03/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '03/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '04/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '04/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '04/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '04/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '04/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '04/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 30, '04/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '04/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '04/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 10, '04/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '04/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '04/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '04/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '04/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '04/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '04/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '04/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '04/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '04/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 26, '04/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '04/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '05/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '05/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '05/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '05/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '05/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 14, '05/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '05/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '05/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '05/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '05/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 11, '05/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '05/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '05/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '05/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '05/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '05/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '05/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '05/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 38, '05/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '05/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '05/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 12, '05/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '05/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '06/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 10, '06/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '06/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '06/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '06/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '06/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 11, '06/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '06/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '06/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '06/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '06/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '06/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 17, '06/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '06/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '06/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '06/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '06/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '06/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '06/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '06/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '06/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '06/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '07/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '07/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 10, '07/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '07/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '07/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '07/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '07/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 26, '07/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '07/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '07/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '07/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '07/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '07/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 19, '07/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '07/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '07/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '07/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '07/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '07/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 11, '07/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '07/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '07/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '07/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '07/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '07/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '08/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '08/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 27, '08/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '08/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '08/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '08/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '08/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 25, '08/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '08/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '08/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '08/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '08/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '08/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 14, '08/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '08/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '08/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '08/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '08/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '08/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 19, '08/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '08/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '08/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '08/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '09/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '09/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '09/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '09/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 13, '09/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '09/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '09/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '09/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '09/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '09/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '09/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 13, '09/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '09/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '09/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 33, '09/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '09/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '09/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '09/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '09/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '09/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '09/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '09/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '09/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '09/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '09/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 39, '09/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '10/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '10/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '10/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '10/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 10, '10/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '10/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '10/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '10/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '10/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '10/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '10/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '10/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '10/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '10/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '10/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '10/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '10/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '10/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 37, '10/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '10/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '10/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '10/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '10/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '11/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '11/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '11/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '11/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '11/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '11/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 14, '11/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '11/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '11/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '11/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '11/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '11/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 34, '11/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '11/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '11/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '11/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '11/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 13, '11/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '11/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '11/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '11/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '11/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '11/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '12/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '12/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '12/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 38, '12/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '12/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '12/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '12/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '12/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '12/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '12/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '12/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '12/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '12/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '12/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 34, '12/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '12/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '12/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 11, '12/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '12/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '12/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '12/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '12/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '12/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '12/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '12/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '01/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '01/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '01/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '01/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 21, '01/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '01/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '01/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '01/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '01/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '01/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 24, '01/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '01/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '01/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '01/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '01/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 16, '01/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '01/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '01/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '01/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '01/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '01/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '01/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 14, '01/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '02/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '02/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '02/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '02/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '02/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '02/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '02/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '02/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 14, '02/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '02/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '02/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '02/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '02/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 24, '02/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '02/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '02/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '02/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '02/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '02/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '02/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 15, '02/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '02/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '03/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 23, '03/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '03/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '03/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '03/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '03/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '03/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 15, '03/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '03/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '03/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 10, '03/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '03/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '03/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '03/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '03/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '03/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '03/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '03/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '03/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '03/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '03/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 19, '03/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '03/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '03/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '04/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '04/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '04/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 14, '04/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '04/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '04/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '04/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '04/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 37, '04/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '04/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '04/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '04/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '04/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '04/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '04/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '04/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '04/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '04/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '04/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 25, '04/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '04/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '04/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '04/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 12, '04/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '04/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '04/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 24, '04/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '05/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '05/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '05/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '05/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '05/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '05/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '05/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '05/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 26, '05/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '05/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 10, '05/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '05/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '05/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '05/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '05/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '05/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 10, '05/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '05/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '05/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '05/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '05/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '05/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '06/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '06/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 10, '06/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '06/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '06/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '06/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '06/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '06/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '06/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '06/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '06/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '06/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 24, '06/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '06/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 11, '06/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '06/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '06/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '06/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '06/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '06/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '06/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '06/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '06/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 19, '06/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '06/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '07/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '07/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '07/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 39, '07/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '07/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '07/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '07/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '07/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '07/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '07/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '07/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '07/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '07/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '07/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '07/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '07/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 14, '07/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '07/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '07/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '07/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '07/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 22, '07/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '08/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '08/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '08/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '08/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '08/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '08/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 35, '08/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '08/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '08/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '08/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '08/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '08/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '08/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '08/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '08/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '08/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 24, '08/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '08/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '08/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '08/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '08/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 24, '08/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '08/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '08/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '09/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '09/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '09/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 13, '09/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '09/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '09/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 17, '09/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '09/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '09/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '09/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 13, '09/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '09/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '09/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '09/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '09/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '09/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '09/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '09/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '09/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '09/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '09/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 20, '09/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '09/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '09/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '09/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '10/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '10/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '10/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '10/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '10/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '10/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 27, '10/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '10/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '10/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '10/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '10/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '10/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '10/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '10/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '10/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 33, '10/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '10/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 10, '10/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '10/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '10/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '10/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '10/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '10/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '10/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '10/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '11/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '11/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '11/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '11/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 41, '11/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '11/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '11/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '11/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '11/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '11/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '11/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '11/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 12, '11/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '11/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '11/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 15, '11/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '11/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '11/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '11/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 10, '11/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '11/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '11/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '12/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '12/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '12/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '12/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -2, '12/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '12/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 11, '12/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '12/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '12/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -3, '12/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -5, '12/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '12/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), 37, '12/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '12/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Blouson Rouge'), -4, '12/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 18, '01/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '01/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '01/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '01/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '01/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '01/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '01/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 7, '01/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '01/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '01/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '01/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 20, '01/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '01/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 7, '01/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '01/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 5, '01/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '01/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 5, '01/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '01/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '01/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '01/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '01/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '01/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '01/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '01/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '01/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '02/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '02/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 11, '02/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '02/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '02/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '02/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '02/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '02/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '02/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 8, '02/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '02/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '02/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '02/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 10, '02/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '02/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '02/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '02/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '02/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '02/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 9, '02/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '03/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '03/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '03/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '03/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '03/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '03/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '03/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '03/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '03/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '03/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 18, '03/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '03/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '03/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '03/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '03/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '03/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '03/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '03/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '03/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 15, '03/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '03/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '03/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '03/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '04/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '04/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '04/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '04/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 22, '04/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '04/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '04/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '04/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '04/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '04/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '04/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '04/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '04/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '04/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '04/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '04/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 12, '04/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '04/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '04/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '04/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '04/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '05/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '05/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 11, '05/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '05/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '05/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '05/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '05/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '05/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '05/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 15, '05/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '05/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '05/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '05/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 10, '05/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '05/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '05/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '05/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '05/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 12, '05/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '05/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '05/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '05/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '05/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '05/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 5, '05/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '05/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '05/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '06/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '06/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '06/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '06/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '06/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '06/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 13, '06/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '06/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '06/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '06/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '06/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '06/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '06/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '06/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 11, '06/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '06/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '06/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '06/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '06/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 18, '06/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '06/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '06/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '06/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '07/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '07/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '07/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '07/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '07/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '07/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 22, '07/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '07/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '07/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 9, '07/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '07/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '07/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '07/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '07/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 6, '07/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '07/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 5, '07/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '07/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '07/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '07/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '07/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '07/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '07/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '07/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '07/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '08/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '08/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '08/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '08/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '08/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 21, '08/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '08/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '08/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 8, '08/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '08/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '08/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '08/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '08/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '08/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '08/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '08/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '08/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '08/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '08/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '08/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '08/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 9, '08/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '08/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '09/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '09/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 24, '09/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '09/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '09/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '09/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 9, '09/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '09/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '09/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '09/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '09/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '09/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '09/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '09/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '09/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '09/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '09/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '09/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 9, '09/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '09/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '09/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 8, '09/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '09/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 10, '09/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '09/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '10/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '10/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '10/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '10/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '10/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '10/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '10/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '10/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '10/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '10/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 17, '10/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '10/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '10/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '10/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '10/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '10/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '10/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '10/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 16, '10/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '10/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '10/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '10/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '11/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 10, '11/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '11/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '11/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '11/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '11/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '11/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '11/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '11/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 6, '11/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '11/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '11/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 22, '11/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '11/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '11/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '11/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '11/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '11/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '11/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '11/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '11/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '11/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '11/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 22, '11/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '11/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '11/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '12/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '12/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '12/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 6, '12/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '12/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '12/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '12/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '12/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '12/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '12/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '12/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 21, '12/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '12/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '12/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '12/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '12/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '12/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '12/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '12/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '12/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '12/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '12/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '01/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 12, '01/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '01/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '01/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '01/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '01/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '01/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '01/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '01/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 16, '01/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '01/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '01/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 14, '01/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '01/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '01/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '01/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '01/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '01/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 9, '01/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '01/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '01/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '01/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '01/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '01/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '01/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '01/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '02/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '02/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '02/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '02/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '02/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '02/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '02/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 22, '02/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '02/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '02/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '02/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '02/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '02/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '02/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '02/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '02/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 5, '02/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '02/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '02/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '02/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '03/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '03/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 16, '03/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '03/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '03/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '03/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '03/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 6, '03/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '03/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '03/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '03/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '03/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '03/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '03/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 17, '03/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '03/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '03/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '03/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '03/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '03/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '03/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '03/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '03/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '03/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 13, '03/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '04/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '04/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 5, '04/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '04/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '04/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '04/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '04/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '04/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '04/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '04/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '04/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '04/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '04/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '04/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '04/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '04/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '04/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 20, '04/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '04/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 7, '04/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '04/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '04/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '04/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '04/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '05/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '05/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '05/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '05/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '05/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '05/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '05/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '05/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 7, '05/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '05/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '05/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '05/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '05/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '05/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '05/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 13, '05/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '05/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '05/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '05/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '05/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '05/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 11, '05/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '05/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '05/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '05/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '05/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '05/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 14, '05/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '06/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '06/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '06/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '06/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '06/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '06/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '06/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 19, '06/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '06/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '06/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '06/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '06/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '06/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '06/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '06/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '06/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '06/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '06/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 25, '06/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '06/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '06/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '06/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '07/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '07/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '07/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '07/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '07/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '07/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '07/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '07/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '07/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '07/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '07/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 12, '07/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '07/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '07/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '07/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '07/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 21, '07/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '07/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '07/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '07/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '07/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '08/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 11, '08/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '08/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 5, '08/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '08/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '08/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '08/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '08/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '08/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 5, '08/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '08/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '08/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 5, '08/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '08/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '08/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '08/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '08/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '08/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '08/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '08/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '08/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '08/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '08/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 17, '08/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '08/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '09/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '09/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '09/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '09/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '09/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '09/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 11, '09/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '09/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 10, '09/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '09/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 7, '09/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '09/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '09/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '09/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '09/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '09/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '09/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 7, '09/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '09/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '09/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '09/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '09/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '09/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '09/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '09/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 8, '09/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '09/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '09/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '10/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '10/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '10/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '10/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '10/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '10/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '10/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '10/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 20, '10/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '10/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '10/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 7, '10/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '10/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '10/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '10/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '10/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '10/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '10/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '10/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '10/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '10/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '10/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '11/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '11/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '11/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 16, '11/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '11/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '11/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 14, '11/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '11/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '11/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '11/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '11/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '11/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '11/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '11/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 11, '11/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '11/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '11/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '11/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '11/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '11/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '11/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '11/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '11/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '12/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '12/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '12/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 10, '12/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '12/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '12/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '12/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '12/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 10, '12/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '12/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 10, '12/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '12/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '12/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '12/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '12/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '12/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '12/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '12/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '12/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '12/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 13, '12/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '12/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '01/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '01/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 7, '01/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '01/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '01/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '01/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '01/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '01/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '01/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '01/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '01/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '01/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '01/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '01/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '01/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 21, '01/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '01/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '01/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '01/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '01/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '01/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '01/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 6, '01/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '01/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '01/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '02/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '02/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 10, '02/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '02/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '02/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '02/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '02/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '02/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '02/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '02/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 17, '02/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '02/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '02/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 13, '02/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '02/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '02/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '02/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '02/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '02/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '02/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '03/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '03/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '03/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '03/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '03/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '03/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 25, '03/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '03/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 5, '03/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '03/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 5, '03/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '03/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '03/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '03/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 5, '03/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '03/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '03/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '03/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '03/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '03/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '03/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '03/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '03/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '03/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '04/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '04/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '04/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '04/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '04/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '04/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 24, '04/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '04/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '04/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 5, '04/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '04/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '04/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '04/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '04/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '04/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '04/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '04/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '04/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '04/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '04/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '04/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 16, '04/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '04/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '04/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '05/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '05/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '05/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '05/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 6, '05/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '05/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '05/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '05/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 19, '05/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '05/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '05/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '05/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '05/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '05/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '05/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '05/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '05/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 11, '05/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '05/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '05/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '05/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '05/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '06/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '06/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 12, '06/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '06/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '06/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '06/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '06/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '06/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '06/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 8, '06/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '06/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '06/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 7, '06/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '06/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '06/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '06/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 17, '06/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '06/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '06/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '06/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '06/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '06/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '06/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '06/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '06/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '07/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 18, '07/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '07/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '07/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '07/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '07/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '07/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '07/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 16, '07/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '07/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '07/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '07/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '07/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 6, '07/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '07/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '07/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '07/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '07/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '07/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '07/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 13, '07/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '08/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 14, '08/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '08/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '08/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '08/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '08/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 5, '08/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '08/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '08/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '08/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '08/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '08/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '08/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 8, '08/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '08/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '08/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '08/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '08/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '08/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '08/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '08/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '08/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 6, '08/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '09/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 8, '09/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '09/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '09/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '09/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '09/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '09/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '09/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '09/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 19, '09/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '09/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '09/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '09/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '09/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '09/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '09/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '09/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '09/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 14, '09/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '09/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '10/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '10/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '10/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '10/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '10/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '10/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '10/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 5, '10/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '10/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '10/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '10/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 11, '10/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '10/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '10/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '10/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '10/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '10/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '10/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 26, '10/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '10/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '10/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '10/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '10/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '11/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '11/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '11/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '11/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '11/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '11/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '11/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '11/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '11/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '11/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '11/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 12, '11/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '11/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '11/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '11/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '11/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '11/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '11/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 8, '11/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '11/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '11/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '11/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '11/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 8, '11/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '12/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '12/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '12/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '12/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '12/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '12/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 12, '12/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '12/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '12/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '12/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -1, '12/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -3, '12/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 18, '12/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), -2, '12/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Marron'), 9, '12/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), 16, '01/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '01/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '01/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), 28, '01/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '01/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '01/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '01/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '01/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '01/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '01/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '01/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), 22, '01/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '01/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '01/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '01/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), 46, '01/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '01/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '01/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), 8, '01/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '01/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '01/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '01/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '01/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '01/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), 8, '01/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '01/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '02/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '02/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '02/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '02/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '02/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '02/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '02/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '02/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '02/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '02/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '02/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '02/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), 51, '02/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '02/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), 20, '02/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '02/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '02/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '02/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '03/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '03/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '03/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), 10, '03/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '03/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '03/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '03/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '03/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '03/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '03/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '03/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '03/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '03/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '03/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '03/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '03/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '03/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '03/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '03/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '03/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), 38, '03/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '03/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '03/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '04/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '04/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '04/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), 32, '04/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '04/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '04/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '04/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '04/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '04/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '04/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '04/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '04/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), 42, '04/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '04/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '04/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '04/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '04/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '04/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '04/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), 11, '04/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '04/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '05/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '05/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '05/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '05/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '05/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '05/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '05/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '05/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '05/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '05/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '05/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '05/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), 13, '05/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '05/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '05/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '05/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '05/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), 15, '05/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '05/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '05/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '05/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '05/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '05/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), 49, '05/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '06/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '06/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '06/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '06/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '06/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '06/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '06/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '06/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), 20, '06/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '06/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '06/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '06/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '06/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '06/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '06/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '06/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '06/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '06/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), 12, '06/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '06/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '06/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '07/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), 56, '07/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '07/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '07/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '07/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '07/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '07/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '07/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '07/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '07/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '07/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '07/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '07/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '07/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '07/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '07/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '07/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '07/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '07/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), 39, '07/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '07/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '07/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '07/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '07/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '07/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '08/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '08/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '08/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '08/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '08/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), 29, '08/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '08/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '08/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), 44, '08/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '08/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '08/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '08/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '08/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '08/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '08/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '08/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '08/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), 20, '08/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '08/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '08/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '08/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '08/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '08/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '08/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '08/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '08/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '09/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), 32, '09/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '09/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '09/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '09/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '09/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '09/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), 15, '09/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '09/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '09/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), 17, '09/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '09/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '09/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '09/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '09/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '09/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '09/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '09/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '09/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '09/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '09/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '10/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '10/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '10/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '10/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '10/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '10/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '10/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '10/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '10/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '10/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '10/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '10/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), 72, '10/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '10/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), 7, '10/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '10/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '10/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '10/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '10/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '10/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '10/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), 18, '10/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '10/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '11/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '11/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '11/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '11/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '11/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '11/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '11/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '11/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '11/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '11/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '11/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '11/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '11/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '11/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '11/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '11/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), 31, '11/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '11/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '11/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), 17, '11/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '11/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '11/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '12/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '12/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '12/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '12/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '12/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '12/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '12/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '12/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '12/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '12/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), 20, '12/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '12/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '12/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '12/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '12/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '12/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '12/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '12/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '12/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '12/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '12/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '12/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '12/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), 61, '12/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '12/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '01/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '01/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '01/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '01/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), 27, '01/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '01/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '01/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '01/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '01/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '01/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '01/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '01/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '01/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '01/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '01/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '01/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '01/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '01/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '01/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '01/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '01/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '01/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '02/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '02/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '02/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '02/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '02/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), 74, '02/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '02/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '02/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '02/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '02/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '02/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '02/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '02/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '02/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '02/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '02/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '02/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '02/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '02/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '02/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '02/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), 38, '02/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '03/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '03/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '03/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '03/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '03/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '03/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '03/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '03/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '03/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '03/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '03/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '03/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '03/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '03/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '03/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '03/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '03/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '03/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), 37, '03/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '03/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '03/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '03/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), 16, '03/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '03/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '04/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '04/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '04/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '04/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '04/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '04/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '04/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '04/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '04/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), 65, '04/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '04/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '04/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '04/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '04/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '04/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '04/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '04/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '04/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '04/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '04/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '04/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '05/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '05/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '05/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '05/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '05/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '05/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '05/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), 9, '05/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '05/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '05/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), 28, '05/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '05/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '05/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '05/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), 35, '05/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '05/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '05/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '05/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '05/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '05/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '05/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '05/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '05/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '06/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), 11, '06/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '06/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '06/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '06/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '06/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), 11, '06/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '06/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '06/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '06/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '06/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '06/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '06/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '06/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '06/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '06/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), 55, '06/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '06/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '06/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '06/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '06/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '06/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '06/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '06/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '07/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '07/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '07/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '07/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '07/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '07/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), 61, '07/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '07/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '07/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '07/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), 12, '07/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '07/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), 9, '07/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '07/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '07/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '07/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '07/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '07/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '07/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '07/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '07/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '08/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '08/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '08/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '08/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '08/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '08/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '08/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '08/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '08/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '08/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '08/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '08/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), 48, '08/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '08/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '08/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '08/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '08/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '08/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '08/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '08/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '08/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '09/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '09/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '09/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '09/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '09/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '09/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), 67, '09/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '09/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '09/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '09/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '09/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '09/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '09/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '09/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '09/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), 22, '09/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '09/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '09/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '09/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '09/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '09/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '09/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '10/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '10/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), 41, '10/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '10/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '10/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '10/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '10/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), 9, '10/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '10/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '10/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), 11, '10/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '10/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '10/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '10/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '10/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '10/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '10/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '10/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '10/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), 30, '10/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '10/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '10/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '10/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '10/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '10/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '11/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '11/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '11/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '11/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '11/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '11/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '11/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '11/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '11/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '11/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '11/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '11/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '11/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '11/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '11/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '11/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), 58, '11/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '11/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '11/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '11/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '11/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '12/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '12/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '12/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '12/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '12/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), 40, '12/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '12/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '12/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '12/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '12/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '12/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '12/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '12/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '12/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), 37, '12/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '12/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '12/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '12/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '12/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '12/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '12/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '12/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '12/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '12/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '01/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '01/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '01/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '01/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '01/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '01/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '01/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '01/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '01/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '01/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '01/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '01/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '01/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), 47, '01/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '01/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '01/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '01/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '01/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '01/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '01/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '01/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '02/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '02/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '02/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '02/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '02/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '02/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), 68, '02/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '02/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '02/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '02/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), 12, '02/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '02/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), 7, '02/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '02/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '02/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '02/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '02/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '02/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '02/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '02/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '02/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '02/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '02/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '03/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '03/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '03/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '03/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '03/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '03/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '03/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), 15, '03/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '03/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '03/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '03/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '03/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '03/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '03/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '03/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '03/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '03/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), 57, '03/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '03/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '03/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '03/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '03/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '03/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '03/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '04/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '04/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '04/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '04/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '04/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '04/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '04/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '04/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '04/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '04/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), 72, '04/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '04/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '04/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '04/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '04/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '04/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '04/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '04/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '04/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '05/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '05/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '05/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '05/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '05/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '05/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '05/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '05/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '05/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '05/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '05/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '05/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '05/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), 44, '05/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '05/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '05/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '05/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '05/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '05/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '05/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '05/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '05/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '05/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '06/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '06/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), 25, '06/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '06/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '06/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '06/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '06/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '06/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '06/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '06/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), 9, '06/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '06/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '06/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '06/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), 71, '06/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '06/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '06/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '06/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '06/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '06/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '06/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '06/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '06/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '07/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '07/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '07/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '07/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '07/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '07/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '07/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '07/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '07/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '07/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '07/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '07/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '07/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), 37, '07/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '07/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '07/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '07/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '07/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '07/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '07/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '07/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '07/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '08/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '08/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), 51, '08/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '08/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '08/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '08/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '08/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '08/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '08/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '08/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '08/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '08/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '08/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '08/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), 59, '08/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '08/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '08/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '08/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '08/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '08/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '08/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '08/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '08/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '08/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '09/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '09/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '09/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '09/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), 7, '09/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '09/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '09/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '09/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '09/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '09/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '09/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '09/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), 50, '09/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '09/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '09/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), 31, '09/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '09/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '09/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '09/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), 7, '09/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '09/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '09/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), 9, '09/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '09/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '09/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '09/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '09/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '10/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '10/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '10/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), 23, '10/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '10/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '10/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '10/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '10/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '10/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '10/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '10/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '10/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '10/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), 17, '10/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '10/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '10/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '10/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '10/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '10/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '10/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '10/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), 32, '10/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '10/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '10/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '11/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '11/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '11/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '11/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '11/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '11/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '11/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '11/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '11/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '11/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '11/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '11/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -4, '11/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '11/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '11/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '11/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), 59, '11/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '11/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '11/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '11/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '12/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '12/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '12/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '12/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '12/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '12/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '12/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '12/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -5, '12/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '12/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -3, '12/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Pois'), -2, '12/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), 49, '01/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '01/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '01/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), 22, '01/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '01/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '01/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '01/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '01/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '01/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '01/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '01/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '01/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '01/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '01/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '01/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '01/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '01/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '01/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '01/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '01/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), 64, '01/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '01/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '01/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '01/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '01/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '02/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '02/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '02/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), 56, '02/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '02/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '02/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '02/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '02/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '02/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '02/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '02/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '02/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '02/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '02/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), 39, '02/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '02/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '02/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '02/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '02/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '02/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '03/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), 19, '03/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '03/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '03/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '03/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '03/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '03/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '03/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '03/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '03/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '03/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), 12, '03/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '03/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '03/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '03/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '03/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), 15, '03/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '03/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '03/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '03/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '03/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '03/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '03/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '03/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '03/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '04/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '04/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '04/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '04/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '04/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '04/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '04/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), 24, '04/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '04/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '04/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '04/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), 16, '04/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '04/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '04/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '04/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '04/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), 52, '04/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '04/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '04/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '04/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '04/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '04/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '04/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '05/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '05/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '05/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '05/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '05/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '05/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '05/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '05/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '05/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '05/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '05/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '05/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '05/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '05/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '05/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '05/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '05/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '05/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '05/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), 61, '05/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '05/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '06/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '06/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '06/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '06/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '06/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), 15, '06/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '06/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '06/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '06/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '06/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), 31, '06/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '06/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '06/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '06/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '06/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '06/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '06/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '06/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '06/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '07/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '07/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '07/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '07/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '07/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '07/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), 36, '07/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '07/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '07/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '07/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '07/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '07/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '07/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '07/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '07/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '07/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '07/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '07/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '07/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '08/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '08/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '08/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), 27, '08/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '08/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '08/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '08/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '08/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '08/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '08/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '08/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), 62, '08/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '08/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '08/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '08/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '08/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '08/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '08/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '08/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '08/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '08/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '08/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '08/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), 24, '08/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '08/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '08/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '09/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '09/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '09/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '09/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '09/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '09/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '09/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '09/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '09/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '09/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '09/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '09/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), 47, '09/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '09/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '09/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '09/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '09/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), 55, '09/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '09/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '09/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '09/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '10/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '10/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '10/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '10/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '10/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '10/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '10/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '10/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '10/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '10/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '10/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '10/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '10/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '10/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '10/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '10/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '10/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '10/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), 19, '10/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '10/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '10/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '11/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '11/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '11/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '11/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '11/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '11/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '11/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '11/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '11/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), 49, '11/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '11/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '11/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '11/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), 57, '11/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '11/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '11/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '11/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '11/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '11/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '11/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '11/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '11/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '11/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '12/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '12/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '12/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '12/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '12/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '12/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '12/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '12/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '12/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '12/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '12/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '12/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), 68, '12/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '12/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), 13, '12/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '12/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '12/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '12/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '12/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '01/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '01/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '01/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '01/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '01/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '01/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '01/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '01/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '01/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '01/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), 22, '01/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '01/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '01/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '01/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '01/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '01/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '01/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '01/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), 32, '01/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '01/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), 22, '01/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '01/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '01/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '01/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '01/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '01/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '01/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '02/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '02/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '02/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '02/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '02/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '02/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '02/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '02/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '02/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '02/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), 56, '02/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '02/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '02/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '02/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '02/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '02/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '02/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '02/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '02/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '02/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '03/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '03/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '03/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '03/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '03/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '03/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '03/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '03/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '03/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '03/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '03/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '03/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '03/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '03/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '03/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '03/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '03/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), 72, '03/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '03/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '03/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '04/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '04/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '04/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '04/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '04/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '04/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '04/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '04/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '04/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '04/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '04/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '04/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '04/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '04/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '04/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), 75, '04/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '04/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '04/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '04/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '04/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '05/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '05/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '05/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '05/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '05/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), 35, '05/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '05/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), 12, '05/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '05/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '05/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '05/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '05/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '05/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '05/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '05/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '05/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '05/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '05/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '05/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '05/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '05/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '05/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '05/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '06/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '06/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '06/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '06/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '06/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '06/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '06/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '06/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '06/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '06/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '06/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '06/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '06/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), 18, '06/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '06/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '06/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '06/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '06/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '07/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '07/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '07/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), 29, '07/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '07/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '07/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '07/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '07/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '07/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '07/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '07/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '07/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), 92, '07/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '07/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '07/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '07/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '07/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '07/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '07/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '07/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '07/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '08/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '08/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), 24, '08/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '08/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '08/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '08/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '08/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '08/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '08/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), 21, '08/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '08/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '08/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '08/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '08/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '08/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '08/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '08/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '08/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), 34, '08/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '08/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '08/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '08/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '08/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '09/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '09/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '09/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), 14, '09/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '09/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '09/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '09/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '09/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '09/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '09/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '09/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '09/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '09/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '09/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), 50, '09/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '09/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '09/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '09/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '09/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '09/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '09/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '09/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '09/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '09/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '09/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '10/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '10/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), 22, '10/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '10/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '10/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '10/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '10/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '10/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '10/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '10/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '10/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '10/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), 35, '10/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '10/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '10/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '10/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '10/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '10/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '10/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '10/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '10/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '10/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '10/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '10/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '10/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), 38, '10/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '11/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '11/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), 39, '11/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '11/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '11/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '11/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '11/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '11/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), 36, '11/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '11/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '11/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '11/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '11/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), 12, '11/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '11/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '11/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '11/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '11/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '11/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '11/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '11/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '11/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '11/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '12/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '12/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '12/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '12/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '12/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '12/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '12/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '12/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '12/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '12/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '12/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '12/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '12/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '12/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '12/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '12/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), 34, '12/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '12/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '12/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '12/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), 51, '12/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '12/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '01/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '01/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '01/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '01/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), 14, '01/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '01/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '01/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '01/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '01/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '01/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '01/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '01/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '01/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '01/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '01/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '01/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '01/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '01/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '01/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '01/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '01/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '01/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '02/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), 27, '02/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '02/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '02/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '02/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '02/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '02/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '02/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '02/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '02/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '02/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '02/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '02/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '02/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), 27, '02/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '02/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '02/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), 17, '02/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '02/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '02/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '02/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), 69, '02/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '02/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '02/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '03/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '03/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '03/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '03/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '03/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '03/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '03/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '03/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '03/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '03/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '03/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '03/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '03/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '03/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '03/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '03/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '03/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), 16, '03/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '03/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '03/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '03/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '04/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '04/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '04/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '04/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), 70, '04/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '04/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '04/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '04/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '04/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '04/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '04/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '04/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), 23, '04/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '04/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '04/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '04/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '04/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '04/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '04/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '04/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '04/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '04/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '05/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '05/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '05/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '05/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '05/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '05/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '05/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '05/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), 42, '05/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '05/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '05/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '05/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '05/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '05/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '05/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '05/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), 33, '05/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '05/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '05/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '05/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '05/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '05/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '05/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '05/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '06/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '06/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '06/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '06/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '06/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '06/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '06/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '06/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '06/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '06/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '06/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '06/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '06/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '06/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '06/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '06/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '06/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '06/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '06/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '06/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), 47, '06/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '06/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '07/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '07/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '07/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '07/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '07/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '07/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '07/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '07/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '07/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '07/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '07/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '07/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), 37, '07/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '07/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '07/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '07/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '07/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '07/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '07/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '08/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), 65, '08/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '08/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '08/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '08/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '08/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '08/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '08/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '08/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), 23, '08/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '08/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '08/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '08/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '08/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '08/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '08/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '08/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '08/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '08/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '08/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '08/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), 15, '08/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '08/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '08/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '09/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '09/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '09/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '09/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '09/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '09/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '09/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '09/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '09/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '09/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '09/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '09/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '09/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), 64, '09/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '09/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '09/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '09/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '09/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '09/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), 20, '09/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '09/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '09/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '10/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '10/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '10/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '10/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), 21, '10/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '10/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '10/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), 23, '10/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '10/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), 12, '10/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '10/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '10/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), 12, '10/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '10/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '10/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '10/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '10/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), 12, '10/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '10/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '10/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '10/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '10/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '10/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '11/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '11/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '11/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '11/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '11/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '11/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '11/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '11/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '11/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '11/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '11/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '11/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '11/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '11/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '11/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '11/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '11/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '11/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '11/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '11/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '12/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '12/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '12/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), 66, '12/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -5, '12/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '12/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '12/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '12/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '12/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '12/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -3, '12/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), 12, '12/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '12/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '12/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -2, '12/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Chemise Rose'), -4, '12/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), 20, '01/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '01/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '01/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '01/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '01/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '01/08/2015');
\ No newline at end of file
@@ -0,0 +1,10000 @@
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '01/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '01/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '01/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '01/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), 19, '01/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '01/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '01/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '01/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '01/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '01/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '01/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '01/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '01/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '01/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '01/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '01/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '02/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '02/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '02/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '02/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), 21, '02/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '02/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '02/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '02/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), 11, '02/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '02/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '02/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '02/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '02/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '02/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), 8, '02/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '02/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '02/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '02/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '02/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '02/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '03/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '03/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '03/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '03/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), 10, '03/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '03/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '03/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '03/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '03/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '03/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '03/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), 11, '03/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '03/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '03/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '03/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '03/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '03/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '03/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '03/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '03/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '03/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '03/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '03/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '04/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '04/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '04/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '04/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '04/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '04/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '04/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), 21, '04/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '04/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '04/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '04/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '04/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '04/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '04/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '04/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '04/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '04/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '04/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '04/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), 26, '04/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '04/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '04/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '05/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '05/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '05/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '05/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '05/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '05/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '05/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '05/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '05/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '05/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '05/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), 13, '05/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '05/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '05/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '05/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '05/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '05/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), 10, '05/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '05/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '05/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '05/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '05/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '06/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '06/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '06/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), 9, '06/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '06/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '06/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '06/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '06/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '06/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '06/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '06/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '06/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '06/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '06/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '06/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '06/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '06/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '06/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), 15, '06/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '07/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '07/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), 10, '07/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '07/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '07/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '07/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '07/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), 9, '07/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '07/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), 8, '07/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '07/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '07/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '07/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '07/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '07/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '07/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), 8, '07/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '07/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '07/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '07/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '07/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '07/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '07/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '08/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '08/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), 8, '08/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '08/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '08/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), 8, '08/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '08/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '08/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '08/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), 8, '08/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '08/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '08/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '08/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '08/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '08/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '08/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '08/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '08/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '08/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), 8, '08/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '08/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '08/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '08/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '08/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '08/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '08/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '08/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '09/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '09/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '09/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '09/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '09/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '09/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '09/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '09/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), 12, '09/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '09/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '09/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '09/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '09/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '09/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '09/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '09/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '09/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), 10, '09/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '09/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '09/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '09/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '09/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '09/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '10/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '10/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '10/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '10/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '10/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '10/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '10/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), 8, '10/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '10/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '10/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '10/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '10/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), 12, '10/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '10/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '10/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '10/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '10/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '10/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '10/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '10/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '10/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '10/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '10/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '11/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '11/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '11/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '11/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '11/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '11/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '11/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), 10, '11/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '11/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '11/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '11/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), 11, '11/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '11/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '11/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '11/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), 14, '11/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '11/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), 8, '11/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '11/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '11/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '11/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '11/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '12/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '12/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '12/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '12/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '12/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '12/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '12/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '12/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), 11, '12/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '12/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '12/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '12/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '12/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), 8, '12/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '12/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '12/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '12/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), 8, '12/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '12/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '12/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '12/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '12/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '12/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '01/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '01/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '01/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '01/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '01/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '01/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), 9, '01/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '01/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '01/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '01/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '01/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '01/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '01/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '01/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '01/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '01/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '01/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '01/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '01/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '01/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '01/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '01/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '02/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '02/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), 20, '02/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '02/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '02/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '02/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '02/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '02/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '02/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '02/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '02/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '02/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '02/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '02/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '02/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '02/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '02/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), 16, '02/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '02/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '03/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '03/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '03/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '03/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '03/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '03/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '03/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '03/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), 25, '03/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '03/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '03/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '03/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '03/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '03/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '03/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '03/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '03/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '03/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '03/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '03/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '03/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '03/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '04/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '04/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), 21, '04/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '04/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '04/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '04/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '04/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '04/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '04/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '04/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '04/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '04/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '04/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), 8, '04/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '04/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '04/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '04/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '04/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '04/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '04/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '04/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '05/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '05/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '05/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '05/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), 8, '05/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '05/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '05/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '05/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '05/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '05/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), 11, '05/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '05/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '05/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '05/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '05/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '05/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '05/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '05/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '05/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '05/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), 15, '05/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '05/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '06/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), 9, '06/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '06/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '06/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '06/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '06/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '06/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), 12, '06/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '06/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '06/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '06/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '06/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '06/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '06/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '06/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '06/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '06/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '06/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '06/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '06/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '06/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '06/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '06/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '06/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), 25, '06/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '07/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '07/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '07/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '07/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '07/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '07/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '07/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '07/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '07/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '07/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '07/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '07/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '07/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '07/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '07/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '07/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), 12, '07/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '07/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '07/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '07/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '07/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '07/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), 14, '07/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '08/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '08/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '08/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '08/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '08/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '08/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '08/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '08/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '08/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '08/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '08/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '08/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '08/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '08/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '08/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '08/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), 27, '08/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '08/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '08/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '08/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), 8, '08/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '08/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '08/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '09/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '09/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '09/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '09/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '09/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '09/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '09/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '09/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '09/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '09/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '09/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '09/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '09/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '09/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), 15, '09/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '09/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '09/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '09/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '09/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '09/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '09/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '09/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '09/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '10/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '10/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), 9, '10/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '10/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '10/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '10/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '10/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), 10, '10/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '10/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '10/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '10/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '10/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '10/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '10/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '10/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '10/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '10/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '10/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '10/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '10/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '10/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '10/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '10/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '10/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), 16, '10/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '10/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '10/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '11/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '11/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '11/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '11/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '11/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '11/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '11/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '11/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), 17, '11/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '11/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '11/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '11/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '11/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '11/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '11/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '11/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '11/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '11/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '11/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), 11, '11/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '11/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '11/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '11/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '11/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '11/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '12/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '12/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '12/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '12/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), 26, '12/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '12/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '12/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '12/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '12/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '12/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '12/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '12/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '12/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '12/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '12/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '12/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '12/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '12/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '12/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '12/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '12/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '12/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), 14, '12/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '12/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '01/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '01/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '01/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '01/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '01/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '01/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '01/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), 9, '01/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '01/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), 12, '01/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '01/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '01/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '01/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '01/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '01/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '01/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '01/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '01/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '01/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '01/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '01/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), 9, '01/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '01/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '02/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '02/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '02/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '02/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '02/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), 16, '02/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '02/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '02/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '02/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '02/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '02/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '02/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '02/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '02/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '02/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '02/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), 18, '02/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '02/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '02/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '02/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '02/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '02/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '03/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), 10, '03/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '03/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '03/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '03/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '03/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), 12, '03/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '03/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '03/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '03/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '03/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '03/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '03/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '03/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '03/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '03/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '03/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '03/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '03/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '03/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '03/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '03/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '03/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '04/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), 23, '04/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '04/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '04/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '04/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '04/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), 10, '04/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '04/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '04/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '04/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '04/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '04/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '04/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), 8, '04/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '04/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '04/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), 8, '04/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '04/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '04/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '04/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '04/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '05/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '05/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '05/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '05/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '05/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '05/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '05/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '05/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '05/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '05/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '05/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '05/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '05/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '05/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '05/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), 10, '05/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '05/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '05/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '05/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '05/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '05/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '05/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '05/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '06/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), 23, '06/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '06/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '06/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '06/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '06/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '06/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '06/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '06/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '06/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '06/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '06/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '06/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '06/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '06/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '06/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '06/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '06/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '06/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '07/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), 15, '07/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '07/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '07/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '07/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '07/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '07/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '07/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '07/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '07/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '07/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), 24, '07/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '07/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), 8, '07/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '07/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '07/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '07/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '07/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '07/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '07/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), 8, '07/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '07/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '07/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '07/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '08/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '08/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '08/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '08/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '08/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '08/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '08/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '08/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '08/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '08/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '08/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '08/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '08/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '08/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '08/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '08/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '08/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), 21, '08/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '08/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '08/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '08/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '08/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '09/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '09/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '09/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '09/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '09/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '09/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '09/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '09/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), 17, '09/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '09/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '09/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '09/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '09/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '09/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '09/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '09/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '09/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '09/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '09/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '09/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '09/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '09/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '10/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), 9, '10/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '10/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '10/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '10/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '10/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '10/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), 18, '10/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '10/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), 11, '10/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '10/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '10/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '10/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '10/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '10/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), 8, '10/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '10/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '10/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '10/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '10/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '10/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '10/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '10/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), 8, '10/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '10/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), 8, '10/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '10/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '11/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), 8, '11/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '11/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), 8, '11/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '11/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '11/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '11/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '11/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '11/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '11/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '11/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '11/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), 8, '11/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '11/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '11/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '11/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '11/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '11/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '11/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '11/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '11/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '11/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '11/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '11/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '11/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '11/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '11/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '12/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '12/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '12/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), 10, '12/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '12/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '12/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '12/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '12/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '12/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '12/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '12/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -2, '12/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '12/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '12/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Marron'), -1, '12/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), 39, '01/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '01/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '01/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '01/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '01/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '01/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '01/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '01/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '01/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '01/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '01/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '01/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), 20, '01/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '01/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '01/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '01/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '01/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '01/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '01/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '01/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '01/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '01/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), 16, '01/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '01/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '01/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), 15, '01/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '02/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '02/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '02/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '02/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '02/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '02/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '02/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), 15, '02/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '02/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '02/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '02/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '02/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '02/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '02/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), 15, '02/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '02/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '02/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), 15, '02/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '02/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '02/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '03/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '03/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '03/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '03/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '03/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '03/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '03/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '03/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '03/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '03/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '03/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '03/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '03/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '03/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '03/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '03/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '03/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '03/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '03/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '03/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '03/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '03/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '03/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '04/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '04/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '04/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '04/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '04/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '04/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '04/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '04/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '04/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '04/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '04/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '04/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '04/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '04/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '04/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), 22, '04/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '04/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '04/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '04/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '04/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '04/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '05/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '05/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '05/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '05/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '05/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '05/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '05/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '05/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '05/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '05/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), 28, '05/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '05/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '05/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '05/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '05/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '05/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '05/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '05/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), 15, '05/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '05/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '05/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '06/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '06/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '06/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '06/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '06/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '06/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '06/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '06/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '06/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '06/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), 15, '06/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '06/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '06/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), 15, '06/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '06/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '06/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '06/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '06/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '06/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '06/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '06/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), 15, '06/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '07/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '07/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '07/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '07/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '07/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '07/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '07/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '07/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '07/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), 15, '07/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '07/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '07/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '07/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '07/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '07/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '07/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '07/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '07/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '07/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '07/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '07/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '07/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '08/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '08/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '08/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '08/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), 15, '08/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '08/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '08/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), 15, '08/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '08/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '08/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '08/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '08/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '08/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '08/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '08/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '08/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '08/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '08/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '08/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '08/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '08/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '08/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '08/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '09/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '09/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '09/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '09/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '09/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '09/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '09/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), 15, '09/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '09/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '09/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '09/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '09/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '09/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '09/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '09/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '09/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '09/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '09/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '10/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '10/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '10/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '10/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '10/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '10/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '10/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '10/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '10/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '10/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '10/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '10/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '10/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), 23, '10/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '10/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '10/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '10/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), 15, '10/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '10/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '10/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '10/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '10/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '10/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '11/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), 15, '11/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '11/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '11/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '11/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '11/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '11/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '11/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '11/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '11/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '11/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '11/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '11/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '11/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '11/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '11/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '11/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '11/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '11/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '11/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '12/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '12/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '12/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '12/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '12/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '12/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '12/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '12/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), 28, '12/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '12/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), 15, '12/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '12/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), 15, '12/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '12/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '12/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '12/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '12/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '12/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '12/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), 15, '12/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '12/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '12/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '12/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '12/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '12/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '12/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '01/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '01/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), 15, '01/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '01/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '01/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '01/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '01/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '01/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '01/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '01/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '01/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), 15, '01/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '01/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '01/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '01/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '01/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '01/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '01/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '01/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '01/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '01/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '02/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '02/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '02/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), 15, '02/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '02/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '02/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '02/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '02/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '02/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '02/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '02/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '02/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '02/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '02/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '02/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '02/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '02/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '02/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), 15, '02/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '02/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '03/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '03/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '03/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '03/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '03/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '03/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '03/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '03/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '03/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '03/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '03/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '03/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '03/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '03/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '03/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '03/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '03/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '03/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '03/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), 15, '03/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '04/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '04/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '04/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '04/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '04/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '04/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), 15, '04/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '04/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '04/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '04/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), 15, '04/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '04/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '04/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '04/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '04/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '04/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '04/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '04/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '04/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '04/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '04/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '04/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '05/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '05/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '05/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '05/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '05/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '05/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), 15, '05/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '05/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '05/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '05/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '05/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '05/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '05/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '05/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '05/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), 15, '05/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '05/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '05/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '05/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '05/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '05/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '05/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '05/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '05/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '06/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '06/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '06/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), 15, '06/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '06/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '06/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '06/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '06/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '06/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '06/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '06/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), 15, '06/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '06/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '06/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '06/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '06/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '06/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '06/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '06/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '06/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '06/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '06/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '06/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '06/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '07/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '07/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '07/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '07/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '07/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), 15, '07/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '07/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '07/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '07/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '07/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '07/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '07/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '07/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '07/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '07/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '07/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '07/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '07/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '07/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '07/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '07/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '08/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '08/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '08/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '08/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '08/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '08/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '08/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '08/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), 25, '08/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '08/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '08/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '08/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '08/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '08/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '08/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '08/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '08/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '08/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '08/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '08/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), 15, '08/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '08/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '08/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '08/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '08/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '09/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '09/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '09/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '09/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '09/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '09/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '09/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), 16, '09/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '09/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '09/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '09/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '09/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '09/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '09/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '09/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), 15, '09/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '09/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '09/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), 15, '09/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '09/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '09/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '09/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '09/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '09/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '10/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '10/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '10/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '10/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '10/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '10/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '10/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '10/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '10/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '10/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '10/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '10/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '10/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '10/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '10/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '10/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '10/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '10/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '10/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '11/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), 15, '11/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '11/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '11/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '11/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), 15, '11/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '11/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '11/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '11/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '11/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '11/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '11/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '11/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '11/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '11/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '11/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '11/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '11/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), 16, '11/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '11/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '11/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '11/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '11/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '11/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '11/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '12/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '12/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '12/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '12/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), 17, '12/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '12/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '12/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '12/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '12/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '12/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '12/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '12/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), 15, '12/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '12/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '12/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '12/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '12/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '12/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '12/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '12/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '12/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '12/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '12/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '01/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '01/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '01/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '01/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '01/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), 15, '01/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '01/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '01/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '01/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '01/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '01/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '01/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '01/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '01/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '01/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '01/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '01/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '01/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '01/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), 18, '01/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '01/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '01/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '01/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '01/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '01/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '02/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '02/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '02/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '02/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '02/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '02/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '02/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '02/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '02/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '02/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '02/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '02/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '02/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '02/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '02/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), 29, '02/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '02/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '02/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '02/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '03/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), 15, '03/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '03/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '03/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '03/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '03/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), 15, '03/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '03/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '03/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '03/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), 15, '03/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '03/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '03/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '03/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '03/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '03/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '03/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), 15, '03/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '03/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '03/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '03/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '03/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), 15, '03/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '03/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '03/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '04/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '04/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), 15, '04/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '04/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '04/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '04/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '04/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), 15, '04/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '04/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '04/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '04/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '04/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '04/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '04/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '04/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '04/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '04/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '04/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '04/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '04/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '04/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '04/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '04/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '04/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '05/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '05/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '05/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '05/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '05/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '05/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '05/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '05/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '05/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '05/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '05/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '05/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '05/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '05/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '05/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '05/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), 15, '05/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '05/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '05/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '05/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '06/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '06/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '06/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '06/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '06/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '06/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '06/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '06/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '06/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '06/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '06/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '06/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), 15, '06/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '06/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '06/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '06/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '06/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '06/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '06/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '06/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '07/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '07/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), 15, '07/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '07/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '07/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '07/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '07/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), 15, '07/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '07/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '07/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '07/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '07/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '07/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '07/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '07/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '07/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '07/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), 15, '07/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '07/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '07/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '07/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '07/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '07/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '07/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '07/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '07/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '07/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '08/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '08/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '08/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '08/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '08/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '08/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '08/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '08/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '08/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '08/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '08/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '08/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '08/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '08/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '08/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '08/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '08/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '08/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '08/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '08/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '09/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '09/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '09/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '09/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '09/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '09/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '09/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '09/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '09/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '09/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '09/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '09/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '09/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), 23, '09/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '09/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), 15, '09/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '09/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '09/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '09/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '09/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '10/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), 15, '10/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '10/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '10/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '10/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '10/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '10/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), 15, '10/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '10/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '10/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '10/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), 15, '10/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '10/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '10/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '10/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '10/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '10/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '10/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '10/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '10/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '10/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '10/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '11/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '11/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '11/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '11/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '11/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '11/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '11/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '11/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), 15, '11/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '11/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '11/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '11/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '11/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '11/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '11/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '11/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '11/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '11/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '11/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '11/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), 15, '11/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '11/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '12/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '12/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '12/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '12/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -1, '12/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '12/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '12/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '12/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '12/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '12/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), 15, '12/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '12/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '12/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), -2, '12/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Noir'), 15, '12/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 42, '01/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '01/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '01/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '01/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '01/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 37, '01/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '01/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '01/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '01/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 16, '01/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '01/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '01/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '01/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '01/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '01/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '01/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 39, '01/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '01/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '01/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '01/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '01/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '01/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 34, '01/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '01/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '01/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '01/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '02/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '02/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '02/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 31, '02/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '02/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 16, '02/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '02/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '02/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '02/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 17, '02/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '02/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '02/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '02/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '02/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '02/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 28, '02/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '02/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '02/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '02/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '02/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 34, '02/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '02/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '02/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '02/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '03/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '03/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 24, '03/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '03/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '03/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '03/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '03/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 32, '03/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '03/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 15, '03/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '03/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '03/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '03/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '03/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '03/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '03/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 28, '03/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '03/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '03/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '03/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '03/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '03/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 23, '03/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '03/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '03/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '03/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '03/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 22, '03/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '04/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '04/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '04/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 34, '04/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '04/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '04/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '04/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '04/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '04/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 15, '04/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '04/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '04/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 35, '04/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '04/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '04/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '04/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '04/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '04/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 40, '04/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '04/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '04/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '04/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '05/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '05/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 29, '05/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '05/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '05/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '05/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '05/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '05/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 30, '05/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '05/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '05/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '05/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '05/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '05/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 34, '05/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '05/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '05/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 15, '05/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '05/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '05/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '05/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '05/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '05/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 35, '05/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '05/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 15, '05/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '05/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '05/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '06/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '06/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '06/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '06/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 23, '06/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '06/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '06/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '06/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '06/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 19, '06/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '06/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '06/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 31, '06/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '06/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '06/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '06/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '06/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '06/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '06/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 15, '06/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '06/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '06/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 19, '06/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '06/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '06/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '06/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '07/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 32, '07/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '07/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '07/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '07/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '07/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '07/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 19, '07/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '07/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '07/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 29, '07/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '07/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '07/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '07/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '07/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 33, '07/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '07/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '07/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '07/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '07/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 19, '07/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '07/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '07/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 26, '07/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '07/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '07/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '08/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '08/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '08/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '08/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 36, '08/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '08/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '08/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '08/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '08/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '08/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 30, '08/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '08/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '08/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '08/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '08/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '08/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 21, '08/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '08/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '08/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '08/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 17, '08/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '08/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '08/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '08/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 17, '08/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '08/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '09/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 18, '09/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '09/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '09/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '09/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '09/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 32, '09/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '09/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '09/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '09/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '09/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 30, '09/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '09/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '09/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '09/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '09/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '09/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 25, '09/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '09/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '09/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 25, '09/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '10/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '10/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '10/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '10/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '10/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 25, '10/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '10/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '10/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '10/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '10/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 31, '10/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '10/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '10/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '10/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '10/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '10/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 31, '10/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '10/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '10/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '10/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '10/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '10/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 31, '10/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '10/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '10/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '11/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '11/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 29, '11/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '11/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '11/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '11/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '11/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '11/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 17, '11/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '11/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '11/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 26, '11/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '11/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '11/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '11/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '11/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '11/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 35, '11/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '11/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '11/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '11/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '11/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '11/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '11/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 25, '11/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '11/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '12/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 19, '12/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '12/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '12/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '12/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '12/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 36, '12/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '12/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '12/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '12/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '12/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '12/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '12/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 16, '12/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '12/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '12/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 19, '12/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '12/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '12/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '12/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 37, '12/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '12/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '12/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '12/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '12/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '12/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 18, '12/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '12/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '12/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '01/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 20, '01/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '01/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '01/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '01/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 22, '01/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '01/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '01/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '01/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 35, '01/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '01/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '01/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '01/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '01/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '01/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '01/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 33, '01/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '01/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 15, '01/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '01/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '01/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '01/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '01/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '01/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '01/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 27, '01/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '02/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '02/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '02/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '02/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 33, '02/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '02/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 15, '02/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '02/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 15, '02/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '02/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 15, '02/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '02/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '02/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 15, '02/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '02/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '02/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '02/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '02/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 15, '02/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '02/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '02/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '02/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '02/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '02/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '02/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 35, '02/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '03/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '03/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '03/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '03/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '03/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '03/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 37, '03/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '03/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '03/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '03/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '03/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '03/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 25, '03/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '03/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '03/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '03/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '03/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 15, '03/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '03/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '03/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 22, '03/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '03/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '03/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '03/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 24, '03/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '03/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '04/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '04/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '04/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 29, '04/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '04/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '04/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '04/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '04/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '04/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 34, '04/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '04/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '04/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '04/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '04/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '04/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 23, '04/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '04/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '04/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '04/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '04/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 17, '04/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '04/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 25, '04/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '04/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '04/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '05/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '05/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '05/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 19, '05/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '05/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '05/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '05/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 31, '05/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '05/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 15, '05/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '05/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '05/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '05/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '05/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '05/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '05/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 25, '05/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '05/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '05/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '05/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 32, '05/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '05/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 15, '05/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '05/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '05/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '05/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '05/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '05/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '06/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 34, '06/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '06/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '06/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '06/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '06/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '06/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 16, '06/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '06/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '06/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '06/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 19, '06/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '06/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '06/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 21, '06/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '06/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 22, '06/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '06/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '06/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '06/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '06/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '06/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '06/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 40, '06/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '06/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '06/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '06/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '06/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 25, '06/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '06/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 15, '06/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '07/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '07/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '07/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '07/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '07/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '07/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '07/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 28, '07/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '07/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '07/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '07/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '07/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '07/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 36, '07/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '07/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '07/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '07/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '07/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '07/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 27, '07/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '07/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 15, '07/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '07/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '07/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '08/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '08/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '08/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 36, '08/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '08/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '08/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '08/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '08/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '08/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '08/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '08/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 20, '08/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '08/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '08/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '08/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 39, '08/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '08/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '08/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '08/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '08/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '08/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '08/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 28, '08/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '08/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 15, '08/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '08/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '08/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '08/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '08/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 18, '08/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '09/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '09/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '09/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 17, '09/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '09/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 21, '09/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '09/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '09/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '09/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '09/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 15, '09/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '09/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '09/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '09/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 37, '09/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '09/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '09/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '09/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '09/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '09/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 15, '09/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '09/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '09/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '09/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 35, '09/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '09/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 15, '09/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '09/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '10/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '10/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '10/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '10/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '10/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '10/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 20, '10/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '10/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '10/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 17, '10/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '10/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '10/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '10/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 18, '10/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '10/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '10/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '10/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 28, '10/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '10/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '10/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '10/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '10/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 24, '10/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '10/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '10/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '10/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '11/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 30, '11/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '11/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '11/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '11/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '11/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '11/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 21, '11/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '11/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '11/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '11/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 27, '11/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '11/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '11/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '11/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '11/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 21, '11/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '11/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '11/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '11/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 23, '11/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '11/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '11/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '11/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 26, '11/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '11/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '12/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '12/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '12/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 33, '12/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '12/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '12/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '12/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '12/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '12/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 40, '12/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '12/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '12/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '12/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '12/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '12/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '12/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 22, '12/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '12/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '12/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '12/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 26, '12/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '12/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '12/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '01/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '01/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 27, '01/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '01/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '01/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '01/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '01/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '01/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 27, '01/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '01/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '01/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '01/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 21, '01/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '01/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '01/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 21, '01/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '01/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '01/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '01/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '01/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 26, '01/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '01/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '01/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '01/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '01/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 25, '01/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '01/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '02/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 20, '02/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '02/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '02/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '02/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '02/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '02/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '02/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 35, '02/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '02/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '02/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '02/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '02/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 29, '02/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '02/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '02/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '02/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '02/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '02/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '02/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 31, '02/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '02/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 15, '02/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '03/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '03/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '03/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '03/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '03/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '03/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 26, '03/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '03/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '03/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '03/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '03/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 34, '03/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '03/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '03/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '03/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '03/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '03/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 27, '03/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '03/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '03/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '03/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '03/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 31, '03/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '04/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '04/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '04/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '04/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 23, '04/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '04/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '04/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '04/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '04/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 28, '04/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '04/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '04/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '04/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '04/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 16, '04/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '04/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 19, '04/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '04/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '04/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '04/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 15, '04/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '04/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '04/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '05/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '05/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '05/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 15, '05/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '05/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '05/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '05/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 23, '05/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '05/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '05/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '05/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 23, '05/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '05/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 15, '05/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '05/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '05/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '05/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '05/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '05/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 28, '05/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '05/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 16, '05/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '05/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '05/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '05/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '06/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '06/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '06/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 24, '06/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '06/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 17, '06/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '06/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '06/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '06/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '06/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '06/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 21, '06/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '06/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '06/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '06/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 17, '06/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '06/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '06/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 25, '06/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '06/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '06/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '06/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '06/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 21, '06/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '06/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 21, '06/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '07/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '07/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '07/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '07/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '07/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 21, '07/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '07/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '07/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '07/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 16, '07/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '07/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '07/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '07/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 15, '07/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '07/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '07/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 37, '07/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '07/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '07/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '07/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '07/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '07/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '07/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 40, '07/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '07/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '07/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '07/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '08/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '08/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '08/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 26, '08/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '08/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '08/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '08/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 27, '08/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '08/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '08/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '08/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '08/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 17, '08/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '08/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '08/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '08/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 15, '08/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '08/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 29, '08/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '08/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '08/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '08/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '08/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '08/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 32, '08/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '08/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 15, '08/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '09/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '09/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '09/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '09/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '09/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '09/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '09/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 38, '09/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '09/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '09/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '09/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '09/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '09/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '09/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 32, '09/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '09/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '09/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '09/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '09/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '09/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 23, '09/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '09/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '09/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '10/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '10/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 38, '10/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '10/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '10/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '10/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '10/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '10/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '10/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 30, '10/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '10/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '10/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '10/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '10/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '10/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 23, '10/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '10/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '10/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '10/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 29, '10/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '10/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '10/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 16, '10/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '10/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '10/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '11/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '11/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '11/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '11/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 39, '11/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '11/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 15, '11/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '11/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '11/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '11/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '11/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '11/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '11/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '11/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 30, '11/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '11/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '11/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '11/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '11/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '11/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 36, '11/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '11/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '11/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '12/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '12/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '12/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 15, '12/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '12/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '12/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 32, '12/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '12/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '12/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '12/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '12/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 15, '12/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -8, '12/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '12/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '12/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 25, '12/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -7, '12/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '12/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -6, '12/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), -5, '12/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cinture Orange'), 27, '12/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), 85, '01/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '01/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '01/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '01/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '01/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '01/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '01/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '01/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '01/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '01/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '01/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), 53, '01/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '01/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '01/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '01/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '01/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '01/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '01/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '01/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), 24, '01/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '01/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '01/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '01/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '01/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '01/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '01/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '02/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '02/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '02/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '02/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '02/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), 75, '02/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '02/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '02/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '02/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '02/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '02/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '02/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '02/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '02/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '02/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '02/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '02/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '02/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), 33, '02/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '03/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '03/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '03/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '03/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '03/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '03/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '03/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '03/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '03/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '03/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '03/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '03/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '03/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), 25, '03/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '03/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '03/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '03/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '03/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '03/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), 24, '03/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '04/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), 61, '04/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '04/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '04/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), 20, '04/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '04/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '04/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '04/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '04/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '04/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '04/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), 28, '04/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '04/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '04/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '04/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '04/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '04/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '04/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '04/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '04/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '04/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '05/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '05/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), 34, '05/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '05/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '05/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), 22, '05/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '05/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '05/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '05/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '05/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '05/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '05/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '05/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '05/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), 31, '05/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '05/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '05/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '05/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '05/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '05/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '05/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '05/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), 22, '05/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '06/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), 33, '06/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '06/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '06/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '06/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '06/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '06/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '06/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '06/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '06/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '06/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '06/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '06/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '06/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '06/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), 57, '06/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '06/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '06/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '06/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '06/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '07/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '07/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '07/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '07/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '07/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), 35, '07/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '07/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '07/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '07/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '07/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), 27, '07/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '07/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '07/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '07/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '07/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '07/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '07/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), 35, '07/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '07/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '07/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '07/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '07/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '07/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '08/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '08/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '08/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '08/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '08/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '08/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '08/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '08/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '08/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '08/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '08/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), 79, '08/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '08/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '08/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '08/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '08/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '08/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '08/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '08/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '08/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '08/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '08/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '08/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '08/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '09/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '09/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '09/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), 23, '09/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '09/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '09/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '09/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '09/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), 74, '09/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '09/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '09/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '09/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '09/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '09/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '09/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '09/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '09/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '09/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '09/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), 21, '09/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '09/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '09/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '09/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '09/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '09/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '09/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '10/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '10/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), 34, '10/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '10/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '10/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '10/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), 23, '10/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '10/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '10/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '10/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '10/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '10/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '10/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '10/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '10/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '10/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '10/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '10/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), 78, '10/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '10/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '10/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '10/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '11/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '11/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '11/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '11/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '11/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '11/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '11/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '11/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '11/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), 61, '11/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '11/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '11/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '11/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '11/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '11/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '11/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '11/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '11/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '11/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '11/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '11/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '11/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '12/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '12/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '12/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '12/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), 32, '12/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '12/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '12/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '12/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '12/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '12/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '12/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), 75, '12/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '12/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '12/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '12/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '12/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '12/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '12/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '12/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '12/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '12/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '12/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), 51, '12/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '01/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '01/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '01/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '01/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '01/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '01/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '01/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '01/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '01/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '01/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '01/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '01/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '01/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '01/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), 70, '01/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '01/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '01/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '01/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '01/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '01/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '01/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '01/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '01/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '01/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '02/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '02/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '02/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '02/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '02/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), 35, '02/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '02/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '02/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '02/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '02/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '02/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '02/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '02/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), 74, '02/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '02/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '02/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '02/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), 20, '02/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '02/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '02/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '03/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '03/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '03/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '03/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '03/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '03/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '03/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '03/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '03/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '03/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '03/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '03/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '03/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), 45, '03/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '03/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '03/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '03/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '03/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '03/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '03/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '03/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '03/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), 63, '03/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '04/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '04/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), 20, '04/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '04/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '04/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '04/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), 20, '04/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '04/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '04/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '04/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '04/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), 20, '04/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '04/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '04/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '04/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '04/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '04/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '04/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '04/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '04/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '04/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '04/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '05/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '05/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '05/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '05/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '05/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '05/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), 75, '05/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '05/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '05/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '05/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '05/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '05/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), 30, '05/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '05/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '05/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '05/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '05/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '05/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '05/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '05/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '05/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '05/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '05/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '05/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '05/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '05/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '06/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '06/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '06/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), 27, '06/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '06/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '06/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '06/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '06/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), 48, '06/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '06/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), 20, '06/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '06/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '06/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '06/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), 24, '06/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '06/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '06/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '06/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '06/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '06/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), 26, '06/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '06/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), 20, '06/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '06/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '06/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '07/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '07/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '07/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '07/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '07/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '07/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '07/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '07/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '07/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '07/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '07/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), 26, '07/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '07/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '07/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '07/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '07/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '07/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '07/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '07/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '07/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '07/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '08/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '08/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), 51, '08/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '08/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '08/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '08/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '08/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '08/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '08/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '08/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '08/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '08/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '08/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), 22, '08/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '08/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '08/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '08/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '08/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), 69, '08/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '08/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '08/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '08/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '08/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '08/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '09/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '09/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '09/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), 43, '09/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '09/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '09/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '09/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '09/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '09/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '09/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), 33, '09/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '09/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '09/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '09/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '09/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '09/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '09/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '09/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '09/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '09/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '09/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '10/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '10/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '10/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '10/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '10/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), 54, '10/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '10/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '10/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '10/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '10/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '10/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '10/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '10/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '10/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '10/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '10/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '10/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), 59, '10/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '10/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '10/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '10/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '10/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '10/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '10/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), 46, '10/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '10/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '11/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '11/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '11/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), 24, '11/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '11/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), 20, '11/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '11/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '11/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '11/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '11/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '11/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '11/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), 20, '11/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '11/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '11/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '11/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '11/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '11/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), 21, '11/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '11/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '11/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '11/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '12/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '12/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '12/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '12/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '12/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '12/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '12/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '12/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '12/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '12/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '12/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '12/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '12/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), 82, '12/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '12/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), 20, '12/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '12/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '12/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '12/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '12/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '12/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '12/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '12/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '12/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '01/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '01/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '01/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '01/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '01/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '01/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '01/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), 59, '01/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '01/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '01/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '01/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '01/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '01/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '01/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '01/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '01/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '01/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '01/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '01/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '01/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '01/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '02/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '02/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '02/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), 23, '02/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '02/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '02/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '02/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '02/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '02/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), 78, '02/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '02/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '02/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '02/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), 21, '02/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '02/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '02/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '02/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '02/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '03/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '03/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '03/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '03/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '03/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '03/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '03/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '03/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), 32, '03/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '03/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '03/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '03/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '03/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '03/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '03/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '03/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '03/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '03/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '03/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), 78, '03/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '03/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '03/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '03/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '04/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '04/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '04/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '04/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '04/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '04/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '04/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '04/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '04/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '04/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '04/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '04/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '04/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '04/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), 58, '04/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '04/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '04/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '04/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '04/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '04/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '04/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '05/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '05/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '05/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '05/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '05/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), 81, '05/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '05/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '05/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '05/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '05/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '05/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '05/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '05/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '05/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '05/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '05/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '05/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '05/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '05/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '05/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '05/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '05/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), 25, '05/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '05/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '06/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '06/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '06/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '06/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), 39, '06/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '06/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '06/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '06/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '06/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '06/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '06/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '06/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '06/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), 71, '06/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '06/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '06/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '06/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '06/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '06/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '06/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '06/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '07/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), 48, '07/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '07/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '07/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '07/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '07/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), 23, '07/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '07/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '07/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '07/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '07/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '07/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '07/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '07/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '07/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '07/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '07/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '07/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '07/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), 39, '07/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '07/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '07/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '07/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), 29, '07/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '08/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '08/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '08/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '08/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '08/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), 24, '08/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '08/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '08/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '08/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '08/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '08/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '08/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '08/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '08/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '08/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '08/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '08/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '08/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '08/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '08/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '08/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), 57, '08/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '08/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '08/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '08/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '09/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '09/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '09/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '09/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '09/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), 42, '09/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '09/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '09/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '09/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '09/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '09/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '09/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '09/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '09/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '09/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '09/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '09/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '09/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), 72, '09/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '09/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '10/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), 20, '10/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '10/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '10/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '10/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '10/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '10/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), 20, '10/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '10/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '10/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), 20, '10/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '10/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '10/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '10/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '10/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '10/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '10/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '10/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '10/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '10/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '10/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '10/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '10/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '11/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '11/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '11/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '11/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '11/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), 20, '11/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '11/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '11/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '11/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '11/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '11/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), 53, '11/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '11/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '11/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '11/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '11/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '11/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '11/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '11/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '11/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '11/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '11/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), 50, '11/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '12/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '12/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '12/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '12/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '12/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '12/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '12/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '12/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '12/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), 74, '12/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -4, '12/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '12/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '12/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '12/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -5, '12/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), -6, '12/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Bleu'), 32, '12/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 51, '01/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '01/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '01/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '01/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '01/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '01/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '01/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '01/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '01/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '01/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '01/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '01/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '01/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 19, '01/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '01/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 22, '01/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '01/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '01/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '01/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '01/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '01/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '01/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '01/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '01/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '02/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '02/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '02/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 30, '02/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '02/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '02/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '02/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '02/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '02/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '02/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '02/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '02/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 20, '02/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '02/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '02/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '02/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '02/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '02/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 27, '02/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '02/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '02/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '02/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '02/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '02/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '02/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '03/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '03/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 21, '03/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '03/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '03/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '03/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '03/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 17, '03/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '03/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '03/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '03/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '03/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '03/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '03/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 24, '03/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '03/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 16, '03/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '03/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '03/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '03/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '03/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '03/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '03/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '04/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '04/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '04/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '04/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '04/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 28, '04/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '04/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '04/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '04/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '04/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '04/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '04/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '04/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 41, '04/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '04/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 16, '04/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '04/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '04/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '04/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '04/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '04/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 16, '04/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '04/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '04/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '04/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '04/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '05/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '05/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '05/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 16, '05/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '05/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '05/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '05/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '05/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '05/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '05/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '05/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '05/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '05/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '05/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '05/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 25, '05/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '05/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '05/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '05/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '05/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '05/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '05/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '05/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '05/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '06/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 23, '06/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '06/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '06/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '06/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '06/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 20, '06/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '06/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '06/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '06/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '06/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '06/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '06/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '06/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '06/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 22, '06/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '06/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '06/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '06/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '06/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '06/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '06/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '06/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '06/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 21, '06/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '07/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '07/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '07/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '07/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '07/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '07/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '07/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '07/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 21, '07/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '07/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '07/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '07/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '07/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '07/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 18, '07/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '07/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '07/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '07/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '07/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 18, '07/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '07/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '07/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 23, '07/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '07/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '07/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '08/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '08/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '08/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '08/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '08/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '08/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '08/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '08/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '08/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 32, '08/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '08/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '08/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '08/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '08/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '08/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '08/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '08/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '08/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '08/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 20, '08/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '08/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '08/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '08/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '08/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 21, '08/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '09/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '09/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '09/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '09/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '09/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '09/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '09/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '09/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '09/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 29, '09/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '09/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '09/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 17, '09/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '09/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '09/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '09/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '09/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '09/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '09/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '09/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '09/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '09/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 16, '09/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '09/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '09/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '10/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '10/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '10/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '10/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '10/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 21, '10/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '10/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '10/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '10/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '10/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '10/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 19, '10/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '10/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '10/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '10/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '10/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '10/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 38, '10/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '10/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 16, '10/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '10/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 16, '10/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '10/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 16, '10/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '10/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '10/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '10/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '10/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '10/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '11/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '11/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '11/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '11/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '11/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '11/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '11/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '11/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '11/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '11/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '11/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '11/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '11/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '11/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '11/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '11/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '11/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 21, '11/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '11/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '11/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '11/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '11/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '12/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 23, '12/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '12/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '12/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 25, '12/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '12/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '12/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '12/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 16, '12/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '12/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '12/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '12/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '12/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '12/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '12/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '12/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '12/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '12/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '12/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '12/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '12/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '12/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 32, '12/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '12/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '12/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '12/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '01/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '01/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '01/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '01/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '01/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 25, '01/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '01/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '01/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '01/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '01/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '01/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '01/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 17, '01/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '01/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '01/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '01/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '01/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '01/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 18, '01/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '01/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '01/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '01/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '01/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '02/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 18, '02/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '02/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 22, '02/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '02/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '02/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '02/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 16, '02/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '02/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '02/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '02/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '02/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '02/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '02/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '02/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '02/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 31, '02/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '02/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '02/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '02/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '02/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '02/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '02/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '02/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '03/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '03/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '03/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '03/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 21, '03/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '03/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '03/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '03/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '03/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 19, '03/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '03/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '03/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '03/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '03/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '03/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '03/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '03/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '03/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 36, '03/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '03/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '03/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '04/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '04/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '04/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '04/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '04/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '04/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '04/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '04/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '04/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 24, '04/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '04/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 17, '04/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '04/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '04/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '04/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '04/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '04/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '04/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 17, '04/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '04/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '04/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '04/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '04/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '05/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '05/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '05/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '05/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '05/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '05/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '05/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 33, '05/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '05/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '05/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '05/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '05/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '05/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '05/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '05/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 19, '05/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '05/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '05/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 16, '05/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '05/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '05/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '05/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '05/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 16, '05/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '06/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '06/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '06/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '06/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '06/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '06/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '06/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '06/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '06/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '06/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '06/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '06/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 19, '06/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '06/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '06/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '06/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '06/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '06/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 32, '06/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '06/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '06/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '06/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '07/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '07/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '07/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '07/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '07/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '07/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '07/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '07/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 22, '07/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '07/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '07/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '07/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '07/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '07/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 37, '07/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '07/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '07/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '07/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 16, '07/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '07/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '07/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '07/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '07/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '07/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '07/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '08/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '08/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '08/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '08/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '08/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '08/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '08/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '08/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '08/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 24, '08/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '08/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 18, '08/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '08/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '08/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '08/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '08/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '08/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 18, '08/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '08/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '08/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '08/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '08/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '09/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '09/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '09/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '09/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '09/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '09/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '09/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 25, '09/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '09/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '09/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '09/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 23, '09/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '09/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '09/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 16, '09/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '09/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '09/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '09/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '09/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '09/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '09/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '09/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '10/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '10/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '10/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '10/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '10/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '10/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '10/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 34, '10/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '10/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '10/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '10/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '10/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 16, '10/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '10/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '10/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '10/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '10/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 16, '10/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '10/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 16, '10/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '10/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 16, '10/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '10/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 16, '10/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '10/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '10/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '10/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '11/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '11/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '11/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '11/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '11/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '11/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '11/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '11/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '11/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '11/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '11/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '11/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 16, '11/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '11/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '11/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '11/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '11/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '11/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '11/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 16, '11/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '11/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '11/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '11/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '12/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '12/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '12/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '12/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '12/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '12/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '12/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 17, '12/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '12/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '12/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '12/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '12/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '12/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '12/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '12/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '12/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 16, '12/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '12/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '12/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '12/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '12/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '12/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '12/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 34, '12/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '12/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '01/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '01/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '01/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '01/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '01/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '01/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '01/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '01/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '01/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '01/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 32, '01/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '01/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '01/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '01/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '01/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '01/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '01/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '01/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '01/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '01/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 29, '01/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '01/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 16, '01/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '02/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 16, '02/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '02/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '02/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '02/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '02/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 16, '02/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '02/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 16, '02/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '02/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '02/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '02/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '02/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 16, '02/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '02/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '02/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '02/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '02/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 16, '02/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '02/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '02/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '02/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '02/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '03/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '03/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '03/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '03/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '03/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '03/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '03/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '03/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '03/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '03/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 16, '03/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '03/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '03/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '03/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '03/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '03/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '03/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '03/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '03/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '03/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '03/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '03/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '03/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '03/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '03/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 27, '03/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '04/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '04/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 16, '04/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '04/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '04/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '04/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '04/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '04/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '04/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '04/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 18, '04/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '04/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '04/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '04/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '04/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '04/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '04/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '04/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '04/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '04/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '05/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '05/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 40, '05/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '05/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '05/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '05/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '05/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '05/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '05/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '05/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '05/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '05/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '05/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '05/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '05/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 37, '05/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '05/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '05/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '05/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '05/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '05/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '05/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '06/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '06/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '06/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '06/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '06/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 34, '06/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '06/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '06/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '06/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '06/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '06/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '06/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '06/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '06/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '06/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '06/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 30, '06/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '06/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '06/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '06/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '06/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '06/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '07/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '07/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '07/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 21, '07/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '07/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '07/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 25, '07/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '07/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '07/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '07/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '07/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '07/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '07/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '07/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '07/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 23, '07/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '07/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '07/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '07/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '07/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '07/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '07/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '07/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '08/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '08/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 32, '08/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '08/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '08/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '08/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '08/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '08/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '08/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '08/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '08/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 23, '08/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '08/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '08/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '08/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '08/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '08/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '08/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '08/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '08/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '08/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 17, '08/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '09/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '09/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '09/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '09/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 37, '09/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '09/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '09/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 16, '09/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '09/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '09/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '09/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '09/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '09/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '09/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '09/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '09/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 21, '09/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '09/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '09/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '09/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 16, '09/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '09/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '09/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '09/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '10/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '10/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '10/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '10/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '10/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '10/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '10/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '10/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 24, '10/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '10/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 18, '10/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '10/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '10/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '10/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '10/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '10/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '10/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '10/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '10/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 22, '10/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '10/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '10/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '10/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 16, '10/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '10/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '10/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '11/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '11/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 16, '11/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '11/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '11/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '11/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '11/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '11/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '11/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '11/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '11/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '11/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '11/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '11/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 33, '11/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '11/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '11/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '11/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '11/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '11/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '11/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '11/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '12/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '12/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '12/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '12/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 16, '12/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '12/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '12/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '12/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '12/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -2, '12/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 18, '12/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '12/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '12/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -5, '12/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '12/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -3, '12/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 26, '12/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), -4, '12/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Noir'), 16, '12/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), 22, '01/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '01/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '01/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '01/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '01/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '01/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), 17, '01/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '01/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '01/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '01/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '01/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '01/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '01/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '01/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '01/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '01/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '01/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), 10, '01/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '02/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '02/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '02/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '02/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), 8, '02/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '02/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '02/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), 16, '02/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '02/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '02/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '02/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '02/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '02/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '02/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '02/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '02/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '03/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '03/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '03/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '03/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), 19, '03/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '03/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '03/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '03/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '03/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), 8, '03/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '03/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '03/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '03/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '03/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '03/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '03/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '04/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '04/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '04/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '04/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '04/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '04/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '04/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '04/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), 12, '04/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '04/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), 8, '04/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '04/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '04/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '04/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '04/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '04/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '04/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '04/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '05/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '05/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), 9, '05/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '05/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '05/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '05/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '05/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), 15, '05/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '05/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '05/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '05/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '05/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '05/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '05/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '05/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '05/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), 16, '05/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '05/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), 8, '05/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '06/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '06/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '06/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '06/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '06/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '06/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '06/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '06/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '06/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '06/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '06/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), 8, '06/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '06/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '06/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '06/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '06/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), 20, '06/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '06/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '06/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '06/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '06/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '07/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '07/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '07/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '07/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), 17, '07/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '07/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '07/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '07/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '07/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '07/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '07/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '07/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '07/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), 20, '07/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '07/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '07/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '08/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '08/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '08/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '08/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '08/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '08/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), 9, '08/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '08/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '08/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '08/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '08/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), 15, '08/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '08/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '08/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '08/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '08/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '08/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '08/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '09/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), 15, '09/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '09/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), 8, '09/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '09/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '09/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '09/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '09/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '09/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '09/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '09/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), 10, '09/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '09/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '09/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '09/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '09/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '09/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '09/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '09/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '10/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '10/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), 11, '10/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '10/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '10/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '10/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '10/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '10/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), 18, '10/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '10/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '10/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), 8, '10/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '10/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '10/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '10/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '10/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '10/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '10/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '10/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '11/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '11/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), 11, '11/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '11/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '11/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '11/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), 10, '11/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '11/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '11/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '11/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '11/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '11/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '11/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), 11, '11/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '11/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '11/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '11/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '12/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '12/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), 22, '12/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '12/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '12/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '12/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '12/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '12/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '12/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '12/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '12/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '12/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), 11, '12/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '12/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '12/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '12/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '12/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), 8, '12/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '01/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), 9, '01/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '01/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '01/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), 8, '01/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '01/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), 8, '01/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '01/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '01/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), 8, '01/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '01/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '01/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '01/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '01/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '01/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '01/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '01/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '02/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '02/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '02/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '02/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '02/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '02/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '02/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '02/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), 15, '02/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '02/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '02/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '02/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), 9, '02/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '02/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '03/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '03/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '03/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), 9, '03/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '03/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '03/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '03/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '03/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '03/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '03/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '03/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '03/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '03/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), 14, '03/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '03/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '04/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '04/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), 8, '04/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '04/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '04/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), 8, '04/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '04/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '04/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '04/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '04/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '04/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), 8, '04/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '04/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '04/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '04/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '04/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), 8, '04/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '04/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '04/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '04/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '05/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), 8, '05/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '05/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '05/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '05/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '05/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '05/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '05/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '05/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '05/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '05/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '05/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '05/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '05/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), 16, '05/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '05/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '05/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '06/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '06/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '06/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '06/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), 16, '06/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '06/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '06/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '06/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '06/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), 11, '06/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '06/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), 8, '06/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '06/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '06/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '06/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '06/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '06/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '06/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '06/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '07/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '07/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '07/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '07/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '07/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '07/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '07/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), 20, '07/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '07/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), 8, '07/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '07/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '07/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '07/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '07/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '07/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '07/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '07/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '07/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '08/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '08/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '08/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '08/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '08/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), 13, '08/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '08/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '08/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '08/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '08/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '08/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '08/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '08/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '08/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), 19, '08/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '08/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '08/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '09/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '09/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '09/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '09/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '09/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '09/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), 11, '09/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '09/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), 10, '09/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '09/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '09/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '09/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '09/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '09/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '10/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '10/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '10/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '10/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '10/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '10/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), 17, '10/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '10/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), 8, '10/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '10/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '10/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '10/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '10/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '10/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '10/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '10/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '10/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '11/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '11/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '11/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), 8, '11/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '11/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), 11, '11/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '11/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '11/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '11/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '11/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '11/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '11/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '11/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), 8, '11/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '11/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '11/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '11/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '11/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '12/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), 13, '12/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '12/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '12/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '12/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '12/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '12/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '12/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), 8, '12/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '12/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '12/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '12/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '12/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), 19, '12/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '12/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '12/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '01/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '01/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '01/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '01/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '01/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '01/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), 9, '01/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '01/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '01/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), 12, '01/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '01/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '01/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), 8, '01/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '01/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '01/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '01/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '01/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '01/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '01/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '01/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '02/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '02/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '02/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '02/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '02/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '02/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '02/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), 9, '02/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '02/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '02/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '02/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '02/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), 8, '02/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '02/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '02/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '03/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '03/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '03/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), 16, '03/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '03/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '03/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), 8, '03/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '03/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '03/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '03/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '03/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '03/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '03/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '03/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '03/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '03/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '03/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '03/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '03/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), 18, '03/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '03/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '04/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '04/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '04/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '04/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '04/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '04/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '04/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '04/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '04/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), 11, '04/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '04/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '04/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '04/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '04/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '04/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '04/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), 16, '04/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '05/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '05/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '05/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '05/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '05/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '05/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '05/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '05/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), 16, '05/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '05/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '05/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '05/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), 8, '05/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '05/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '05/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '05/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '05/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '05/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '06/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '06/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '06/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), 10, '06/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '06/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '06/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '06/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '06/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '06/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), 18, '06/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '06/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '06/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '06/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '06/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '06/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '06/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '06/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '06/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '06/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '06/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), 18, '06/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '07/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '07/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '07/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '07/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '07/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '07/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '07/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '07/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), 15, '07/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '07/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '07/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '07/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '07/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '07/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '07/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '07/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), 16, '07/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '07/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '08/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '08/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '08/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '08/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), 15, '08/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '08/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '08/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '08/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '08/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), 8, '08/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '08/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '08/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), 8, '08/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '08/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '08/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '08/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '09/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '09/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '09/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '09/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '09/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '09/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '09/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '09/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '09/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), 13, '09/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '09/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), 9, '09/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '09/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '09/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '09/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '10/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '10/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '10/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '10/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), 18, '10/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '10/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '10/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '10/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '10/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '10/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '10/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), 11, '10/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '10/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '10/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '10/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '10/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '10/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '10/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), 8, '10/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '11/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '11/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '11/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '11/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '11/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '11/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '11/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), 13, '11/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '11/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '11/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '11/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '11/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '11/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '11/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), 10, '11/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '11/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '11/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), 8, '11/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '12/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '12/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '12/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '12/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -2, '12/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '12/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '12/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -3, '12/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Orange'), -1, '12/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), 25, '01/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '01/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '01/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), 22, '01/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '01/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '01/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '01/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '01/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '01/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '01/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '01/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '01/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '01/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), 22, '01/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '01/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '01/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '01/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '01/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), 22, '01/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '01/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '01/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '01/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '01/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), 22, '01/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '01/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '01/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '02/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '02/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '02/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '02/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '02/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '02/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), 22, '02/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '02/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '02/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '02/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '02/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '02/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '02/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '02/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '02/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), 22, '02/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '02/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '02/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '02/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '02/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '03/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '03/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '03/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '03/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '03/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '03/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '03/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), 22, '03/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '03/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), 22, '03/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '03/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '03/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '03/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '03/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '03/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '03/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '03/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '03/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '03/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '03/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '04/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '04/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '04/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '04/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '04/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '04/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '04/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '04/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '04/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '04/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '04/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '04/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '04/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), 22, '04/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '04/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), 22, '04/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '04/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '04/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), 22, '04/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '04/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '04/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), 22, '04/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '04/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '05/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '05/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '05/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '05/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '05/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '05/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '05/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '05/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '05/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '05/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '05/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '05/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '05/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '05/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '05/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '05/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '05/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '05/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '05/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), 22, '05/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '05/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '06/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '06/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '06/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '06/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '06/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '06/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '06/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '06/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '06/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '06/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '06/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '06/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '06/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '06/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '06/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '06/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '06/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '06/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '06/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '07/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '07/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '07/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '07/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '07/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '07/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), 22, '07/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '07/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '07/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '07/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '07/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '07/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '07/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '07/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '07/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '07/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '07/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '07/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '07/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '07/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '07/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '08/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '08/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '08/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '08/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '08/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '08/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '08/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '08/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '08/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '08/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '08/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '08/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '08/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '08/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '08/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '08/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '08/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), 22, '08/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '08/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '08/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '08/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '08/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '08/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '09/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '09/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '09/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '09/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '09/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '09/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), 22, '09/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '09/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '09/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '09/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '09/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '09/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '09/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '09/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '09/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '09/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '09/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '09/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '09/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '09/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '09/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '09/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '10/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '10/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '10/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '10/06/2015');
@@ -0,0 +1,10000 @@
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '10/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '10/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '10/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '10/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '10/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '10/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), 22, '10/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '10/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), 22, '10/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '10/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '10/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '10/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '10/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '10/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '10/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '10/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '10/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), 22, '10/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '10/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), 22, '10/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '10/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '11/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '11/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '11/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '11/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '11/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '11/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '11/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '11/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '11/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '11/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '11/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '11/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '11/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '11/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '11/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '11/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '11/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '11/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '11/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '11/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '12/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '12/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '12/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '12/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), 22, '12/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '12/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '12/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '12/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '12/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '12/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '12/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '12/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '12/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '12/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '12/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '12/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '12/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '12/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '12/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '12/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), 22, '12/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '12/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '12/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '01/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '01/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '01/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '01/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '01/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '01/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '01/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '01/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '01/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '01/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), 22, '01/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '01/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '01/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), 22, '01/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '01/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '01/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '01/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '01/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '01/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '01/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '02/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '02/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '02/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '02/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '02/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '02/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '02/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '02/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '02/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '02/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '02/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '02/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), 22, '02/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '02/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '02/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '02/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '02/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '02/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '02/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '02/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '03/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), 22, '03/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '03/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '03/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '03/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '03/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '03/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '03/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '03/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '03/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '03/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '03/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '03/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '03/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '03/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '03/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '03/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '03/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '03/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '03/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '04/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '04/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '04/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '04/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '04/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '04/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '04/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '04/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '04/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '04/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '04/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '04/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '04/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), 22, '04/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '04/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '04/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '04/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '04/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '04/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), 22, '04/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '04/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '05/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '05/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '05/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '05/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '05/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '05/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '05/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '05/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '05/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '05/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '05/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '05/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '05/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '05/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '05/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '05/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '05/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '05/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '05/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '05/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '05/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '05/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), 22, '05/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '06/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '06/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '06/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '06/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '06/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '06/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '06/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '06/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '06/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '06/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '06/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), 22, '06/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '06/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '06/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '06/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '06/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), 22, '06/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '06/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '06/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '06/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '06/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '07/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '07/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '07/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '07/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '07/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '07/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '07/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '07/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), 22, '07/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '07/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '07/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '07/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), 22, '07/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '07/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '07/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '07/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '07/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '07/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '07/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '07/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '07/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '07/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '07/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '07/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '08/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '08/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '08/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '08/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), 22, '08/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '08/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '08/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), 22, '08/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '08/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '08/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '08/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '08/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '08/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '08/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '08/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '08/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '08/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '08/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '08/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '08/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '08/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '09/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '09/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '09/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '09/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '09/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), 22, '09/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '09/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '09/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '09/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '09/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '09/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '09/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '09/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '09/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '09/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '09/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), 22, '09/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '09/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '09/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '09/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), 22, '09/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '09/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '09/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), 22, '09/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '10/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '10/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '10/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '10/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '10/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '10/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '10/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '10/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '10/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), 22, '10/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '10/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '10/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '10/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '10/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '10/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '10/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '10/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '10/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '10/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '10/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '10/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '10/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '11/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '11/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '11/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '11/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '11/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '11/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '11/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '11/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '11/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '11/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '11/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '11/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '11/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '11/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '11/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '11/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '11/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '11/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '11/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '11/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '11/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), 22, '11/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '12/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '12/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '12/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '12/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '12/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), 22, '12/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '12/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '12/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '12/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '12/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '12/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '12/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), 22, '12/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '12/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '12/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '12/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '12/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '12/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), 22, '12/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '12/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '12/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '12/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '12/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '12/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '01/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '01/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '01/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '01/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '01/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '01/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '01/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '01/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), 22, '01/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '01/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '01/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), 22, '01/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '01/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '01/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '01/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '01/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '01/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '01/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), 22, '01/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '01/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '01/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '01/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '01/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '01/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '01/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '01/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '02/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '02/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '02/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '02/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '02/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '02/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), 22, '02/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '02/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '02/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '02/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '02/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '02/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '02/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '02/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '02/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '02/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '02/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '02/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '03/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '03/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '03/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '03/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '03/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '03/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '03/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '03/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '03/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '03/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '03/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '03/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), 22, '03/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '03/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '03/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '03/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '03/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '03/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '03/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '03/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), 22, '03/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '03/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '03/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '03/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '04/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '04/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '04/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '04/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '04/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '04/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '04/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '04/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '04/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '04/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '04/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '04/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '04/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '04/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '04/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '04/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '04/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '05/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), 22, '05/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '05/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '05/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), 22, '05/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '05/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), 22, '05/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '05/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '05/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '05/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '05/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '05/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '05/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '05/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '05/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '05/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), 22, '05/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '05/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '05/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '05/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '05/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '05/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '05/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '05/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), 22, '05/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '05/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '06/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '06/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '06/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '06/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '06/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '06/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '06/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), 22, '06/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '06/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '06/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '06/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '06/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '06/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '06/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '06/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '06/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '06/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), 22, '06/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '06/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '06/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '06/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '07/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '07/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '07/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '07/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '07/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '07/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '07/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '07/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '07/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '07/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '07/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '07/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '07/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '07/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '07/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '07/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '07/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '07/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '07/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '07/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '07/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '08/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '08/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '08/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '08/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '08/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '08/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '08/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '08/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '08/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '08/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '08/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '08/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '08/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '08/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '08/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '08/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '08/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '08/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '08/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '09/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '09/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '09/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '09/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '09/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), 22, '09/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '09/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '09/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '09/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '09/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '09/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '09/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '09/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '09/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '09/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '09/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '09/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), 22, '09/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '09/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '09/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), 22, '09/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '09/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '09/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '09/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '10/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '10/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '10/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '10/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '10/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '10/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '10/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '10/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '10/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '10/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '10/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '10/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '10/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), 22, '10/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '10/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '10/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '10/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '10/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '10/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '10/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '10/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '11/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '11/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '11/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '11/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '11/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '11/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '11/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '11/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '11/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '11/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '11/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '11/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '11/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), 22, '11/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '11/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '11/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '11/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '11/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), 22, '11/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '11/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '11/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '11/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '11/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '12/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '12/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '12/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '12/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '12/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '12/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '12/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '12/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '12/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '12/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -1, '12/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '12/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), 22, '12/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Cravatte Pois'), -2, '12/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 12, '01/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '01/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 17, '01/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '01/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '01/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '01/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '01/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '01/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '01/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 19, '01/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '01/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '01/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '01/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 18, '01/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '01/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '01/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '01/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '01/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 17, '01/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '01/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '01/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '01/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '01/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '02/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '02/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '02/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '02/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '02/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 37, '02/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '02/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 7, '02/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '02/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 7, '02/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '02/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '02/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '02/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '02/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '02/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '02/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '02/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '02/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '02/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '02/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '02/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '02/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '03/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '03/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 19, '03/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '03/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '03/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 15, '03/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '03/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '03/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '03/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '03/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '03/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '03/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '03/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '03/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 28, '03/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '03/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '03/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '03/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '03/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '03/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '03/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '03/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '03/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 32, '03/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '03/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '04/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '04/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '04/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '04/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '04/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '04/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '04/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '04/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 32, '04/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '04/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '04/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '04/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '04/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '04/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '04/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '04/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '04/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '04/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '04/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 22, '04/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '05/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '05/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '05/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '05/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '05/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '05/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 23, '05/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '05/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '05/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '05/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '05/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '05/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '05/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '05/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 16, '05/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '05/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '05/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 24, '05/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '05/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '05/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '05/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 13, '05/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '05/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '05/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 7, '05/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '05/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '05/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '05/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 9, '05/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '06/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '06/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 8, '06/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '06/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '06/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '06/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '06/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '06/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '06/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '06/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '06/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '06/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 29, '06/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '06/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '06/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '06/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '06/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '06/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '06/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 25, '06/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '06/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '06/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '06/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '06/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '07/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '07/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '07/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '07/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '07/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '07/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 25, '07/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '07/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '07/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '07/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 13, '07/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '07/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '07/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '07/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '07/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '07/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '07/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '07/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '07/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 14, '07/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '07/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '07/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '07/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '07/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 12, '07/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '08/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '08/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '08/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '08/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 23, '08/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '08/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 14, '08/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '08/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '08/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '08/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '08/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 13, '08/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '08/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '08/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '08/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '08/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '08/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '08/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '08/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 23, '08/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '08/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '08/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '09/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '09/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '09/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 21, '09/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '09/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '09/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '09/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '09/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '09/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '09/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '09/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '09/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '09/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '09/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 34, '09/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '09/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '09/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '09/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '09/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '09/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '09/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '09/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '10/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '10/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 7, '10/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '10/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '10/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 33, '10/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '10/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '10/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '10/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '10/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '10/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '10/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '10/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '10/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '10/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 27, '10/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '10/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '10/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '10/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '10/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '10/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '10/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '10/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '10/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '11/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 26, '11/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '11/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '11/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '11/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '11/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '11/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 15, '11/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '11/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '11/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '11/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '11/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '11/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '11/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '11/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '11/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 7, '11/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '11/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 26, '11/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '11/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 8, '11/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '11/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '11/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 12, '11/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '11/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '12/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '12/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '12/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '12/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '12/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '12/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 14, '12/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '12/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '12/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '12/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '12/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '12/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '12/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 10, '12/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '12/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '12/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 36, '12/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '12/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 7, '12/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '12/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '12/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '12/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '12/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '12/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '12/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '12/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '12/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '12/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '01/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 15, '01/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '01/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '01/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 21, '01/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '01/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 12, '01/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '01/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '01/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '01/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 10, '01/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '01/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 8, '01/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '01/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '01/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '01/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '01/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '01/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 18, '01/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '01/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '01/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '01/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '01/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '01/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '01/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '01/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '01/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '02/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '02/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '02/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 33, '02/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '02/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '02/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 14, '02/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '02/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 7, '02/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '02/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '02/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '02/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '02/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '02/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '02/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 7, '02/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '02/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '02/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '02/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '02/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '02/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '02/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '02/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 15, '02/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '02/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '03/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '03/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '03/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '03/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 27, '03/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '03/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '03/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '03/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '03/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '03/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 23, '03/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '03/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '03/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '03/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '03/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '03/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '03/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '03/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '03/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '03/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 31, '03/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '03/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '03/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '04/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '04/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 7, '04/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '04/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '04/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '04/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '04/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 23, '04/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '04/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '04/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '04/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '04/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '04/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '04/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '04/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '04/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '04/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 13, '04/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '04/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '04/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '04/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '05/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 28, '05/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '05/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '05/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '05/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '05/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 21, '05/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '05/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '05/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '05/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '05/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '05/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '05/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '05/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '05/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '05/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '05/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '05/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 32, '05/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '05/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '05/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '05/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '05/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '05/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '06/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '06/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '06/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '06/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 31, '06/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '06/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '06/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '06/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '06/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '06/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '06/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '06/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '06/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '06/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 33, '06/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '06/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '06/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '06/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '06/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '06/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '06/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '06/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '06/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '07/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '07/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 35, '07/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '07/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '07/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '07/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '07/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '07/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 9, '07/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '07/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '07/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '07/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '07/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '07/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '07/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '07/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 13, '07/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '07/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '07/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '07/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '07/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '07/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 12, '07/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '07/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '07/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '08/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 24, '08/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '08/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '08/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 14, '08/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '08/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '08/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 10, '08/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '08/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '08/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 7, '08/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '08/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '08/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '08/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '08/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '08/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '08/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '08/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '08/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '08/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 29, '08/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '08/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '08/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '08/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '08/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 8, '08/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '08/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '09/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '09/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '09/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '09/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '09/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '09/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 25, '09/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '09/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '09/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '09/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '09/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '09/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '09/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '09/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '09/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '09/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '09/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '09/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 21, '09/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '09/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '09/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '10/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '10/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '10/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 32, '10/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '10/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '10/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '10/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '10/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '10/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 10, '10/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '10/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '10/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '10/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '10/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '10/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '10/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '10/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '10/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '10/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 22, '10/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '10/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '10/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '10/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '10/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '10/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '10/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 14, '10/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '11/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '11/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '11/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 9, '11/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '11/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '11/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '11/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 14, '11/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '11/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '11/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '11/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 30, '11/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '11/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '11/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '11/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '11/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 12, '11/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '11/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '11/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '11/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '11/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '11/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '11/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 31, '11/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '11/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '12/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '12/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '12/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '12/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '12/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '12/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 16, '12/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '12/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '12/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '12/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '12/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 10, '12/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '12/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '12/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '12/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '12/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 25, '12/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '12/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '12/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '12/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '12/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '12/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '12/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '01/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '01/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '01/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 25, '01/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '01/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '01/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '01/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '01/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '01/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '01/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '01/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '01/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 18, '01/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '01/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '01/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '01/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '01/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '01/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '01/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 26, '01/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '01/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '01/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '01/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '01/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '02/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '02/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '02/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '02/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 12, '02/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '02/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 22, '02/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '02/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '02/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '02/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '02/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '02/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '02/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '02/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 34, '02/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '02/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '02/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '02/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '02/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '03/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '03/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '03/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '03/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '03/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '03/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 22, '03/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '03/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '03/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '03/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '03/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '03/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '03/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '03/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 13, '03/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '03/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '03/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '03/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 20, '03/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '03/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '03/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '04/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '04/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '04/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '04/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '04/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 15, '04/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '04/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '04/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '04/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 19, '04/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '04/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '04/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '04/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '04/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '04/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '04/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 28, '04/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '04/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '04/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '04/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '04/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '04/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '05/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 22, '05/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '05/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '05/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '05/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '05/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '05/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '05/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '05/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '05/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '05/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 23, '05/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '05/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '05/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '05/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '05/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '05/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '05/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 18, '05/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '05/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '05/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '05/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '05/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '06/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '06/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 31, '06/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '06/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '06/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 9, '06/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '06/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '06/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '06/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '06/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '06/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '06/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '06/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '06/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '06/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 18, '06/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '06/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '06/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '06/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 18, '06/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '06/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '06/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '06/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '06/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '07/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '07/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '07/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '07/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 23, '07/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '07/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '07/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '07/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '07/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '07/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '07/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 26, '07/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '07/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '07/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '07/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 15, '07/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '07/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '07/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '07/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '07/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '07/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '07/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '07/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '07/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '08/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '08/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '08/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 36, '08/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '08/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '08/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '08/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '08/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '08/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '08/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '08/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '08/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '08/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 26, '08/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '08/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '08/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '08/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '08/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '08/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '08/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '08/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '08/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '08/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 24, '08/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '08/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '08/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '08/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '09/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '09/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 22, '09/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '09/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '09/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '09/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '09/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 12, '09/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '09/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 10, '09/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '09/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '09/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 7, '09/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '09/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '09/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '09/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '09/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '09/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '09/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 15, '09/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '09/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '09/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '09/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '09/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '10/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '10/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 16, '10/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '10/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '10/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '10/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '10/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '10/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 15, '10/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '10/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '10/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '10/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '10/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 11, '10/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '10/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '10/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '10/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '10/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '10/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '10/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '10/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '10/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 29, '10/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '11/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '11/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '11/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '11/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '11/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '11/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '11/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '11/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '11/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 25, '11/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '11/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '11/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '11/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '11/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '11/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '11/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '11/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 9, '11/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '11/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '11/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 11, '11/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '11/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '11/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '11/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 22, '11/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '11/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '11/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '12/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 18, '12/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '12/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 10, '12/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '12/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '12/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '12/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '12/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '12/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), 8, '12/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '12/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '12/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -5, '12/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -3, '12/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -2, '12/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Bleu'), -4, '12/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 62, '01/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -6, '01/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -10, '01/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '01/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -10, '01/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -10, '01/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 39, '01/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '01/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 22, '01/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '01/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -10, '01/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -5, '01/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -6, '01/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '01/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -9, '01/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -9, '01/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 22, '01/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -10, '01/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '01/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 31, '01/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '01/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -12, '01/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -5, '01/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '01/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 63, '01/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -9, '01/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '01/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '02/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -5, '02/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -12, '02/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '02/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '02/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 52, '02/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -9, '02/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '02/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -5, '02/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -12, '02/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '02/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 31, '02/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '02/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '02/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -10, '02/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -5, '02/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -5, '02/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 25, '02/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -12, '02/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -12, '02/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 28, '02/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '02/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '03/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -10, '03/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 15, '03/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -12, '03/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 58, '03/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '03/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '03/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '03/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -9, '03/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -9, '03/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -12, '03/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -12, '03/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 60, '03/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -10, '03/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -10, '03/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -10, '03/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '03/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -5, '03/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -12, '03/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 28, '03/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '03/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '03/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -6, '03/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 26, '03/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -9, '03/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -10, '03/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '03/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 49, '03/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -9, '04/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -12, '04/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '04/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 22, '04/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -5, '04/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -12, '04/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '04/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -10, '04/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -10, '04/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 31, '04/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -5, '04/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '04/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 41, '04/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -9, '04/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -5, '04/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -6, '04/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 25, '04/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '04/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -5, '04/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 15, '04/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -6, '04/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '04/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '04/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -9, '04/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '04/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -6, '04/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 23, '04/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -9, '04/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -12, '05/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '05/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -5, '05/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 28, '05/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -10, '05/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -12, '05/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -9, '05/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 29, '05/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '05/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '05/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '05/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -12, '05/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 29, '05/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '05/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -5, '05/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -5, '05/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -5, '05/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 54, '05/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '05/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '05/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 23, '05/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '05/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '05/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 20, '05/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -5, '05/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -6, '05/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -10, '05/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '05/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '05/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -10, '05/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -5, '05/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '06/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 55, '06/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '06/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '06/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -10, '06/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '06/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 20, '06/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -6, '06/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -9, '06/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -5, '06/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 25, '06/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -12, '06/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 16, '06/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '06/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '06/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '06/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -9, '06/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '06/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 17, '06/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '06/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -9, '06/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 39, '06/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '06/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '06/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -6, '06/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '06/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 52, '06/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -12, '06/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '07/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '07/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -9, '07/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -10, '07/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -9, '07/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 67, '07/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -9, '07/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '07/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '07/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 20, '07/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '07/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 18, '07/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -6, '07/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -10, '07/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '07/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -12, '07/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '07/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '07/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 17, '07/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -6, '07/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -10, '07/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 24, '07/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -9, '07/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -12, '07/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -12, '07/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 61, '07/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '07/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '07/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -10, '08/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '08/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '08/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '08/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 34, '08/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -10, '08/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -6, '08/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -10, '08/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -9, '08/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 44, '08/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -6, '08/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '08/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '08/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -6, '08/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -10, '08/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 50, '08/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '08/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -9, '08/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -10, '08/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '08/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -5, '08/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -5, '08/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 42, '08/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -9, '08/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '09/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -12, '09/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -9, '09/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 19, '09/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -5, '09/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -5, '09/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -12, '09/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 36, '09/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '09/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -12, '09/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '09/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '09/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 57, '09/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -10, '09/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '09/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '09/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -12, '09/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '09/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -5, '09/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 28, '09/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -5, '09/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -9, '09/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -6, '09/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -6, '09/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '09/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 29, '09/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -6, '10/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '10/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '10/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -12, '10/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 41, '10/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '10/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -9, '10/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '10/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '10/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 23, '10/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -12, '10/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -10, '10/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 41, '10/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -10, '10/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '10/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '10/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -12, '10/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 55, '10/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '10/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '10/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '10/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '10/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '10/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '10/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 37, '10/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -10, '10/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -10, '10/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -12, '11/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 45, '11/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -5, '11/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -10, '11/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '11/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -12, '11/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -6, '11/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 18, '11/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '11/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '11/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '11/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 62, '11/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -12, '11/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -5, '11/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '11/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '11/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -9, '11/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '11/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 54, '11/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '11/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -6, '11/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 23, '11/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '11/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '11/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -9, '12/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '12/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '12/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '12/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -12, '12/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 20, '12/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '12/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '12/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '12/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 65, '12/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '12/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -5, '12/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -9, '12/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -9, '12/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -10, '12/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '12/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -5, '12/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -10, '12/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 39, '12/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '12/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -12, '12/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 28, '12/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '12/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -12, '12/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -9, '12/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -10, '01/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -9, '01/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 20, '01/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -9, '01/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '01/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 23, '01/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '01/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '01/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 60, '01/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -9, '01/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -5, '01/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -5, '01/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -10, '01/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '01/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '01/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 17, '01/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -5, '01/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '01/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -6, '01/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -9, '01/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 48, '01/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '01/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -10, '01/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '01/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -5, '01/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '02/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '02/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -10, '02/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 28, '02/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '02/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '02/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '02/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 23, '02/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -9, '02/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '02/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '02/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 20, '02/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '02/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '02/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 16, '02/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '02/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '02/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 27, '02/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '02/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -6, '02/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -5, '02/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '02/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 36, '02/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -5, '03/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -6, '03/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '03/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -6, '03/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -10, '03/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 62, '03/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '03/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '03/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -10, '03/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '03/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -9, '03/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -10, '03/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 18, '03/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '03/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '03/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 51, '03/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '03/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -6, '03/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '03/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '03/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '03/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -6, '03/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '03/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 19, '03/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '03/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -10, '03/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -9, '04/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 58, '04/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -6, '04/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -6, '04/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '04/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -6, '04/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '04/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -6, '04/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -10, '04/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -5, '04/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 50, '04/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -6, '04/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -12, '04/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -9, '04/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -12, '04/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 51, '04/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -10, '04/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -6, '04/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -9, '04/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 21, '04/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '04/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -9, '04/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -9, '04/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 31, '04/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -5, '04/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -9, '04/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 15, '04/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '05/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 15, '05/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '05/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 15, '05/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -10, '05/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '05/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '05/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '05/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -5, '05/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '05/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '05/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -5, '05/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -5, '05/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -10, '05/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 62, '05/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '05/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -12, '05/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '05/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -5, '05/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -9, '05/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '05/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 48, '05/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -10, '05/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -10, '05/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -10, '05/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '05/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 27, '05/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -12, '06/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -9, '06/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -6, '06/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '06/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '06/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 65, '06/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -5, '06/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -6, '06/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 15, '06/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '06/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -5, '06/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 15, '06/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '06/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -12, '06/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -10, '06/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '06/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '06/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '06/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -5, '06/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '06/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 40, '06/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -10, '06/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 31, '06/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -9, '07/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '07/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -6, '07/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '07/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -10, '07/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -5, '07/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -9, '07/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -12, '07/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 40, '07/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -6, '07/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 26, '07/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '07/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '07/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -5, '07/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '07/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -10, '07/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '07/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -12, '07/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 69, '07/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -6, '07/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -6, '07/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -5, '07/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -9, '07/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -12, '07/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '07/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '08/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -12, '08/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 51, '08/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -10, '08/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -12, '08/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '08/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -5, '08/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '08/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '08/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 18, '08/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '08/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '08/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 19, '08/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -6, '08/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 30, '08/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '08/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '08/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -12, '08/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -5, '08/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -5, '08/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -10, '08/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 49, '08/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -9, '08/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -12, '08/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -6, '08/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '08/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 23, '08/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -5, '08/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '09/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -9, '09/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 55, '09/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -10, '09/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -5, '09/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -9, '09/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -10, '09/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '09/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -9, '09/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -10, '09/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 51, '09/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '09/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -6, '09/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '09/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -5, '09/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -6, '09/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 43, '09/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -10, '09/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -5, '09/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -5, '09/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '09/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '09/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '09/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -6, '09/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 18, '09/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -5, '09/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -5, '09/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '10/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 54, '10/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '10/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 15, '10/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -9, '10/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 15, '10/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -9, '10/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -12, '10/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '10/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '10/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -10, '10/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -10, '10/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '10/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 47, '10/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -5, '10/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '10/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '10/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '10/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -9, '10/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -12, '10/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 66, '10/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -12, '10/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -12, '10/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -5, '10/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 17, '10/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -5, '11/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '11/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -12, '11/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '11/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '11/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -9, '11/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 39, '11/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -5, '11/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '11/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '11/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '11/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -10, '11/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 25, '11/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -10, '11/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '11/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -5, '11/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 59, '11/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '11/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 15, '11/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '11/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -12, '11/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -10, '11/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '11/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '11/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -12, '11/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -9, '11/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 15, '11/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '11/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 48, '11/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -5, '11/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -5, '11/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 16, '11/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -12, '12/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -6, '12/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '12/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '12/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '12/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -5, '12/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -10, '12/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 54, '12/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -12, '12/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '12/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '12/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -6, '12/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -6, '12/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -6, '12/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 53, '12/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -6, '12/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '12/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 20, '12/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '12/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -10, '12/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '12/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -10, '12/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -9, '01/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -6, '01/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -10, '01/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 31, '01/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -9, '01/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -10, '01/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -9, '01/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 22, '01/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -6, '01/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -6, '01/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 38, '01/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -10, '01/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 19, '01/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '01/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -9, '01/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '01/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '01/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '01/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -6, '01/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -9, '01/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 44, '01/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -12, '01/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -5, '01/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -12, '01/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -5, '02/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -5, '02/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '02/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 46, '02/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -10, '02/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '02/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '02/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -10, '02/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 48, '02/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -9, '02/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '02/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -9, '02/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -6, '02/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -12, '02/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -12, '02/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 53, '02/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -6, '02/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 21, '02/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -5, '02/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -9, '02/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '02/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 15, '02/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '02/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -12, '02/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -9, '03/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 32, '03/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '03/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '03/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '03/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '03/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -6, '03/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '03/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -5, '03/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 46, '03/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -9, '03/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -12, '03/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -10, '03/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 40, '03/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -6, '03/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -5, '03/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -10, '03/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -6, '03/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -9, '03/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -5, '03/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '03/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '03/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 56, '03/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '03/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -9, '03/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -5, '04/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '04/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '04/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -12, '04/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 21, '04/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '04/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '04/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '04/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 41, '04/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -12, '04/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -9, '04/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -12, '04/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -9, '04/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 51, '04/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -6, '04/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '04/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -9, '04/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '04/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -12, '04/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -12, '04/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 67, '04/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '05/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -10, '05/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '05/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 19, '05/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -6, '05/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 17, '05/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '05/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '05/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '05/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -6, '05/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -6, '05/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -10, '05/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -9, '05/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '05/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 24, '05/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '05/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 31, '05/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -12, '05/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -9, '05/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -6, '05/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -10, '05/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -5, '05/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '05/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 36, '05/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '05/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -9, '05/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '05/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 21, '05/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '05/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '05/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -12, '05/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '05/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 23, '05/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '05/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '06/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -5, '06/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 52, '06/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '06/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '06/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '06/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -12, '06/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -10, '06/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -12, '06/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 19, '06/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '06/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -12, '06/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 48, '06/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '06/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 19, '06/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '06/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '06/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -5, '06/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 30, '06/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '06/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '06/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '06/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -9, '06/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -6, '07/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -10, '07/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -12, '07/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 56, '07/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -12, '07/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -10, '07/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -10, '07/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -6, '07/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -12, '07/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -5, '07/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 61, '07/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -10, '07/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '07/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -5, '07/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -12, '07/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -10, '07/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -9, '07/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '07/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 33, '07/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -10, '07/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -9, '07/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '07/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 21, '07/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -12, '08/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -5, '08/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -6, '08/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 50, '08/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -5, '08/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -6, '08/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '08/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -12, '08/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '08/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -6, '08/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -5, '08/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 53, '08/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -9, '08/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -6, '08/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -10, '08/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '08/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '08/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 46, '08/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '08/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -6, '08/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -12, '08/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '08/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -10, '08/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -9, '08/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 49, '08/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -6, '09/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '09/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -5, '09/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -6, '09/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '09/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '09/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 37, '09/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '09/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -6, '09/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -12, '09/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '09/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -10, '09/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -10, '09/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 18, '09/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '09/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 61, '09/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -5, '09/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '09/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -12, '09/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -9, '09/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -6, '09/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '09/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -5, '09/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 27, '09/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -12, '09/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -5, '09/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '10/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '10/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 56, '10/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -6, '10/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '10/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -9, '10/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '10/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -6, '10/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -10, '10/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -6, '10/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 37, '10/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -10, '10/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -5, '10/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -12, '10/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -12, '10/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 18, '10/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '10/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -5, '10/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '10/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 35, '10/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '10/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '10/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -10, '10/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 52, '10/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -5, '10/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -6, '10/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '10/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -5, '10/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -9, '11/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -10, '11/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '11/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 38, '11/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -10, '11/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '11/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -12, '11/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -10, '11/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 38, '11/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -10, '11/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -5, '11/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -5, '11/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 27, '11/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '11/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -12, '11/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '11/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -5, '11/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '11/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 29, '11/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '11/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -7, '11/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -6, '11/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -5, '12/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 41, '12/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -9, '12/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -5, '12/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 27, '12/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '12/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -10, '12/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 17, '12/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -6, '12/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -6, '12/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -8, '12/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 30, '12/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -12, '12/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), 15, '12/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -5, '12/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -11, '12/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Noir'), -12, '12/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), 47, '01/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '01/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '01/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '01/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), 15, '01/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '01/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '01/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '01/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '01/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '01/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '01/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '01/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '01/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), 12, '01/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '01/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '01/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '01/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '01/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '01/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '01/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '01/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '01/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '01/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '01/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '01/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '02/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '02/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '02/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '02/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '02/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '02/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '02/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '02/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '02/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '02/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '02/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), 44, '02/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '02/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '02/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), 7, '02/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '02/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '02/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '02/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '02/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '03/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '03/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '03/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '03/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '03/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '03/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '03/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '03/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '03/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '03/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '03/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), 25, '03/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '03/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '03/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '03/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '03/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '03/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '03/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '03/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), 16, '03/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '03/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '03/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '04/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), 6, '04/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '04/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '04/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '04/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '04/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '04/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '04/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '04/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '04/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '04/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '04/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '04/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '04/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '04/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '04/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '04/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '04/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '04/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '04/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '04/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), 25, '04/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '05/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '05/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '05/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '05/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '05/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), 21, '05/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '05/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '05/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '05/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '05/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '05/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '05/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '05/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), 18, '05/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '05/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '05/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '05/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '05/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '05/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '05/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '06/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '06/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '06/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '06/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), 9, '06/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '06/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '06/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '06/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '06/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '06/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '06/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '06/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '06/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '06/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '06/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '06/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '06/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '06/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '06/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), 20, '06/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '06/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '06/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '06/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '07/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '07/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '07/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '07/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '07/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '07/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '07/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '07/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), 9, '07/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '07/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '07/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '07/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '07/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), 35, '07/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '07/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '07/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '07/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '07/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '07/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '07/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '07/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '07/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '07/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '07/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), 13, '07/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '07/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '07/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '08/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '08/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '08/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '08/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '08/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '08/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '08/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '08/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '08/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), 27, '08/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '08/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '08/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '08/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '08/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '08/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '08/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '08/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '08/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '08/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '08/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '08/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '08/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '09/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '09/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), 33, '09/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '09/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '09/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '09/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '09/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '09/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '09/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '09/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), 8, '09/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '09/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '09/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '09/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '09/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '09/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '09/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '09/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '09/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '09/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '09/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '10/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '10/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), 39, '10/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '10/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '10/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '10/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '10/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '10/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '10/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '10/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '10/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '10/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '10/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '10/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '10/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '10/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), 28, '10/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '10/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '10/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '10/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), 8, '10/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '10/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '10/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '10/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '11/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '11/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '11/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '11/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '11/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '11/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '11/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '11/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), 15, '11/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '11/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '11/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '11/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '11/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '11/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '11/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '11/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '11/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '11/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '11/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '11/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), 30, '11/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '12/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '12/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '12/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '12/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '12/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '12/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '12/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '12/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '12/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '12/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), 26, '12/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '12/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '12/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '12/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '12/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), 7, '12/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '12/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '12/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '12/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '12/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '12/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '12/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), 11, '12/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '12/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '12/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '01/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '01/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '01/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '01/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '01/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '01/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '01/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '01/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '01/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '01/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '01/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '01/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '01/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '01/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '01/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '01/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '01/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '01/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '01/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '02/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), 27, '02/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '02/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '02/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '02/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '02/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), 22, '02/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '02/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '02/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), 6, '02/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '02/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '02/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '02/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '02/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '02/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '02/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), 16, '02/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '02/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '02/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), 8, '02/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '02/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '02/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '02/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '02/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), 7, '02/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '03/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), 6, '03/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '03/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '03/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '03/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '03/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), 6, '03/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '03/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '03/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '03/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '03/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '03/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '03/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '03/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '03/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '03/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '03/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), 7, '03/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '03/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '03/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '03/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '04/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '04/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '04/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '04/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '04/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '04/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '04/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '04/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '04/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '04/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '04/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '04/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '04/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '04/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '04/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '04/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '04/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), 15, '04/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '04/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '04/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '05/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '05/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '05/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '05/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), 15, '05/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '05/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '05/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '05/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '05/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '05/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '05/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '05/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '05/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '05/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), 6, '05/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '05/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '05/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), 19, '05/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '05/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '05/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '05/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '05/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '05/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '05/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '06/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '06/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '06/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '06/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), 29, '06/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '06/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '06/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '06/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '06/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '06/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), 28, '06/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '06/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), 6, '06/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '06/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '06/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), 6, '06/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '06/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '06/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '06/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), 6, '06/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '06/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '06/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '06/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '06/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '06/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '06/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), 6, '06/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '07/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), 6, '07/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '07/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), 6, '07/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '07/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), 6, '07/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '07/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '07/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '07/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '07/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '07/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '07/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '07/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '07/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '07/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '07/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '07/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '07/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '07/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '07/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '07/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '07/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '08/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '08/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '08/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), 11, '08/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '08/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '08/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '08/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '08/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '08/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '08/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '08/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '08/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '08/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '08/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '08/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '08/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), 26, '08/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '08/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '08/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '08/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), 14, '08/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '08/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '08/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '08/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '08/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '09/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '09/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '09/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '09/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '09/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), 6, '09/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '09/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '09/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '09/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '09/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), 15, '09/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '09/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '09/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '09/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '09/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '09/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '09/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '09/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '09/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '09/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '09/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '10/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '10/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '10/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '10/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '10/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '10/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '10/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '10/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '10/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '10/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), 16, '10/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '10/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '10/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '10/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '10/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '10/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '10/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), 25, '10/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '10/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '10/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '10/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '10/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '10/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '10/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '10/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '11/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '11/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), 12, '11/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '11/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '11/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '11/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '11/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '11/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '11/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), 19, '11/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '11/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '11/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '11/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '11/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '11/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '11/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '11/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '11/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '11/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '12/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '12/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '12/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '12/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '12/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '12/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '12/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '12/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '12/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '12/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '12/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), 10, '12/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '12/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '12/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '12/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '12/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '12/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '12/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '12/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '12/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), 47, '12/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '12/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '01/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '01/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '01/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '01/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '01/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), 7, '01/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '01/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '01/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '01/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '01/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '01/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '01/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), 9, '01/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '01/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '01/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '01/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '01/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '01/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '01/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '01/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '01/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '01/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '01/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '02/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '02/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '02/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '02/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '02/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '02/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '02/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '02/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), 6, '02/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '02/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '02/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '02/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '02/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '02/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '02/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '02/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '03/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '03/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), 35, '03/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '03/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '03/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), 16, '03/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '03/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '03/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '03/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '03/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '03/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '03/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '03/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '03/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '03/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '03/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '03/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '03/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '03/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '03/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '03/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '03/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '04/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '04/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '04/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '04/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '04/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '04/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '04/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '04/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '04/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '04/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '04/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), 19, '04/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '04/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '04/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '04/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '04/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '04/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '04/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '04/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '04/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '04/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '04/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), 18, '04/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '05/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '05/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '05/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '05/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '05/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '05/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '05/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '05/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), 6, '05/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '05/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '05/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '05/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), 35, '05/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '05/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '05/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '05/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '05/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '05/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), 7, '05/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '05/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), 11, '05/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '05/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), 11, '05/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '05/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '05/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '05/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '06/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '06/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '06/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), 7, '06/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '06/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '06/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '06/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '06/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '06/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '06/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '06/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '06/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '06/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '06/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), 18, '06/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '06/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '06/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '06/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '06/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '06/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '06/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '06/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '07/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '07/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '07/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '07/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), 11, '07/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '07/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '07/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '07/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '07/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '07/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '07/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '07/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '07/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '07/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '07/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '07/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '07/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '07/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '07/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), 20, '07/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '07/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '07/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '07/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '07/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '08/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '08/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '08/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '08/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '08/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '08/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '08/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '08/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), 10, '08/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '08/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), 32, '08/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '08/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '08/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '08/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '08/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '08/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '08/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '08/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '08/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '08/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '08/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '09/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '09/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '09/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '09/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '09/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '09/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), 16, '09/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '09/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '09/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '09/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '09/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '09/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '09/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '09/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '09/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '09/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '09/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '09/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '09/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '10/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '10/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), 10, '10/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '10/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '10/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '10/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '10/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '10/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), 38, '10/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '10/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '10/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '10/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '10/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '10/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), 19, '10/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '10/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '10/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '10/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '10/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '10/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '10/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), 6, '10/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '10/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '10/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '10/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '11/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '11/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), 17, '11/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '11/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '11/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '11/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '11/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '11/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '11/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '11/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '11/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), 12, '11/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '11/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '11/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), 7, '11/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '11/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '11/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '11/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '11/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '11/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), 8, '11/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '11/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '11/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '11/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '11/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '12/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '12/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '12/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), 15, '12/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '12/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '12/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '12/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '12/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '12/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -3, '12/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '12/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -2, '12/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '12/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '12/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Doudoune Rose'), -1, '12/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), 74, '01/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '01/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), 10, '01/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '01/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '01/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '01/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '01/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '01/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '01/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '01/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '01/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '01/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '01/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '01/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '01/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '01/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '01/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '01/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '01/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '01/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '01/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '01/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '01/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '01/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '02/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '02/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '02/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '02/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '02/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '02/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '02/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), 38, '02/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '02/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '02/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '02/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '02/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '02/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '02/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '02/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '02/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '02/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '02/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), 18, '02/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '02/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '02/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '02/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '03/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '03/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), 10, '03/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '03/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '03/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '03/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '03/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '03/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '03/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '03/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '03/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '03/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '03/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '03/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '03/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '03/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), 18, '03/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '03/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '03/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), 10, '03/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '03/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '03/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '04/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '04/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '04/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '04/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '04/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '04/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '04/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '04/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '04/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '04/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '04/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '04/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '04/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '04/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '04/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '04/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '04/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), 13, '04/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '04/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '04/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), 10, '04/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '04/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '04/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '05/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '05/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '05/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '05/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '05/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '05/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '05/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '05/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '05/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '05/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '05/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '05/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '05/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '05/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '05/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '05/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '05/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '05/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '05/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '05/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '06/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '06/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '06/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '06/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '06/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '06/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '06/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '06/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '06/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '06/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '06/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '06/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '06/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '06/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), 34, '06/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '06/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '06/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '06/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), 19, '06/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '06/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '06/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '07/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '07/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '07/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '07/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '07/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '07/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '07/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '07/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '07/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '07/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '07/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '07/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '07/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '07/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '07/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '07/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '07/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '07/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '07/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), 30, '07/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '07/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '08/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '08/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '08/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '08/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '08/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '08/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '08/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '08/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '08/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '08/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '08/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '08/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '08/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '08/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), 15, '08/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '08/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '08/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '08/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), 17, '08/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '08/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '08/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '08/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '08/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '09/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '09/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '09/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '09/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '09/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '09/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '09/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '09/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '09/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '09/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '09/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '09/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '09/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '09/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '09/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '09/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '09/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '09/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '09/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), 17, '09/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '09/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), 12, '09/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '10/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '10/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '10/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '10/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '10/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '10/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '10/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '10/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '10/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '10/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '10/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), 28, '10/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '10/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '10/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '10/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '10/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '10/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '10/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '10/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '10/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '10/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '10/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '11/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '11/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '11/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '11/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '11/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '11/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '11/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '11/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '11/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '11/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '11/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '11/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '11/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '11/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '11/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '11/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '11/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '11/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '11/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '11/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '11/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '11/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '11/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '12/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '12/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '12/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '12/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '12/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '12/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '12/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), 21, '12/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '12/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '12/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '12/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '12/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), 28, '12/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '12/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '12/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '12/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '12/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '12/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '12/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '12/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '12/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '01/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '01/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '01/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '01/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '01/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '01/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '01/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '01/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '01/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '01/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '01/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '01/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '01/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '01/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '01/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), 19, '01/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '01/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '01/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '01/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), 32, '01/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '01/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '01/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '02/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '02/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), 11, '02/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '02/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '02/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '02/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '02/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '02/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '02/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '02/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '02/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '02/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '02/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '02/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '02/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), 12, '02/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '02/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '02/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '02/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '02/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '02/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '02/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '03/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '03/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '03/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '03/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '03/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '03/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '03/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '03/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '03/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '03/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '03/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '03/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '03/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '03/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '03/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '03/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '03/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '03/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '03/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '03/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '04/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '04/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '04/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '04/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '04/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '04/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '04/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), 56, '04/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '04/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '04/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '04/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '04/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '04/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '04/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), 10, '04/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '04/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '04/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '04/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '04/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '04/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '04/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '05/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '05/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '05/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '05/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '05/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '05/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '05/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '05/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '05/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '05/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '05/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '05/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '05/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '05/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '05/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '05/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '05/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '05/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '05/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '05/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), 32, '05/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '06/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '06/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '06/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '06/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '06/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '06/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '06/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '06/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '06/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '06/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '06/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '06/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '06/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '06/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '06/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), 21, '06/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '06/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '06/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '06/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '06/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '06/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '06/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '06/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), 14, '06/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '07/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '07/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '07/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), 10, '07/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '07/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '07/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '07/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '07/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '07/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '07/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '07/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '07/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '07/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), 10, '07/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '07/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '07/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '07/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '07/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '07/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '07/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '07/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '08/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '08/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '08/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '08/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '08/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '08/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '08/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '08/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '08/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), 28, '08/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '08/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '08/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '08/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '08/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '08/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '08/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '08/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '08/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '08/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), 12, '08/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '08/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '08/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), 10, '08/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '08/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '09/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '09/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '09/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '09/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '09/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), 10, '09/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '09/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '09/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '09/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), 10, '09/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '09/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '09/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '09/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '09/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '09/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '09/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), 10, '09/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '09/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '09/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '09/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '09/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '09/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '10/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), 10, '10/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '10/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '10/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '10/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '10/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '10/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '10/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '10/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '10/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '10/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '10/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '10/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '10/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), 10, '10/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '10/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '10/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '10/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '10/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '10/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '10/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '10/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '10/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '11/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '11/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '11/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '11/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '11/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '11/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '11/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '11/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '11/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '11/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '11/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '11/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '11/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '11/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '11/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '11/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '11/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '11/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '12/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '12/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '12/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '12/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '12/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '12/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '12/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '12/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '12/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '12/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), 32, '12/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '12/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '12/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '12/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '12/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '12/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '12/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '12/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '12/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '12/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '12/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '01/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '01/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), 15, '01/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '01/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '01/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '01/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '01/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '01/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '01/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '01/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '01/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '01/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '01/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '01/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '01/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '01/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '01/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '01/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '01/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '02/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '02/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '02/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '02/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '02/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), 30, '02/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '02/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '02/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '02/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '02/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '02/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '02/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), 18, '02/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '02/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '02/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '02/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '02/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '02/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '02/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), 11, '02/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '02/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '03/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '03/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '03/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '03/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '03/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '03/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '03/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '03/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '03/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '03/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '03/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), 17, '03/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '03/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '03/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '03/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '03/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '03/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '03/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '03/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), 12, '03/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '03/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '03/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '04/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '04/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '04/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), 10, '04/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '04/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '04/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '04/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '04/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '04/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), 10, '04/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '04/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '04/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '04/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '04/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '04/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '04/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '04/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '04/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '04/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '04/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '04/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '05/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '05/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '05/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '05/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '05/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '05/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '05/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '05/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '05/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '05/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '05/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '05/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '05/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '05/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '05/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '05/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '05/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '05/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '05/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '06/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), 34, '06/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '06/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '06/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '06/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '06/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '06/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '06/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), 11, '06/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '06/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '06/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '06/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '06/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '06/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '06/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '06/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), 12, '06/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '06/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '06/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '06/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '06/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '07/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '07/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '07/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '07/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '07/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '07/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '07/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '07/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '07/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '07/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '07/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '07/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '07/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '07/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '07/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '07/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '07/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '07/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '07/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '07/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '07/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '07/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '07/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '08/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '08/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '08/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '08/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '08/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '08/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '08/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '08/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '08/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '08/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '08/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '08/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '08/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '08/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '08/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '08/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '08/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '08/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '08/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '08/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '09/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '09/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '09/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), 22, '09/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '09/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '09/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '09/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '09/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '09/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '09/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '09/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '09/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '09/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '09/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '09/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '09/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '09/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), 51, '09/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '09/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '09/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '09/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '10/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '10/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '10/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '10/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '10/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '10/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '10/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '10/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '10/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '10/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '10/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '10/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '10/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '10/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '10/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), 10, '10/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '10/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), 20, '10/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '10/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '10/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '10/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '11/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '11/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '11/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), 21, '11/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '11/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '11/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '11/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '11/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '11/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '11/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '11/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '11/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '11/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '11/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '11/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '11/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '11/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '11/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '11/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '11/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '11/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '12/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '12/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '12/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '12/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '12/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '12/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '12/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '12/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '12/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '12/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '12/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -2, '12/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '12/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Bleu'), -1, '12/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 99, '01/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '01/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '01/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '01/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '01/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '01/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 51, '01/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '01/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '01/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '01/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '01/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '01/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '01/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '01/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '01/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 121, '01/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '01/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '01/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '01/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '01/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '01/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '01/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '01/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '01/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '02/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '02/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '02/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 99, '02/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '02/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 25, '02/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '02/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '02/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '02/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '02/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 33, '02/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '02/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '02/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '02/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '02/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '02/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '02/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '02/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '02/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '02/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '02/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '02/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 49, '02/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '03/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '03/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '03/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 80, '03/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '03/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '03/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 43, '03/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '03/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '03/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '03/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '03/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '03/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '03/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '03/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '03/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '03/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '03/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '03/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '03/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 72, '03/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '03/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '03/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '04/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '04/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '04/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '04/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '04/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 55, '04/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '04/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '04/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '04/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '04/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '04/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '04/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 35, '04/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '04/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '04/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '04/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 82, '04/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '04/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '04/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '04/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '04/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '04/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '04/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '05/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 98, '05/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '05/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '05/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '05/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '05/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '05/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '05/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '05/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 56, '05/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '05/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '05/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '05/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '05/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '05/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '05/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '05/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '05/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '05/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '05/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 79, '05/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '05/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '05/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '06/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '06/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '06/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '06/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '06/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 106, '06/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '06/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '06/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '06/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 29, '06/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '06/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '06/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '06/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '06/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '06/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '06/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '06/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '06/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '06/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '06/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '07/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 120, '07/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '07/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '07/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 25, '07/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '07/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '07/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 25, '07/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '07/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '07/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '07/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '07/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '07/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '07/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '07/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '07/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '07/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '07/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '07/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '07/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '07/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 109, '07/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '07/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '07/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '07/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '08/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '08/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '08/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '08/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '08/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '08/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '08/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 64, '08/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '08/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '08/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '08/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '08/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '08/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '08/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '08/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 49, '08/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '08/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '08/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '08/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '08/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '08/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 116, '08/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '08/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '08/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '08/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '09/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '09/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '09/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '09/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 39, '09/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '09/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '09/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '09/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '09/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 33, '09/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '09/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '09/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '09/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '09/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '09/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '09/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '09/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '09/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 32, '09/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '09/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '09/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '09/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 45, '09/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '09/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '09/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '09/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '09/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 76, '09/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '09/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '10/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '10/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '10/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '10/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '10/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '10/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '10/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 63, '10/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '10/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '10/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '10/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '10/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '10/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '10/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '10/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 86, '10/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '10/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '10/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '10/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '10/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '10/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '10/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '10/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '11/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '11/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 58, '11/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '11/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '11/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '11/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '11/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '11/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '11/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 59, '11/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '11/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 49, '11/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '11/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '11/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '11/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '11/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '11/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 63, '11/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '11/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '11/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '11/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '11/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '11/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '11/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '11/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '12/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '12/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '12/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '12/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 25, '12/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '12/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '12/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 76, '12/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '12/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '12/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '12/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '12/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '12/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '12/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '12/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '12/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 75, '12/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '12/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '12/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '12/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '12/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '12/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '01/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '01/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '01/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 29, '01/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '01/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '01/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '01/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 114, '01/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '01/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '01/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '01/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '01/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '01/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '01/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '01/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '01/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '01/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '01/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '01/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '01/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 89, '01/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '01/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '01/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '01/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '01/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '02/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '02/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '02/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '02/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '02/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 47, '02/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '02/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '02/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '02/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '02/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '02/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 102, '02/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '02/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '02/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '02/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '02/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '02/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '02/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '02/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '02/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '02/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '02/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 81, '02/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '02/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '02/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 25, '02/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '03/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 26, '03/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '03/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '03/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '03/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '03/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '03/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '03/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '03/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '03/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '03/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '03/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 55, '03/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '03/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '03/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 71, '03/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '03/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '03/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '03/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '03/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '03/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '04/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '04/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 39, '04/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '04/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '04/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '04/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '04/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '04/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '04/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '04/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '04/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 122, '04/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '04/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '04/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '04/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '04/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 38, '04/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '04/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '04/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '04/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '04/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '04/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '05/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 45, '05/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '05/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '05/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '05/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '05/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '05/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '05/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '05/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '05/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '05/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '05/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '05/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 63, '05/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '05/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '05/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '05/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '05/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '05/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '05/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 59, '05/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '05/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '05/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '06/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '06/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '06/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '06/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 65, '06/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '06/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '06/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '06/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '06/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '06/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '06/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '06/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 102, '06/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '06/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '06/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '06/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '06/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '06/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '06/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '07/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '07/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '07/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '07/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 28, '07/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '07/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '07/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 51, '07/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '07/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '07/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '07/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '07/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '07/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 80, '07/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '07/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '07/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '07/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '07/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 44, '07/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '07/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '07/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 48, '07/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '07/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '07/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '07/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '07/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '08/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '08/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '08/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '08/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 66, '08/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '08/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '08/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '08/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 38, '08/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '08/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '08/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '08/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '08/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '08/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 27, '08/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '08/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '08/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '08/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '08/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '08/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 51, '08/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '08/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '08/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '08/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '09/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '09/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '09/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '09/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '09/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '09/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 108, '09/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '09/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '09/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '09/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '09/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '09/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 45, '09/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '09/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '09/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '09/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '09/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '09/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '09/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '09/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '09/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '09/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '09/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 72, '09/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '09/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '09/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '10/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '10/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '10/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '10/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '10/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 98, '10/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '10/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '10/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '10/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '10/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '10/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '10/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 33, '10/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '10/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '10/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '10/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '10/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '10/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '10/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '10/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 112, '10/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '10/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '10/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '10/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '11/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '11/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '11/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 39, '11/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '11/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '11/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '11/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '11/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '11/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '11/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '11/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '11/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '11/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '11/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 37, '11/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '11/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '11/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '11/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '11/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 65, '11/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '11/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '11/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '11/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '11/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '12/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '12/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 36, '12/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '12/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '12/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '12/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '12/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '12/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 65, '12/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '12/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '12/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '12/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 36, '12/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '12/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '12/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '12/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '12/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 42, '12/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '12/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '12/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '12/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '12/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '12/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '12/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '01/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 92, '01/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '01/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '01/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '01/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '01/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '01/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '01/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '01/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '01/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '01/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '01/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 35, '01/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '01/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '01/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '01/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 92, '01/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '01/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '01/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '01/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '01/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '01/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '01/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '01/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '02/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '02/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 42, '02/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '02/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '02/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 52, '02/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '02/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '02/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '02/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '02/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '02/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '02/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '02/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '02/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 107, '02/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '02/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '02/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '02/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '02/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 50, '02/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '02/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '02/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '03/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '03/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '03/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '03/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '03/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '03/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '03/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 74, '03/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '03/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '03/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '03/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 41, '03/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '03/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '03/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '03/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '03/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '03/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '03/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '03/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '03/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '03/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '03/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '03/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 112, '03/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '03/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 25, '03/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '04/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '04/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '04/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '04/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 27, '04/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '04/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '04/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '04/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '04/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 48, '04/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '04/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '04/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '04/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '04/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '04/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '04/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 38, '04/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '04/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '04/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '04/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '04/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '04/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '04/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '04/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '05/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '05/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '05/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 49, '05/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '05/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '05/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '05/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 92, '05/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '05/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '05/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '05/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 27, '05/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '05/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 25, '05/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '05/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '05/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '05/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '05/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '05/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '05/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '05/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '05/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '05/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '05/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '05/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '05/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '06/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 94, '06/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '06/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '06/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '06/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '06/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '06/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '06/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '06/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '06/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 40, '06/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '06/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 40, '06/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '06/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '06/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '06/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '06/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '06/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '06/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '06/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 93, '06/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '06/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '06/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '06/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '06/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '07/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '07/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 25, '07/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '07/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '07/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '07/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '07/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '07/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '07/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '07/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '07/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 106, '07/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '07/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '07/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '07/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '07/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '07/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '07/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 68, '07/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '07/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '07/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '07/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '07/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '08/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '08/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '08/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '08/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '08/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 66, '08/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '08/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '08/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '08/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '08/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '08/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '08/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '08/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '08/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 103, '08/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '08/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '08/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '08/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '08/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '08/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '08/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '08/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '08/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '08/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '09/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '09/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 44, '09/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '09/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '09/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '09/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '09/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '09/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 42, '09/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '09/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '09/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '09/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '09/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 79, '09/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '09/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '09/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '09/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '09/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '09/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '09/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '09/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '09/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 46, '09/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '09/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 83, '09/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '10/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '10/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '10/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '10/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '10/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '10/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '10/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 52, '10/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '10/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '10/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 39, '10/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '10/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '10/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '10/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '10/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 43, '10/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '10/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '10/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '10/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '10/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '10/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '10/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '10/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '11/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '11/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '11/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '11/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '11/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 66, '11/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '11/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '11/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '11/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '11/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '11/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '11/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '11/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 116, '11/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '11/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '11/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '11/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -8, '11/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 34, '11/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '11/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '11/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '11/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '12/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '12/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '12/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '12/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '12/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '12/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '12/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), 93, '12/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '12/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -11, '12/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '12/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -10, '12/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -12, '12/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '12/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Noir'), -9, '12/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 23, '01/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '01/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '01/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '01/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '01/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 17, '01/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '01/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '01/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '01/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '01/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '01/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 17, '01/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '01/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '01/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '01/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '01/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '01/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '01/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 26, '01/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '01/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '01/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '01/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '01/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '02/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '02/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '02/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '02/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 22, '02/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '02/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '02/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '02/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '02/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 15, '02/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '02/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '02/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '02/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '02/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '02/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 15, '02/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '02/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '02/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '02/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 15, '02/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '02/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '02/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '02/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '02/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '03/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '03/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '03/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '03/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '03/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '03/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '03/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '03/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 21, '03/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '03/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '03/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '03/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '03/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '03/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '03/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 17, '03/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '03/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '03/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '03/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '03/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '03/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 17, '03/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '03/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 15, '03/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '03/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 15, '03/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '04/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '04/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '04/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '04/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '04/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '04/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '04/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '04/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 15, '04/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '04/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '04/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '04/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '04/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 15, '04/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '04/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '04/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '04/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '04/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '04/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '04/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '04/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '04/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '05/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '05/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '05/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 17, '05/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '05/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '05/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '05/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '05/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '05/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '05/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '05/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 25, '05/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '05/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '05/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '05/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '05/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '05/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '05/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 16, '05/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '05/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '05/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '06/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '06/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 19, '06/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '06/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 15, '06/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '06/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '06/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '06/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '06/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '06/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '06/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '06/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '06/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '06/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '06/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '06/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '06/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '06/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 20, '06/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '06/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '06/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '06/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '07/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '07/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '07/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 20, '07/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '07/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '07/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '07/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '07/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '07/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '07/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '07/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 26, '07/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '07/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '07/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '07/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '07/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '07/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '07/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '07/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '07/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '07/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 17, '07/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '07/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '07/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '07/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '08/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '08/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 22, '08/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '08/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 15, '08/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '08/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '08/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '08/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '08/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '08/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 15, '08/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '08/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '08/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '08/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '08/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '08/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '08/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '08/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '08/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '08/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '08/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '08/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '08/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 21, '08/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '08/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '08/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '08/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '09/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '09/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '09/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 24, '09/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '09/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '09/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '09/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 15, '09/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '09/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '09/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '09/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '09/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '09/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '09/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '09/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '09/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '09/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '09/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '09/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 16, '09/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '09/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '09/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '09/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '09/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '10/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 15, '10/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '10/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '10/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '10/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '10/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 19, '10/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '10/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '10/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '10/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '10/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '10/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '10/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '10/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 19, '10/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '10/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '10/17/2015');
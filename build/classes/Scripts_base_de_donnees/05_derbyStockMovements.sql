@@ -0,0 +1,10000 @@
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '10/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '10/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '10/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '10/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '10/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 18, '10/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '10/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '10/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '10/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '10/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '10/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '11/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 16, '11/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '11/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '11/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '11/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 15, '11/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '11/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '11/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '11/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '11/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '11/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '11/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '11/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '11/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 17, '11/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '11/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '11/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '11/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 15, '11/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '11/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '11/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '11/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '11/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '11/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '12/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '12/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 24, '12/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '12/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '12/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 15, '12/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '12/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '12/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '12/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '12/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '12/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '12/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '12/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '12/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '12/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '12/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '12/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 23, '12/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '12/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '12/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '12/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '12/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '12/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '01/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '01/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 24, '01/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '01/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '01/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '01/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '01/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '01/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '01/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '01/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '01/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '01/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '01/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 24, '01/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '01/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '01/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '01/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '01/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '01/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '01/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '01/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '02/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 17, '02/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '02/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '02/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '02/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '02/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '02/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '02/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '02/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 26, '02/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '02/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '02/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '02/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '02/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '02/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '02/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '02/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '02/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '02/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 20, '02/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '02/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '02/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '02/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '02/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '03/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 20, '03/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '03/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 15, '03/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '03/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '03/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '03/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '03/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '03/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '03/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '03/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '03/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '03/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '03/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '03/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '03/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 17, '03/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '03/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '03/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '03/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '03/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '03/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 18, '03/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '03/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '03/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '04/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '04/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '04/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 15, '04/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '04/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '04/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '04/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '04/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '04/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '04/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 25, '04/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '04/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '04/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '04/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 15, '04/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '04/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '04/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '04/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '04/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '04/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '04/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '04/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '05/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 16, '05/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '05/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '05/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '05/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '05/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '05/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 15, '05/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '05/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 15, '05/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '05/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '05/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 15, '05/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '05/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '05/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '05/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '05/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '05/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '05/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '05/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '05/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '05/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '05/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '05/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '06/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '06/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '06/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 22, '06/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '06/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '06/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '06/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '06/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '06/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '06/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '06/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '06/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 20, '06/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '06/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '06/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '06/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '06/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '06/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '06/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '06/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 23, '06/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '06/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '06/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '07/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '07/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '07/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 15, '07/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '07/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '07/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '07/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '07/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 15, '07/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '07/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '07/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '07/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 15, '07/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '07/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 15, '07/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '07/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 15, '07/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '07/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '07/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '07/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '07/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '07/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '07/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '07/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '07/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '07/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '08/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '08/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '08/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '08/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '08/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '08/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '08/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '08/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '08/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 21, '08/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '08/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '08/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '08/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 15, '08/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '08/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '08/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '08/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '08/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '08/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '08/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '08/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '08/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '08/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 26, '08/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '08/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 15, '08/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '09/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 15, '09/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '09/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '09/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '09/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '09/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '09/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '09/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 15, '09/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '09/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '09/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '09/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '09/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '09/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '09/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '09/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '09/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '09/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '09/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '09/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '09/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '09/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '09/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '10/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '10/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '10/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 25, '10/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '10/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 15, '10/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '10/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '10/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '10/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '10/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 15, '10/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '10/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '10/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '10/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '10/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '10/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '10/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '10/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '10/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 16, '10/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '10/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '10/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '10/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '10/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '11/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '11/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '11/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '11/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '11/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '11/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 20, '11/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '11/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '11/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 15, '11/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '11/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '11/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '11/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '11/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '11/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '11/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '11/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '11/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 15, '11/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '11/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '11/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '11/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '11/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '11/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '11/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 25, '11/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '12/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '12/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '12/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '12/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '12/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '12/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '12/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '12/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 17, '12/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '12/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '12/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '12/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '12/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '12/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '12/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 24, '12/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '12/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '12/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 15, '12/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '12/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '12/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '12/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '12/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '12/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '01/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '01/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '01/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '01/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '01/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 20, '01/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '01/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '01/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '01/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '01/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '01/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '01/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 17, '01/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '01/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '01/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 15, '01/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '01/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '01/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 15, '01/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '01/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '01/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '01/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '01/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '01/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '01/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '02/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '02/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 17, '02/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '02/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '02/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 15, '02/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '02/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '02/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '02/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '02/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '02/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 15, '02/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '02/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '02/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '02/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '02/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '02/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '02/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '02/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '02/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '02/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '02/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 18, '02/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '02/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '03/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '03/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '03/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '03/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '03/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '03/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '03/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '03/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '03/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 24, '03/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '03/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '03/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 15, '03/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '03/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '03/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '03/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '03/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '03/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 15, '03/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '03/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '03/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '03/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '04/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '04/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '04/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '04/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '04/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '04/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '04/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '04/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '04/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 18, '04/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '04/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '04/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '04/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '04/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '04/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '04/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 20, '04/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '04/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '04/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '04/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 15, '04/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '04/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '04/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '04/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '04/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '04/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '05/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '05/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '05/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 20, '05/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '05/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '05/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '05/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '05/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '05/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '05/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '05/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 25, '05/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '05/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '05/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '05/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '05/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '05/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '05/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '05/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '05/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '05/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 22, '05/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '05/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 15, '05/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '06/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '06/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '06/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '06/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '06/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '06/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '06/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '06/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '06/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '06/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '06/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 21, '06/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '06/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '06/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '06/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '06/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '06/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '06/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '06/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 16, '06/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '06/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '06/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '06/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '06/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '07/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '07/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 23, '07/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '07/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '07/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '07/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '07/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '07/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '07/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '07/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '07/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '07/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 23, '07/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '07/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '07/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '07/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '07/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '07/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '07/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '07/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 20, '07/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '07/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '07/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '07/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '07/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 15, '07/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '08/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '08/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '08/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '08/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '08/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '08/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '08/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '08/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '08/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 23, '08/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '08/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '08/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '08/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '08/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '08/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '08/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 15, '08/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '08/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '08/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '08/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '09/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '09/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '09/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '09/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '09/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '09/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '09/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 26, '09/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '09/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '09/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '09/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '09/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 15, '09/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '09/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '09/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '09/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 15, '09/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '09/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '09/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '09/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '09/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '09/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '09/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '10/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '10/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '10/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 15, '10/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '10/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '10/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '10/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '10/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '10/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '10/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '10/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '10/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 16, '10/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '10/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '10/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '10/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '10/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '10/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 16, '10/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '10/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 15, '10/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '10/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '10/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 15, '10/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '10/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 15, '10/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '11/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '11/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '11/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '11/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '11/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 15, '11/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '11/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '11/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '11/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '11/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '11/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '11/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '11/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '11/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '11/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 15, '11/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '11/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '11/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 15, '11/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '11/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '11/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '12/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '12/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '12/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '12/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '12/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '12/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '12/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 15, '12/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '12/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '12/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '12/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), 15, '12/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -3, '12/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '12/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -2, '12/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Gants Simple'), -4, '12/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), 85, '01/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '01/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '01/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '01/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '01/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '01/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '01/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '01/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '01/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '01/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '01/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '01/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '01/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '01/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '01/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '01/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '01/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '01/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '01/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '01/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '01/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '02/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '02/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '02/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), 28, '02/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '02/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '02/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '02/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '02/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '02/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '02/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '02/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '02/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '02/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '02/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '02/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '02/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '02/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), 15, '02/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '02/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '02/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '02/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '02/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '02/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '03/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), 16, '03/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '03/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '03/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '03/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '03/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '03/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), 10, '03/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '03/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '03/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '03/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '03/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '03/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '03/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '03/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '03/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '03/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '03/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '03/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '03/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '03/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '03/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '04/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '04/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '04/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '04/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '04/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '04/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '04/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '04/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '04/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '04/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '04/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '04/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '04/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '04/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '04/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), 40, '04/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '04/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '04/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '04/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '04/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '04/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '05/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '05/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '05/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '05/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '05/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '05/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '05/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '05/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '05/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '05/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '05/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '05/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '05/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '05/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '05/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '05/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '05/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '05/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '05/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '05/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '05/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '05/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '06/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '06/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '06/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '06/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), 33, '06/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '06/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '06/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '06/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '06/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '06/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '06/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '06/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '06/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '06/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '06/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '06/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '06/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '06/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '06/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '06/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '06/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '07/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '07/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '07/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '07/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '07/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), 25, '07/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '07/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '07/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '07/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '07/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '07/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '07/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '07/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), 36, '07/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '07/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '07/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '07/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '07/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), 14, '07/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '07/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '07/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '07/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '08/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '08/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '08/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '08/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), 12, '08/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '08/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '08/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '08/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), 10, '08/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '08/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '08/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '08/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '08/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '08/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '08/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '08/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '08/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '08/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '08/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '08/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '08/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '08/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '08/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '08/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '09/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '09/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '09/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '09/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '09/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '09/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '09/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '09/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '09/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '09/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '09/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '09/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '09/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '09/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '09/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '09/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '09/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), 38, '09/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '09/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), 10, '09/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '09/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '09/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '09/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '10/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '10/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '10/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '10/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '10/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), 10, '10/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '10/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '10/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '10/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '10/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '10/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '10/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '10/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '10/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '10/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '10/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '10/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '10/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '10/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '10/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '10/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '11/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '11/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '11/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '11/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '11/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '11/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '11/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '11/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '11/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '11/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '11/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '11/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '11/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '11/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '11/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '11/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '11/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '11/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), 22, '11/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '12/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '12/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '12/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '12/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '12/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '12/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '12/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '12/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), 10, '12/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '12/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '12/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '12/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), 23, '12/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '12/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '12/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '12/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), 12, '12/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '12/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '12/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '12/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '12/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '12/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), 10, '12/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '12/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '01/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '01/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '01/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '01/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '01/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '01/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '01/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '01/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '01/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '01/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), 13, '01/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '01/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '01/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '01/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '01/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '01/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '01/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '01/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '01/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), 12, '01/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '01/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '01/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '02/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '02/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '02/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '02/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '02/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '02/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '02/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '02/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '02/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '02/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '02/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '02/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '02/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '02/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '02/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '02/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '02/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '02/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '02/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), 32, '02/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '02/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '02/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '02/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '03/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '03/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '03/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '03/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '03/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '03/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '03/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '03/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '03/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '03/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '03/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '03/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '03/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '03/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '03/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '03/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '03/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '03/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '03/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '03/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '03/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '04/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '04/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), 33, '04/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '04/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '04/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), 10, '04/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '04/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '04/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '04/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '04/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '04/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '04/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '04/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '04/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '04/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '04/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), 11, '04/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '04/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '04/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), 10, '04/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '04/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), 10, '04/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '04/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '04/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '05/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '05/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '05/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '05/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '05/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '05/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '05/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '05/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '05/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '05/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '05/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '05/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '05/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '05/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '05/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '05/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '05/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '05/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '05/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '05/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '05/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '06/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '06/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '06/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '06/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '06/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '06/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '06/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '06/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '06/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '06/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '06/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '06/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '06/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '06/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '06/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '06/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '06/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '06/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '06/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '06/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '06/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '06/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '07/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '07/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '07/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '07/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '07/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '07/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '07/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '07/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '07/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '07/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '07/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '07/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '07/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '07/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '07/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), 77, '07/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '07/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '07/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '07/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '07/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '07/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '07/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '08/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '08/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '08/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '08/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '08/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), 16, '08/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '08/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '08/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '08/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '08/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '08/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '08/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '08/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '08/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '08/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '08/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '08/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '08/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '08/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '09/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '09/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), 24, '09/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '09/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '09/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '09/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '09/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '09/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '09/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '09/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '09/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '09/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '09/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '09/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '09/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '09/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '09/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '09/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '09/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '10/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '10/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '10/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '10/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '10/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '10/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '10/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '10/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '10/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '10/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '10/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), 35, '10/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '10/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '10/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '10/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '10/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '10/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), 17, '10/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '10/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '10/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '10/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), 10, '10/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '10/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '10/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '10/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), 10, '10/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '11/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '11/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '11/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '11/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '11/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '11/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '11/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '11/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '11/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '11/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '11/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '11/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '11/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '11/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '11/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '11/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '11/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '12/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '12/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), 16, '12/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '12/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '12/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '12/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '12/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '12/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '12/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '12/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '12/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '12/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '12/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), 11, '12/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '12/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '12/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '12/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '12/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '12/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '12/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '12/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '12/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '12/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '12/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '12/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), 16, '12/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '01/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '01/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '01/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '01/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '01/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '01/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '01/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '01/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '01/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '01/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '01/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '01/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '01/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), 24, '01/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '01/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), 10, '01/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '01/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '01/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '01/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '01/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '01/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '02/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '02/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '02/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '02/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), 10, '02/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '02/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '02/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '02/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '02/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '02/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '02/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '02/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '02/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), 10, '02/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '02/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '02/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '02/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '02/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), 10, '02/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '02/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '03/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '03/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '03/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '03/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '03/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '03/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '03/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '03/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '03/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '03/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '03/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '03/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '03/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '03/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '03/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '03/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '03/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '03/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '03/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '03/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '03/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '03/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '03/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '03/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '03/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '03/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '04/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '04/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '04/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '04/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '04/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '04/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '04/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '04/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '04/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '04/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '04/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '04/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '04/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '04/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '04/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '04/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '04/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), 38, '04/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '04/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '04/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '04/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '05/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '05/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '05/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '05/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '05/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '05/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '05/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '05/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '05/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '05/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '05/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '05/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), 16, '05/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '05/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '05/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '05/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '05/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '05/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '05/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '05/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '05/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '05/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '06/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '06/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '06/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '06/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), 51, '06/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '06/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '06/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '06/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '06/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '06/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '06/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '06/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '06/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '06/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '06/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), 11, '06/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '06/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '06/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '06/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '06/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '07/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '07/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '07/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '07/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '07/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '07/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '07/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '07/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '07/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '07/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '07/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '07/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '07/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '07/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '07/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '07/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '07/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '07/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '07/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '07/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '08/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '08/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '08/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '08/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '08/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '08/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '08/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '08/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), 44, '08/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '08/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '08/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '08/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '08/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '08/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '08/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '08/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), 11, '08/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '08/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '08/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '08/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '08/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '08/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '08/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '09/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '09/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '09/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '09/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '09/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '09/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '09/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '09/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '09/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '09/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), 14, '09/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '09/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '09/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '09/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '09/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '09/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), 22, '09/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '09/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '09/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '09/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '09/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '09/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '09/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '10/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '10/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '10/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), 13, '10/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '10/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '10/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '10/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '10/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '10/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '10/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '10/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '10/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '10/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '10/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '10/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '10/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '10/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '10/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '10/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '10/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '10/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '10/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '11/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '11/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '11/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '11/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '11/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), 32, '11/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '11/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '11/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '11/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '11/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '11/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '11/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '11/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '11/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '11/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '11/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '11/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '11/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '11/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '11/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '11/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '11/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '11/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '12/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '12/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '12/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '12/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '12/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '12/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '12/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '12/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), 20, '12/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '12/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '12/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), 15, '12/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '12/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '12/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '12/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -2, '12/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Jeans Court'), -1, '12/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 14, '01/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '01/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '01/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 14, '01/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '01/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '01/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '01/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 11, '01/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '01/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '01/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '01/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 8, '01/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '01/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '01/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 11, '01/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '01/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '01/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '01/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '01/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 17, '01/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '01/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 8, '01/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '01/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '01/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '01/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '01/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '01/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 17, '01/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '01/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '01/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '01/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '02/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '02/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 13, '02/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '02/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '02/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '02/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 15, '02/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '02/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '02/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '02/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 9, '02/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '02/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '02/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '02/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '02/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 11, '02/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '02/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '02/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '02/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 9, '02/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '02/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '03/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 15, '03/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '03/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '03/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '03/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 16, '03/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '03/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '03/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '03/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '03/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '03/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 19, '03/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '03/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '03/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '03/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '03/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '03/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 15, '03/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '03/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '03/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '03/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '03/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 11, '03/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '03/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '03/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '03/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '03/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 9, '03/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '03/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '03/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '04/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 15, '04/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '04/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '04/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '04/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '04/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 19, '04/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '04/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '04/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '04/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '04/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '04/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 12, '04/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '04/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '04/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '04/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 14, '04/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '04/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '04/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '04/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '04/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '04/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 14, '04/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '04/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '04/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '04/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 17, '04/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '04/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '05/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '05/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '05/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '05/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 16, '05/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '05/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '05/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '05/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '05/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 18, '05/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '05/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '05/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '05/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '05/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '05/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 11, '05/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '05/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '05/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '05/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 15, '05/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '05/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '05/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '05/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '05/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '05/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 11, '05/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '05/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '05/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '06/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 12, '06/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '06/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '06/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '06/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '06/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 11, '06/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '06/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '06/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '06/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 18, '06/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '06/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '06/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '06/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '06/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '06/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '06/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '06/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 10, '06/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '06/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '06/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 10, '06/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '06/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '06/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '06/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 18, '06/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '06/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '06/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '07/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '07/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '07/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 13, '07/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '07/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '07/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '07/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 8, '07/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '07/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '07/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 8, '07/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '07/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '07/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '07/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 8, '07/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '07/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '07/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 8, '07/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '07/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '07/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 9, '07/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '07/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '07/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '07/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 9, '07/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '07/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 10, '07/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '08/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '08/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '08/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 13, '08/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '08/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '08/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '08/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '08/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 10, '08/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '08/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '08/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '08/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 11, '08/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '08/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '08/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '08/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 15, '08/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '08/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '08/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '08/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '08/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '08/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 9, '08/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '08/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '08/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 12, '08/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '09/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '09/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '09/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '09/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 9, '09/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '09/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '09/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 16, '09/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '09/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 9, '09/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '09/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '09/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '09/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '09/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 17, '09/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '09/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '09/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '09/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '09/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '09/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 11, '09/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '09/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 9, '09/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '09/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '09/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 8, '09/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '09/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 8, '09/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '10/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '10/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '10/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '10/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '10/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '10/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 16, '10/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '10/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 8, '10/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '10/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '10/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '10/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '10/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '10/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '10/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 15, '10/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '10/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '10/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 9, '10/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '10/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '10/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '10/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 14, '10/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '10/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '10/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '11/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '11/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '11/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '11/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '11/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 15, '11/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '11/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '11/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '11/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 12, '11/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '11/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 8, '11/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '11/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 9, '11/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '11/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '11/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '11/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '11/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '11/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '11/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 16, '11/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '11/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '11/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '11/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '12/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 15, '12/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '12/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '12/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '12/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '12/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 16, '12/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '12/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '12/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '12/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '12/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 17, '12/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '12/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 8, '12/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '12/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '12/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '12/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 8, '12/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '12/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '12/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '12/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '12/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '12/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '12/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 10, '12/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '01/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '01/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '01/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 12, '01/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '01/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '01/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '01/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 8, '01/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '01/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '01/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 12, '01/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '01/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '01/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '01/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 16, '01/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '01/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '01/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '01/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '01/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 16, '01/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '01/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '01/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '01/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '02/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '02/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 12, '02/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '02/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '02/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '02/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '02/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 8, '02/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '02/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '02/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 15, '02/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '02/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '02/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '02/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '02/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '02/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 15, '02/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '02/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 8, '02/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '02/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '02/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '02/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '02/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '02/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 13, '02/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '02/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '03/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '03/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '03/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '03/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 18, '03/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '03/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '03/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '03/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '03/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 12, '03/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '03/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '03/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '03/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '03/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 20, '03/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '03/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '03/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '03/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '03/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '03/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 13, '03/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '03/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '03/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '03/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '03/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 14, '03/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '04/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '04/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '04/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '04/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '04/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 20, '04/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '04/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '04/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 8, '04/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '04/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '04/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '04/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '04/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '04/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 17, '04/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '04/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '04/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '04/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 12, '04/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '04/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 8, '04/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '04/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '04/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 8, '04/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '04/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '04/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '04/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '05/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '05/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '05/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '05/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 8, '05/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '05/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '05/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 17, '05/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '05/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '05/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '05/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '05/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '05/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 8, '05/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '05/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '05/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '05/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '05/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 16, '05/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '05/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '05/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '05/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '05/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '05/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 14, '05/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '06/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '06/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 12, '06/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '06/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '06/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '06/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '06/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '06/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 13, '06/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '06/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '06/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '06/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 12, '06/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '06/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '06/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '06/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 10, '06/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '06/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '06/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '06/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 11, '06/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '06/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 10, '06/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '06/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '06/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '06/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '06/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '06/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 19, '06/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '07/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '07/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '07/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '07/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 13, '07/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '07/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '07/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 11, '07/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '07/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '07/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '07/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '07/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '07/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 13, '07/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '07/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '07/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '07/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '07/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '07/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 9, '07/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '07/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '07/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 9, '07/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '07/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '07/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 12, '07/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '07/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '07/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '07/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '08/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '08/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 10, '08/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '08/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '08/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 17, '08/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '08/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '08/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '08/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '08/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 9, '08/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '08/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '08/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 16, '08/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '08/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '08/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '08/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '08/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 8, '08/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '08/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '08/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 14, '08/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '08/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '08/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '08/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 13, '08/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '08/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '08/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '09/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '09/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 18, '09/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '09/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 8, '09/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '09/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '09/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '09/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '09/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '09/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 14, '09/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '09/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '09/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '09/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '09/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '09/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 17, '09/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '09/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '09/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 8, '09/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '09/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '09/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '09/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '09/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 11, '09/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '09/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '10/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '10/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '10/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 8, '10/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '10/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '10/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 14, '10/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '10/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '10/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '10/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 10, '10/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '10/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '10/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '10/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 8, '10/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '10/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '10/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 10, '10/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '10/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '10/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '10/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '10/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 15, '10/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '10/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '10/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '10/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '10/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 12, '10/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '11/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '11/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '11/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 16, '11/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '11/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '11/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '11/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '11/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 17, '11/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '11/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '11/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 8, '11/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '11/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '11/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '11/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 8, '11/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '11/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '11/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 8, '11/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '11/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '11/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '11/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '11/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '11/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 10, '11/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '12/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '12/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '12/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 12, '12/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '12/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '12/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '12/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '12/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 15, '12/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '12/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '12/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '12/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '12/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 8, '12/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '12/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '12/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 10, '12/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '12/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '12/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '12/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 14, '12/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '12/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '12/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '12/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '12/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 11, '12/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '12/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '12/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '01/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 11, '01/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '01/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '01/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 11, '01/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '01/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '01/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '01/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '01/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 13, '01/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '01/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '01/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '01/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 11, '01/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '01/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '01/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '01/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 13, '01/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '01/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '01/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 16, '01/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '01/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '01/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '01/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 9, '01/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '01/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '01/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 8, '01/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '02/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '02/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '02/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '02/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '02/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '02/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '02/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 18, '02/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '02/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '02/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 8, '02/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '02/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '02/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '02/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '02/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '02/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 10, '02/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '02/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '02/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 9, '02/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '02/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '02/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '03/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '03/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '03/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 11, '03/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '03/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '03/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '03/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 18, '03/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '03/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '03/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '03/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '03/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '03/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 15, '03/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '03/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 8, '03/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '03/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 8, '03/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '03/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '03/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '03/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '03/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '03/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '03/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 12, '03/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '04/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '04/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '04/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '04/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '04/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '04/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 16, '04/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '04/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 8, '04/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '04/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '04/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '04/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 8, '04/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '04/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '04/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '04/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '04/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '04/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 15, '04/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '04/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '04/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '04/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '04/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 11, '04/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '05/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '05/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '05/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 17, '05/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '05/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '05/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '05/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '05/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '05/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 10, '05/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '05/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '05/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '05/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 18, '05/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '05/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '05/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '05/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '05/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 14, '05/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '05/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '05/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '05/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 14, '05/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '05/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '05/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '05/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '05/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 8, '05/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '06/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '06/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 9, '06/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '06/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '06/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 10, '06/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '06/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 11, '06/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '06/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '06/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '06/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '06/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '06/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 15, '06/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '06/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '06/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '06/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '06/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '06/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 13, '06/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '06/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '06/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '06/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '06/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 16, '06/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '06/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '07/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 8, '07/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '07/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 8, '07/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '07/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '07/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '07/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '07/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '07/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '07/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 11, '07/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '07/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '07/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '07/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '07/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '07/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 16, '07/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '07/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '07/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '07/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '07/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '07/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 15, '07/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '07/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '08/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '08/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '08/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 9, '08/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '08/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '08/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 11, '08/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '08/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '08/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '08/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 8, '08/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '08/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '08/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '08/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 18, '08/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '08/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '08/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '08/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '08/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '08/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '08/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 11, '08/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '08/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '08/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '08/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 14, '08/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '08/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '09/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '09/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '09/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '09/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 11, '09/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '09/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '09/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 11, '09/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '09/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '09/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '09/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 14, '09/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '09/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '09/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '09/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '09/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '09/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 10, '09/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '09/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '09/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '09/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 13, '09/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '09/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '09/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '09/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 13, '09/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '10/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '10/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '10/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 13, '10/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '10/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '10/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '10/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '10/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '10/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '10/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 9, '10/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '10/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '10/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '10/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 18, '10/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '10/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '10/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '10/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 9, '10/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '10/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '10/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '10/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 10, '10/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '10/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '10/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '10/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 11, '10/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '11/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '11/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '11/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 11, '11/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '11/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '11/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '11/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '11/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 11, '11/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '11/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 8, '11/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '11/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '11/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '11/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '11/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '11/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 11, '11/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '11/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '11/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '11/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 13, '11/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '11/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '11/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '11/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '11/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 10, '11/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '11/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '12/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 8, '12/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '12/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '12/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 9, '12/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -5, '12/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '12/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '12/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 8, '12/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -3, '12/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '12/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '12/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), 16, '12/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '12/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -2, '12/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Manteau'), -4, '12/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), 73, '01/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '01/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '01/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '01/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '01/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), 23, '01/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '01/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '01/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '01/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '01/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), 18, '01/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '01/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '01/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '01/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '01/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '01/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '01/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '01/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '01/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), 32, '01/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '01/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '01/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '01/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '01/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '02/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '02/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '02/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '02/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '02/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), 18, '02/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '02/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '02/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), 15, '02/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '02/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), 15, '02/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '02/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '02/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '02/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '02/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '02/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), 15, '02/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '02/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '02/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '02/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '02/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '02/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '02/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '03/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), 15, '03/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '03/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '03/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '03/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '03/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '03/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '03/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '03/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '03/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '03/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '03/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '03/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '03/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '03/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '03/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '03/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), 15, '03/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '03/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '03/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), 15, '03/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '03/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '03/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '03/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '04/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '04/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '04/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '04/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '04/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '04/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '04/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '04/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '04/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '04/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '04/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '04/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '04/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '04/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '04/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '04/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '04/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '04/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '04/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '04/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '04/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '04/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '05/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '05/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '05/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '05/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '05/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '05/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '05/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), 36, '05/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '05/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '05/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '05/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '05/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '05/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '05/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), 16, '05/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '05/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '05/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '05/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '05/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '05/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '05/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '05/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '05/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '06/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '06/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '06/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '06/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '06/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '06/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '06/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '06/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '06/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '06/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '06/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '06/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '06/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '06/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '06/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '06/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '06/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '06/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '06/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '06/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), 40, '06/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '07/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '07/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '07/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '07/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '07/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '07/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '07/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '07/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '07/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '07/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), 34, '07/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '07/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '07/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '07/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '07/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '07/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '07/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '07/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '07/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '07/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '07/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '07/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '07/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '08/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '08/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '08/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), 17, '08/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '08/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), 16, '08/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '08/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '08/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '08/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '08/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '08/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '08/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '08/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '08/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '08/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '08/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '08/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '08/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '08/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '08/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '08/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '08/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '08/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '08/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '09/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '09/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '09/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '09/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '09/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '09/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '09/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '09/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '09/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '09/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '09/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), 34, '09/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '09/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '09/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '09/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '09/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '09/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '09/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '09/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '09/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '09/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '09/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '10/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '10/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '10/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '10/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '10/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '10/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '10/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '10/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '10/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '10/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '10/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '10/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '10/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '10/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '10/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '10/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '10/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '10/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '10/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), 41, '10/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '10/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '10/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '10/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '10/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '10/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '10/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '11/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '11/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '11/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '11/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '11/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '11/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '11/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '11/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '11/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), 27, '11/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '11/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '11/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '11/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '11/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '11/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '11/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '11/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '11/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '11/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '11/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '11/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '11/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '12/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '12/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '12/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '12/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '12/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '12/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '12/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), 78, '12/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '12/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '12/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '12/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '12/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '12/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '12/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '12/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), 17, '12/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '12/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '12/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '12/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '12/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '12/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '12/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '01/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '01/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), 18, '01/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '01/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '01/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '01/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '01/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '01/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '01/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '01/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '01/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '01/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '01/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '01/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '01/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '01/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '01/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '01/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '01/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '01/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '01/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '01/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '02/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '02/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '02/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '02/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '02/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '02/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '02/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '02/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '02/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), 40, '02/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '02/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '02/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '02/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '02/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '02/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '02/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '02/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '02/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '02/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '02/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '02/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '03/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '03/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '03/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '03/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '03/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '03/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '03/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '03/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '03/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '03/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '03/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '03/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), 58, '03/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '03/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '03/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '03/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '03/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '03/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '03/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '03/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '03/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '03/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), 16, '03/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '04/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '04/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '04/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '04/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), 15, '04/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '04/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '04/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '04/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '04/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '04/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '04/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '04/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '04/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '04/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '04/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '04/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '04/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '04/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '04/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '04/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '04/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '04/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '04/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '05/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '05/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '05/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '05/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '05/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '05/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '05/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '05/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '05/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '05/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '05/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '05/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '05/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '05/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '05/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), 29, '05/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '05/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '05/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '05/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), 29, '05/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '05/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '05/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '05/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '05/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '06/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '06/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '06/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '06/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '06/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '06/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '06/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '06/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '06/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '06/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '06/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '06/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '06/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '06/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '06/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '06/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '06/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '06/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '06/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '06/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '07/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '07/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '07/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '07/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '07/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '07/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '07/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '07/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '07/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '07/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '07/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '07/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), 48, '07/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '07/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '07/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '07/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '07/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '07/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '07/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '07/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '07/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '07/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '07/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '08/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), 39, '08/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '08/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '08/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '08/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), 15, '08/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '08/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '08/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '08/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '08/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '08/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '08/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '08/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '08/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '08/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '08/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '08/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '08/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '08/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '08/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '08/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '08/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '09/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '09/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '09/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '09/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), 17, '09/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '09/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '09/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '09/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '09/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '09/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '09/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '09/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), 23, '09/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '09/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '09/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '09/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '09/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '09/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '09/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '09/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '09/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '09/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '10/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '10/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '10/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '10/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '10/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '10/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), 17, '10/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '10/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '10/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '10/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '10/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '10/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '10/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '10/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '10/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '10/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '10/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '10/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '10/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '10/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '10/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '10/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '11/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '11/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '11/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '11/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '11/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '11/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '11/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '11/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '11/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), 27, '11/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '11/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '11/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), 30, '11/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '11/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '11/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '11/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), 18, '11/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '11/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '11/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '11/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '11/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), 15, '11/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '11/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '11/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '11/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '11/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '12/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '12/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), 15, '12/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '12/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '12/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '12/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '12/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '12/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '12/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '12/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '12/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '12/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '12/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '12/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '12/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '12/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '12/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '12/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '12/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '12/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '12/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), 25, '12/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '01/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '01/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '01/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '01/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '01/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '01/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '01/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '01/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '01/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '01/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '01/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), 17, '01/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '01/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '01/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '01/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '01/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '01/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '01/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '01/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '01/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '01/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '01/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '01/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '02/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '02/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '02/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '02/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '02/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '02/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '02/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '02/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '02/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '02/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '02/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '02/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '02/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '02/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '02/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '02/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '02/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '02/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '02/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '02/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '02/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '03/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '03/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '03/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), 54, '03/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '03/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '03/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '03/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '03/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '03/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), 27, '03/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '03/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '03/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '03/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), 15, '03/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '03/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '03/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '03/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '03/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '03/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '03/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '03/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '03/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '03/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), 15, '03/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '03/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '04/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '04/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '04/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '04/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '04/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '04/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '04/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), 16, '04/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '04/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '04/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '04/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '04/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '04/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '04/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '04/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '04/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '04/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '04/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '04/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '04/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '04/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '05/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '05/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), 25, '05/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '05/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '05/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '05/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '05/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '05/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), 21, '05/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '05/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '05/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '05/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '05/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '05/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '05/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '05/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '05/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '05/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), 15, '05/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '05/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '05/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '05/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '05/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '05/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '06/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '06/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '06/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '06/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '06/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '06/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), 22, '06/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '06/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '06/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '06/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '06/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '06/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '06/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), 23, '06/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '06/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '06/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '06/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '06/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '06/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '06/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '07/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), 16, '07/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '07/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '07/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '07/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '07/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '07/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '07/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '07/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '07/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '07/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '07/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '07/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), 22, '07/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '07/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '07/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '07/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '07/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '07/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '07/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '07/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '07/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '07/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '07/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '08/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '08/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '08/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '08/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '08/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '08/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '08/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '08/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '08/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '08/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '08/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '08/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '08/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '08/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '08/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '08/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '08/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '08/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '08/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '08/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '08/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '08/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '09/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '09/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '09/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '09/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), 20, '09/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '09/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '09/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '09/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '09/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '09/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '09/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '09/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '09/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '09/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '09/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), 45, '09/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '09/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '09/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '09/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '09/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), 26, '09/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '09/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '09/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '09/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), 15, '09/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '10/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '10/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '10/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '10/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '10/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '10/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '10/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '10/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '10/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '10/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), 15, '10/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '10/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '10/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '10/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '10/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '10/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '10/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '10/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '10/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '10/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '11/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '11/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '11/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '11/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '11/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '11/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '11/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '11/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '11/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '11/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), 15, '11/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '11/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '11/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '11/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), 22, '11/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '11/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '11/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '11/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '11/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '11/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '11/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '11/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '11/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '11/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '11/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '12/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '12/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '12/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '12/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '12/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '12/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '12/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '12/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '12/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '12/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -1, '12/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -2, '12/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '12/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Bleu'), -3, '12/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 50, '01/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '01/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '01/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '01/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '01/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '01/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '01/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '01/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '01/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '01/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 23, '01/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '01/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '01/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '01/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '01/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '01/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '01/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 26, '01/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '01/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '01/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 29, '01/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '01/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '01/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '01/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '01/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '02/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '02/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '02/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '02/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '02/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '02/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '02/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 25, '02/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '02/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '02/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '02/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '02/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '02/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '02/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 24, '02/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '02/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '02/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '02/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 23, '02/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '02/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '02/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '02/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '03/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '03/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 25, '03/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '03/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '03/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '03/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '03/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '03/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '03/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '03/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '03/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '03/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '03/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '03/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 35, '03/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '03/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '03/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '03/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '03/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '03/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '03/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '03/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '03/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 38, '03/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '04/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '04/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '04/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '04/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '04/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '04/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '04/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '04/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 32, '04/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '04/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '04/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '04/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '04/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 16, '04/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '04/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '04/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '04/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '04/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '04/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '04/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '04/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '04/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '05/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '05/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '05/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 33, '05/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '05/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '05/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '05/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '05/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '05/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '05/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '05/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '05/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 41, '05/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '05/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '05/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 15, '05/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '05/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '05/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '05/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '05/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '05/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 17, '05/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '05/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '05/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 15, '05/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '06/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '06/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '06/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '06/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '06/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 15, '06/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '06/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '06/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '06/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '06/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '06/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '06/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '06/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '06/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '06/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 34, '06/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '06/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '06/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '06/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '06/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 15, '06/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '06/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '06/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '06/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '07/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '07/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '07/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '07/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '07/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '07/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '07/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '07/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '07/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 28, '07/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '07/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 22, '07/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '07/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '07/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '07/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '07/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 15, '07/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '07/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '07/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '07/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '07/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '07/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '07/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '07/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '07/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 17, '07/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '08/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '08/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '08/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '08/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '08/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '08/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '08/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 40, '08/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '08/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '08/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '08/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '08/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '08/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '08/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '08/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '08/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '08/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '08/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '08/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 42, '08/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '09/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 15, '09/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '09/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '09/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '09/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '09/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '09/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '09/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '09/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '09/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '09/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '09/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 17, '09/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '09/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 16, '09/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '09/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '09/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '09/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '09/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '09/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '09/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '09/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '09/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '09/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '09/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '09/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 37, '09/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '10/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '10/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '10/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '10/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '10/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '10/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '10/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '10/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '10/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '10/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 31, '10/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '10/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '10/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '10/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '10/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '10/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '10/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '10/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 36, '10/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '10/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '10/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '10/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '10/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '11/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '11/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '11/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '11/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '11/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '11/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '11/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 30, '11/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '11/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '11/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 24, '11/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '11/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '11/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '11/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '11/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '11/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '11/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '11/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '11/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '11/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '11/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '12/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '12/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 43, '12/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '12/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '12/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '12/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '12/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '12/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 21, '12/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '12/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '12/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '12/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '12/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '12/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '12/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '12/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '12/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '12/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '12/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 44, '12/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '12/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '01/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '01/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '01/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 17, '01/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '01/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '01/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '01/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '01/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '01/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '01/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '01/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '01/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '01/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 21, '01/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '01/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '01/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '01/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '01/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '01/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '01/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '01/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '01/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 25, '01/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '02/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '02/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '02/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '02/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '02/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '02/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '02/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '02/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 33, '02/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '02/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '02/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 18, '02/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '02/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '02/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '02/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '02/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '02/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '02/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '02/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '02/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '02/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '02/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '03/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 36, '03/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '03/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '03/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '03/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '03/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '03/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '03/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '03/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 25, '03/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '03/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '03/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '03/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '03/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '03/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 32, '03/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '03/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '03/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 15, '03/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '03/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '03/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '03/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '03/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '03/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '03/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '03/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '04/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '04/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '04/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '04/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '04/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '04/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 32, '04/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '04/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '04/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '04/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '04/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 17, '04/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '04/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '04/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '04/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '04/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '04/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 19, '04/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '04/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '04/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '04/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '04/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '04/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '04/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 34, '04/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '04/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '04/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '05/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '05/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '05/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 21, '05/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '05/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '05/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '05/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '05/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '05/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '05/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '05/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '05/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '05/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '05/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 22, '05/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '05/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '05/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '05/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '05/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '05/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '05/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 19, '05/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '05/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '05/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '05/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '06/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '06/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 25, '06/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '06/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '06/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '06/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '06/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '06/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '06/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 26, '06/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '06/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '06/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '06/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '06/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '06/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '06/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '06/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 27, '06/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '06/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '06/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 21, '06/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '06/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '06/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '06/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '06/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '06/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '06/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '07/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 21, '07/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '07/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '07/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '07/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '07/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '07/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '07/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '07/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 36, '07/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '07/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '07/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 15, '07/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '07/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 15, '07/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '07/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '07/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '07/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '07/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 15, '07/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '07/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '07/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '07/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '07/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '07/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '07/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '07/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '08/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '08/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '08/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 31, '08/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '08/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 15, '08/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '08/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '08/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '08/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '08/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '08/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '08/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 15, '08/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '08/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '08/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '08/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '08/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '08/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '08/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '08/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '08/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '08/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '08/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '08/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 41, '08/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '08/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '09/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '09/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '09/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '09/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '09/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '09/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '09/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '09/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '09/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 18, '09/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '09/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '09/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '09/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '09/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '09/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 32, '09/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '09/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '09/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '09/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '09/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '09/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '09/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '09/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '10/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 30, '10/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '10/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '10/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '10/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '10/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '10/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '10/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '10/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 23, '10/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '10/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 20, '10/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '10/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '10/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '10/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '10/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '10/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '10/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '10/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '10/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '10/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 28, '10/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '10/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '11/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '11/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '11/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '11/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '11/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '11/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '11/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '11/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 28, '11/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '11/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '11/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '11/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '11/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '11/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '11/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 23, '11/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '11/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '11/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '11/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '11/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '11/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '11/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 22, '11/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '11/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '11/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '12/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '12/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '12/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '12/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 17, '12/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '12/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 20, '12/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '12/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '12/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '12/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 15, '12/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '12/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '12/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '12/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '12/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '12/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '12/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '12/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '12/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '12/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 21, '12/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '12/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '01/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '01/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '01/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '01/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '01/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 35, '01/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '01/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '01/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '01/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '01/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '01/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '01/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '01/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '01/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 45, '01/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '01/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '01/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '01/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '01/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '01/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '01/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '02/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '02/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '02/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '02/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 44, '02/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '02/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 15, '02/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '02/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 15, '02/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '02/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '02/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '02/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 15, '02/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '02/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '02/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '02/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '02/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '02/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '02/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '02/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '02/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '02/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '02/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '03/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '03/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '03/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '03/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '03/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '03/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '03/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '03/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 22, '03/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '03/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '03/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '03/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 29, '03/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '03/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '03/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '03/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '03/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '03/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 24, '03/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '03/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '03/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '03/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 18, '03/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '03/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '04/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '04/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '04/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '04/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '04/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '04/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '04/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '04/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '04/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '04/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '04/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 30, '04/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '04/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '04/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '04/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '04/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '04/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '04/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '05/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 36, '05/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '05/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '05/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 17, '05/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '05/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 15, '05/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '05/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '05/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '05/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '05/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '05/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '05/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '05/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '05/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '05/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '05/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '05/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '05/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '05/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '05/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 25, '05/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '05/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '05/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '05/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '05/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '06/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '06/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 43, '06/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '06/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '06/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '06/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '06/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '06/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '06/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '06/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '06/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '06/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '06/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '06/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 42, '06/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '06/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '06/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '06/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '06/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '06/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '06/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '06/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '07/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '07/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '07/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '07/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '07/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 20, '07/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '07/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '07/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '07/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '07/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '07/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 18, '07/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '07/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '07/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '07/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 39, '07/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '07/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '07/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '07/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '07/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 16, '07/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '07/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '07/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '07/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '08/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '08/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '08/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '08/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 29, '08/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '08/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '08/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '08/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '08/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '08/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '08/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '08/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '08/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '08/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '08/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '08/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '08/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 36, '08/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '08/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '08/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '08/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '08/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '09/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '09/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '09/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 34, '09/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '09/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '09/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '09/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '09/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '09/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 19, '09/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '09/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '09/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '09/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '09/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '09/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '09/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '09/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '09/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '09/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '10/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '10/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 25, '10/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '10/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '10/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '10/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '10/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '10/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '10/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 29, '10/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '10/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '10/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '10/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '10/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '10/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '10/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '10/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 32, '10/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '10/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '10/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '10/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '10/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '11/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '11/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '11/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '11/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '11/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 21, '11/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '11/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 24, '11/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '11/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '11/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '11/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '11/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 18, '11/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '11/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '11/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '11/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '11/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '11/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '11/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '11/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '11/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '11/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '11/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '11/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 30, '11/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '12/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '12/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 23, '12/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '12/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 15, '12/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '12/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 15, '12/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '12/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), 15, '12/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '12/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '12/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '12/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '12/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -4, '12/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -5, '12/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Gris'), -3, '12/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), 24, '01/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '01/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), 10, '01/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '01/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '01/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '01/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '01/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '01/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '01/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '01/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '01/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '01/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '01/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '01/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '01/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '01/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), 11, '01/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '02/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), 10, '02/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '02/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '02/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '02/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '02/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '02/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '02/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '02/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '02/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), 15, '02/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '02/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '02/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '02/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '02/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '02/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '03/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '03/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), 12, '03/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '03/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '03/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '03/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '03/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '03/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), 10, '03/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '03/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '03/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '03/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '03/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '03/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '03/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), 13, '03/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '03/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '03/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '04/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '04/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '04/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '04/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), 18, '04/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '04/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '04/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '04/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '04/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '04/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), 10, '04/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '04/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '04/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '04/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '04/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '04/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '04/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '05/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '05/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '05/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), 13, '05/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '05/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '05/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '05/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '05/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '05/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), 15, '05/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '05/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '05/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '05/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '05/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '05/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '05/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '05/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), 18, '05/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '06/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '06/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '06/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '06/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '06/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '06/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '06/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '06/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), 12, '06/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '06/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '06/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '06/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '06/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), 11, '06/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '06/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '06/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '07/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '07/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '07/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '07/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), 14, '07/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '07/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '07/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '07/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '07/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '07/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), 14, '07/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '07/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '07/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '07/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '07/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '07/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '07/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '08/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '08/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '08/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), 10, '08/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '08/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '08/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '08/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '08/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '08/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), 15, '08/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '08/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '08/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '08/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), 10, '08/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '08/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '08/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '09/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '09/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '09/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '09/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '09/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '09/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '09/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '09/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), 17, '09/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '09/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '09/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '09/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '09/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '09/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '09/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '09/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '09/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), 16, '09/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '10/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '10/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '10/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '10/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '10/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '10/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '10/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), 10, '10/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '10/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '10/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '10/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '10/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '10/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '10/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), 14, '10/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '10/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '11/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '11/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '11/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '11/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '11/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '11/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), 11, '11/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '11/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '11/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '11/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '11/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '11/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), 14, '11/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '11/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '11/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '12/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '12/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '12/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '12/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '12/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), 14, '12/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '12/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '12/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '12/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '12/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '12/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '12/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '12/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), 16, '12/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '12/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '12/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), 10, '12/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '12/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '12/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), 10, '12/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '01/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '01/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '01/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '01/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '01/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '01/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '01/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '01/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '01/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '01/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '01/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '01/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '01/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '01/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '01/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), 15, '01/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '02/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '02/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '02/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '02/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '02/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '02/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), 11, '02/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '02/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '02/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), 10, '02/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '02/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '02/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '02/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '02/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '02/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '02/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '03/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '03/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '03/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), 14, '03/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '03/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '03/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '03/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '03/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '03/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '03/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), 19, '03/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '03/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '03/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '03/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '03/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '03/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), 10, '03/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '03/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '03/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '03/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '03/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), 10, '03/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '04/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '04/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '04/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '04/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '04/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '04/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), 10, '04/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '04/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '04/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '04/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '04/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '04/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '04/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '04/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '04/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '04/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '04/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '05/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), 18, '05/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '05/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '05/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '05/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '05/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '05/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '05/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '05/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '05/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), 14, '05/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '05/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '05/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '05/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '05/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), 14, '05/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '05/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '05/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '05/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), 10, '05/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '05/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '06/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '06/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), 10, '06/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '06/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '06/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '06/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '06/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '06/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '06/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '06/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '06/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '06/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '06/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '06/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '06/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '06/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '07/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), 11, '07/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '07/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '07/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '07/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '07/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), 16, '07/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '07/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '07/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '07/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '07/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '07/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '07/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '07/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), 14, '07/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '07/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '07/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '07/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '08/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '08/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '08/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), 15, '08/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '08/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '08/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '08/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '08/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '08/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '08/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '08/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), 16, '08/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '08/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), 10, '08/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '08/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '08/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '08/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '08/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '08/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), 10, '08/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '09/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '09/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '09/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '09/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '09/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '09/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '09/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '09/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '09/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '09/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '09/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '09/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), 17, '09/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '09/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '09/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '10/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '10/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '10/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '10/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '10/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '10/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), 11, '10/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '10/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), 10, '10/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '10/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '10/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '10/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '10/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '10/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '10/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '10/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '10/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '11/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '11/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), 15, '11/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '11/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '11/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '11/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '11/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '11/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '11/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '11/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), 18, '11/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '11/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '11/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '11/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '11/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '11/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '11/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '12/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '12/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), 17, '12/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '12/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '12/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '12/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '12/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '12/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '12/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), 12, '12/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '12/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '12/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '12/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '12/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '12/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '12/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '12/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '12/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '01/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '01/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), 15, '01/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '01/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '01/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '01/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '01/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '01/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '01/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '01/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), 10, '01/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '01/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '01/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '01/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '01/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), 14, '01/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '01/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), 10, '01/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '02/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '02/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '02/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '02/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '02/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '02/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '02/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), 10, '02/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '02/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), 10, '02/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '02/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '02/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '02/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '02/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '02/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '03/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '03/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '03/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '03/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '03/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), 10, '03/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '03/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '03/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '03/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '03/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '03/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '03/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '03/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '03/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), 19, '03/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '03/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '04/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '04/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), 10, '04/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '04/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '04/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '04/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '04/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '04/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '04/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '04/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '04/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '04/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '04/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '04/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), 19, '04/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '04/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '04/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '04/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), 10, '04/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '04/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '05/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '05/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '05/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '05/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '05/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '05/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '05/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '05/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '05/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '05/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), 19, '05/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '05/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '05/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '05/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '05/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '05/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '06/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), 15, '06/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '06/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), 10, '06/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '06/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '06/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '06/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '06/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '06/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '06/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '06/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '06/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), 10, '06/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '06/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '06/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '06/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '06/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '06/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '06/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '07/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '07/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '07/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), 16, '07/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '07/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '07/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '07/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '07/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '07/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '07/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '07/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '07/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '07/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), 13, '07/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '07/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '07/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '07/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '07/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '08/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '08/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), 16, '08/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '08/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '08/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '08/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '08/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '08/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '08/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '08/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '08/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), 16, '08/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '08/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '08/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '08/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), 10, '08/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '08/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '08/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), 10, '08/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '08/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '09/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '09/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '09/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '09/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '09/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '09/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '09/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '09/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '09/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '09/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '09/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '09/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), 16, '09/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '09/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), 10, '09/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '10/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '10/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), 10, '10/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '10/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '10/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), 10, '10/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '10/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '10/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '10/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '10/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '10/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '10/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '10/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), 10, '10/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '10/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '10/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '10/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '10/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '11/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '11/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '11/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), 10, '11/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '11/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '11/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '11/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '11/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '11/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '11/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), 10, '11/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '11/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '11/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '11/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '11/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '11/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '11/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '11/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '11/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '11/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '11/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), 17, '11/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '12/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), 10, '12/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '12/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '12/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '12/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -2, '12/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '12/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '12/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -3, '12/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), -1, '12/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Marron'), 10, '12/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), 20, '01/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '01/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '01/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), 12, '01/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '01/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '01/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '01/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '01/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '01/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '01/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '01/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), 16, '01/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '01/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '01/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '01/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '01/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '01/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '01/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '01/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '01/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '02/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '02/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '02/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '02/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), 25, '02/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '02/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '02/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '02/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '02/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '02/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '02/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '02/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '02/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '02/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '02/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '02/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), 24, '02/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '03/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), 15, '03/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '03/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '03/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '03/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '03/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '03/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '03/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '03/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '03/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '03/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '03/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '03/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '03/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '03/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '03/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '03/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '04/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), 35, '04/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '04/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '04/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '04/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '04/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '04/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '04/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '04/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '04/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '04/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '04/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '04/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '04/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '04/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '04/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '05/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '05/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '05/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '05/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '05/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '05/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '05/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), 19, '05/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '05/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '05/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '05/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '05/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '05/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '05/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), 13, '05/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '05/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '05/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '05/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '05/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '06/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '06/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '06/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '06/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '06/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '06/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '06/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '06/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '06/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '06/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), 29, '06/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '06/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '06/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '06/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), 26, '06/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '06/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '06/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '07/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '07/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '07/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '07/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '07/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '07/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '07/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '07/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), 22, '07/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '07/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '07/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '07/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '07/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '07/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), 16, '07/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '07/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '07/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '07/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '08/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '08/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '08/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '08/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), 14, '08/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '08/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '08/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '08/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '08/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '08/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '08/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), 14, '08/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '08/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '08/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '08/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '08/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '09/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '09/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '09/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '09/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '09/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '09/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), 7, '09/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '09/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '09/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), 21, '09/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '09/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '09/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '09/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '09/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '09/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '09/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), 7, '09/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '09/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '10/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '10/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '10/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '10/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '10/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '10/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '10/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '10/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '10/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '10/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '10/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '10/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '10/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '10/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '10/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '10/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '11/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '11/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '11/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '11/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '11/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '11/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '11/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), 26, '11/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '11/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '11/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '11/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '11/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '11/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '11/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '11/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '11/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '11/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '11/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '11/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '12/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '12/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '12/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '12/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '12/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '12/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), 16, '12/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '12/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '12/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '12/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '12/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '12/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '12/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '12/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), 14, '12/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '12/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '12/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), 29, '12/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '12/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '12/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '01/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '01/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '01/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '01/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '01/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '01/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '01/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '01/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '01/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), 26, '01/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '01/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '01/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), 11, '01/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '01/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), 7, '01/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '01/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '01/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '01/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '02/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '02/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '02/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '02/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '02/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '02/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '02/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '02/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '02/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '02/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '02/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '02/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '02/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '02/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '03/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '03/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '03/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '03/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '03/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '03/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '03/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '03/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '03/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), 38, '03/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '03/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '03/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '03/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '03/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), 9, '03/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '03/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '04/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '04/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '04/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '04/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '04/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '04/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '04/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '04/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '04/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '04/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '04/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '04/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '04/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '04/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), 7, '04/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '04/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '05/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '05/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '05/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '05/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), 25, '05/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '05/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '05/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '05/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '05/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '05/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '05/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '05/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '05/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '05/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '05/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '05/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '05/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '06/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '06/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '06/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '06/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '06/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '06/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '06/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), 11, '06/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '06/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '06/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '06/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '06/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '06/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), 33, '06/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '06/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '06/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '06/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '06/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '07/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '07/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '07/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '07/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '07/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '07/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '07/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '07/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '07/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '07/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '07/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '07/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), 55, '07/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '07/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '07/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '07/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), 8, '07/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '07/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '08/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '08/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '08/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '08/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '08/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '08/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '08/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '08/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '08/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '08/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '08/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), 26, '08/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '08/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '08/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '08/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '08/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '09/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '09/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '09/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), 9, '09/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '09/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '09/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '09/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '09/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '09/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '09/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '09/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '09/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), 16, '09/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '09/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), 7, '09/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '09/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '09/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '09/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '10/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '10/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '10/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '10/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '10/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '10/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '10/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '10/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '10/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '10/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '10/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '10/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '10/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '10/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '10/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '10/31/2016');
@@ -0,0 +1,8628 @@
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '11/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '11/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '11/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '11/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '11/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '11/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '11/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '11/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '11/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '11/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '11/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), 15, '11/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '11/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), 16, '11/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '11/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '12/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '12/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '12/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '12/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '12/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '12/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), 32, '12/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '12/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '12/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '12/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '12/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), 16, '12/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '12/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '12/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '12/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '12/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '12/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '12/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '12/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '01/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '01/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '01/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '01/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '01/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '01/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '01/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '01/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '01/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '01/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '01/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '01/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '01/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), 8, '01/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '01/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '01/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '01/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '01/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '02/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '02/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), 10, '02/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '02/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), 35, '02/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '02/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '02/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '02/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '02/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '02/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '02/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '02/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '02/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '02/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '03/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '03/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '03/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '03/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '03/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '03/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '03/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '03/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '03/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '03/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), 14, '03/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '03/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '03/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '03/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '03/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '03/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '03/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '04/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '04/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '04/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '04/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '04/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '04/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), 54, '04/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '04/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '04/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '04/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '04/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '04/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '04/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '04/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '05/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '05/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '05/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '05/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), 14, '05/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '05/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '05/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '05/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '05/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '05/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), 9, '05/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '05/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '05/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '05/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '05/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '05/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '05/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '06/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '06/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '06/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '06/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '06/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '06/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '06/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '06/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '06/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '06/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '06/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '06/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '06/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '06/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '07/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '07/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '07/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '07/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '07/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '07/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), 27, '07/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '07/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '07/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '07/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '07/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '07/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '07/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '07/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '07/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '07/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '07/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '07/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '07/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), 59, '07/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '08/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '08/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '08/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '08/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), 9, '08/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '08/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '08/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '08/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), 7, '08/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '08/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '08/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '08/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '08/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '08/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '08/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '08/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '08/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '08/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '08/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '09/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '09/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '09/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '09/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '09/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '09/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '09/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '09/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '09/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '09/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '09/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '09/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '09/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '09/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '09/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '09/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '10/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '10/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), 59, '10/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '10/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '10/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '10/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '10/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '10/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '10/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '10/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '10/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '10/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '10/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '10/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '10/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '10/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), 28, '10/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '10/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '11/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '11/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '11/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '11/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '11/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '11/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '11/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '11/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '11/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '11/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '11/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '11/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '11/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '11/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), 25, '11/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '12/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '12/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '12/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '12/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '12/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), 13, '12/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '12/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -3, '12/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -1, '12/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rose'), -2, '12/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), 75, '01/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '01/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '01/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '01/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '01/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '01/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '01/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '01/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '01/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '01/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '01/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '01/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '01/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '01/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '01/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '01/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '01/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '01/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '01/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '01/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '01/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '01/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '01/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '02/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '02/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), 47, '02/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '02/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '02/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '02/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '02/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '02/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '02/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '02/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '02/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '02/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '02/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '02/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '02/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '02/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '02/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '02/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '02/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '02/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '02/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '03/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '03/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), 40, '03/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '03/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '03/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '03/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '03/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '03/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), 37, '03/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '03/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '03/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '03/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '03/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '03/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '03/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '03/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '03/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '03/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '03/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '03/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '04/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '04/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '04/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '04/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), 27, '04/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '04/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '04/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '04/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '04/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '04/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '04/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '04/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '04/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '04/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '04/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '04/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '04/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '04/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '04/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '04/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '04/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '04/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '04/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '04/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '05/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '05/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '05/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '05/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '05/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '05/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '05/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '05/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), 31, '05/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '05/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '05/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '05/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '05/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), 25, '05/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '05/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '05/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '05/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '05/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '05/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '05/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '05/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '05/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '05/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '06/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '06/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '06/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '06/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '06/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '06/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '06/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '06/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '06/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '06/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '06/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '06/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '06/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '06/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '06/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '06/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '06/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '06/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '06/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '06/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '06/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '07/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '07/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '07/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '07/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '07/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '07/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '07/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '07/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '07/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '07/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '07/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '07/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '07/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '07/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '07/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), 33, '07/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '07/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '07/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), 42, '07/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '07/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '07/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '07/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '07/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '07/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '07/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '08/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '08/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), 25, '08/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '08/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '08/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '08/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '08/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '08/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '08/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '08/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '08/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '08/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '08/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '08/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), 25, '08/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '08/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '08/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), 25, '08/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '08/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '08/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '08/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '08/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '08/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), 25, '08/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '08/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '08/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '09/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '09/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '09/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '09/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '09/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '09/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '09/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '09/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '09/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), 25, '09/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '09/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '09/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '09/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '09/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '09/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '09/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '09/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '09/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '09/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '09/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '09/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '09/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '09/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '10/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '10/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '10/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '10/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '10/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '10/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '10/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '10/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '10/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '10/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '10/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '10/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), 25, '10/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '10/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '10/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '10/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '10/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '10/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '10/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '10/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '10/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), 25, '10/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '11/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '11/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '11/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), 25, '11/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '11/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '11/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '11/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '11/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '11/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '11/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '11/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '11/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '11/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '11/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '11/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '11/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '11/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '11/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '11/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '11/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '12/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '12/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '12/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), 25, '12/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '12/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '12/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '12/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '12/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '12/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), 25, '12/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '12/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '12/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '12/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '12/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), 25, '12/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '12/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '12/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '12/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '12/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '12/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '12/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '12/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '12/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '01/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '01/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '01/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '01/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '01/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '01/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), 25, '01/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '01/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '01/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '01/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '01/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '01/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '01/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '01/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '01/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '01/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '01/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '01/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), 25, '01/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '01/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '01/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '01/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '01/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '02/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '02/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '02/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '02/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '02/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '02/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '02/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '02/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '02/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '02/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), 25, '02/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '02/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '02/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '02/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '02/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '02/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '02/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '02/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '02/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '03/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '03/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '03/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '03/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '03/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '03/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '03/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '03/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), 25, '03/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '03/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '03/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '03/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '03/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '03/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '03/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '03/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '03/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '03/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '03/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '03/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '03/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '03/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '04/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '04/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '04/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '04/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '04/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '04/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '04/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '04/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '04/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '04/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '04/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '04/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '04/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '04/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '04/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '04/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '04/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '04/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '04/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '05/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '05/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '05/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '05/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '05/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '05/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), 25, '05/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '05/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '05/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '05/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '05/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '05/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '05/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '05/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '05/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '05/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '05/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '05/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '05/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '05/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '06/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '06/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '06/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '06/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '06/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '06/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '06/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '06/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), 44, '06/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '06/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '06/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '06/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '06/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '06/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '06/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '06/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '06/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '06/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '06/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '06/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '06/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '07/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '07/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '07/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '07/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '07/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '07/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '07/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '07/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '07/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '07/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '07/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '07/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '07/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '07/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '07/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '07/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), 50, '07/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '07/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), 25, '07/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '07/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '07/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '07/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '08/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '08/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '08/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '08/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '08/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '08/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '08/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '08/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '08/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '08/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), 25, '08/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '08/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '08/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), 25, '08/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '08/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '08/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '08/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '08/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '08/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '08/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '08/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '08/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '08/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '08/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '09/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), 25, '09/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '09/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '09/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '09/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '09/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '09/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '09/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), 25, '09/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '09/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '09/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '09/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '09/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '09/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '09/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '09/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '09/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '09/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '09/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '09/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '09/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '09/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '09/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '10/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '10/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '10/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '10/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '10/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '10/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '10/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '10/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '10/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), 25, '10/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '10/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '10/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '10/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '10/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), 25, '10/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '10/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), 25, '10/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '10/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '10/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '10/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), 25, '10/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '10/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '11/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '11/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '11/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), 25, '11/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '11/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '11/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '11/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '11/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '11/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '11/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '11/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), 25, '11/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '11/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '11/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '11/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '11/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '11/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '11/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '11/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '11/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '11/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '11/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '11/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '12/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '12/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '12/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '12/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '12/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '12/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '12/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '12/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '12/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '12/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '12/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '12/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '12/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '12/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '12/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '12/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '12/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '12/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), 25, '12/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '12/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '01/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), 25, '01/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '01/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), 25, '01/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '01/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '01/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '01/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '01/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '01/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), 25, '01/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '01/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '01/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '01/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '01/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '01/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '01/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '01/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '01/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), 25, '01/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '01/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '01/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '01/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '02/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '02/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '02/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '02/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '02/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '02/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '02/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '02/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '02/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '02/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '02/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '02/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '02/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '02/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '02/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), 25, '02/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '02/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '02/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '02/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '02/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '03/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '03/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '03/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '03/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '03/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '03/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '03/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '03/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '03/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '03/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '03/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '03/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '03/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '03/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '03/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '03/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '03/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), 25, '03/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '03/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '03/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '03/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '03/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '03/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '04/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '04/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '04/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), 25, '04/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '04/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '04/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '04/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '04/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '04/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '04/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '04/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), 25, '04/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '04/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '04/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '04/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '04/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '04/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '04/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '04/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '04/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '04/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), 25, '04/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '04/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '05/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '05/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), 25, '05/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '05/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '05/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '05/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '05/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '05/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '05/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '05/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '05/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '05/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), 25, '05/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '05/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '05/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '05/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '05/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '05/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '05/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '05/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '05/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '05/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '05/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), 25, '05/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '05/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '06/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '06/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '06/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '06/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '06/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '06/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '06/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '06/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '06/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '06/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '06/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '06/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '06/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '06/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '06/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '06/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '06/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '06/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '07/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '07/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '07/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '07/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '07/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '07/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '07/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '07/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '07/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), 25, '07/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '07/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), 25, '07/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '07/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), 25, '07/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '07/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '07/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '07/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '07/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '07/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '07/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '07/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), 25, '07/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '07/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '08/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '08/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '08/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '08/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), 25, '08/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '08/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '08/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '08/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '08/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '08/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '08/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '08/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '08/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '08/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '08/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '08/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '08/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '08/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '08/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '08/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), 25, '08/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '09/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '09/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '09/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), 25, '09/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '09/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '09/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '09/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '09/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '09/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '09/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), 25, '09/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '09/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '09/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '09/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '09/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '09/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), 25, '09/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '09/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '09/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '09/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '09/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '09/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '09/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '09/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), 25, '09/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '10/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '10/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '10/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '10/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '10/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '10/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '10/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '10/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '10/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), 25, '10/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '10/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '10/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '10/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '10/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '10/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '10/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), 25, '10/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '10/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '10/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '10/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '10/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '10/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), 25, '10/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '10/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '10/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '11/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '11/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '11/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), 25, '11/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '11/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '11/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '11/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '11/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '11/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '11/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '11/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '11/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '11/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '11/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '11/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '11/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '11/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '11/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), 25, '11/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '11/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '11/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '11/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '11/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '11/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '11/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '11/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '12/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '12/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '12/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '12/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '12/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '12/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '12/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '12/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '12/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '12/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '12/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '12/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -2, '12/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -3, '12/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '12/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Rouge'), -1, '12/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 59, '01/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '01/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '01/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 17, '01/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '01/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '01/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '01/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '01/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '01/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '01/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '01/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '01/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '01/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 28, '01/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '01/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '01/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '01/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 15, '01/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '01/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 43, '01/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '01/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '01/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '01/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '01/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '01/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '02/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '02/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '02/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '02/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 53, '02/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '02/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 17, '02/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '02/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '02/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 15, '02/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '02/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '02/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 15, '02/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '02/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 15, '02/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '02/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '02/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '02/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '02/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '02/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '02/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '02/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '02/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '02/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '02/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '03/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 49, '03/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '03/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '03/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '03/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '03/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 30, '03/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '03/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '03/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '03/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '03/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '03/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '03/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '03/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '03/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 39, '03/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '03/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '03/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '03/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '03/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 31, '03/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '03/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '03/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '03/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '04/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '04/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '04/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '04/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 46, '04/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '04/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '04/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '04/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '04/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '04/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '04/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '04/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '04/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 48, '04/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '04/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '04/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '04/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '04/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '04/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 43, '04/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '04/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '04/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '04/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '05/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '05/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '05/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '05/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '05/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 35, '05/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '05/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '05/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '05/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '05/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '05/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 43, '05/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '05/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '05/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '05/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '05/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '05/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '05/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '05/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '05/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 24, '05/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '05/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '05/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '06/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '06/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 56, '06/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '06/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '06/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '06/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '06/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '06/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '06/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '06/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '06/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '06/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 34, '06/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '06/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '06/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 31, '06/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '06/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '06/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '06/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '06/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '06/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '06/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '06/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '06/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '06/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 32, '06/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '07/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '07/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '07/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '07/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 43, '07/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '07/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '07/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '07/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '07/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '07/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '07/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 56, '07/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '07/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '07/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '07/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '07/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '07/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '07/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '07/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 29, '07/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '07/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '07/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '07/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '07/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '07/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '08/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '08/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 64, '08/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '08/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '08/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '08/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '08/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '08/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '08/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '08/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '08/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '08/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '08/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 62, '08/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '08/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '08/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '08/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '08/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 25, '08/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '08/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '09/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '09/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '09/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '09/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '09/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '09/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '09/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '09/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 43, '09/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '09/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '09/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 29, '09/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '09/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '09/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '09/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '09/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 24, '09/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '09/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '09/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 18, '09/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '09/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '09/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '09/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '09/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 16, '09/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '10/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '10/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '10/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '10/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '10/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '10/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 24, '10/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '10/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '10/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '10/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '10/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 16, '10/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '10/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '10/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 38, '10/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '10/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '10/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 18, '10/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '10/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '10/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '10/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '10/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '10/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '10/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '10/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 61, '10/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '11/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '11/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '11/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '11/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '11/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '11/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '11/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '11/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 15, '11/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '11/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '11/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '11/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '11/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 47, '11/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '11/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '11/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 19, '11/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '11/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '11/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '11/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '11/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '11/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '11/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '12/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 21, '12/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '12/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '12/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '12/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '12/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 30, '12/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '12/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 36, '12/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '12/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '12/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '12/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '12/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '12/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '12/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '12/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '12/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '12/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 32, '12/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '12/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '12/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '12/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '12/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '12/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 51, '12/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '12/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '01/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '01/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '01/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '01/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '01/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '01/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '01/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 40, '01/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '01/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '01/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '01/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '01/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '01/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '01/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '01/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 15, '01/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '01/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '01/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 57, '01/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '01/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '01/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '01/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '01/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '02/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '02/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '02/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '02/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '02/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 51, '02/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '02/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 18, '02/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '02/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '02/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '02/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '02/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '02/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '02/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '02/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '02/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '02/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 21, '02/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '02/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '02/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '02/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '02/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 42, '02/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '03/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '03/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '03/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '03/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '03/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '03/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '03/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 63, '03/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '03/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '03/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '03/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 17, '03/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '03/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '03/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '03/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '03/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '03/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '03/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 17, '03/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '03/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '03/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '03/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '03/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '03/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '03/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 53, '03/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '04/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '04/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '04/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '04/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '04/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '04/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '04/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '04/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 34, '04/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '04/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '04/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '04/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '04/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '04/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 24, '04/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '04/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '04/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 41, '04/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '04/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '04/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '04/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '04/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '04/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '05/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '05/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '05/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 30, '05/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '05/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '05/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '05/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '05/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '05/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 48, '05/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '05/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '05/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '05/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '05/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '05/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '05/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '05/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 26, '05/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '05/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '05/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '05/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 19, '05/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '05/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 42, '05/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '05/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '05/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '06/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '06/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '06/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '06/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '06/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '06/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 37, '06/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '06/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '06/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '06/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '06/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '06/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '06/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 30, '06/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '06/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 15, '06/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '06/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '06/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '06/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 34, '06/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '06/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '06/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '06/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '06/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '06/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '07/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '07/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '07/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '07/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 23, '07/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '07/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '07/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '07/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 23, '07/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '07/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '07/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '07/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '07/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 55, '07/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '07/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '07/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '07/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '07/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '07/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '07/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '07/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '07/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '07/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 43, '07/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '07/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '07/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '08/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '08/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '08/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '08/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 16, '08/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '08/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '08/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '08/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 29, '08/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '08/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '08/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '08/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '08/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '08/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 26, '08/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '08/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '08/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '08/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 33, '08/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '08/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '08/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '08/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '08/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '08/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 31, '08/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '09/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '09/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '09/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 39, '09/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '09/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 16, '09/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '09/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 15, '09/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '09/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '09/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '09/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '09/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '09/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '09/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '09/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '09/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '09/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '09/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 38, '09/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '09/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '09/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '09/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '09/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '10/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '10/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '10/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 27, '10/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '10/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '10/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '10/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '10/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '10/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 38, '10/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '10/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '10/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '10/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '10/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '10/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '10/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 32, '10/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '10/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '10/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '10/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '10/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '10/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 50, '10/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '11/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '11/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '11/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '11/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '11/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '11/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '11/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 27, '11/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '11/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '11/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '11/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '11/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '11/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 32, '11/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '11/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '11/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '11/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '11/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 34, '11/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '11/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '11/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '11/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '11/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '11/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 28, '11/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '11/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '11/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 40, '11/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '12/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '12/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '12/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '12/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '12/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '12/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '12/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '12/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '12/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 15, '12/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '12/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 29, '12/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '12/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '12/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '12/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '12/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '12/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '12/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '12/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 56, '12/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '12/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 15, '12/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '12/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '12/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '01/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '01/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 17, '01/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '01/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '01/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '01/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '01/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '01/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '01/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '01/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '01/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 51, '01/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '01/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '01/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 19, '01/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '01/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '01/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '01/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '01/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '01/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '01/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '01/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '01/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '01/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 32, '01/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '02/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 32, '02/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '02/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '02/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '02/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '02/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '02/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '02/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '02/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '02/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '02/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 56, '02/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '02/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '02/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 17, '02/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '02/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '02/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '02/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '02/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 20, '02/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '02/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '02/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '02/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '03/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '03/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '03/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '03/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 37, '03/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '03/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '03/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '03/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '03/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '03/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '03/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 22, '03/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '03/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '03/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '03/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '03/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '03/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 32, '03/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '03/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '03/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '03/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '03/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '03/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 62, '03/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '03/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '03/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 15, '03/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '03/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '04/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '04/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '04/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '04/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 23, '04/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '04/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '04/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '04/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 18, '04/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '04/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '04/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '04/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 16, '04/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '04/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '04/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '04/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 23, '04/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '04/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 15, '04/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '04/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '04/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '04/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '04/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '04/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '05/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '05/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '05/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '05/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 24, '05/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '05/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '05/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '05/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '05/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 57, '05/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '05/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '05/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '05/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '05/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '05/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '05/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '05/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '05/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '05/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 59, '05/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '05/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '05/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 23, '05/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '05/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '05/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '05/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '06/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '06/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 22, '06/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '06/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '06/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '06/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '06/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '06/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '06/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '06/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 25, '06/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '06/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '06/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '06/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '06/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 25, '06/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '06/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '06/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '06/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '06/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 17, '06/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '07/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '07/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '07/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '07/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 60, '07/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '07/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 15, '07/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '07/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 15, '07/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '07/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '07/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '07/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '07/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '07/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '07/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '07/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 25, '07/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '07/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '07/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '07/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '07/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '07/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '07/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '07/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '08/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '08/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 41, '08/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '08/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '08/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '08/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '08/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '08/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 41, '08/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '08/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '08/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 34, '08/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '08/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '08/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '08/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 16, '08/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '08/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '08/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '08/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '08/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '08/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '08/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '08/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '08/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '08/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 55, '08/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '08/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '09/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '09/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '09/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '09/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '09/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '09/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '09/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 36, '09/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '09/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '09/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '09/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '09/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '09/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '09/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 47, '09/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '09/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '09/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '09/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '09/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '09/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '09/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '10/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 34, '10/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '10/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '10/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '10/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '10/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '10/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '10/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 49, '10/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '10/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '10/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '10/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '10/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '10/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '10/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '10/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 17, '10/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '10/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '10/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 39, '10/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '10/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '10/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '10/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '10/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '10/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '10/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '10/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 57, '10/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '11/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '11/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '11/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '11/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '11/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 32, '11/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '11/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '11/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '11/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '11/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '11/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '11/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '11/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '11/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 25, '11/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '11/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '11/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '11/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '11/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 37, '11/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '11/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '12/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '12/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 46, '12/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '12/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '12/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '12/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -5, '12/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '12/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '12/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '12/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -7, '12/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -8, '12/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), 42, '12/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'Papillon Vert'), -6, '12/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), 22, '01/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '01/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '01/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '01/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '01/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), 85, '01/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '01/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '01/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '01/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '01/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), 18, '01/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '01/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '01/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '01/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '01/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '01/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '01/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '01/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '01/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), 35, '01/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '01/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), 23, '01/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '01/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '01/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '01/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), 15, '01/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '02/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '02/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '02/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), 15, '02/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '02/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '02/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '02/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '02/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '02/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '02/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '02/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '02/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '02/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '02/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '02/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '02/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '02/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '02/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), 15, '02/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '02/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '03/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '03/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), 15, '03/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '03/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '03/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '03/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '03/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '03/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '03/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '03/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '03/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '03/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '03/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '03/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '03/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '03/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '03/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '03/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '03/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '04/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '04/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '04/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '04/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '04/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '04/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '04/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '04/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '04/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '04/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '04/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '04/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '04/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '04/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), 46, '04/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '04/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '04/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '04/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), 15, '04/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '04/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '04/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '05/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '05/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '05/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '05/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '05/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), 15, '05/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '05/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '05/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '05/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '05/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '05/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '05/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '05/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '05/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '05/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), 15, '05/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '05/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '05/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '05/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '05/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '05/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '05/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '05/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '05/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '06/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '06/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '06/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '06/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '06/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '06/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '06/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '06/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '06/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '06/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '06/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '06/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '06/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '06/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '06/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '06/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '06/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '06/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '07/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '07/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '07/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '07/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '07/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '07/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '07/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '07/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '07/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '07/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '07/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '07/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '07/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '07/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '07/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '07/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), 80, '07/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '07/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '07/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '07/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '07/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '07/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '08/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '08/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '08/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '08/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '08/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '08/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '08/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '08/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '08/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '08/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '08/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '08/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '08/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '08/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '08/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '08/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '08/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), 29, '08/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '08/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '08/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '09/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '09/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '09/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '09/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '09/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '09/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), 21, '09/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '09/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '09/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '09/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '09/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '09/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '09/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '09/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '09/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '09/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '09/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '09/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '09/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '09/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '10/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '10/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '10/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '10/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '10/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '10/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), 22, '10/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '10/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), 32, '10/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '10/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '10/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '10/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '10/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '10/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '10/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '10/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '10/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '10/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '10/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '10/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), 28, '10/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '10/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '11/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '11/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '11/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '11/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '11/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '11/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '11/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '11/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '11/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), 20, '11/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '11/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '11/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '11/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '11/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '11/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '11/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '11/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '11/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '11/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '11/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '11/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '12/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '12/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '12/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '12/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '12/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '12/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '12/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '12/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '12/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '12/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '12/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '12/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '12/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '12/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '12/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '12/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '12/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '12/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), 46, '12/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '12/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '12/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '12/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '01/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), 27, '01/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '01/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '01/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), 15, '01/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '01/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '01/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '01/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '01/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '01/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '01/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '01/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), 15, '01/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '01/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '01/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '01/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '01/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '01/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), 15, '01/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '01/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '01/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), 15, '01/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '01/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '01/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '01/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '01/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '01/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '02/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '02/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), 15, '02/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '02/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '02/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '02/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '02/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '02/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), 15, '02/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '02/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '02/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '02/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '02/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '02/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '02/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '02/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '02/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '02/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '02/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '02/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '02/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '02/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), 15, '02/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '03/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '03/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '03/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '03/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '03/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '03/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '03/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '03/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '03/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '03/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), 15, '03/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '03/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '03/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '03/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '03/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '03/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '03/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '03/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '03/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '03/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '03/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '03/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '04/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '04/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '04/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '04/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '04/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '04/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '04/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '04/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '04/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '04/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '04/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '04/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '04/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), 19, '04/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '04/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '04/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '04/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '04/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '04/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '04/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '05/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '05/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '05/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '05/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), 24, '05/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '05/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '05/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '05/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '05/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '05/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '05/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '05/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '05/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '05/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '05/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '05/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), 31, '05/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '05/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '05/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '05/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '06/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '06/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '06/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '06/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '06/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '06/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '06/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '06/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '06/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '06/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '06/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '06/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), 24, '06/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '06/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '06/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '06/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '06/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '06/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '06/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '06/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '06/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '07/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '07/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '07/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '07/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '07/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), 16, '07/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '07/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '07/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '07/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '07/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '07/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '07/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), 19, '07/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '07/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '07/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '07/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), 24, '07/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '07/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '07/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), 15, '07/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '07/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '07/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '07/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '08/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '08/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '08/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '08/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '08/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), 15, '08/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '08/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '08/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '08/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '08/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '08/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), 15, '08/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '08/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '08/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '08/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '08/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '08/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '08/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '08/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '08/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '08/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '08/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '08/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '08/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '08/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '09/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '09/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '09/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '09/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '09/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '09/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '09/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '09/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '09/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '09/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '09/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '09/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '09/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), 24, '09/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '09/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '09/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '09/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '09/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '09/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '10/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '10/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), 24, '10/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '10/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '10/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '10/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '10/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '10/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '10/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '10/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '10/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '10/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '10/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '10/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '10/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '10/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '10/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '10/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '10/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '10/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), 16, '10/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '11/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '11/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '11/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '11/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '11/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '11/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '11/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '11/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '11/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '11/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '11/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '11/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '11/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), 27, '11/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '11/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '11/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '11/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '11/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '11/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), 15, '11/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '11/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '11/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '11/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '11/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '12/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '12/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '12/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '12/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '12/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '12/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '12/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '12/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '12/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '12/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '12/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '12/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '12/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '12/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), 44, '12/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '12/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '12/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '12/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '12/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '12/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '12/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '12/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '12/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '12/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '01/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '01/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '01/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '01/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '01/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '01/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '01/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '01/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '01/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '01/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '01/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '01/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '01/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '01/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '01/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '01/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '01/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '01/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '01/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '01/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '01/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '02/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '02/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '02/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '02/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '02/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '02/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '02/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '02/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '02/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '02/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '02/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '02/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '02/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '02/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '02/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '02/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '02/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), 16, '02/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '02/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '03/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '03/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '03/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), 80, '03/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '03/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '03/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '03/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '03/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '03/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '03/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '03/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '03/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '03/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '03/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '03/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '03/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '03/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '03/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '03/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '03/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '03/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '04/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '04/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '04/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '04/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '04/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '04/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '04/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '04/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '04/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '04/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '04/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '04/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '04/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '04/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '04/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '04/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '04/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '04/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), 18, '04/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '05/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '05/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '05/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '05/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '05/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '05/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '05/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '05/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '05/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '05/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '05/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '05/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '05/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '05/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '05/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '05/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '05/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '05/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '05/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '05/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '05/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '05/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '05/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '06/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), 45, '06/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '06/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '06/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '06/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '06/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), 22, '06/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '06/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '06/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), 37, '06/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '06/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), 18, '06/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '06/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '06/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '06/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '06/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '06/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '06/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '06/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '06/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '06/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '06/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '06/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '06/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '06/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '07/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '07/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '07/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '07/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '07/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '07/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '07/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), 15, '07/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '07/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '07/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '07/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '07/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '07/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '07/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '07/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '07/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '07/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), 32, '07/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '07/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '07/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '07/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '08/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '08/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), 18, '08/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '08/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '08/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '08/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '08/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '08/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '08/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '08/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '08/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '08/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), 19, '08/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '08/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '08/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '08/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '08/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '08/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '08/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '08/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '08/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '08/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '08/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '08/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '08/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '09/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '09/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '09/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '09/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '09/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '09/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '09/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '09/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '09/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '09/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '09/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '09/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '09/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '09/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '09/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '09/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '09/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '09/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '09/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '10/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '10/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '10/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '10/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '10/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '10/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '10/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '10/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '10/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '10/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '10/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), 52, '10/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '10/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '10/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '10/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '10/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '10/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '10/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '10/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '10/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '10/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '11/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '11/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '11/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '11/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '11/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '11/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '11/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '11/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '11/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '11/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '11/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '11/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '11/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '11/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '11/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '11/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '11/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '11/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '11/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '12/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '12/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '12/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '12/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '12/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '12/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '12/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '12/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '12/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '12/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -3, '12/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -2, '12/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '12/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Bleu'), -1, '12/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 41, '01/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '01/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '01/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '01/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 29, '01/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '01/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 25, '01/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '01/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '01/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '01/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '01/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '01/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '01/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '01/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 28, '01/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '01/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '01/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '01/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '01/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 48, '01/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '01/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '01/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '01/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '01/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '01/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '02/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '02/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 46, '02/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '02/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '02/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '02/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '02/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 25, '02/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '02/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '02/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '02/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '02/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '02/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '02/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '02/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 47, '02/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '02/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '02/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '02/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '02/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '02/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '03/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '03/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '03/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 29, '03/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '03/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '03/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '03/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '03/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 50, '03/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '03/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '03/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '03/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '03/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '03/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '03/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '03/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '03/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 53, '03/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '03/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '03/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 25, '03/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '03/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '03/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '03/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '03/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '03/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 25, '03/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '04/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '04/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 25, '04/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '04/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '04/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '04/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '04/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '04/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '04/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '04/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '04/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '04/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '04/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '04/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 35, '04/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '04/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '04/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '04/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '04/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '04/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 41, '04/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '04/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '04/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 25, '04/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '05/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '05/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '05/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '05/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '05/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 30, '05/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '05/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '05/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '05/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '05/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '05/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '05/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '05/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '05/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 33, '05/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '05/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '05/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '05/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '05/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '05/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 31, '05/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '05/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '05/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 33, '05/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '05/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '05/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '05/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '06/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '06/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 26, '06/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '06/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 25, '06/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '06/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '06/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '06/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '06/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '06/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '06/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '06/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '06/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '06/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '06/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 46, '06/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '06/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '06/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '06/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '06/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '06/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '06/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '06/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 46, '06/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '06/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '06/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 25, '06/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '07/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '07/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '07/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '07/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 25, '07/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '07/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '07/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '07/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '07/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '07/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '07/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '07/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '07/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 36, '07/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '07/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '07/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '07/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '07/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '07/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '07/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 44, '07/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '07/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '07/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '07/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '08/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '08/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '08/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 29, '08/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '08/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '08/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '08/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '08/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 33, '08/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '08/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '08/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '08/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '08/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '08/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '08/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 48, '08/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '08/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '08/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '08/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 26, '08/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '08/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '08/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '08/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '09/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '09/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '09/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '09/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '09/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 31, '09/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '09/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '09/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '09/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '09/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '09/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 47, '09/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '09/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '09/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '09/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '09/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '09/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '09/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '09/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '09/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 29, '09/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '09/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '09/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 25, '09/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '09/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '10/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '10/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '10/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '10/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '10/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 32, '10/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '10/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 27, '10/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '10/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '10/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '10/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '10/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '10/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '10/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 30, '10/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '10/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '10/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '10/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '10/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '10/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 38, '10/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '10/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '10/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '10/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '10/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '11/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '11/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '11/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '11/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 35, '11/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '11/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '11/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '11/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '11/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '11/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 25, '11/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '11/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '11/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '11/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '11/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 35, '11/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '11/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '11/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '11/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 36, '11/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '11/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '11/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '11/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '11/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '11/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '12/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '12/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '12/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 33, '12/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '12/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '12/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '12/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '12/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '12/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '12/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 56, '12/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '12/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '12/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '12/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '12/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '12/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '12/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '12/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '12/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 39, '12/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '12/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '12/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '01/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '01/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 28, '01/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '01/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '01/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '01/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '01/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '01/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '01/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '01/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 32, '01/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '01/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '01/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '01/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '01/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '01/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 47, '01/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '01/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '01/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '01/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '01/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '01/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '02/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '02/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 30, '02/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '02/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '02/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '02/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 37, '02/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '02/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '02/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '02/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '02/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '02/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '02/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '02/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '02/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 26, '02/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '02/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '02/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '02/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '02/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 41, '02/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '03/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '03/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '03/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '03/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '03/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '03/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 35, '03/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '03/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '03/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '03/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '03/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 36, '03/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '03/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '03/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '03/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '03/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 28, '03/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '03/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '03/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '03/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '03/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '03/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '04/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '04/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '04/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 37, '04/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '04/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '04/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '04/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '04/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 40, '04/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '04/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '04/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '04/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '04/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '04/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '04/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '04/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 51, '04/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '04/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '04/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '04/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '04/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '05/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '05/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '05/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '05/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 42, '05/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '05/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '05/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '05/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '05/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '05/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '05/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '05/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 29, '05/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '05/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '05/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '05/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '05/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 32, '05/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '05/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '05/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 28, '05/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '05/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '05/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '05/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '05/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '06/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '06/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '06/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '06/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 37, '06/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '06/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '06/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '06/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '06/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '06/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '06/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 45, '06/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '06/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '06/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '06/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '06/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '06/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '06/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '06/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 28, '06/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '06/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '06/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '07/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '07/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 36, '07/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '07/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '07/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '07/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '07/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '07/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '07/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 39, '07/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '07/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '07/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '07/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '07/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '07/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '07/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 46, '07/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '07/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 25, '07/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '07/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '07/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '07/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '07/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '07/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '08/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '08/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '08/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '08/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '08/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 53, '08/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '08/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '08/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '08/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 25, '08/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '08/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '08/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '08/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '08/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '08/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 25, '08/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '08/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '08/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 25, '08/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '08/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '08/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 25, '08/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '08/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '08/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 25, '08/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '08/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '08/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '08/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '09/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '09/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '09/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '09/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '09/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '09/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '09/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '09/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '09/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 40, '09/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '09/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '09/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '09/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '09/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '09/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '09/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '09/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 33, '09/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '09/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 25, '09/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '09/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '10/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 25, '10/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '10/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '10/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '10/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '10/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '10/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '10/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 25, '10/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '10/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '10/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '10/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '10/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '10/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '10/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '10/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '10/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 46, '10/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '10/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '10/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '10/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '10/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '10/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '10/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 25, '10/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '11/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '11/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '11/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '11/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '11/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 41, '11/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '11/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '11/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '11/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '11/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '11/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '11/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 25, '11/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '11/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '11/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '11/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '11/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 25, '11/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '11/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '11/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '11/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '12/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 47, '12/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '12/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '12/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 25, '12/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '12/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 25, '12/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '12/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '12/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '12/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '12/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 25, '12/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '12/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '12/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '12/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '12/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '12/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '12/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 25, '12/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '12/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '12/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '12/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 25, '12/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '12/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '12/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '01/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 25, '01/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '01/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '01/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 25, '01/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '01/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '01/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '01/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '01/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '01/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '01/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '01/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '01/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '01/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '01/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '01/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '01/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '01/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 52, '01/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '01/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '01/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '01/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '01/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '01/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '02/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '02/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 29, '02/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '02/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '02/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 28, '02/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '02/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 25, '02/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '02/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '02/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '02/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '02/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '02/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '02/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '02/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '02/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '02/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '02/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 37, '02/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '02/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '02/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 26, '02/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '02/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '02/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 25, '02/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '03/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '03/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '03/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '03/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '03/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '03/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '03/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '03/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '03/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '03/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 27, '03/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '03/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '03/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '03/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 44, '03/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '03/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '03/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '03/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '03/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '03/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '03/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '03/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '03/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 32, '03/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '03/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '04/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '04/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '04/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '04/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 50, '04/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '04/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '04/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 25, '04/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '04/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '04/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '04/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 25, '04/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '04/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '04/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '04/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '04/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '04/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '04/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '04/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '04/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '04/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '04/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 42, '04/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '05/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '05/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '05/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '05/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '05/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '05/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 30, '05/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '05/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '05/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '05/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 35, '05/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '05/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '05/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '05/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '05/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '05/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '05/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '05/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 30, '05/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '05/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '05/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '05/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '05/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 43, '05/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '05/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 25, '05/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '05/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '06/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '06/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '06/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '06/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '06/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '06/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '06/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '06/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 37, '06/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '06/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '06/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '06/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '06/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '06/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '06/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 41, '06/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '06/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '06/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '06/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 31, '06/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '06/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '06/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '06/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '06/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '07/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '07/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '07/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '07/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '07/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 32, '07/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '07/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 28, '07/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '07/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '07/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 25, '07/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '07/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '07/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '07/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '07/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '07/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '07/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '07/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '07/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 26, '07/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '07/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '07/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '07/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 33, '07/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '07/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '07/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '08/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '08/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '08/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '08/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 30, '08/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '08/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '08/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '08/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '08/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '08/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '08/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 31, '08/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '08/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 25, '08/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '08/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '08/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '08/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '08/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '08/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '08/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 25, '08/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '08/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '08/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '08/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '08/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '08/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '08/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 26, '08/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '09/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '09/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '09/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '09/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 51, '09/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '09/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '09/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '09/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 25, '09/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '09/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '09/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '09/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '09/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '09/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '09/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '09/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '09/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '09/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 46, '09/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '09/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '09/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '09/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '10/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '10/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '10/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '10/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 35, '10/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '10/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '10/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '10/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 25, '10/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '10/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '10/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '10/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '10/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '10/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '10/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 43, '10/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '10/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '10/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '10/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '10/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '10/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '10/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 44, '10/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '10/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '11/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '11/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '11/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '11/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '11/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '11/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '11/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 26, '11/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '11/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '11/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '11/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '11/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 29, '11/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '11/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '11/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '11/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '11/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 25, '11/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '11/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 29, '11/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '11/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 25, '11/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '11/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '11/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '11/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '11/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '11/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '11/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '12/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '12/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '12/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '12/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 42, '12/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '12/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '12/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '12/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '12/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '12/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '12/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 32, '12/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '12/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '12/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '12/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -7, '12/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), -6, '12/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Rouge'), 49, '12/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), 32, '01/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '01/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '01/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '01/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '01/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '01/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '01/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '01/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '01/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '01/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '01/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '01/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '01/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '01/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '01/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '01/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '01/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '01/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), 82, '01/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '01/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '01/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '01/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '01/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '01/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '02/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '02/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '02/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '02/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '02/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '02/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '02/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '02/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '02/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), 5, '02/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '02/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '02/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '02/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '02/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '02/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '02/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '02/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '02/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '02/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '02/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '02/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '02/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '03/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '03/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '03/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), 44, '03/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '03/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), 7, '03/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '03/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '03/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '03/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '03/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '03/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '03/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '03/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '03/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '03/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '03/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), 13, '03/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '03/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '03/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '03/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '03/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '03/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '03/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '03/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '04/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '04/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '04/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '04/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '04/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), 8, '04/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '04/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '04/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '04/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '04/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), 8, '04/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '04/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '04/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), 14, '04/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '04/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '04/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '04/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '04/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '04/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '04/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '04/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '04/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '05/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '05/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '05/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '05/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '05/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), 20, '05/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '05/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '05/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '05/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '05/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '05/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '05/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '05/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '05/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '05/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '05/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '05/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '05/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '05/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '05/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '05/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), 6, '05/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '05/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), 7, '05/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '05/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '06/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '06/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '06/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '06/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), 6, '06/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '06/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '06/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), 6, '06/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '06/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), 12, '06/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '06/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '06/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), 5, '06/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '06/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '06/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '06/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '06/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '06/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '06/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '06/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '06/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '06/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '06/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '07/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '07/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '07/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '07/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '07/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '07/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '07/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), 13, '07/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '07/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '07/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '07/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '07/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '07/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '07/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), 12, '07/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '07/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '07/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '07/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '07/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), 7, '07/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '07/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '07/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), 5, '07/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '07/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '07/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '08/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '08/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '08/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '08/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '08/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '08/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '08/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '08/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), 15, '08/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '08/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '08/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '08/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '08/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '08/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '08/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '08/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '08/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '08/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '08/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '08/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '08/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '09/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), 16, '09/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '09/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '09/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '09/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '09/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '09/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '09/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '09/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '09/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '09/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '09/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '09/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '09/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '09/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '09/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '09/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '09/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '09/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '09/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '09/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '09/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '09/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '10/01/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '10/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '10/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '10/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '10/07/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '10/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '10/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '10/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '10/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '10/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), 29, '10/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '10/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '10/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '10/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '10/21/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '10/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), 18, '10/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '10/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '10/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '10/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '10/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '10/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '10/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '10/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '11/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '11/03/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '11/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '11/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '11/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), 19, '11/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '11/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '11/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '11/12/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '11/14/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '11/16/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '11/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '11/18/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '11/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '11/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '11/24/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '11/26/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '11/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '11/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '11/29/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '11/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '12/02/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '12/04/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '12/05/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '12/06/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '12/08/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '12/09/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '12/10/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '12/11/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '12/13/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '12/15/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '12/17/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '12/19/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '12/20/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '12/22/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '12/23/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '12/25/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '12/27/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '12/28/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '12/30/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '12/31/2015');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '01/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '01/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), 61, '01/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '01/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '01/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '01/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '01/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '01/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '01/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '01/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '01/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '01/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '01/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '01/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '01/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '01/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '01/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '01/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '01/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '01/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '01/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '02/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '02/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '02/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '02/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '02/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '02/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '02/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '02/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '02/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '02/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), 55, '02/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '02/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '02/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '02/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '02/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '02/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '02/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '02/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '02/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '02/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '02/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '03/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '03/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '03/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '03/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '03/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '03/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '03/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '03/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '03/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '03/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '03/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '03/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '03/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '03/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '03/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '03/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '03/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '03/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '03/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '03/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '03/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '03/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), 26, '03/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '03/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '04/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '04/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '04/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '04/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '04/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '04/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '04/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '04/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '04/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '04/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '04/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '04/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '04/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '04/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '04/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '04/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '04/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '04/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '04/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '04/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '05/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '05/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '05/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '05/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '05/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '05/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '05/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '05/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '05/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '05/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '05/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '05/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '05/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '05/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '05/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '05/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), 49, '05/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '05/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '05/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '05/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '05/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '05/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '06/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '06/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '06/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '06/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), 34, '06/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '06/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '06/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '06/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '06/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '06/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '06/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '06/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), 9, '06/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '06/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '06/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '06/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '06/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '06/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '06/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '06/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '06/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '06/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '07/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '07/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '07/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '07/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '07/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '07/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '07/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '07/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '07/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '07/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '07/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '07/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '07/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '07/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '07/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '07/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '07/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '07/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '07/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '07/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '08/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '08/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '08/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '08/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '08/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '08/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '08/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '08/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '08/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '08/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '08/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '08/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '08/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '08/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '08/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '08/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '08/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '08/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '08/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '08/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '08/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '08/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), 16, '08/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '09/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '09/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '09/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '09/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '09/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '09/08/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '09/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '09/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '09/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), 5, '09/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '09/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '09/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), 29, '09/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '09/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '09/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), 5, '09/18/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '09/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), 43, '09/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '09/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '09/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '09/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '09/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '09/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '09/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '09/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '10/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '10/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '10/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '10/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '10/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '10/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '10/10/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '10/12/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '10/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '10/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), 13, '10/14/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '10/16/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '10/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '10/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '10/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '10/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '10/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '10/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '10/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '10/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '10/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '10/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '11/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '11/02/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '11/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '11/04/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '11/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '11/06/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '11/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '11/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '11/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '11/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '11/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '11/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '11/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '11/20/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '11/22/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '11/24/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '11/26/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '11/28/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '11/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '12/01/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '12/03/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '12/05/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '12/07/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '12/09/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '12/11/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '12/13/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '12/15/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '12/17/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '12/19/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '12/21/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '12/23/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '12/25/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '12/27/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '12/29/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '12/30/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '12/31/2016');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '01/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '01/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '01/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '01/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '01/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '01/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), 85, '01/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '01/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), 12, '01/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '01/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '01/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '01/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '01/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '01/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '01/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '01/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '01/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '01/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '01/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '01/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '01/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '01/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '01/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '02/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '02/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '02/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '02/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '02/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '02/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), 13, '02/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '02/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '02/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '02/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '02/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '02/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '02/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '02/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '02/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '02/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '02/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '02/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '02/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '03/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '03/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '03/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '03/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '03/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '03/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), 43, '03/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '03/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '03/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '03/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '03/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '03/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '03/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '03/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '03/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '03/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '03/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '03/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '03/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '03/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '03/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '03/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), 16, '03/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '03/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '03/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '04/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '04/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '04/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '04/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '04/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), 5, '04/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '04/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '04/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '04/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '04/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '04/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '04/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '04/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '04/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '04/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '04/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), 8, '04/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '04/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '04/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '04/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '04/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '04/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '05/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '05/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '05/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '05/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '05/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '05/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '05/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '05/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), 26, '05/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '05/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '05/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '05/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), 9, '05/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '05/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), 7, '05/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '05/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '05/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '05/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '05/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '05/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), 7, '05/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '05/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '05/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '05/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), 5, '05/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '06/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '06/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '06/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '06/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), 5, '06/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '06/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), 5, '06/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '06/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '06/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '06/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '06/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '06/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '06/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '06/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '06/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '06/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '06/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '06/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '06/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '06/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '07/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '07/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '07/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '07/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), 23, '07/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '07/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '07/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '07/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '07/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '07/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '07/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '07/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '07/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '07/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '07/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '07/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '07/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '07/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '07/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), 7, '07/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '07/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '07/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '07/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '08/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '08/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '08/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '08/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '08/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '08/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '08/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '08/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '08/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '08/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), 8, '08/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '08/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '08/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), 9, '08/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '08/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '08/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '08/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '08/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '08/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '08/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), 6, '08/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '08/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '08/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '08/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '09/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '09/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '09/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '09/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '09/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), 19, '09/06/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '09/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '09/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '09/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '09/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '09/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '09/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '09/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '09/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '09/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '09/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '09/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), 29, '09/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '09/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '09/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '09/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '10/01/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '10/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '10/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '10/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '10/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '10/08/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '10/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '10/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '10/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '10/15/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '10/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '10/19/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '10/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '10/23/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '10/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '10/26/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '10/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '10/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '10/31/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '11/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '11/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '11/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '11/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '11/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '11/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '11/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '11/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), 13, '11/11/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '11/13/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '11/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '11/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '11/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '11/20/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '11/21/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '11/22/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '11/24/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '11/25/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '11/27/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '11/28/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '11/29/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '11/30/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '12/02/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '12/03/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '12/04/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '12/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), 35, '12/05/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '12/07/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '12/09/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '12/10/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '12/12/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '12/14/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '12/16/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -2, '12/17/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '12/18/2017');
+INSERT INTO MOUVEMENT(nProduit, quantite, dateMouvement)
+	VALUES((SELECT nProduit FROM PRODUIT WHERE nom = 'T-shirt Vert'), -1, '12/19/2017');
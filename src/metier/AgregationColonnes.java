@@ -0,0 +1,36 @@
+package metier;
+
+/**
+ * Agrégation calculée par LecteurColonnes.
+ * 
+ * Les blocs sont lus en parallèle : chaque bloc remplit son propre
+ * accumulateur, puis les accumulateurs sont fusionnés deux à deux.
+ * 
+ * @param <A> Le type de l'accumulateur.
+ * @author jessy
+ */
+public interface AgregationColonnes<A> {
+    /**
+     * @return Un nouvel accumulateur vide.
+     */
+    A cree();
+    
+    /**
+     * Prend en compte une ligne.
+     * 
+     * @param acc L'accumulateur du bloc en cours.
+     * @param produit Identifiant du produit.
+     * @param jour Date du mouvement, en jours depuis le 1er janvier 1970.
+     * @param quantite Quantité déplacée.
+     */
+    void accepte(A acc, int produit, int jour, int quantite);
+    
+    /**
+     * Fusionne deux accumulateurs.
+     * 
+     * @param a Premier accumulateur, qui peut être réutilisé comme résultat.
+     * @param b Second accumulateur.
+     * @return L'accumulateur fusionné.
+     */
+    A fusionne(A a, A b);
+}
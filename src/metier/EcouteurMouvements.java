@@ -0,0 +1,21 @@
+package metier;
+
+import modele.Mouvement;
+
+/**
+ * Écouteur des mouvements validés en base.
+ *
+ * L'écouteur est appelé dans le thread qui a écrit le mouvement, juste après
+ * la validation : il doit rendre la main rapidement et ne pas lever
+ * d'exception.
+ *
+ * @author jessy
+ */
+public interface EcouteurMouvements {
+    /**
+     * Un mouvement vient d'être validé.
+     *
+     * @param m Le mouvement validé.
+     */
+    void mouvementValide(Mouvement m);
+}
@@ -0,0 +1,174 @@
+package metier;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+
+import java.util.*;
+import modele.*;
+
+/**
+ * Contrôle de l'empreinte mémoire du modèle.
+ *
+ * Des catalogues synthétiques de plusieurs tailles sont chargés en objets
+ * Produit et Mouvement par le code de chargement de addAllMouvementsToProduit
+ * (RequeteGestionStock.ChargementMouvements), les lignes étant générées au
+ * lieu d'être lues en base. Pour chaque taille, on mesure :
+ * <ul>
+ * <li>la mémoire retenue par mouvement, par différence du tas occupé
+ *     (MemoryMXBean) après ramasse-miettes ;</li>
+ * <li>les octets alloués par mouvement pendant le chargement, par le
+ *     compteur d'allocations du thread (com.sun.management.ThreadMXBean).</li>
+ * </ul>
+ * Chaque mesure est comparée à un budget : le programme se termine en erreur
+ * si un budget est dépassé, ce qui fait échouer la cible "memoire" du build.
+ *
+ * Aucune base n'est nécessaire : seul le modèle est mesuré, pas le pilote
+ * JDBC.
+ *
+ * @author jessy
+ */
+public class EmpreinteMemoire {
+    // Budgets par mouvement chargé, en octets. Ils supposent des références
+    // compressées, le cas par défaut pour un tas de moins de 32 Go ; on les
+    // mesure autour de 60 octets retenus et 85 alloués.
+
+    /**
+     * Mémoire retenue maximale par mouvement chargé, en octets.
+     */
+    public final static long BUDGET_RETENU = 80;
+
+    /**
+     * Octets alloués au maximum par mouvement chargé.
+     */
+    public final static long BUDGET_ALLOUE = 112;
+
+    /**
+     * Tailles testées : nombre de produits et de mouvements par produit.
+     */
+    private final static int[][] TAILLES = {
+        { 1000, 100 },
+        { 100, 10000 },
+        { 10, 100000 },
+    };
+
+    /**
+     * Catalogue chargé, gardé ici pour que la mesure du tas le compte.
+     */
+    private static List<Produit> catalogue = null;
+
+    /**
+     * Charge un catalogue synthétique.
+     *
+     * @param nbProduits Nombre de produits.
+     * @param parProduit Nombre de mouvements par produit.
+     * @return Les produits, avec leurs mouvements.
+     */
+    static List<Produit> charge(int nbProduits, int parProduit){
+        List<Produit> result = new ArrayList<>(nbProduits);
+        SplittableRandom rnd = new SplittableRandom(42);
+        long maintenant = System.currentTimeMillis();
+        int id = 0;
+
+        for(int p = 0; p < nbProduits; p++){
+            Produit produit = new Produit(p + 1, "Produit " + (p + 1), 10, 100);
+            RequeteGestionStock.ChargementMouvements chargement = new RequeteGestionStock.ChargementMouvements(produit);
+
+            // Du plus récent au plus ancien, comme la requête de chargement,
+            // avec un java.sql.Date par ligne comme le pilote JDBC.
+            long date = maintenant;
+
+            for(int i = 0; i < parProduit; i++){
+                date -= rnd.nextInt(3) * NoyauPrevision.MS_PAR_JOUR;
+                int quantite = rnd.nextInt(4) == 0 ? 1 + rnd.nextInt(50) : -1 - rnd.nextInt(5);
+                chargement.ligne(++id, quantite, new java.sql.Date(date));
+            }
+
+            chargement.termine();
+            result.add(produit);
+        }
+
+        return result;
+    }
+
+    /**
+     * Mémoire occupée dans le tas, après ramasse-miettes.
+     */
+    private static long tasOccupe(MemoryMXBean memoire) throws InterruptedException {
+        long precedent = Long.MAX_VALUE;
+
+        // On recommence tant que le ramasse-miettes libère encore quelque chose.
+        for(int i = 0; i < 10; i++){
+            memoire.gc();
+            Thread.sleep(20);
+            long occupe = memoire.getHeapMemoryUsage().getUsed();
+
+            if( occupe >= precedent )
+                return occupe;
+
+            precedent = occupe;
+        }
+
+        return precedent;
+    }
+
+    // Tests
+
+    /**
+     * Mesure chaque taille de catalogue et vérifie les budgets.
+     *
+     * @param args [budget retenu] [budget alloué], en octets par mouvement
+     * @throws Exception Toute exception qui se produit pendant le test.
+     */
+    public static void main(String[] args) throws Exception {
+        long budgetRetenu = args.length > 0 ? Long.parseLong(args[0]) : BUDGET_RETENU;
+        long budgetAlloue = args.length > 1 ? Long.parseLong(args[1]) : BUDGET_ALLOUE;
+
+        MemoryMXBean memoire = ManagementFactory.getMemoryMXBean();
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        com.sun.management.ThreadMXBean allocations = null;
+
+        if( threads instanceof com.sun.management.ThreadMXBean
+                && ((com.sun.management.ThreadMXBean) threads).isThreadAllocatedMemorySupported() ){
+            allocations = (com.sun.management.ThreadMXBean) threads;
+            allocations.setThreadAllocatedMemoryEnabled(true);
+        } else {
+            System.out.println("Compteur d'allocations indisponible : seule la mémoire retenue est vérifiée");
+        }
+
+        long thread = Thread.currentThread().getId();
+
+        // Un tour de chauffe, pour que les classes et le code soient prêts.
+        charge(100, 100);
+
+        boolean echec = false;
+        System.out.println("produits\tmouvements\tretenu/mvt\talloué/mvt\tbudget");
+
+        for(int[] taille: TAILLES){
+            long nbMouvements = (long) taille[0] * taille[1];
+            long avant = tasOccupe(memoire);
+            long alloueAvant = allocations != null ? allocations.getThreadAllocatedBytes(thread) : 0;
+
+            catalogue = charge(taille[0], taille[1]);
+
+            long alloue = allocations != null ? allocations.getThreadAllocatedBytes(thread) - alloueAvant : 0;
+            long retenu = tasOccupe(memoire) - avant;
+
+            double retenuParMvt = (double) retenu / nbMouvements;
+            double alloueParMvt = (double) alloue / nbMouvements;
+            boolean depasse = retenuParMvt > budgetRetenu || (allocations != null && alloueParMvt > budgetAlloue);
+            echec |= depasse;
+
+            System.out.printf("%d\t%d\t%.1f\t%s\t%s\n", taille[0], nbMouvements, retenuParMvt,
+                    allocations != null ? String.format("%.1f", alloueParMvt) : "-",
+                    depasse ? "BUDGET DÉPASSÉ" : "ok");
+
+            catalogue = null;
+        }
+
+        if( echec ){
+            System.out.printf("Budgets par mouvement : %d octets retenus, %d octets alloués\n", budgetRetenu, budgetAlloue);
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,283 @@
+package metier;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Export de l'historique des mouvements en fichier colonnaire.
+ *
+ * Les mouvements sont écrits par blocs de lignes. Dans chaque bloc, chaque
+ * colonne (produit, jour, quantité) est stockée à part, encodée en entiers de
+ * longueur variable. Les colonnes produit et jour sont encodées par
+ * différence avec la ligne précédente : triées, elles ne prennent souvent
+ * qu'un octet par ligne. Chaque bloc porte les minimum et maximum de ses
+ * colonnes, ce qui permet au LecteurColonnes d'ignorer les blocs hors filtre.
+ *
+ * Format du fichier :
+ * <pre>
+ * MAGIE VERSION
+ * bloc*            pour chaque colonne : les valeurs encodées
+ * répertoire       pour chaque bloc : position, lignes, tailles, min, max
+ * position du répertoire, nombre de blocs, MAGIE
+ * </pre>
+ *
+ * @author jessy
+ */
+public class ExportColonnes implements AutoCloseable {
+    /**
+     * Signature des fichiers colonnaires.
+     */
+    final static int MAGIE = 0x4D565443;
+
+    /**
+     * Version du format.
+     */
+    final static int VERSION = 1;
+
+    /**
+     * Nombre de colonnes : produit, jour, quantité.
+     */
+    final static int NB_COLONNES = 3;
+
+    /**
+     * Taille d'une entrée du répertoire, en octets.
+     */
+    final static int TAILLE_ENTREE = 8 + 4 + 3 * NB_COLONNES * 4;
+
+    /**
+     * Taille de la fin de fichier, en octets.
+     */
+    final static int TAILLE_FIN = 8 + 4 + 4;
+
+    /**
+     * Nombre de lignes par bloc par défaut.
+     */
+    public final static int LIGNES_PAR_BLOC = 65536;
+
+    /**
+     * Fichier de destination.
+     */
+    private final FileChannel canal;
+
+    /**
+     * Nombre maximal de lignes par bloc.
+     */
+    private final int lignesParBloc;
+
+    /**
+     * Valeurs encodées du bloc courant, une zone par colonne.
+     */
+    private final ByteBuffer[] colonnes = new ByteBuffer[NB_COLONNES];
+
+    /**
+     * Dernière valeur de chaque colonne, pour l'encodage par différence.
+     */
+    private final int[] precedent = new int[NB_COLONNES];
+
+    /**
+     * Minimum et maximum de chaque colonne sur le bloc courant.
+     */
+    private final int[] min = new int[NB_COLONNES], max = new int[NB_COLONNES];
+
+    /**
+     * Nombre de lignes du bloc courant.
+     */
+    private int lignes = 0;
+
+    /**
+     * Répertoire des blocs déjà écrits.
+     */
+    private ByteBuffer repertoire = ByteBuffer.allocate(64 * TAILLE_ENTREE);
+
+    /**
+     * Nombre de blocs déjà écrits.
+     */
+    private int nbBlocs = 0;
+
+    /**
+     * Nombre total de lignes écrites.
+     */
+    private long total = 0;
+
+    /**
+     * Constructeur par données.
+     *
+     * @param fichier Le fichier à créer (remplacé s'il existe).
+     * @param lignesParBloc Nombre maximal de lignes par bloc.
+     * @throws IOException Erreur d'écriture.
+     */
+    public ExportColonnes(Path fichier, int lignesParBloc) throws IOException {
+        this.lignesParBloc = lignesParBloc;
+        this.canal = FileChannel.open(fichier, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+
+        // Un entier de 32 bits prend au plus 5 octets une fois encodé.
+        for(int c = 0; c < NB_COLONNES; c++)
+            colonnes[c] = ByteBuffer.allocateDirect(5 * lignesParBloc);
+
+        ByteBuffer entete = ByteBuffer.allocate(8);
+        entete.putInt(MAGIE).putInt(VERSION).flip();
+        ecrit(entete);
+        nouveauBloc();
+    }
+
+    /**
+     * Ajoute une ligne.
+     *
+     * Les lignes devraient arriver triées par produit puis par jour pour que
+     * la compression et le filtrage par bloc soient efficaces.
+     *
+     * @param produit Identifiant du produit.
+     * @param jour Date du mouvement, en jours depuis le 1er janvier 1970.
+     * @param quantite Quantité déplacée.
+     * @throws IOException Erreur d'écriture.
+     */
+    public void ajoute(int produit, int jour, int quantite) throws IOException {
+        colonne(0, produit, true);
+        colonne(1, jour, true);
+        colonne(2, quantite, false);
+        total++;
+
+        if( ++lignes == lignesParBloc )
+            termineBloc();
+    }
+
+    /**
+     * Termine le fichier : écrit le dernier bloc et le répertoire.
+     *
+     * @throws IOException Erreur d'écriture.
+     */
+    @Override
+    public void close() throws IOException {
+        if( lignes > 0 )
+            termineBloc();
+
+        long position = canal.position();
+        repertoire.flip();
+        ecrit(repertoire);
+
+        ByteBuffer fin = ByteBuffer.allocate(TAILLE_FIN);
+        fin.putLong(position).putInt(nbBlocs).putInt(MAGIE).flip();
+        ecrit(fin);
+        canal.close();
+    }
+
+    /**
+     * @return Le nombre de lignes écrites.
+     */
+    public long getTotal(){
+        return total;
+    }
+
+    /**
+     * Exporte toute la table MOUVEMENT.
+     *
+     * @param requete La requête dont on réutilise la configuration de connexion.
+     * @param fichier Le fichier à créer.
+     * @return Le nombre de mouvements exportés.
+     * @throws SQLException Erreur SQL.
+     * @throws IOException Erreur d'écriture.
+     */
+    public static long exporte(RequeteGestionStock requete, Path fichier) throws SQLException, IOException {
+        // Connexion à part : le curseur reste ouvert pendant tout l'export.
+        Connection cnx = requete.nouvelleConnexion();
+
+        try( ExportColonnes export = new ExportColonnes(fichier, LIGNES_PAR_BLOC) ){
+            String sql = "SELECT nProduit, dateMouvement, quantite FROM Mouvement ORDER BY nProduit, dateMouvement";
+            Statement stmt = cnx.createStatement();
+            stmt.setFetchSize(10000);
+            ResultSet rs = stmt.executeQuery(sql);
+
+            while(rs.next()){
+                int jour = (int) rs.getDate(2).toLocalDate().toEpochDay();
+                export.ajoute(rs.getInt(1), jour, rs.getInt(3));
+            }
+
+            rs.close();
+            stmt.close();
+            return export.getTotal();
+        } finally {
+            cnx.close();
+        }
+    }
+
+    /**
+     * Encode une valeur dans sa colonne et met à jour les statistiques.
+     */
+    private void colonne(int c, int valeur, boolean differentiel){
+        int v = differentiel ? valeur - precedent[c] : valeur;
+        precedent[c] = valeur;
+
+        if( valeur < min[c] )
+            min[c] = valeur;
+        if( valeur > max[c] )
+            max[c] = valeur;
+
+        // ZigZag : les petites valeurs négatives restent petites.
+        int zz = (v << 1) ^ (v >> 31);
+        ByteBuffer dest = colonnes[c];
+
+        while( (zz & ~0x7F) != 0 ){
+            dest.put((byte) ((zz & 0x7F) | 0x80));
+            zz >>>= 7;
+        }
+
+        dest.put((byte) zz);
+    }
+
+    /**
+     * Écrit le bloc courant et l'ajoute au répertoire.
+     */
+    private void termineBloc() throws IOException {
+        if( repertoire.remaining() < TAILLE_ENTREE ){
+            ByteBuffer plusGrand = ByteBuffer.allocate(repertoire.capacity() * 2);
+            repertoire.flip();
+            plusGrand.put(repertoire);
+            repertoire = plusGrand;
+        }
+
+        repertoire.putLong(canal.position()).putInt(lignes);
+
+        for(int c = 0; c < NB_COLONNES; c++)
+            repertoire.putInt(colonnes[c].position());
+        for(int c = 0; c < NB_COLONNES; c++)
+            repertoire.putInt(min[c]).putInt(max[c]);
+
+        for(int c = 0; c < NB_COLONNES; c++){
+            colonnes[c].flip();
+            ecrit(colonnes[c]);
+        }
+
+        nbBlocs++;
+        nouveauBloc();
+    }
+
+    /**
+     * Remet à zéro l'état du bloc courant.
+     */
+    private void nouveauBloc(){
+        lignes = 0;
+
+        for(int c = 0; c < NB_COLONNES; c++){
+            colonnes[c].clear();
+            precedent[c] = 0;
+            min[c] = Integer.MAX_VALUE;
+            max[c] = Integer.MIN_VALUE;
+        }
+    }
+
+    /**
+     * Écrit entièrement un tampon dans le fichier.
+     */
+    private void ecrit(ByteBuffer tampon) throws IOException {
+        while( tampon.hasRemaining() )
+            canal.write(tampon);
+    }
+}
@@ -0,0 +1,409 @@
+package metier;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import java.util.*;
+import modele.*;
+
+/**
+ * Export en continu des prévisions de rupture en CSV.
+ *
+ * Les lignes sont calculées produit par produit et écrites au fur et à mesure
+ * dans un FileChannel, au travers de tampons réutilisés : le tableau complet
+ * n'est jamais construit en mémoire. Les colonnes sont celles de la fenêtre
+ * Prevision ; les lignes sont en revanche dans l'ordre des identifiants, un
+ * tri par date de rupture obligeant à tout garder en mémoire.
+ *
+ * @author jessy
+ */
+public class ExportPrevisions implements AutoCloseable {
+    /**
+     * Fichier de destination.
+     */
+    private final FileChannel canal;
+
+    /**
+     * Encodeur réutilisé d'une ligne à l'autre.
+     */
+    private final CharsetEncoder encodeur = StandardCharsets.UTF_8.newEncoder();
+
+    /**
+     * Caractères en attente d'encodage.
+     */
+    private final CharBuffer caracteres = CharBuffer.allocate(4096);
+
+    /**
+     * Octets en attente d'écriture.
+     */
+    private final ByteBuffer octets = ByteBuffer.allocateDirect(1 << 16);
+
+    /**
+     * Chiffres d'un entier, écrits de droite à gauche.
+     */
+    private final char[] chiffres = new char[20];
+
+    /**
+     * Date de référence des prévisions, en millisecondes.
+     */
+    private final long maintenant;
+
+    /**
+     * Fuseau horaire des dates affichées.
+     */
+    private final TimeZone fuseau;
+
+    /**
+     * Nombre de lignes écrites, hors en-tête.
+     */
+    private long lignes = 0;
+
+    /**
+     * Constructeur par données.
+     *
+     * @param fichier Le fichier à créer (remplacé s'il existe).
+     * @param maintenant Date de référence des prévisions, en millisecondes.
+     * @throws IOException Erreur d'écriture.
+     */
+    public ExportPrevisions(Path fichier, long maintenant) throws IOException {
+        this.maintenant = maintenant;
+        this.fuseau = TimeZone.getDefault();
+        this.canal = FileChannel.open(fichier, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+
+        texte("nProduit,nom,quantite,consommation,dateRupture\n");
+    }
+
+    /**
+     * Ajoute la prévision d'un produit dont les mouvements sont chargés.
+     *
+     * @param p Le produit.
+     * @throws IOException Erreur d'écriture.
+     */
+    public void ajoute(Produit p) throws IOException {
+        int stock = p.getQuantiteEnStock();
+        float conso = p.getConsommationJournalière(maintenant);
+        ligne(p.getId(), p.getNom(), stock, conso);
+    }
+
+    /**
+     * Ajoute la prévision d'un produit à partir de ses agrégats.
+     *
+     * @param id Identifiant du produit.
+     * @param nom Nom du produit.
+     * @param stock Quantité en stock.
+     * @param quantiteConsommee Quantité totale sortie du stock.
+     * @param premiereEntree Date de la première entrée en millisecondes, ou
+     *        NoyauPrevision.AUCUNE_DATE s'il n'y en a pas.
+     * @throws IOException Erreur d'écriture.
+     */
+    public void ajoute(int id, String nom, int stock, int quantiteConsommee, long premiereEntree) throws IOException {
+        int nbJours = premiereEntree == NoyauPrevision.AUCUNE_DATE
+                ? 0 : NoyauPrevision.joursEcoules(premiereEntree, maintenant);
+        ligne(id, nom, stock, NoyauPrevision.consommationJournaliere(quantiteConsommee, nbJours));
+    }
+
+    /**
+     * @return Le nombre de lignes écrites, hors en-tête.
+     */
+    public long getLignes(){
+        return lignes;
+    }
+
+    /**
+     * Vide les tampons et ferme le fichier.
+     *
+     * @throws IOException Erreur d'écriture.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            encode(true);
+            ecritOctets();
+        } finally {
+            canal.close();
+        }
+    }
+
+    /**
+     * Exporte les prévisions de tout le catalogue.
+     *
+     * La base calcule les agrégats de chaque produit, lus un par un au travers
+     * d'un curseur : ni les produits ni leurs mouvements ne sont chargés.
+     *
+     * @param requete La requête dont on réutilise la configuration de connexion.
+     * @param fichier Le fichier à créer.
+     * @param maintenant Date de référence des prévisions, en millisecondes.
+     * @return Le nombre de produits exportés.
+     * @throws SQLException Erreur SQL.
+     * @throws IOException Erreur d'écriture.
+     */
+    public static long exporte(RequeteGestionStock requete, Path fichier, long maintenant) throws SQLException, IOException {
+        // Connexion à part : le curseur reste ouvert pendant tout l'export.
+        Connection cnx = requete.nouvelleConnexion();
+
+        try( ExportPrevisions export = new ExportPrevisions(fichier, maintenant) ){
+            Statement stmt = cnx.createStatement();
+            stmt.setFetchSize(10000);
+            ResultSet rs = stmt.executeQuery(RequeteGestionStock.SQL_AGREGATS_PRODUITS);
+
+            while(rs.next()){
+                Date entree = rs.getDate(7);
+                export.ajoute(rs.getInt(1), rs.getString(2), rs.getInt(5), rs.getInt(6),
+                        entree != null ? entree.getTime() : NoyauPrevision.AUCUNE_DATE);
+            }
+
+            rs.close();
+            stmt.close();
+            return export.getLignes();
+        } finally {
+            cnx.close();
+        }
+    }
+
+    // Mise en forme
+
+    /**
+     * Écrit une ligne du CSV.
+     */
+    private void ligne(int id, String nom, int stock, float conso) throws IOException {
+        entier(id);
+        caractere(',');
+        champ(nom);
+        caractere(',');
+        entier(stock);
+        caractere(',');
+        decimal(conso);
+        caractere(',');
+
+        long rupture = NoyauPrevision.dateDeRupture(maintenant, stock, conso, fuseau);
+
+        if( rupture != NoyauPrevision.AUCUNE_DATE )
+            date(rupture);
+
+        caractere('\n');
+        lignes++;
+    }
+
+    /**
+     * Écrit un champ texte, entre guillemets si nécessaire.
+     */
+    private void champ(String valeur) throws IOException {
+        if( valeur.indexOf(',') < 0 && valeur.indexOf('"') < 0 && valeur.indexOf('\n') < 0 ){
+            texte(valeur);
+            return;
+        }
+
+        caractere('"');
+
+        for(int i = 0; i < valeur.length(); i++){
+            char c = valeur.charAt(i);
+
+            if( c == '"' )
+                caractere('"');
+
+            caractere(c);
+        }
+
+        caractere('"');
+    }
+
+    /**
+     * Écrit un entier en base 10.
+     */
+    private void entier(long valeur) throws IOException {
+        if( valeur < 0 ){
+            caractere('-');
+            valeur = -valeur;
+        }
+
+        int i = chiffres.length;
+
+        do {
+            chiffres[--i] = (char) ('0' + valeur % 10);
+            valeur /= 10;
+        } while( valeur != 0 );
+
+        while( i < chiffres.length )
+            caractere(chiffres[i++]);
+    }
+
+    /**
+     * Écrit un nombre avec deux décimales, comme "%.2f" avec un point.
+     */
+    private void decimal(float valeur) throws IOException {
+        long centiemes = Math.round(Math.abs((double) valeur) * 100);
+
+        if( valeur < 0 && centiemes != 0 )
+            caractere('-');
+
+        entier(centiemes / 100);
+        caractere('.');
+        caractere((char) ('0' + centiemes % 100 / 10));
+        caractere((char) ('0' + centiemes % 10));
+    }
+
+    /**
+     * Écrit une date au format yyyy-MM-dd HH:mm:ss, dans le fuseau local.
+     */
+    private void date(long ms) throws IOException {
+        long local = ms + fuseau.getOffset(ms);
+        long jour = Math.floorDiv(local, NoyauPrevision.MS_PAR_JOUR);
+        long seconde = Math.floorMod(local, NoyauPrevision.MS_PAR_JOUR) / 1000;
+
+        // Conversion d'un nombre de jours en date du calendrier grégorien.
+        long z = jour + 719468;
+        long ere = Math.floorDiv(z, 146097);
+        long jde = z - ere * 146097;
+        long ade = (jde - jde / 1460 + jde / 36524 - jde / 146096) / 365;
+        long jda = jde - (365 * ade + ade / 4 - ade / 100);
+        long mp = (5 * jda + 2) / 153;
+        long jm = jda - (153 * mp + 2) / 5 + 1;
+        long mois = mp < 10 ? mp + 3 : mp - 9;
+        long annee = ade + ere * 400 + (mois <= 2 ? 1 : 0);
+
+        entier(annee);
+        caractere('-');
+        deuxChiffres(mois);
+        caractere('-');
+        deuxChiffres(jm);
+        caractere(' ');
+        deuxChiffres(seconde / 3600);
+        caractere(':');
+        deuxChiffres(seconde / 60 % 60);
+        caractere(':');
+        deuxChiffres(seconde % 60);
+    }
+
+    /**
+     * Écrit un nombre entre 0 et 99 sur deux chiffres.
+     */
+    private void deuxChiffres(long valeur) throws IOException {
+        caractere((char) ('0' + valeur / 10));
+        caractere((char) ('0' + valeur % 10));
+    }
+
+    /**
+     * Écrit une chaîne.
+     */
+    private void texte(String s) throws IOException {
+        for(int i = 0; i < s.length(); i++)
+            caractere(s.charAt(i));
+    }
+
+    /**
+     * Écrit un caractère, en encodant le tampon s'il est plein.
+     */
+    private void caractere(char c) throws IOException {
+        if( !caracteres.hasRemaining() )
+            encode(false);
+
+        caracteres.put(c);
+    }
+
+    // Tampons
+
+    /**
+     * Encode les caractères en attente vers le tampon d'octets.
+     *
+     * @param fin true pour terminer l'encodage.
+     */
+    private void encode(boolean fin) throws IOException {
+        caracteres.flip();
+
+        while( true ){
+            CoderResult r = encodeur.encode(caracteres, octets, fin);
+
+            if( r.isOverflow() ){
+                ecritOctets();
+                continue;
+            }
+
+            if( r.isError() )
+                r.throwException();
+
+            break;
+        }
+
+        if( fin ){
+            while( encodeur.flush(octets).isOverflow() )
+                ecritOctets();
+        }
+
+        // Un caractère incomplet (demi-paire de substitution) reste en attente.
+        caracteres.compact();
+    }
+
+    /**
+     * Écrit le tampon d'octets dans le fichier.
+     */
+    private void ecritOctets() throws IOException {
+        octets.flip();
+
+        while( octets.hasRemaining() )
+            canal.write(octets);
+
+        octets.clear();
+    }
+
+    // Commande
+
+    /**
+     * Export en ligne de commande.
+     *
+     * Sans option, exporte les prévisions de la base de RequeteGestionStock.
+     * Avec "--synthetique N", exporte un catalogue généré de N produits et
+     * affiche le débit obtenu.
+     *
+     * @param args [--synthetique N] fichier
+     * @throws Exception Toute exception qui se produit pendant l'export.
+     */
+    public static void main(String[] args) throws Exception {
+        boolean synthetique = args.length > 0 && "--synthetique".equals(args[0]);
+
+        if( args.length == 0 || (synthetique && args.length < 3) ){
+            System.err.println("Usage : ExportPrevisions [--synthetique N] fichier.csv");
+            System.exit(1);
+        }
+
+        long maintenant = System.currentTimeMillis();
+        long debut = System.nanoTime();
+        long nb;
+        Path fichier;
+
+        if( synthetique ){
+            int nbProduits = Integer.parseInt(args[1]);
+            fichier = Paths.get(args[2]);
+            SplittableRandom rnd = new SplittableRandom(42);
+
+            try( ExportPrevisions export = new ExportPrevisions(fichier, maintenant) ){
+                for(int i = 1; i <= nbProduits; i++){
+                    long entree = maintenant - (30 + rnd.nextInt(1000)) * NoyauPrevision.MS_PAR_JOUR;
+                    export.ajoute(i, "Produit " + i, rnd.nextInt(500), rnd.nextInt(5000), entree);
+                }
+
+                nb = export.getLignes();
+            }
+        } else {
+            fichier = Paths.get(args[0]);
+            nb = exporte(RequeteGestionStock.getInstance(), fichier, maintenant);
+        }
+
+        double secondes = (System.nanoTime() - debut) / 1e9;
+        System.out.printf("%d lignes, %d Mo en %.2fs : %.0f lignes/s\n", nb, Files.size(fichier) >> 20, secondes, nb / secondes);
+    }
+}
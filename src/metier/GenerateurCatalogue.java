@@ -0,0 +1,344 @@
+package metier;
+
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+
+import java.util.*;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Générateur de catalogues synthétiques.
+ *
+ * Produit un catalogue et l'historique de ses mouvements, de taille et de
+ * forme configurables, et le charge directement dans une base. Pour une même
+ * graine et une même configuration, le contenu généré est toujours le même.
+ *
+ * Chaque produit reçoit ses mouvements à des dates tirées sur la période. Une
+ * fraction des mouvements sont des entrées, le reste des sorties ; les
+ * quantités suivent des lois géométriques de moyennes données. Une sortie ne
+ * fait jamais passer le stock sous zéro.
+ *
+ * @author jessy
+ */
+public class GenerateurCatalogue {
+    /**
+     * Nombre de mouvements insérés entre deux validations.
+     */
+    private final static int TAILLE_LOT = 10000;
+
+    /**
+     * Nombre de produits du catalogue.
+     */
+    private int nbProduits = 1000;
+
+    /**
+     * Nombre de mouvements de chaque produit.
+     */
+    private int mouvementsParProduit = 1600;
+
+    /**
+     * Date du premier jour de l'historique. Elle est fixe par défaut, pour
+     * que deux générations avec la même graine donnent la même base quel
+     * que soit le jour où elles sont lancées.
+     */
+    private LocalDate debut = LocalDate.of(2016, 1, 1);
+
+    /**
+     * Nombre de jours couverts par l'historique.
+     */
+    private int nbJours = 730;
+
+    /**
+     * Proportion des mouvements qui sont des entrées, entre 0 et 1.
+     */
+    private double proportionEntrees = 0.1;
+
+    /**
+     * Quantité moyenne d'une entrée.
+     */
+    private double entreeMoyenne = 40;
+
+    /**
+     * Quantité moyenne d'une sortie.
+     */
+    private double sortieMoyenne = 4;
+
+    /**
+     * Graine du générateur aléatoire.
+     */
+    private long graine = 42;
+
+    /**
+     * @param nbProduits Nombre de produits du catalogue.
+     * @return Ce générateur.
+     */
+    public GenerateurCatalogue setNbProduits(int nbProduits){
+        this.nbProduits = nbProduits;
+        return this;
+    }
+
+    /**
+     * @param mouvementsParProduit Nombre de mouvements de chaque produit.
+     * @return Ce générateur.
+     */
+    public GenerateurCatalogue setMouvementsParProduit(int mouvementsParProduit){
+        this.mouvementsParProduit = mouvementsParProduit;
+        return this;
+    }
+
+    /**
+     * @param debut Date du premier jour de l'historique.
+     * @param nbJours Nombre de jours couverts par l'historique.
+     * @return Ce générateur.
+     */
+    public GenerateurCatalogue setPeriode(LocalDate debut, int nbJours){
+        this.debut = debut;
+        this.nbJours = nbJours;
+        return this;
+    }
+
+    /**
+     * @param proportionEntrees Proportion des mouvements qui sont des entrées, entre 0 et 1.
+     * @param entreeMoyenne Quantité moyenne d'une entrée.
+     * @param sortieMoyenne Quantité moyenne d'une sortie.
+     * @return Ce générateur.
+     */
+    public GenerateurCatalogue setDistributions(double proportionEntrees, double entreeMoyenne, double sortieMoyenne){
+        this.proportionEntrees = proportionEntrees;
+        this.entreeMoyenne = entreeMoyenne;
+        this.sortieMoyenne = sortieMoyenne;
+        return this;
+    }
+
+    /**
+     * @param graine Graine du générateur aléatoire.
+     * @return Ce générateur.
+     */
+    public GenerateurCatalogue setGraine(long graine){
+        this.graine = graine;
+        return this;
+    }
+
+    /**
+     * Crée une base embarquée et y charge le catalogue généré.
+     *
+     * @param dossier Le dossier de la base, qui ne doit pas encore exister.
+     * @return Les requêtes sur la nouvelle base.
+     * @throws SQLException Erreur de la base.
+     * @throws ClassNotFoundException Driver JDBC non trouvé.
+     */
+    public RequeteGestionStock creeBaseEmbarquee(Path dossier) throws SQLException, ClassNotFoundException {
+        RequeteGestionStock result = new RequeteGestionStock("jdbc:derby:" + dossier + ";create=true", "", "");
+        Connection cnx = result.nouvelleConnexion();
+
+        try {
+            RequeteGestionStock.creeTables(cnx, 1, 1);
+            charge(cnx);
+        } finally {
+            cnx.close();
+        }
+
+        return result;
+    }
+
+    /**
+     * Charge le catalogue généré dans une base dont les tables existent.
+     *
+     * @param cnx La connexion à la base.
+     * @return Le nombre de mouvements insérés.
+     * @throws SQLException Erreur de la base.
+     */
+    public long charge(Connection cnx) throws SQLException {
+        SplittableRandom rnd = new SplittableRandom(graine);
+        boolean autoCommit = cnx.getAutoCommit();
+        cnx.setAutoCommit(false);
+
+        PreparedStatement produit = cnx.prepareStatement(
+                "INSERT INTO Produit(nom, stockMin, stockMax) VALUES(?, ?, ?)", Statement.RETURN_GENERATED_KEYS);
+        PreparedStatement mouvement = cnx.prepareStatement(
+                "INSERT INTO Mouvement(nProduit, quantite, dateMouvement) VALUES(?, ?, ?)");
+
+        // Les dates sont préparées une fois pour toutes.
+        java.sql.Date[] dates = new java.sql.Date[nbJours];
+
+        for(int j = 0; j < nbJours; j++)
+            dates[j] = java.sql.Date.valueOf(debut.plusDays(j));
+
+        int[] jours = new int[mouvementsParProduit];
+        long total = 0;
+
+        try {
+            for(int p = 0; p < nbProduits; p++){
+                // Le produit
+                int stockMin = 5 + rnd.nextInt(20);
+                produit.setString(1, "Produit " + (p + 1));
+                produit.setInt(2, stockMin);
+                produit.setInt(3, stockMin * (3 + rnd.nextInt(5)));
+                produit.executeUpdate();
+
+                ResultSet ids = produit.getGeneratedKeys();
+                ids.next();
+                int id = ids.getInt(1);
+                ids.close();
+
+                // Ses mouvements, dans l'ordre chronologique. Le premier est
+                // toujours une entrée.
+                for(int i = 0; i < jours.length; i++)
+                    jours[i] = rnd.nextInt(nbJours);
+
+                Arrays.sort(jours);
+                int stock = 0;
+
+                for(int i = 0; i < jours.length; i++){
+                    int quantite;
+
+                    if( i == 0 || stock == 0 || rnd.nextDouble() < proportionEntrees )
+                        quantite = geometrique(rnd, entreeMoyenne);
+                    else
+                        quantite = -Math.min(stock, geometrique(rnd, sortieMoyenne));
+
+                    stock += quantite;
+                    mouvement.setInt(1, id);
+                    mouvement.setInt(2, quantite);
+                    mouvement.setDate(3, dates[jours[i]]);
+                    mouvement.addBatch();
+
+                    if( ++total % TAILLE_LOT == 0 ){
+                        mouvement.executeBatch();
+                        cnx.commit();
+                    }
+                }
+            }
+
+            mouvement.executeBatch();
+            cnx.commit();
+        } catch( SQLException e ){
+            cnx.rollback();
+            throw e;
+        } finally {
+            produit.close();
+            mouvement.close();
+            cnx.setAutoCommit(autoCommit);
+        }
+
+        return total;
+    }
+
+    /**
+     * Tire une quantité strictement positive selon une loi géométrique.
+     */
+    private static int geometrique(SplittableRandom rnd, double moyenne){
+        if( moyenne <= 1 )
+            return 1;
+
+        double u = 1 - rnd.nextDouble();
+        return 1 + (int) (Math.log(u) / Math.log(1 - 1 / moyenne));
+    }
+
+    // Bases temporaires
+
+    /**
+     * Ferme une base créée par creeBaseEmbarquee() dans un dossier
+     * temporaire, l'arrête, puis supprime le dossier temporaire.
+     *
+     * @param requete Les requêtes sur la base, ou null si elle n'a pas été créée.
+     * @param dossier Le dossier de la base.
+     * @param temporaire Le dossier temporaire qui contient la base, à supprimer.
+     * @throws SQLException Erreur à la fermeture des connexions.
+     * @throws IOException Si un fichier ne peut pas être supprimé.
+     */
+    static void supprimeBaseTemporaire(RequeteGestionStock requete, Path dossier, Path temporaire) throws SQLException, IOException {
+        try {
+            if( requete != null )
+                requete.fermer();
+        } finally {
+            // Derby garde les fichiers d'une base ouverts jusqu'à son arrêt.
+            arreteDerby("jdbc:derby:" + dossier);
+            supprime(temporaire);
+        }
+    }
+
+    /**
+     * Arrête une base embarquée, ou tout le moteur Derby avec "jdbc:derby:".
+     *
+     * @param url L'URL de la base, sans attribut.
+     */
+    static void arreteDerby(String url){
+        try {
+            DriverManager.getConnection(url + ";shutdown=true");
+        } catch( SQLException e ){
+            // Derby signale un arrêt réussi par une exception : XJ015 pour le
+            // moteur, 08006 pour une base.
+            if( !"XJ015".equals(e.getSQLState()) && !"08006".equals(e.getSQLState()) )
+                Logger.getLogger(GenerateurCatalogue.class.getName()).log(Level.WARNING, null, e);
+        }
+    }
+
+    /**
+     * Supprime un dossier et tout son contenu.
+     *
+     * @param dossier Le dossier à supprimer.
+     * @throws IOException Si un fichier ne peut pas être supprimé.
+     */
+    static void supprime(Path dossier) throws IOException {
+        Files.walkFileTree(dossier, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult visitFile(Path fichier, BasicFileAttributes attributs) throws IOException {
+                Files.delete(fichier);
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult postVisitDirectory(Path courant, IOException e) throws IOException {
+                if( e != null )
+                    throw e;
+
+                Files.delete(courant);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    // Commande
+
+    /**
+     * Génère une base embarquée, par exemple pour mesurer le démarrage des
+     * fenêtres sur un gros catalogue :
+     * java -Dgestionstock.url=jdbc:derby:dossier vuecontrole.Accueil
+     *
+     * @param args dossier [produits] [mouvements par produit]
+     * @throws Exception Toute exception qui se produit pendant la génération.
+     */
+    public static void main(String[] args) throws Exception {
+        if( args.length == 0 ){
+            System.err.println("Usage : GenerateurCatalogue dossier [produits] [mouvements par produit]");
+            System.exit(1);
+        }
+
+        Path dossier = Paths.get(args[0]).toAbsolutePath();
+        GenerateurCatalogue generateur = new GenerateurCatalogue();
+
+        if( args.length > 1 )
+            generateur.setNbProduits(Integer.parseInt(args[1]));
+
+        if( args.length > 2 )
+            generateur.setMouvementsParProduit(Integer.parseInt(args[2]));
+
+        long debut = System.nanoTime();
+        generateur.creeBaseEmbarquee(dossier).fermer();
+        System.out.printf("Base générée en %.1fs : -Dgestionstock.url=jdbc:derby:%s\n", (System.nanoTime() - debut) / 1e9, dossier);
+    }
+}
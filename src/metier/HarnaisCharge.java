@@ -0,0 +1,225 @@
+package metier;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+import modele.*;
+
+/**
+ * Banc de charge de RequeteGestionStock.
+ *
+ * Plusieurs threads enchaînent des opérations tirées au hasard selon des
+ * proportions données : recherches par nom, ajouts de mouvements et
+ * prévisions d'un produit (chargement de ses mouvements puis calcul de la
+ * date de rupture). La latence de chaque opération est enregistrée par type,
+ * et le débit global est mesuré sur la durée du test.
+ *
+ * @author jessy
+ */
+public class HarnaisCharge {
+    /**
+     * Les types d'opérations du banc.
+     */
+    public enum Operation {
+        RECHERCHE, MOUVEMENT, PREVISION
+    }
+
+    /**
+     * Les requêtes testées.
+     */
+    private final RequeteGestionStock requete;
+
+    /**
+     * Les produits du catalogue, cibles des opérations.
+     */
+    private final List<Produit> produits;
+
+    /**
+     * Poids cumulés des opérations, dans l'ordre de l'énumération.
+     */
+    private final int[] poids = new int[Operation.values().length];
+
+    /**
+     * Latences de chaque type d'opération.
+     */
+    private final Latences[] latences = new Latences[Operation.values().length];
+
+    /**
+     * Nombre d'opérations en erreur.
+     */
+    private final LongAdder erreurs = new LongAdder();
+
+    /**
+     * Constructeur par données.
+     *
+     * @param requete Les requêtes à tester.
+     * @param recherches Poids des recherches dans le mélange.
+     * @param mouvements Poids des ajouts de mouvements dans le mélange.
+     * @param previsions Poids des prévisions dans le mélange.
+     * @throws SQLException Erreur au chargement du catalogue.
+     */
+    public HarnaisCharge(RequeteGestionStock requete, int recherches, int mouvements, int previsions) throws SQLException {
+        this.requete = requete;
+        this.produits = requete.ensProduits();
+
+        if( produits.isEmpty() )
+            throw new IllegalStateException("Catalogue vide");
+
+        poids[Operation.RECHERCHE.ordinal()] = recherches;
+        poids[Operation.MOUVEMENT.ordinal()] = recherches + mouvements;
+        poids[Operation.PREVISION.ordinal()] = recherches + mouvements + previsions;
+
+        for(int i = 0; i < latences.length; i++)
+            latences[i] = new Latences();
+    }
+
+    /**
+     * Lance le banc.
+     *
+     * @param nbThreads Nombre de threads clients.
+     * @param operationsParThread Nombre d'opérations de chaque thread.
+     * @param graine Graine des tirages, dérivée pour chaque thread.
+     * @return Le débit obtenu, en opérations par seconde.
+     * @throws InterruptedException Interruption pendant l'attente des threads.
+     * @throws ExecutionException Erreur inattendue d'un thread.
+     */
+    public double lance(int nbThreads, final int operationsParThread, long graine) throws InterruptedException, ExecutionException {
+        ExecutorService pool = Executors.newFixedThreadPool(nbThreads);
+        SplittableRandom racine = new SplittableRandom(graine);
+        List<Future<?>> taches = new ArrayList<>();
+        long debut = System.nanoTime();
+
+        for(int t = 0; t < nbThreads; t++){
+            final SplittableRandom rnd = racine.split();
+            taches.add(pool.submit(new Callable<Void>() {
+                @Override
+                public Void call() {
+                    for(int i = 0; i < operationsParThread; i++)
+                        execute(rnd);
+                    return null;
+                }
+            }));
+        }
+
+        try {
+            for(Future<?> f: taches)
+                f.get();
+        } finally {
+            pool.shutdown();
+        }
+
+        return (double) nbThreads * operationsParThread / ((System.nanoTime() - debut) / 1e9);
+    }
+
+    /**
+     * @param op Un type d'opération.
+     * @return Les latences mesurées pour ce type.
+     */
+    public Latences getLatences(Operation op){
+        return latences[op.ordinal()];
+    }
+
+    /**
+     * @return Le nombre d'opérations en erreur.
+     */
+    public long getErreurs(){
+        return erreurs.sum();
+    }
+
+    /**
+     * Tire et exécute une opération, en mesurant sa durée.
+     */
+    private void execute(SplittableRandom rnd){
+        Operation op = tire(rnd);
+        Produit p = produits.get(rnd.nextInt(produits.size()));
+        long debut = System.nanoTime();
+
+        try {
+            switch( op ){
+                case RECHERCHE:
+                    // Un préfixe du nom, pour une recherche qui ramène plusieurs produits.
+                    String nom = p.getNom();
+                    requete.ensProduits(nom.substring(0, Math.max(1, nom.length() - 1)));
+                    break;
+                case MOUVEMENT:
+                    requete.ajouteMouvementConditionnel(p, rnd.nextInt(4) == 0 ? 1 + rnd.nextInt(20) : -1 - rnd.nextInt(5), true);
+                    break;
+                case PREVISION:
+                    // Un produit neuf, pour recharger tout son historique.
+                    Produit q = requete.produit(p.getId());
+                    requete.addAllMouvementsToProduit(q);
+                    q.dateDeRupture(System.currentTimeMillis(), TimeZone.getDefault());
+                    break;
+            }
+        } catch( SQLException e ){
+            erreurs.increment();
+            return;
+        }
+
+        latences[op.ordinal()].ajoute(System.nanoTime() - debut);
+    }
+
+    /**
+     * Tire un type d'opération selon les poids.
+     */
+    private Operation tire(SplittableRandom rnd){
+        int r = rnd.nextInt(poids[poids.length - 1]);
+
+        for(int i = 0; i < poids.length; i++)
+            if( r < poids[i] )
+                return Operation.values()[i];
+
+        return Operation.PREVISION;
+    }
+
+    // Tests
+
+    /**
+     * Génère un catalogue dans une base embarquée temporaire, puis y lance le
+     * banc avec un nombre croissant de threads. La base est arrêtée et son
+     * dossier supprimé à la fin.
+     *
+     * @param args [produits] [mouvements par produit] [opérations par thread]
+     *        [poids recherche] [poids mouvement] [poids prévision]
+     * @throws Exception Toute exception qui se produit pendant le test.
+     */
+    public static void main(String[] args) throws Exception {
+        int nbProduits = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        int parProduit = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+        int operations = args.length > 2 ? Integer.parseInt(args[2]) : 500;
+        int recherches = args.length > 3 ? Integer.parseInt(args[3]) : 30;
+        int mouvements = args.length > 4 ? Integer.parseInt(args[4]) : 60;
+        int previsions = args.length > 5 ? Integer.parseInt(args[5]) : 10;
+
+        Path temporaire = Files.createTempDirectory("charge-");
+        Path dossier = temporaire.resolve("base");
+        RequeteGestionStock requete = null;
+
+        try {
+            long debut = System.nanoTime();
+            requete = new GenerateurCatalogue()
+                    .setNbProduits(nbProduits)
+                    .setMouvementsParProduit(parProduit)
+                    .creeBaseEmbarquee(dossier);
+            System.out.printf("Génération : %d produits, %d mouvements en %.1fs (%s)\n",
+                    nbProduits, (long) nbProduits * parProduit, (System.nanoTime() - debut) / 1e9, dossier);
+
+            for(int threads = 1; threads <= 2 * Runtime.getRuntime().availableProcessors(); threads *= 2){
+                HarnaisCharge banc = new HarnaisCharge(requete, recherches, mouvements, previsions);
+                double debit = banc.lance(threads, operations, 42);
+
+                System.out.printf("%d threads : %.0f op/s, %d erreurs\n", threads, debit, banc.getErreurs());
+
+                for(Operation op: Operation.values())
+                    System.out.printf("\t%-10s %s\n", op, banc.getLatences(op));
+            }
+        } finally {
+            GenerateurCatalogue.supprimeBaseTemporaire(requete, dossier, temporaire);
+            GenerateurCatalogue.arreteDerby("jdbc:derby:");
+        }
+    }
+}
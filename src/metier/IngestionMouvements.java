@@ -0,0 +1,500 @@
+package metier;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import modele.*;
+
+/**
+ * File d'ingestion des mouvements.
+ *
+ * Cette classe accepte des mouvements depuis plusieurs sources concurrentes
+ * (scanners, imports...) et les écrit en base par lots. Un unique thread
+ * rédacteur vide la file et regroupe les insertions dans une seule transaction,
+ * ce qui évite de payer une validation par mouvement comme le fait
+ * RequeteGestionStock.ajouteMouvement().
+ *
+ * Une demande refusée par la base ne fait échouer qu'elle-même : le lot est
+ * annulé puis réécrit sans elle.
+ *
+ * La file est bornée : quand elle est pleine, les producteurs sont bloqués
+ * jusqu'à ce que le rédacteur ait rattrapé son retard. Une fois l'ingestion
+ * arrêtée, ou le rédacteur tombé sur une erreur de la base, toute demande qui
+ * n'a pas été écrite échoue : aucun futur ne reste sans réponse.
+ *
+ * @author jessy
+ */
+public class IngestionMouvements {
+    /**
+     * Intervalle, en nanosecondes, auquel un producteur bloqué vérifie que
+     * l'ingestion est toujours active.
+     */
+    private final static long ATTENTE = TimeUnit.MILLISECONDS.toNanos(50);
+
+    /**
+     * Une demande de mouvement en attente d'écriture.
+     */
+    private static class Demande {
+        private final Produit produit;
+        private final int quantite;
+        private final Date date;
+        private final CompletableFuture<Mouvement> resultat = new CompletableFuture<>();
+
+        private Demande(Produit produit, int quantite) {
+            this.produit = produit;
+            this.quantite = quantite;
+            this.date = new Date();
+        }
+    }
+
+    /**
+     * File des demandes en attente.
+     */
+    private final BlockingQueue<Demande> file;
+
+    /**
+     * Nombre maximal de mouvements validés dans une même transaction.
+     */
+    private final int tailleLot;
+
+    /**
+     * Temps maximal d'attente pour compléter un lot, en nanosecondes.
+     */
+    private final long latenceMax;
+
+    /**
+     * Requêtes dont les écouteurs sont prévenus des mouvements écrits.
+     */
+    private final RequeteGestionStock requete;
+
+    /**
+     * Connexion propre au rédacteur, hors auto-commit.
+     */
+    private final Connection connection;
+
+    /**
+     * Thread rédacteur.
+     */
+    private final Thread redacteur;
+
+    /**
+     * Passe à false quand on demande l'arrêt.
+     */
+    private volatile boolean actif = true;
+
+    /**
+     * Passe à true quand le rédacteur a fini : plus rien ne sera écrit.
+     */
+    private volatile boolean termine = false;
+
+    /**
+     * Erreur de la base qui a arrêté le rédacteur, s'il y en a une.
+     */
+    private volatile SQLException cause = null;
+
+    /**
+     * Durées des validations.
+     */
+    private final Latences latencesCommit = new Latences();
+
+    /**
+     * Nombre de transactions validées.
+     */
+    private final AtomicLong nbCommits = new AtomicLong();
+
+    /**
+     * Constructeur par données.
+     *
+     * @param requete La requête dont on réutilise la configuration de connexion.
+     * @param capacite Nombre maximal de demandes en attente avant de bloquer les producteurs.
+     * @param tailleLot Nombre maximal de mouvements par transaction.
+     * @param latenceMaxMs Temps maximal, en millisecondes, pendant lequel un lot attend d'être complété.
+     * @throws SQLException Erreur de la base.
+     */
+    public IngestionMouvements(RequeteGestionStock requete, int capacite, int tailleLot, long latenceMaxMs) throws SQLException {
+        if( capacite <= 0 || tailleLot <= 0 || latenceMaxMs < 0 )
+            throw new IllegalArgumentException("Paramètres d'ingestion invalides");
+
+        this.file = new ArrayBlockingQueue<>(capacite);
+        this.tailleLot = tailleLot;
+        this.latenceMax = TimeUnit.MILLISECONDS.toNanos(latenceMaxMs);
+
+        // Le rédacteur gère lui-même ses transactions.
+        this.requete = requete;
+        this.connection = requete.nouvelleConnexion();
+        this.connection.setAutoCommit(false);
+
+        this.redacteur = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                boucleRedacteur();
+            }
+        }, "ingestion-mouvements");
+        this.redacteur.setDaemon(true);
+        this.redacteur.start();
+    }
+
+    /**
+     * Soumet un mouvement.
+     *
+     * Bloque tant que la file est pleine.
+     *
+     * @param p Le produit en question.
+     * @param quantite La quantité de produit à déplacer.
+     * @return Un futur complété avec le mouvement créé une fois la transaction validée.
+     * @throws InterruptedException Si le thread est interrompu pendant l'attente.
+     * @throws RejectedExecutionException Si l'ingestion est arrêtée, éventuellement pendant l'attente.
+     * @warning Le mouvement n'est pas ajouté à l'objet Produit : c'est à
+     *          l'appelant de le faire depuis son propre thread.
+     */
+    public CompletableFuture<Mouvement> soumettre(Produit p, int quantite) throws InterruptedException {
+        verifieActif();
+
+        Demande d = new Demande(p, quantite);
+
+        // Pas de put() : un producteur bloqué doit voir l'arrêt du rédacteur.
+        while( !file.offer(d, ATTENTE, TimeUnit.NANOSECONDS) )
+            verifieActif();
+
+        apresDepot();
+        return d.resultat;
+    }
+
+    /**
+     * Soumet un mouvement, en attendant au plus le délai donné si la file est pleine.
+     *
+     * @param p Le produit en question.
+     * @param quantite La quantité de produit à déplacer.
+     * @param delai Le délai d'attente maximal.
+     * @param unite L'unité du délai.
+     * @return Un futur complété avec le mouvement créé, ou null si la file est restée pleine.
+     * @throws InterruptedException Si le thread est interrompu pendant l'attente.
+     * @throws RejectedExecutionException Si l'ingestion est arrêtée, éventuellement pendant l'attente.
+     */
+    public CompletableFuture<Mouvement> essayerSoumettre(Produit p, int quantite, long delai, TimeUnit unite) throws InterruptedException {
+        verifieActif();
+
+        Demande d = new Demande(p, quantite);
+        long limite = System.nanoTime() + unite.toNanos(delai);
+
+        while( !file.offer(d, Math.max(0, Math.min(ATTENTE, limite - System.nanoTime())), TimeUnit.NANOSECONDS) ){
+            verifieActif();
+
+            if( System.nanoTime() - limite >= 0 )
+                return null;
+        }
+
+        apresDepot();
+        return d.resultat;
+    }
+
+    /**
+     * Arrête l'ingestion.
+     *
+     * Les demandes déjà soumises sont écrites avant l'arrêt.
+     *
+     * @throws InterruptedException Si le thread est interrompu pendant l'attente.
+     * @throws SQLException Erreur à la fermeture de la connexion.
+     */
+    public void fermer() throws InterruptedException, SQLException {
+        actif = false;
+        redacteur.join();
+        connection.close();
+    }
+
+    /**
+     * @return Le nombre de transactions validées jusqu'ici.
+     */
+    public long getNbCommits(){
+        return nbCommits.get();
+    }
+
+    /**
+     * @return Les durées mesurées des validations.
+     */
+    public Latences getLatencesCommit(){
+        return latencesCommit;
+    }
+
+    /**
+     * Refuse les soumissions après l'arrêt.
+     */
+    private void verifieActif(){
+        if( !actif )
+            throw new RejectedExecutionException("Ingestion arrêtée", cause);
+    }
+
+    /**
+     * Rattrape une demande déposée après le dernier passage du rédacteur.
+     *
+     * Le rédacteur signale sa fin avant de vider la file une dernière fois,
+     * et le producteur dépose sa demande avant de lire ce signal : soit le
+     * rédacteur voit la demande, soit le producteur voit la fin et fait
+     * échouer ce qui reste.
+     */
+    private void apresDepot(){
+        if( termine )
+            purge();
+    }
+
+    /**
+     * Fait échouer toutes les demandes encore dans la file.
+     */
+    private void purge(){
+        List<Demande> restantes = new ArrayList<>();
+        file.drainTo(restantes);
+        echoue(restantes, new RejectedExecutionException("Ingestion arrêtée", cause));
+    }
+
+    /**
+     * Boucle du thread rédacteur : collecte un lot puis l'écrit.
+     */
+    private void boucleRedacteur(){
+        List<Demande> lot = new ArrayList<>(tailleLot);
+        PreparedStatement stmt = null;
+
+        try {
+            String sql = "INSERT INTO Mouvement(nProduit, quantite, dateMouvement) VALUES(?, ?, ?)";
+            stmt = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+
+            // On continue tant qu'on est actif ou qu'il reste des demandes.
+            while( actif || !file.isEmpty() ){
+                // On attend la première demande du lot.
+                Demande premiere = file.poll(50, TimeUnit.MILLISECONDS);
+
+                if( premiere == null )
+                    continue;
+
+                lot.add(premiere);
+
+                // Puis on complète le lot jusqu'à sa taille maximale, sans
+                // dépasser la latence autorisée.
+                long limite = System.nanoTime() + latenceMax;
+
+                while( lot.size() < tailleLot ){
+                    // On prend d'abord ce qui est déjà disponible sans attendre.
+                    if( file.drainTo(lot, tailleLot - lot.size()) > 0 )
+                        continue;
+
+                    long reste = limite - System.nanoTime();
+
+                    if( reste <= 0 )
+                        break;
+
+                    Demande suivante = file.poll(reste, TimeUnit.NANOSECONDS);
+
+                    if( suivante == null )
+                        break;
+
+                    lot.add(suivante);
+                }
+
+                ecritLot(stmt, lot);
+                lot.clear();
+            }
+        } catch( SQLException e ){
+            // Plus rien ne peut être écrit : on fait échouer tout ce qui reste.
+            cause = e;
+            actif = false;
+            echoue(lot, e);
+
+            List<Demande> restantes = new ArrayList<>();
+            file.drainTo(restantes);
+            echoue(restantes, e);
+        } catch( InterruptedException e ){
+            Thread.currentThread().interrupt();
+        } finally {
+            // Les demandes arrivées entre-temps, ou un lot interrompu, ne
+            // seront jamais écrites.
+            actif = false;
+            termine = true;
+            echoue(lot, new RejectedExecutionException("Ingestion arrêtée", cause));
+            purge();
+
+            if( stmt != null ){
+                try {
+                    stmt.close();
+                } catch( SQLException e ){
+                    Logger.getLogger(IngestionMouvements.class.getName()).log(Level.WARNING, null, e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Écrit un lot de demandes dans une seule transaction.
+     *
+     * Si l'insertion d'une demande échoue, la transaction est annulée, seule
+     * cette demande échoue, et les autres sont réécrites. Un échec de la
+     * validation elle-même fait échouer tout le lot.
+     *
+     * @param stmt La requête d'insertion préparée.
+     * @param lot Les demandes à écrire.
+     * @throws SQLException Si la connexion n'est plus utilisable.
+     */
+    private void ecritLot(PreparedStatement stmt, List<Demande> lot) throws SQLException {
+        List<Demande> restantes = new ArrayList<>(lot);
+
+        while( !restantes.isEmpty() ){
+            Mouvement[] crees = new Mouvement[restantes.size()];
+            int enCours = 0;
+
+            try {
+                for(; enCours < restantes.size(); enCours++)
+                    crees[enCours] = insere(stmt, restantes.get(enCours));
+
+                // Une seule validation pour tout le lot.
+                enCours = -1;
+                long debut = System.nanoTime();
+                connection.commit();
+                latencesCommit.ajoute(System.nanoTime() - debut);
+                nbCommits.incrementAndGet();
+            } catch( SQLException e ){
+                annule(stmt, e);
+
+                // La connexion est perdue : le rédacteur s'arrête.
+                if( e.getSQLState() != null && e.getSQLState().startsWith("08") )
+                    throw e;
+
+                if( enCours < 0 ){
+                    echoue(restantes, e);
+                    return;
+                }
+
+                // On écarte la demande fautive et on rejoue les autres.
+                restantes.remove(enCours).resultat.completeExceptionally(e);
+                continue;
+            }
+
+            // Les futurs ne sont complétés qu'une fois la transaction validée.
+            for(int i = 0; i < restantes.size(); i++){
+                requete.notifie(crees[i]);
+                restantes.get(i).resultat.complete(crees[i]);
+            }
+
+            return;
+        }
+    }
+
+    /**
+     * Insère une demande, sans valider la transaction.
+     *
+     * @param stmt La requête d'insertion préparée.
+     * @param d La demande à écrire.
+     * @return Le mouvement créé.
+     * @throws SQLException Si l'insertion échoue.
+     */
+    private static Mouvement insere(PreparedStatement stmt, Demande d) throws SQLException {
+        stmt.setInt(1, d.produit.getId());
+        stmt.setInt(2, d.quantite);
+        stmt.setDate(3, new java.sql.Date(d.date.getTime()));
+        stmt.executeUpdate();
+
+        // On récupère l'ID généré pour recréer le mouvement.
+        ResultSet ids = stmt.getGeneratedKeys();
+
+        if( ids == null )
+            throw new SQLException("Aucun identifiant généré pour le mouvement");
+
+        try {
+            if( !ids.next() )
+                throw new SQLException("Aucun identifiant généré pour le mouvement");
+
+            return new Mouvement(ids.getInt(1), d.produit, d.date, d.quantite);
+        } finally {
+            ids.close();
+        }
+    }
+
+    /**
+     * Remet la requête à zéro et annule la transaction en cours.
+     *
+     * @param stmt La requête d'insertion préparée.
+     * @param e L'erreur qui a provoqué l'annulation.
+     * @throws SQLException L'erreur d'origine, si l'annulation échoue : la
+     *         connexion n'est alors plus utilisable.
+     */
+    private void annule(PreparedStatement stmt, SQLException e) throws SQLException {
+        try {
+            stmt.clearParameters();
+            connection.rollback();
+        } catch( SQLException r ){
+            e.addSuppressed(r);
+            throw e;
+        }
+    }
+
+    /**
+     * Fait échouer une liste de demandes.
+     *
+     * @param demandes Les demandes concernées.
+     * @param cause L'erreur rencontrée.
+     */
+    private static void echoue(List<Demande> demandes, Throwable cause){
+        for(Demande d: demandes)
+            d.resultat.completeExceptionally(cause);
+    }
+
+    // Tests
+
+    /**
+     * Test de charge de l'ingestion.
+     *
+     * Plusieurs producteurs soumettent en parallèle des mouvements alternant
+     * +1 et -1 sur le premier produit, pour laisser son stock inchangé.
+     *
+     * @param args [producteurs] [mouvements par producteur] [taille de lot] [latence max en ms]
+     * @throws Exception Toute exception qui se produit pendant le test.
+     */
+    public static void main(String[] args) throws Exception {
+        int nbProducteurs = args.length > 0 ? Integer.parseInt(args[0]) : 8;
+        final int parProducteur = args.length > 1 ? Integer.parseInt(args[1]) : 5000;
+        int tailleLot = args.length > 2 ? Integer.parseInt(args[2]) : 256;
+        long latenceMs = args.length > 3 ? Long.parseLong(args[3]) : 5;
+
+        RequeteGestionStock rq = RequeteGestionStock.getInstance();
+        final Produit produit = rq.ensProduits().get(0);
+        final IngestionMouvements ingestion = new IngestionMouvements(rq, 4 * tailleLot, tailleLot, latenceMs);
+
+        ExecutorService producteurs = Executors.newFixedThreadPool(nbProducteurs);
+        List<Future<CompletableFuture<Mouvement>>> derniers = new ArrayList<>();
+
+        long debut = System.nanoTime();
+
+        for(int i = 0; i < nbProducteurs; i++){
+            derniers.add(producteurs.submit(new Callable<CompletableFuture<Mouvement>>() {
+                @Override
+                public CompletableFuture<Mouvement> call() throws Exception {
+                    CompletableFuture<Mouvement> dernier = null;
+
+                    for(int j = 0; j < parProducteur; j++)
+                        dernier = ingestion.soumettre(produit, j % 2 == 0 ? 1 : -1);
+
+                    return dernier;
+                }
+            }));
+        }
+
+        // Le rédacteur écrit dans l'ordre : attendre le dernier futur de chaque
+        // producteur suffit.
+        for(Future<CompletableFuture<Mouvement>> f: derniers)
+            f.get().get();
+
+        double secondes = (System.nanoTime() - debut) / 1e9;
+        producteurs.shutdown();
+        ingestion.fermer();
+
+        long total = (long) nbProducteurs * parProducteur;
+        System.out.printf("%d mouvements en %.2fs : %.0f mouvements/s\n", total, secondes, total / secondes);
+        System.out.printf("%d commits (%.1f mouvements/commit)\n", ingestion.getNbCommits(), (double) total / ingestion.getNbCommits());
+        System.out.printf("Latence des commits : %s\n", ingestion.getLatencesCommit());
+    }
+}
@@ -0,0 +1,70 @@
+package metier;
+
+import java.util.Arrays;
+
+/**
+ * Collecte de mesures de latence.
+ *
+ * Accumule des durées en nanosecondes et calcule leurs percentiles. Utilisée
+ * par les différents tests de charge pour présenter leurs résultats.
+ *
+ * @author jessy
+ */
+public class Latences {
+    /**
+     * Mesures enregistrées, en nanosecondes.
+     */
+    private long[] mesures = new long[1024];
+
+    /**
+     * Nombre de mesures enregistrées.
+     */
+    private int nombre = 0;
+
+    /**
+     * Enregistre une mesure.
+     *
+     * @param nanos La durée mesurée, en nanosecondes.
+     */
+    public synchronized void ajoute(long nanos){
+        // On agrandit le tableau si nécessaire.
+        if( nombre == mesures.length )
+            mesures = Arrays.copyOf(mesures, nombre * 2);
+
+        mesures[nombre++] = nanos;
+    }
+
+    /**
+     * @return Le nombre de mesures enregistrées.
+     */
+    public synchronized int getNombre(){
+        return nombre;
+    }
+
+    /**
+     * Calcule un percentile des mesures.
+     *
+     * @param p Le percentile voulu, entre 0 et 100.
+     * @return La valeur du percentile en nanosecondes, ou 0 sans mesure.
+     */
+    public synchronized long percentile(double p){
+        if( nombre == 0 )
+            return 0;
+
+        // On trie une copie pour ne pas perturber les ajouts suivants.
+        long[] tri = Arrays.copyOf(mesures, nombre);
+        Arrays.sort(tri);
+
+        int rang = (int) Math.ceil(p / 100.0 * nombre) - 1;
+        return tri[Math.max(0, Math.min(rang, nombre - 1))];
+    }
+
+    @Override
+    public String toString() {
+        return String.format("n=%d p50=%.3fms p90=%.3fms p99=%.3fms p99.9=%.3fms max=%.3fms",
+                getNombre(),
+                percentile(50) / 1e6, percentile(90) / 1e6, percentile(99) / 1e6,
+                percentile(99.9) / 1e6, percentile(100) / 1e6
+        );
+    }
+}
@@ -0,0 +1,459 @@
+package metier;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Lecture des fichiers écrits par ExportColonnes.
+ *
+ * Les blocs sont projetés en mémoire (NIO) et décodés en parallèle. Avant de
+ * décoder un bloc, ses minimum et maximum sont comparés au filtre demandé :
+ * un bloc qui ne peut contenir aucune ligne utile n'est même pas lu.
+ *
+ * @author jessy
+ */
+public class LecteurColonnes implements AutoCloseable {
+    /**
+     * Fichier lu.
+     */
+    private final FileChannel canal;
+
+    /**
+     * Position de chaque bloc dans le fichier.
+     */
+    private final long[] positions;
+
+    /**
+     * Nombre de lignes de chaque bloc.
+     */
+    private final int[] lignes;
+
+    /**
+     * Taille encodée de chaque colonne de chaque bloc.
+     */
+    private final int[][] tailles;
+
+    /**
+     * Minimum et maximum de chaque colonne de chaque bloc.
+     */
+    private final int[][] min, max;
+
+    /**
+     * Ouvre un fichier colonnaire.
+     *
+     * @param fichier Le fichier à lire.
+     * @throws IOException Erreur de lecture ou fichier invalide.
+     */
+    public LecteurColonnes(Path fichier) throws IOException {
+        canal = FileChannel.open(fichier, StandardOpenOption.READ);
+
+        try {
+            // On lit la fin de fichier pour trouver le répertoire.
+            long taille = canal.size();
+            ByteBuffer fin = lit(taille - ExportColonnes.TAILLE_FIN, ExportColonnes.TAILLE_FIN);
+            long repertoire = fin.getLong();
+            int nbBlocs = fin.getInt();
+
+            if( fin.getInt() != ExportColonnes.MAGIE )
+                throw new IOException("Fichier colonnaire invalide : " + fichier);
+
+            ByteBuffer entete = lit(0, 8);
+
+            if( entete.getInt() != ExportColonnes.MAGIE || entete.getInt() != ExportColonnes.VERSION )
+                throw new IOException("Version de fichier colonnaire non supportée : " + fichier);
+
+            positions = new long[nbBlocs];
+            lignes = new int[nbBlocs];
+            tailles = new int[nbBlocs][ExportColonnes.NB_COLONNES];
+            min = new int[nbBlocs][ExportColonnes.NB_COLONNES];
+            max = new int[nbBlocs][ExportColonnes.NB_COLONNES];
+
+            ByteBuffer entrees = lit(repertoire, nbBlocs * ExportColonnes.TAILLE_ENTREE);
+
+            for(int b = 0; b < nbBlocs; b++){
+                positions[b] = entrees.getLong();
+                lignes[b] = entrees.getInt();
+
+                for(int c = 0; c < ExportColonnes.NB_COLONNES; c++)
+                    tailles[b][c] = entrees.getInt();
+                for(int c = 0; c < ExportColonnes.NB_COLONNES; c++){
+                    min[b][c] = entrees.getInt();
+                    max[b][c] = entrees.getInt();
+                }
+            }
+        } catch( IOException | RuntimeException e ){
+            canal.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        canal.close();
+    }
+
+    /**
+     * @return Le nombre de blocs du fichier.
+     */
+    public int getNbBlocs(){
+        return positions.length;
+    }
+
+    /**
+     * @return Le nombre total de lignes du fichier.
+     */
+    public long getNbLignes(){
+        long result = 0;
+
+        for(int n: lignes)
+            result += n;
+
+        return result;
+    }
+
+    /**
+     * Calcule une agrégation sur les lignes qui passent le filtre.
+     *
+     * @param produitMin Plus petit identifiant de produit retenu.
+     * @param produitMax Plus grand identifiant de produit retenu.
+     * @param jourMin Premier jour retenu (en jours depuis le 1er janvier 1970).
+     * @param jourMax Dernier jour retenu.
+     * @param agregation L'agrégation à calculer.
+     * @param pool Les threads à utiliser.
+     * @return Le résultat de l'agrégation.
+     * @throws IOException Erreur de lecture.
+     */
+    public <A> A parcourt(int produitMin, int produitMax, int jourMin, int jourMax,
+            AgregationColonnes<A> agregation, ForkJoinPool pool) throws IOException {
+        // On ne garde que les blocs qui peuvent contenir des lignes utiles.
+        int[] retenus = new int[positions.length];
+        int nbRetenus = 0;
+
+        for(int b = 0; b < positions.length; b++){
+            if( max[b][0] < produitMin || min[b][0] > produitMax )
+                continue;
+            if( max[b][1] < jourMin || min[b][1] > jourMax )
+                continue;
+
+            retenus[nbRetenus++] = b;
+        }
+
+        Parcours<A> tache = new Parcours<>(Arrays.copyOf(retenus, nbRetenus), 0, nbRetenus,
+                new int[] { produitMin, produitMax, jourMin, jourMax }, agregation);
+
+        try {
+            return pool.invoke(tache);
+        } catch( UncheckedIOException e ){
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Calcule la consommation (somme des sorties) par produit et par mois.
+     *
+     * @param produitMin Plus petit identifiant de produit retenu.
+     * @param produitMax Plus grand identifiant de produit retenu.
+     * @param pool Les threads à utiliser.
+     * @return Pour chaque produit, la consommation de chaque mois.
+     * @throws IOException Erreur de lecture.
+     */
+    public Map<Integer, SortedMap<YearMonth, Long>> consommationMensuelle(int produitMin, int produitMax, ForkJoinPool pool) throws IOException {
+        // Table jour -> mois calculée une fois, pour ne créer aucune date par ligne.
+        int premierJour = Integer.MAX_VALUE, dernierJour = Integer.MIN_VALUE;
+
+        for(int b = 0; b < positions.length; b++){
+            premierJour = Math.min(premierJour, min[b][1]);
+            dernierJour = Math.max(dernierJour, max[b][1]);
+        }
+
+        if( positions.length == 0 )
+            return new TreeMap<>();
+
+        final int origine = premierJour;
+        final int[] moisParJour = new int[dernierJour - premierJour + 1];
+
+        for(int j = 0; j < moisParJour.length; j++){
+            LocalDate date = LocalDate.ofEpochDay(origine + j);
+            moisParJour[j] = date.getYear() * 12 + date.getMonthValue() - 1;
+        }
+
+        Map<Long, long[]> brut = parcourt(produitMin, produitMax, Integer.MIN_VALUE, Integer.MAX_VALUE,
+                new AgregationColonnes<Map<Long, long[]>>() {
+            @Override
+            public Map<Long, long[]> cree() {
+                return new HashMap<>();
+            }
+
+            @Override
+            public void accepte(Map<Long, long[]> acc, int produit, int jour, int quantite) {
+                if( quantite >= 0 )
+                    return;
+
+                long cle = ((long) produit << 32) | moisParJour[jour - origine];
+                long[] somme = acc.get(cle);
+
+                if( somme == null )
+                    acc.put(cle, somme = new long[1]);
+
+                somme[0] -= quantite;
+            }
+
+            @Override
+            public Map<Long, long[]> fusionne(Map<Long, long[]> a, Map<Long, long[]> b) {
+                for(Map.Entry<Long, long[]> e: b.entrySet()){
+                    long[] somme = a.get(e.getKey());
+
+                    if( somme == null )
+                        a.put(e.getKey(), e.getValue());
+                    else
+                        somme[0] += e.getValue()[0];
+                }
+                return a;
+            }
+        }, pool);
+
+        // Mise en forme du résultat.
+        Map<Integer, SortedMap<YearMonth, Long>> result = new TreeMap<>();
+
+        for(Map.Entry<Long, long[]> e: brut.entrySet()){
+            int produit = (int) (e.getKey() >> 32);
+            int mois = (int) (long) e.getKey();
+
+            SortedMap<YearMonth, Long> parMois = result.get(produit);
+
+            if( parMois == null )
+                result.put(produit, parMois = new TreeMap<>());
+
+            parMois.put(YearMonth.of(mois / 12, mois % 12 + 1), e.getValue()[0]);
+        }
+
+        return result;
+    }
+
+    /**
+     * Lit une zone du fichier dans un tampon.
+     */
+    private ByteBuffer lit(long position, int taille) throws IOException {
+        ByteBuffer result = ByteBuffer.allocate(taille);
+
+        while( result.hasRemaining() ){
+            if( canal.read(result, position + result.position()) < 0 )
+                throw new IOException("Fin de fichier inattendue");
+        }
+
+        result.flip();
+        return result;
+    }
+
+    /**
+     * Décode un bloc et l'agrège.
+     */
+    private <A> A decodeBloc(int b, int[] filtre, AgregationColonnes<A> agregation) throws IOException {
+        int tailleTotale = tailles[b][0] + tailles[b][1] + tailles[b][2];
+        MappedByteBuffer zone = canal.map(FileChannel.MapMode.READ_ONLY, positions[b], tailleTotale);
+
+        // Une position de lecture par colonne.
+        int posProduit = 0;
+        int posJour = tailles[b][0];
+        int posQuantite = posJour + tailles[b][1];
+        int produit = 0, jour = 0;
+
+        A acc = agregation.cree();
+
+        for(int i = 0; i < lignes[b]; i++){
+            // Lecture des trois entiers de longueur variable, sans objet intermédiaire.
+            int zz = 0, decalage = 0;
+            byte octet;
+            do {
+                octet = zone.get(posProduit++);
+                zz |= (octet & 0x7F) << decalage;
+                decalage += 7;
+            } while( octet < 0 );
+            produit += (zz >>> 1) ^ -(zz & 1);
+
+            zz = 0;
+            decalage = 0;
+            do {
+                octet = zone.get(posJour++);
+                zz |= (octet & 0x7F) << decalage;
+                decalage += 7;
+            } while( octet < 0 );
+            jour += (zz >>> 1) ^ -(zz & 1);
+
+            zz = 0;
+            decalage = 0;
+            do {
+                octet = zone.get(posQuantite++);
+                zz |= (octet & 0x7F) << decalage;
+                decalage += 7;
+            } while( octet < 0 );
+            int quantite = (zz >>> 1) ^ -(zz & 1);
+
+            if( produit >= filtre[0] && produit <= filtre[1] && jour >= filtre[2] && jour <= filtre[3] )
+                agregation.accepte(acc, produit, jour, quantite);
+        }
+
+        return acc;
+    }
+
+    /**
+     * Tâche de parcours d'une tranche de blocs, découpée récursivement.
+     */
+    private class Parcours<A> extends RecursiveTask<A> {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] blocs;
+        private final int debut, fin;
+        private final int[] filtre;
+        private final AgregationColonnes<A> agregation;
+
+        Parcours(int[] blocs, int debut, int fin, int[] filtre, AgregationColonnes<A> agregation) {
+            this.blocs = blocs;
+            this.debut = debut;
+            this.fin = fin;
+            this.filtre = filtre;
+            this.agregation = agregation;
+        }
+
+        @Override
+        protected A compute() {
+            if( fin - debut <= 1 ){
+                if( fin == debut )
+                    return agregation.cree();
+
+                try {
+                    return decodeBloc(blocs[debut], filtre, agregation);
+                } catch( IOException e ){
+                    throw new UncheckedIOException(e);
+                }
+            }
+
+            int milieu = (debut + fin) >>> 1;
+            Parcours<A> gauche = new Parcours<>(blocs, debut, milieu, filtre, agregation);
+            gauche.fork();
+            A droite = new Parcours<>(blocs, milieu, fin, filtre, agregation).compute();
+            return agregation.fusionne(gauche.join(), droite);
+        }
+    }
+
+    // Tests
+
+    /**
+     * Compare les temps d'agrégation de la consommation mensuelle.
+     *
+     * Génère un catalogue dans une base embarquée temporaire, l'exporte en
+     * colonnes, puis mesure l'agrégation sur un seul thread, sur tous les
+     * cœurs, et sur 10% des produits (où le filtrage par bloc évite la
+     * plupart des lectures). La requête SQL équivalente est mesurée sur la
+     * même base, et ses résultats comparés à ceux des colonnes.
+     *
+     * @param args [produits] [mouvements par produit]
+     * @throws Exception Toute exception qui se produit pendant le test.
+     */
+    public static void main(String[] args) throws Exception {
+        int nbProduits = args.length > 0 ? Integer.parseInt(args[0]) : 10000;
+        int parProduit = args.length > 1 ? Integer.parseInt(args[1]) : 500;
+
+        Path temporaire = Files.createTempDirectory("colonnes-");
+        Path base = temporaire.resolve("base");
+        Path fichier = temporaire.resolve("mouvements.col");
+        RequeteGestionStock requete = null;
+
+        try {
+            long debut = System.nanoTime();
+            requete = new GenerateurCatalogue().setNbProduits(nbProduits).setMouvementsParProduit(parProduit)
+                    .creeBaseEmbarquee(base);
+            System.out.printf("Génération : %d produits en %.2fs\n", nbProduits, (System.nanoTime() - debut) / 1e9);
+
+            debut = System.nanoTime();
+            long nbLignes = ExportColonnes.exporte(requete, fichier);
+            System.out.printf("Export : %d lignes, %d Mo en %.2fs\n", nbLignes,
+                    Files.size(fichier) >> 20, (System.nanoTime() - debut) / 1e9);
+
+            Map<Integer, SortedMap<YearMonth, Long>> colonnes;
+
+            try( LecteurColonnes lecteur = new LecteurColonnes(fichier) ){
+                ForkJoinPool sequentiel = new ForkJoinPool(1);
+                ForkJoinPool parallele = ForkJoinPool.commonPool();
+
+                // Un tour de chauffe, puis les mesures.
+                lecteur.consommationMensuelle(1, Integer.MAX_VALUE, parallele);
+
+                debut = System.nanoTime();
+                lecteur.consommationMensuelle(1, Integer.MAX_VALUE, sequentiel);
+                System.out.printf("1 thread : %.2fs\n", (System.nanoTime() - debut) / 1e9);
+
+                debut = System.nanoTime();
+                colonnes = lecteur.consommationMensuelle(1, Integer.MAX_VALUE, parallele);
+                System.out.printf("%d threads : %.2fs\n", parallele.getParallelism(), (System.nanoTime() - debut) / 1e9);
+
+                debut = System.nanoTime();
+                lecteur.consommationMensuelle(1, nbProduits / 10, parallele);
+                System.out.printf("10%% des produits : %.2fs\n", (System.nanoTime() - debut) / 1e9);
+
+                sequentiel.shutdown();
+            }
+
+            Map<Integer, SortedMap<YearMonth, Long>> jdbc;
+            Connection cnx = requete.nouvelleConnexion();
+
+            try {
+                debut = System.nanoTime();
+                jdbc = consommationMensuelleJdbc(cnx);
+                System.out.printf("JDBC : %.2fs\n", (System.nanoTime() - debut) / 1e9);
+            } finally {
+                cnx.close();
+            }
+
+            if( !colonnes.equals(jdbc) )
+                throw new IllegalStateException("Les agrégats des colonnes diffèrent de ceux de la base");
+
+            System.out.printf("Agrégats identiques pour %d produits\n", colonnes.size());
+        } finally {
+            GenerateurCatalogue.supprimeBaseTemporaire(requete, base, temporaire);
+            GenerateurCatalogue.arreteDerby("jdbc:derby:");
+        }
+    }
+
+    /**
+     * Calcule la consommation par produit et par mois avec la requête SQL
+     * équivalente à consommationMensuelle().
+     */
+    private static Map<Integer, SortedMap<YearMonth, Long>> consommationMensuelleJdbc(Connection cnx) throws SQLException {
+        Map<Integer, SortedMap<YearMonth, Long>> result = new TreeMap<>();
+        Statement stmt = cnx.createStatement();
+        stmt.setFetchSize(10000);
+        ResultSet rs = stmt.executeQuery("SELECT nProduit, YEAR(dateMouvement), MONTH(dateMouvement), SUM(-quantite) "
+                + "FROM Mouvement WHERE quantite < 0 "
+                + "GROUP BY nProduit, YEAR(dateMouvement), MONTH(dateMouvement)");
+
+        while(rs.next()){
+            SortedMap<YearMonth, Long> parMois = result.get(rs.getInt(1));
+
+            if( parMois == null )
+                result.put(rs.getInt(1), parMois = new TreeMap<>());
+
+            parMois.put(YearMonth.of(rs.getInt(2), rs.getInt(3)), rs.getLong(4));
+        }
+
+        rs.close();
+        stmt.close();
+        return result;
+    }
+}
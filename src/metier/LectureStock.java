@@ -0,0 +1,207 @@
+package metier;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import java.util.*;
+import modele.*;
+
+/**
+ * Lectures sur une connexion propre.
+ *
+ * Les requêtes de RequeteGestionStock passent toutes par sa connexion
+ * partagée : des threads qui lisent en parallèle, comme ceux d'un serveur, s'y
+ * attendent les uns les autres. Chacun de ces threads ouvre plutôt sa propre
+ * LectureStock. Les écritures restent à RequeteGestionStock, qui prévient ses
+ * écouteurs.
+ *
+ * Une instance n'est pas thread-safe.
+ *
+ * @author jessy
+ */
+public class LectureStock implements AutoCloseable {
+    /**
+     * Prévision de rupture d'un produit, calculée à partir des agrégats.
+     */
+    public static class PrevisionProduit {
+        private final int id;
+        private final String nom;
+        private final int stock;
+        private final float consommation;
+        private final long rupture;
+
+        private PrevisionProduit(int id, String nom, int stock, float consommation, long rupture) {
+            this.id = id;
+            this.nom = nom;
+            this.stock = stock;
+            this.consommation = consommation;
+            this.rupture = rupture;
+        }
+
+        /**
+         * @return L'identifiant du produit.
+         */
+        public int getId(){
+            return id;
+        }
+
+        /**
+         * @return Le nom du produit.
+         */
+        public String getNom(){
+            return nom;
+        }
+
+        /**
+         * @return La quantité en stock.
+         */
+        public int getStock(){
+            return stock;
+        }
+
+        /**
+         * @return La consommation journalière.
+         */
+        public float getConsommation(){
+            return consommation;
+        }
+
+        /**
+         * @return La date de rupture en millisecondes, ou NoyauPrevision.AUCUNE_DATE.
+         */
+        public long getRupture(){
+            return rupture;
+        }
+    }
+
+    /**
+     * Connexion propre à cette instance.
+     */
+    private final Connection connection;
+
+    /**
+     * Constructeur par données.
+     *
+     * @param requete La requête dont on réutilise la configuration de connexion.
+     * @throws SQLException Erreur de la base.
+     */
+    public LectureStock(RequeteGestionStock requete) throws SQLException {
+        this.connection = requete.nouvelleConnexion();
+    }
+
+    /**
+     * @return La liste de tous les produits.
+     * @throws SQLException Erreur SQL.
+     * @see RequeteGestionStock#ensProduits()
+     */
+    public List<Produit> ensProduits() throws SQLException {
+        return RequeteGestionStock.ensProduits(connection);
+    }
+
+    /**
+     * @param nom Le début du nom recherché, ou le nom entier. Insensible à la casse.
+     * @return La liste des produits dont le nom commence par nom.
+     * @throws SQLException Erreur SQL.
+     * @see RequeteGestionStock#ensProduits(String)
+     */
+    public List<Produit> ensProduits(String nom) throws SQLException {
+        return RequeteGestionStock.ensProduits(connection, nom);
+    }
+
+    /**
+     * @param nProduit L'identifiant du produit.
+     * @return Le produit, ou null s'il n'existe pas.
+     * @throws SQLException Erreur SQL.
+     * @see RequeteGestionStock#produit(int)
+     */
+    public Produit produit(int nProduit) throws SQLException {
+        return RequeteGestionStock.produit(connection, nProduit);
+    }
+
+    /**
+     * @param nProduit L'identifiant du produit.
+     * @return La quantité en stock du produit.
+     * @throws SQLException Erreur SQL.
+     * @see RequeteGestionStock#quantiteEnStock(int)
+     */
+    public int quantiteEnStock(int nProduit) throws SQLException {
+        return RequeteGestionStock.quantiteEnStock(connection, nProduit);
+    }
+
+    /**
+     * Calcule les prévisions de rupture de tout le catalogue.
+     *
+     * Les agrégats sont calculés par la base : les mouvements ne sont pas
+     * chargés. Le résultat est le même que celui de Produit sur son
+     * historique complet.
+     *
+     * @param maintenant Date de référence des prévisions, en millisecondes.
+     * @param fuseau Le fuseau horaire des dates.
+     * @return Les prévisions, triées par identifiant de produit.
+     * @throws SQLException Erreur SQL.
+     */
+    public List<PrevisionProduit> previsions(long maintenant, TimeZone fuseau) throws SQLException {
+        List<PrevisionProduit> result = new ArrayList<>();
+
+        Statement stmt = connection.createStatement();
+        stmt.setFetchSize(10000);
+        ResultSet rs = stmt.executeQuery(RequeteGestionStock.SQL_AGREGATS_PRODUITS);
+
+        while(rs.next())
+            result.add(prevision(rs, maintenant, fuseau));
+
+        rs.close();
+        stmt.close();
+        return result;
+    }
+
+    /**
+     * Calcule la prévision de rupture d'un produit.
+     *
+     * @param nProduit L'identifiant du produit.
+     * @param maintenant Date de référence de la prévision, en millisecondes.
+     * @param fuseau Le fuseau horaire des dates.
+     * @return La prévision, ou null si le produit n'existe pas.
+     * @throws SQLException Erreur SQL.
+     */
+    public PrevisionProduit prevision(int nProduit, long maintenant, TimeZone fuseau) throws SQLException {
+        PreparedStatement stmt = connection.prepareStatement(RequeteGestionStock.SQL_AGREGATS_PRODUIT);
+        stmt.setInt(1, nProduit);
+        ResultSet rs = stmt.executeQuery();
+
+        PrevisionProduit result = rs.next() ? prevision(rs, maintenant, fuseau) : null;
+
+        rs.close();
+        stmt.close();
+        return result;
+    }
+
+    /**
+     * Ferme la connexion.
+     *
+     * @throws SQLException Erreur de la base.
+     */
+    @Override
+    public void close() throws SQLException {
+        connection.close();
+    }
+
+    /**
+     * Calcule une prévision à partir d'une ligne d'agrégats.
+     */
+    private static PrevisionProduit prevision(ResultSet rs, long maintenant, TimeZone fuseau) throws SQLException {
+        int stock = rs.getInt(5);
+        Date entree = rs.getDate(7);
+
+        // Mêmes règles que Produit : pas de consommation sans entrée.
+        int nbJours = entree == null ? 0 : NoyauPrevision.joursEcoules(entree.getTime(), maintenant);
+        float conso = NoyauPrevision.consommationJournaliere(rs.getInt(6), nbJours);
+
+        return new PrevisionProduit(rs.getInt(1), rs.getString(2), stock, conso,
+                NoyauPrevision.dateDeRupture(maintenant, stock, conso, fuseau));
+    }
+}
@@ -0,0 +1,499 @@
+package metier;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import modele.*;
+
+/**
+ * Moteur d'alertes de seuils de stock.
+ *
+ * Le moteur reçoit les mouvements validés et tient à jour le stock courant de
+ * chaque produit. Quand un mouvement fait passer un produit sous stockMin ou
+ * au-dessus de stockMax (ou l'y fait revenir), une alerte est émise. Chaque
+ * mouvement coûte O(1) : ni l'historique ni le catalogue ne sont relus.
+ *
+ * Les mouvements sont mis en file, puis traités par lots par un unique thread
+ * qui remet les alertes de chaque lot aux écouteurs en un seul appel. Les
+ * écritures ne sont pas ralenties par l'évaluation des seuils ni par les
+ * écouteurs, tant que ceux-ci suivent : la file est bornée, et un écrivain
+ * attend quand elle est pleine plutôt que de laisser le tas grossir.
+ *
+ * @author jessy
+ */
+public class MoteurAlertes implements EcouteurMouvements {
+    /**
+     * Position du stock d'un produit par rapport à ses seuils.
+     */
+    public enum Niveau {
+        SOUS_STOCK_MIN, NORMAL, AU_DESSUS_STOCK_MAX
+    }
+
+    /**
+     * Un changement de niveau d'un produit.
+     */
+    public static final class Alerte {
+        private final Mouvement mouvement;
+        private final Niveau precedent;
+        private final Niveau niveau;
+        private final int stock;
+
+        private Alerte(Mouvement mouvement, Niveau precedent, Niveau niveau, int stock) {
+            this.mouvement = mouvement;
+            this.precedent = precedent;
+            this.niveau = niveau;
+            this.stock = stock;
+        }
+
+        /**
+         * @return Le mouvement qui a provoqué le changement de niveau.
+         */
+        public Mouvement getMouvement() {
+            return mouvement;
+        }
+
+        public Produit getProduit() {
+            return mouvement.getProduit();
+        }
+
+        public Niveau getPrecedent() {
+            return precedent;
+        }
+
+        public Niveau getNiveau() {
+            return niveau;
+        }
+
+        public int getStock() {
+            return stock;
+        }
+
+        @Override
+        public String toString() {
+            return getProduit().getNom() + " : " + precedent + " -> " + niveau + " (stock " + stock + ")";
+        }
+    }
+
+    /**
+     * Écouteur des alertes.
+     */
+    public interface Ecouteur {
+        /**
+         * Appelé depuis le thread du moteur avec les alertes d'un lot.
+         *
+         * @param alertes Les alertes, dans l'ordre des mouvements.
+         */
+        void alertes(List<Alerte> alertes);
+    }
+
+    /**
+     * État courant d'un produit.
+     */
+    private static final class Etat {
+        private int stock;
+        private Niveau niveau;
+    }
+
+    /**
+     * Nombre maximal de mouvements traités par lot.
+     */
+    private final static int TAILLE_LOT = 4096;
+
+    /**
+     * Nombre maximal de mouvements en attente de traitement.
+     */
+    private final static int CAPACITE = 1 << 16;
+
+    /**
+     * Mouvements reçus, en attente de traitement.
+     */
+    private final BlockingQueue<Mouvement> file = new ArrayBlockingQueue<>(CAPACITE);
+
+    /**
+     * Mouvements écrits par les écouteurs eux-mêmes, depuis le thread du
+     * moteur : ils ne passent pas par la file, où le moteur pourrait
+     * s'attendre lui-même.
+     */
+    private final List<Mouvement> reentrants = new ArrayList<>();
+
+    /**
+     * État de chaque produit, par identifiant. Lu et modifié par le seul
+     * thread du moteur une fois celui-ci démarré.
+     */
+    private final Map<Integer, Etat> etats = new HashMap<>();
+
+    /**
+     * Plus grand identifiant de mouvement compté dans le stock de départ.
+     */
+    private int dernierCompte = 0;
+
+    /**
+     * Écouteurs des alertes.
+     */
+    private final List<Ecouteur> ecouteurs = new CopyOnWriteArrayList<>();
+
+    /**
+     * Thread de traitement.
+     */
+    private final Thread traitement;
+
+    /**
+     * Requêtes surveillées, ou null.
+     */
+    private RequeteGestionStock requete = null;
+
+    /**
+     * Passe à false quand on demande l'arrêt.
+     */
+    private volatile boolean actif = true;
+
+    private volatile long nbMouvements = 0;
+    private volatile long nbLots = 0;
+    private volatile long nbAlertes = 0;
+
+    /**
+     * Constructeur par défaut : les produits partent d'un stock nul, et seuls
+     * les mouvements reçus le font évoluer.
+     */
+    public MoteurAlertes() {
+        this.traitement = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                boucleTraitement();
+            }
+        }, "moteur-alertes");
+        this.traitement.setDaemon(true);
+    }
+
+    /**
+     * Crée un moteur qui surveille tous les mouvements validés par une
+     * instance de RequeteGestionStock.
+     *
+     * Le stock de départ de chaque produit est lu en une seule requête
+     * agrégée, avec le plus grand identifiant de mouvement, dans une même
+     * transaction SERIALIZABLE. La lecture attend la fin des transactions qui
+     * ont déjà inséré des mouvements, et bloque les insertions suivantes
+     * jusqu'à sa fin : tout mouvement d'identifiant inférieur ou égal à ce
+     * maximum est compté, et aucun autre. Le moteur est inscrit avant cette
+     * lecture : un mouvement validé entre-temps est reçu, et ignoré s'il a
+     * été compté.
+     *
+     * @param requete Les requêtes à surveiller.
+     * @return Le moteur démarré.
+     * @throws SQLException Erreur SQL.
+     */
+    public static MoteurAlertes surveille(RequeteGestionStock requete) throws SQLException {
+        MoteurAlertes result = new MoteurAlertes();
+        result.requete = requete;
+        requete.ajouteEcouteur(result);
+
+        Connection cnx = requete.nouvelleConnexion();
+
+        try {
+            cnx.setAutoCommit(false);
+            cnx.setTransactionIsolation(Connection.TRANSACTION_SERIALIZABLE);
+
+            Statement stmt = cnx.createStatement();
+            stmt.setFetchSize(10000);
+            ResultSet rs = stmt.executeQuery(RequeteGestionStock.SQL_AGREGATS_PRODUITS);
+
+            while(rs.next()){
+                Etat e = result.etat(rs.getInt(1));
+                e.stock = rs.getInt(5);
+                e.niveau = niveau(e.stock, rs.getInt(3), rs.getInt(4));
+            }
+
+            rs.close();
+
+            // Dans la même transaction : la borne des mouvements comptés.
+            rs = stmt.executeQuery("SELECT MAX(nMouvement) FROM Mouvement");
+
+            if( rs.next() )
+                result.dernierCompte = rs.getInt(1);
+
+            rs.close();
+            stmt.close();
+            cnx.commit();
+        } catch( SQLException e ){
+            requete.retireEcouteur(result);
+
+            try {
+                cnx.rollback();
+            } catch( SQLException r ){
+                e.addSuppressed(r);
+            }
+
+            throw e;
+        } finally {
+            cnx.close();
+        }
+
+        result.demarre();
+        return result;
+    }
+
+    /**
+     * Démarre le thread de traitement.
+     *
+     * @return Ce moteur.
+     */
+    public MoteurAlertes demarre(){
+        traitement.start();
+        return this;
+    }
+
+    /**
+     * Inscrit un écouteur des alertes.
+     *
+     * @param ecouteur L'écouteur à inscrire.
+     */
+    public void ajouteEcouteur(Ecouteur ecouteur){
+        ecouteurs.add(ecouteur);
+    }
+
+    /**
+     * Désinscrit un écouteur des alertes.
+     *
+     * @param ecouteur L'écouteur à désinscrire.
+     */
+    public void retireEcouteur(Ecouteur ecouteur){
+        ecouteurs.remove(ecouteur);
+    }
+
+    /**
+     * Reçoit un mouvement validé. Ne fait que le mettre en file, en
+     * attendant qu'il y ait de la place si elle est pleine.
+     *
+     * @param m Le mouvement validé.
+     */
+    @Override
+    public void mouvementValide(Mouvement m){
+        if( !actif )
+            return;
+
+        if( Thread.currentThread() == traitement ){
+            reentrants.add(m);
+            return;
+        }
+
+        boolean interrompu = false;
+
+        // L'écriture est déjà validée : le mouvement ne doit pas être perdu.
+        while( true ){
+            try {
+                file.put(m);
+                break;
+            } catch( InterruptedException e ){
+                interrompu = true;
+            }
+        }
+
+        if( interrompu )
+            Thread.currentThread().interrupt();
+    }
+
+    /**
+     * Arrête le moteur après avoir traité les mouvements déjà reçus.
+     *
+     * @throws InterruptedException Si le thread est interrompu pendant l'attente.
+     */
+    public void fermer() throws InterruptedException {
+        if( requete != null )
+            requete.retireEcouteur(this);
+
+        actif = false;
+
+        if( traitement.isAlive() )
+            traitement.join();
+    }
+
+    /**
+     * @return Le nombre de mouvements traités.
+     */
+    public long getNbMouvements(){
+        return nbMouvements;
+    }
+
+    /**
+     * @return Le nombre de lots traités.
+     */
+    public long getNbLots(){
+        return nbLots;
+    }
+
+    /**
+     * @return Le nombre d'alertes émises.
+     */
+    public long getNbAlertes(){
+        return nbAlertes;
+    }
+
+    /**
+     * Boucle du thread de traitement.
+     */
+    private void boucleTraitement(){
+        List<Mouvement> lot = new ArrayList<>(TAILLE_LOT);
+        List<Alerte> alertes = new ArrayList<>();
+
+        try {
+            while( actif || !file.isEmpty() || !reentrants.isEmpty() ){
+                // D'abord les mouvements écrits par les écouteurs du lot
+                // précédent.
+                lot.addAll(reentrants);
+                reentrants.clear();
+
+                if( lot.isEmpty() ){
+                    Mouvement premier = file.poll(50, TimeUnit.MILLISECONDS);
+
+                    if( premier == null )
+                        continue;
+
+                    lot.add(premier);
+                }
+
+                file.drainTo(lot, TAILLE_LOT - lot.size());
+
+                for(int i = 0; i < lot.size(); i++)
+                    evalue(lot.get(i), alertes);
+
+                nbMouvements += lot.size();
+                nbLots++;
+                lot.clear();
+
+                if( !alertes.isEmpty() ){
+                    nbAlertes += alertes.size();
+                    distribue(Collections.unmodifiableList(new ArrayList<>(alertes)));
+                    alertes.clear();
+                }
+            }
+        } catch( InterruptedException e ){
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Applique un mouvement à l'état de son produit et note l'alerte
+     * éventuelle.
+     */
+    private void evalue(Mouvement m, List<Alerte> alertes){
+        // Déjà compté dans le stock de départ.
+        if( m.getId() <= dernierCompte )
+            return;
+
+        Produit p = m.getProduit();
+        Etat e = etat(p.getId());
+
+        // Produit inconnu au démarrage : il part d'un stock nul.
+        if( e.niveau == null )
+            e.niveau = niveau(e.stock, p.getStockMin(), p.getStockMax());
+
+        e.stock += m.getQuantite();
+        Niveau nouveau = niveau(e.stock, p.getStockMin(), p.getStockMax());
+
+        if( nouveau != e.niveau ){
+            alertes.add(new Alerte(m, e.niveau, nouveau, e.stock));
+            e.niveau = nouveau;
+        }
+    }
+
+    /**
+     * Retrouve l'état d'un produit, en le créant à un stock nul si besoin.
+     */
+    private Etat etat(int nProduit){
+        Etat result = etats.get(nProduit);
+
+        if( result == null ){
+            result = new Etat();
+            etats.put(nProduit, result);
+        }
+
+        return result;
+    }
+
+    /**
+     * Remet un lot d'alertes à chaque écouteur. Un écouteur en erreur
+     * n'empêche pas les autres d'être prévenus.
+     */
+    private void distribue(List<Alerte> alertes){
+        for(Ecouteur curr: ecouteurs){
+            try {
+                curr.alertes(alertes);
+            } catch( RuntimeException ex ){
+                Logger.getLogger(MoteurAlertes.class.getName()).log(Level.SEVERE, null, ex);
+            }
+        }
+    }
+
+    /**
+     * Position d'un stock par rapport aux seuils.
+     */
+    private static Niveau niveau(int stock, int stockMin, int stockMax){
+        if( stock < stockMin )
+            return Niveau.SOUS_STOCK_MIN;
+
+        if( stock > stockMax )
+            return Niveau.AU_DESSUS_STOCK_MAX;
+
+        return Niveau.NORMAL;
+    }
+
+    // Tests
+
+    /**
+     * Mesure le débit du moteur sous une forte charge de mouvements
+     * synthétiques, envoyés par plusieurs threads.
+     *
+     * @param args [mouvements par thread] [threads] [produits]
+     * @throws Exception Toute exception qui se produit pendant le test.
+     */
+    public static void main(String[] args) throws Exception {
+        final int parThread = args.length > 0 ? Integer.parseInt(args[0]) : 1000000;
+        int nbThreads = args.length > 1 ? Integer.parseInt(args[1]) : 4;
+        int nbProduits = args.length > 2 ? Integer.parseInt(args[2]) : 1000;
+
+        final Produit[] produits = new Produit[nbProduits];
+
+        for(int i = 0; i < nbProduits; i++)
+            produits[i] = new Produit(i + 1, "P" + (i + 1), 10, 100);
+
+        final MoteurAlertes moteur = new MoteurAlertes().demarre();
+        final Date date = new Date();
+        ExecutorService pool = Executors.newFixedThreadPool(nbThreads);
+        List<Future<?>> taches = new ArrayList<>();
+        long debut = System.nanoTime();
+
+        for(int t = 0; t < nbThreads; t++){
+            final int premier = t * parThread;
+            taches.add(pool.submit(new Callable<Void>() {
+                @Override
+                public Void call() {
+                    SplittableRandom rnd = new SplittableRandom(premier);
+
+                    for(int i = 0; i < parThread; i++){
+                        Produit p = produits[rnd.nextInt(produits.length)];
+                        moteur.mouvementValide(new Mouvement(premier + i, p, date, rnd.nextInt(3) == 0 ? 10 : -4));
+                    }
+
+                    return null;
+                }
+            }));
+        }
+
+        for(Future<?> f: taches)
+            f.get();
+
+        pool.shutdown();
+        moteur.fermer();
+
+        double secondes = (System.nanoTime() - debut) / 1e9;
+        System.out.printf("%d mouvements en %.2fs : %.0f mouvements/s, %d lots, %d alertes\n",
+                moteur.getNbMouvements(), secondes, moteur.getNbMouvements() / secondes,
+                moteur.getNbLots(), moteur.getNbAlertes());
+    }
+}
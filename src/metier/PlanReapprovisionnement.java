@@ -0,0 +1,305 @@
+package metier;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import java.util.*;
+import modele.NoyauPrevision;
+
+/**
+ * Plan de réapprovisionnement du catalogue.
+ *
+ * Le plan part d'agrégats par produit (stock, quantité consommée, date de la
+ * première entrée) calculés par la base en une seule requête : aucun
+ * Mouvement n'est créé. Pour chaque produit, on calcule quand il faut
+ * commander pour que la livraison, après le délai d'approvisionnement, arrive
+ * avant que le stock ne passe sous stockMin, et combien commander pour
+ * revenir à stockMax.
+ *
+ * Les données sont rangées dans des tableaux de primitives (une colonne par
+ * tableau) pour que le calcul reste un simple parcours linéaire.
+ *
+ * @author jessy
+ */
+public class PlanReapprovisionnement {
+    /**
+     * Nombre de produits chargés.
+     */
+    private int n = 0;
+
+    // Données d'entrée, une case par produit.
+    private int[] id;
+    private String[] nom;
+    private int[] stockMin;
+    private int[] stockMax;
+    private int[] stock;
+    private int[] quantiteConsommee;
+    private long[] premiereEntree;
+
+    // Résultats du calcul, une case par produit.
+    private float[] consommation;
+    private float[] joursAvantCommande;
+    private int[] quantiteACommander;
+
+    /**
+     * Nombre de produits à commander d'après le dernier calcul.
+     */
+    private int nbACommander = 0;
+
+    /**
+     * Constructeur par données.
+     *
+     * @param capacite Nombre de produits prévu (le plan s'agrandit au besoin).
+     */
+    public PlanReapprovisionnement(int capacite) {
+        alloue(Math.max(capacite, 16));
+    }
+
+    /**
+     * Ajoute un produit au plan.
+     *
+     * @param id Identifiant du produit.
+     * @param nom Nom du produit.
+     * @param stockMin Quantité minimale de stock désirée.
+     * @param stockMax Quantité maximale de stock désirée.
+     * @param stock Quantité actuellement en stock.
+     * @param quantiteConsommee Quantité totale sortie du stock.
+     * @param premiereEntree Date de la première entrée en millisecondes, ou
+     *        NoyauPrevision.AUCUNE_DATE s'il n'y en a pas.
+     */
+    public void ajoute(int id, String nom, int stockMin, int stockMax, int stock, int quantiteConsommee, long premiereEntree){
+        if( n == this.id.length )
+            alloue(n * 2);
+
+        this.id[n] = id;
+        this.nom[n] = nom;
+        this.stockMin[n] = stockMin;
+        this.stockMax[n] = stockMax;
+        this.stock[n] = stock;
+        this.quantiteConsommee[n] = quantiteConsommee;
+        this.premiereEntree[n] = premiereEntree;
+        n++;
+    }
+
+    /**
+     * Charge tout le catalogue depuis la base, en une seule requête agrégée.
+     *
+     * @param requete La requête dont on réutilise la configuration de connexion.
+     * @return Le plan, prêt à être calculé.
+     * @throws SQLException Erreur SQL.
+     */
+    public static PlanReapprovisionnement charge(RequeteGestionStock requete) throws SQLException {
+        PlanReapprovisionnement result = new PlanReapprovisionnement(1024);
+        Connection cnx = requete.nouvelleConnexion();
+
+        try {
+            Statement stmt = cnx.createStatement();
+            stmt.setFetchSize(10000);
+            ResultSet rs = stmt.executeQuery(RequeteGestionStock.SQL_AGREGATS_PRODUITS);
+
+            while(rs.next()){
+                Date entree = rs.getDate(7);
+                result.ajoute(rs.getInt(1), rs.getString(2), rs.getInt(3), rs.getInt(4), rs.getInt(5), rs.getInt(6),
+                        entree != null ? entree.getTime() : NoyauPrevision.AUCUNE_DATE);
+            }
+
+            rs.close();
+            stmt.close();
+        } finally {
+            cnx.close();
+        }
+
+        return result;
+    }
+
+    /**
+     * Calcule le plan.
+     *
+     * Un produit est à commander si sa date de commande tombe dans l'horizon
+     * donné. Si la commande devait déjà être passée, le stock à la livraison
+     * sera inférieur à stockMin (voire nul) et la quantité le compense.
+     *
+     * @param maintenant La date de référence, en millisecondes.
+     * @param delaiJours Délai d'approvisionnement, en jours.
+     * @param horizonJours Nombre de jours à venir couverts par le plan (0 : commandes à passer aujourd'hui).
+     * @return Le nombre de produits à commander.
+     */
+    public int calcule(long maintenant, int delaiJours, int horizonJours){
+        nbACommander = 0;
+
+        for(int i = 0; i < n; i++){
+            int nbJours = premiereEntree[i] == NoyauPrevision.AUCUNE_DATE
+                    ? 0 : NoyauPrevision.joursEcoules(premiereEntree[i], maintenant);
+            float conso = NoyauPrevision.consommationJournaliere(quantiteConsommee[i], nbJours);
+            consommation[i] = conso;
+
+            // Jours restants avant d'atteindre stockMin, moins le délai de livraison.
+            float avantCommande;
+
+            if( conso > 0 )
+                avantCommande = (stock[i] - stockMin[i]) / conso - delaiJours;
+            else
+                avantCommande = stock[i] < stockMin[i] ? 0 : Float.POSITIVE_INFINITY;
+
+            if( avantCommande > horizonJours ){
+                joursAvantCommande[i] = avantCommande;
+                quantiteACommander[i] = 0;
+                continue;
+            }
+
+            // On commande au plus tôt aujourd'hui. Le stock à la livraison ne
+            // peut pas être négatif : au pire, on aura été en rupture.
+            float jourCommande = Math.max(0, avantCommande);
+            float stockALivraison = Math.max(0, stock[i] - conso * (jourCommande + delaiJours));
+
+            joursAvantCommande[i] = jourCommande;
+            quantiteACommander[i] = Math.max(0, (int) Math.ceil(stockMax[i] - stockALivraison));
+
+            if( quantiteACommander[i] > 0 )
+                nbACommander++;
+        }
+
+        return nbACommander;
+    }
+
+    /**
+     * @return Le nombre de produits du plan.
+     */
+    public int getNbProduits(){
+        return n;
+    }
+
+    /**
+     * @param i L'indice du produit dans le plan.
+     * @return Son identifiant.
+     */
+    public int getId(int i){
+        return id[i];
+    }
+
+    /**
+     * @param i L'indice du produit dans le plan.
+     * @return Le nombre de jours avant de devoir commander.
+     */
+    public float getJoursAvantCommande(int i){
+        return joursAvantCommande[i];
+    }
+
+    /**
+     * @param i L'indice du produit dans le plan.
+     * @return La quantité à commander, 0 si rien à commander dans l'horizon.
+     */
+    public int getQuantiteACommander(int i){
+        return quantiteACommander[i];
+    }
+
+    /**
+     * Exporte les commandes du plan en CSV.
+     *
+     * Le fichier est construit entièrement en mémoire puis écrit d'un coup.
+     *
+     * @param fichier Le fichier à créer.
+     * @throws IOException Erreur d'écriture.
+     */
+    public void exporte(Path fichier) throws IOException {
+        StringBuilder csv = new StringBuilder(64 * (nbACommander + 1));
+        csv.append("nProduit,nom,stock,stockMin,stockMax,consommation,joursAvantCommande,quantite\n");
+
+        for(int i = 0; i < n; i++){
+            if( quantiteACommander[i] == 0 )
+                continue;
+
+            csv.append(id[i]).append(',');
+            champ(csv, nom[i]);
+            csv.append(',').append(stock[i])
+               .append(',').append(stockMin[i])
+               .append(',').append(stockMax[i])
+               .append(',').append(consommation[i])
+               .append(',').append(joursAvantCommande[i])
+               .append(',').append(quantiteACommander[i])
+               .append('\n');
+        }
+
+        Files.write(fichier, csv.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Ajoute un champ texte au CSV, entre guillemets si nécessaire.
+     */
+    private static void champ(StringBuilder csv, String valeur){
+        if( valeur.indexOf(',') < 0 && valeur.indexOf('"') < 0 && valeur.indexOf('\n') < 0 ){
+            csv.append(valeur);
+            return;
+        }
+
+        csv.append('"').append(valeur.replace("\"", "\"\"")).append('"');
+    }
+
+    /**
+     * Agrandit les tableaux.
+     */
+    private void alloue(int capacite){
+        id = id == null ? new int[capacite] : Arrays.copyOf(id, capacite);
+        nom = nom == null ? new String[capacite] : Arrays.copyOf(nom, capacite);
+        stockMin = stockMin == null ? new int[capacite] : Arrays.copyOf(stockMin, capacite);
+        stockMax = stockMax == null ? new int[capacite] : Arrays.copyOf(stockMax, capacite);
+        stock = stock == null ? new int[capacite] : Arrays.copyOf(stock, capacite);
+        quantiteConsommee = quantiteConsommee == null ? new int[capacite] : Arrays.copyOf(quantiteConsommee, capacite);
+        premiereEntree = premiereEntree == null ? new long[capacite] : Arrays.copyOf(premiereEntree, capacite);
+        consommation = consommation == null ? new float[capacite] : Arrays.copyOf(consommation, capacite);
+        joursAvantCommande = joursAvantCommande == null ? new float[capacite] : Arrays.copyOf(joursAvantCommande, capacite);
+        quantiteACommander = quantiteACommander == null ? new int[capacite] : Arrays.copyOf(quantiteACommander, capacite);
+    }
+
+    // Tests
+
+    /**
+     * Mesure le calcul et l'export du plan sur un catalogue synthétique.
+     *
+     * Avec l'argument "base", le plan est chargé depuis la base de
+     * RequeteGestionStock au lieu d'être généré.
+     *
+     * @param args [produits | base] [délai en jours]
+     * @throws Exception Toute exception qui se produit pendant le test.
+     */
+    public static void main(String[] args) throws Exception {
+        int delai = args.length > 1 ? Integer.parseInt(args[1]) : 7;
+        long maintenant = System.currentTimeMillis();
+        PlanReapprovisionnement plan;
+        long debut = System.nanoTime();
+
+        if( args.length > 0 && "base".equals(args[0]) ){
+            plan = charge(RequeteGestionStock.getInstance());
+            System.out.printf("Chargement : %d produits en %.1fms\n", plan.getNbProduits(), (System.nanoTime() - debut) / 1e6);
+        } else {
+            int nbProduits = args.length > 0 ? Integer.parseInt(args[0]) : 100000;
+            SplittableRandom rnd = new SplittableRandom(42);
+            plan = new PlanReapprovisionnement(nbProduits);
+
+            for(int i = 1; i <= nbProduits; i++){
+                int min = 5 + rnd.nextInt(20);
+                long entree = maintenant - (30 + rnd.nextInt(1000)) * NoyauPrevision.MS_PAR_JOUR;
+                plan.ajoute(i, "Produit " + i, min, min * 5, rnd.nextInt(200), rnd.nextInt(5000), entree);
+            }
+        }
+
+        // Un tour de chauffe, puis la mesure.
+        plan.calcule(maintenant, delai, 0);
+
+        debut = System.nanoTime();
+        int nb = plan.calcule(maintenant, delai, 0);
+        System.out.printf("Calcul : %d produits, %d à commander en %.1fms\n", plan.getNbProduits(), nb, (System.nanoTime() - debut) / 1e6);
+
+        Path fichier = Files.createTempFile("plan-", ".csv");
+        debut = System.nanoTime();
+        plan.exporte(fichier);
+        System.out.printf("Export : %s en %.1fms\n", fichier, (System.nanoTime() - debut) / 1e6);
+    }
+}
@@ -8,6 +8,9 @@ import java.sql.SQLException;
 import java.sql.Statement;
 
 import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import modele.*;
 
 /**
@@ -43,13 +46,98 @@ public class RequeteGestionStock {
      */
     private final static String DATABASE_PASS = "password";
     
+    /**
+     * Driver JDBC utilisé pour les bases embarquées.
+     */
+    private final static String DATABASE_EMBEDDED_DRIVER = "org.apache.derby.jdbc.EmbeddedDriver";
+    
+    /**
+     * Agrégats par produit, calculés par la base en une seule requête : les
+     * mêmes grandeurs que Produit calcule sur son historique, sans charger
+     * les mouvements.
+     * 
+     * Colonnes : nProduit, nom, stockMin, stockMax, quantité en stock,
+     * quantité consommée, date de la première entrée (NULL si aucune). Les
+     * lignes sont triées par nProduit.
+     */
+    final static String SQL_AGREGATS_PRODUITS = "SELECT p.nProduit, p.nom, p.stockMin, p.stockMax, "
+            + "COALESCE(SUM(m.quantite), 0), "
+            + "COALESCE(SUM(CASE WHEN m.quantite < 0 THEN -m.quantite ELSE 0 END), 0), "
+            + "MIN(CASE WHEN m.quantite > 0 THEN m.dateMouvement END) "
+            + "FROM Produit p LEFT JOIN Mouvement m ON m.nProduit = p.nProduit "
+            + "GROUP BY p.nProduit, p.nom, p.stockMin, p.stockMax "
+            + "ORDER BY p.nProduit";
+    
+    /**
+     * Mêmes agrégats que SQL_AGREGATS_PRODUITS, pour le seul produit donné en
+     * paramètre.
+     */
+    final static String SQL_AGREGATS_PRODUIT = "SELECT p.nProduit, p.nom, p.stockMin, p.stockMax, "
+            + "COALESCE(SUM(m.quantite), 0), "
+            + "COALESCE(SUM(CASE WHEN m.quantite < 0 THEN -m.quantite ELSE 0 END), 0), "
+            + "MIN(CASE WHEN m.quantite > 0 THEN m.dateMouvement END) "
+            + "FROM Produit p LEFT JOIN Mouvement m ON m.nProduit = p.nProduit "
+            + "WHERE p.nProduit = ? "
+            + "GROUP BY p.nProduit, p.nom, p.stockMin, p.stockMax";
+    
     // Connection
     
+    /**
+     * URL de connexion de cette instance.
+     */
+    private final String url;
+    
+    /**
+     * Utilisateur de cette instance.
+     */
+    private final String utilisateur;
+    
+    /**
+     * Mot de passe de cette instance.
+     */
+    private final String motDePasse;
+    
     /**
      * Connexion JDBC.
      */
     private Connection connection;
     
+    /**
+     * Nombre de bandes de verrous, et donc de connexions d'écriture.
+     */
+    private final static int NB_BANDES = 16;
+    
+    /**
+     * Verrous par produit, pour que les vérifications de stock et les
+     * insertions d'un même produit ne s'entrelacent pas.
+     */
+    private final VerrouProduits verrous = new VerrouProduits(NB_BANDES);
+    
+    /**
+     * Connexions d'écriture, une par bande de verrous, ouvertes à la première
+     * utilisation. Le driver sérialise les requêtes d'une même connexion :
+     * avec la seule connexion partagée, des produits de bandes différentes se
+     * bloqueraient quand même. Chaque connexion n'est utilisée que sous le
+     * verrou de sa bande, hors auto-commit.
+     */
+    private final Connection[] connexionsBandes = new Connection[verrous.getNbBandes()];
+    
+    /**
+     * Verrou global de ajouteMouvementConditionnelGlobal().
+     */
+    private final Lock verrouGlobal = new ReentrantLock();
+    
+    /**
+     * Connexion d'écriture de ajouteMouvementConditionnelGlobal(), utilisée
+     * sous le verrou global.
+     */
+    private Connection connexionGlobale = null;
+    
+    /**
+     * Écouteurs prévenus de chaque mouvement validé.
+     */
+    private final List<EcouteurMouvements> ecouteurs = new CopyOnWriteArrayList<>();
+    
     /**
      * Établit la connexion à la BDD.
      * 
@@ -57,20 +145,177 @@ public class RequeteGestionStock {
      * @throws ClassNotFoundException Driver JDBC non trouvé.
      */
     private void connect() throws SQLException, ClassNotFoundException {
-        Class.forName(DATABASE_DRIVER);
-        connection = DriverManager.getConnection(DATABASE_URL, DATABASE_USER, DATABASE_PASS);
+        // Les URL "jdbc:derby://hôte/base" passent par le serveur réseau, les
+        // autres "jdbc:derby:chemin" ouvrent une base embarquée.
+        if( url.startsWith("jdbc:derby://") )
+            Class.forName(DATABASE_DRIVER);
+        else if( url.startsWith("jdbc:derby:") )
+            Class.forName(DATABASE_EMBEDDED_DRIVER);
+        
+        connection = DriverManager.getConnection(url, utilisateur, motDePasse);
     }
-    
+
+    /**
+     * Ouvre une nouvelle connexion vers la même base.
+     *
+     * Utilisé par les traitements qui ont besoin de gérer leurs propres
+     * transactions sans perturber la connexion partagée. C'est à l'appelant
+     * de la fermer.
+     *
+     * @return La connexion ouverte.
+     * @throws SQLException Erreur de la base.
+     */
+    Connection nouvelleConnexion() throws SQLException {
+        return DriverManager.getConnection(url, utilisateur, motDePasse);
+    }
+
     /**
      * Constructeur par défaut.
      * 
+     * La propriété système "gestionstock.url" permet de remplacer l'URL de la
+     * base, par exemple pour ouvrir une base embarquée générée.
+     * 
      * @throws SQLException Erreur de la base.
      * @throws ClassNotFoundException Driver JDBC non trouvé.
      */
     private RequeteGestionStock() throws SQLException, ClassNotFoundException {
+        this(System.getProperty("gestionstock.url", DATABASE_URL), DATABASE_USER, DATABASE_PASS);
+    }
+    
+    /**
+     * Constructeur par données, pour se connecter à une autre base que celle
+     * de l'instance unique (partitions, bases de test embarquées...).
+     * 
+     * @param url URL JDBC de la base.
+     * @param utilisateur Utilisateur de la base.
+     * @param motDePasse Mot de passe de la base.
+     * @throws SQLException Erreur de la base.
+     * @throws ClassNotFoundException Driver JDBC non trouvé.
+     */
+    RequeteGestionStock(String url, String utilisateur, String motDePasse) throws SQLException, ClassNotFoundException {
+        this.url = url;
+        this.utilisateur = utilisateur;
+        this.motDePasse = motDePasse;
         connect();
     }
     
+    /**
+     * Ferme les connexions de cette instance.
+     * 
+     * @throws SQLException Erreur de la base.
+     */
+    void fermer() throws SQLException {
+        for(int bande = 0; bande < connexionsBandes.length; bande++){
+            Lock verrou = verrous.verrouBande(bande);
+            verrou.lock();
+            
+            try {
+                if( connexionsBandes[bande] != null ){
+                    connexionsBandes[bande].close();
+                    connexionsBandes[bande] = null;
+                }
+            } finally {
+                verrou.unlock();
+            }
+        }
+        
+        verrouGlobal.lock();
+        
+        try {
+            if( connexionGlobale != null ){
+                connexionGlobale.close();
+                connexionGlobale = null;
+            }
+        } finally {
+            verrouGlobal.unlock();
+        }
+        
+        connection.close();
+    }
+    
+    /**
+     * Retrouve la connexion d'écriture d'une bande, en l'ouvrant si besoin.
+     * L'appelant doit détenir le verrou de la bande.
+     * 
+     * @param bande L'indice de la bande.
+     * @return La connexion de la bande.
+     * @throws SQLException Erreur de la base.
+     */
+    private Connection connexionBande(int bande) throws SQLException {
+        Connection result = connexionsBandes[bande];
+        
+        if( result == null ){
+            result = nouvelleConnexion();
+            result.setAutoCommit(false);
+            connexionsBandes[bande] = result;
+        }
+        
+        return result;
+    }
+    
+    /**
+     * Pose un verrou exclusif sur la ligne d'un produit, gardé jusqu'à la fin
+     * de la transaction. Toutes les écritures qui vérifient le stock avant
+     * d'écrire (ajouts conditionnels, transferts des unités de travail) le
+     * prennent : elles s'excluent entre elles, même depuis d'autres
+     * processus.
+     * 
+     * @param cnx Une connexion hors auto-commit.
+     * @param nProduit L'identifiant du produit.
+     * @throws SQLException Erreur SQL (y compris un interblocage détecté par la base).
+     */
+    static void verrouilleProduit(Connection cnx, int nProduit) throws SQLException {
+        PreparedStatement stmt = cnx.prepareStatement(
+                "UPDATE Produit SET stockMin = stockMin WHERE nProduit = ?");
+        stmt.setInt(1, nProduit);
+        stmt.executeUpdate();
+        stmt.close();
+    }
+    
+    /**
+     * Annule la transaction d'une connexion après une erreur. Un échec de
+     * l'annulation est rattaché à l'erreur d'origine.
+     * 
+     * @param cnx La connexion.
+     * @param e L'erreur d'origine.
+     */
+    private static void annule(Connection cnx, SQLException e){
+        try {
+            cnx.rollback();
+        } catch( SQLException r ){
+            e.addSuppressed(r);
+        }
+    }
+    
+    /**
+     * Crée les tables dans une base vide, si elles n'existent pas déjà.
+     * 
+     * Le schéma est celui de 01_derbyGestionStock.sql. Les identifiants de
+     * produits peuvent être espacés, pour que plusieurs bases ne génèrent
+     * jamais le même.
+     * 
+     * @param cnx La connexion à la base.
+     * @param premierId Premier identifiant de produit généré.
+     * @param pas Écart entre deux identifiants de produits générés.
+     * @throws SQLException Erreur de la base.
+     */
+    static void creeTables(Connection cnx, int premierId, int pas) throws SQLException {
+        if( cnx.getMetaData().getTables(null, null, "PRODUIT", null).next() )
+            return;
+        
+        Statement stmt = cnx.createStatement();
+        stmt.executeUpdate("CREATE TABLE PRODUIT("
+                + "nProduit INT NOT NULL GENERATED ALWAYS AS IDENTITY"
+                + " (START WITH " + premierId + ", INCREMENT BY " + pas + ") PRIMARY KEY,"
+                + "nom VARCHAR(20), stockMin INT, stockMax INT,"
+                + "CONSTRAINT UK_PRODUIT UNIQUE (nom))");
+        stmt.executeUpdate("CREATE TABLE MOUVEMENT("
+                + "nMouvement INT NOT NULL GENERATED ALWAYS AS IDENTITY PRIMARY KEY,"
+                + "nProduit INT NOT NULL, quantite INT NOT NULL, dateMouvement DATE NOT NULL,"
+                + "CONSTRAINT FK_MOUVEMENT_PRODUIT FOREIGN KEY (nProduit) REFERENCES PRODUIT(nProduit))");
+        stmt.close();
+    }
+    
     // Singleton
     
     /**
@@ -81,11 +326,14 @@ public class RequeteGestionStock {
     /**
      * Récupère l'instance unique de cette classe. Elle est créée si nécessaire.
      * 
+     * Les fenêtres se connectent depuis des threads de fond : la création est
+     * synchronisée pour qu'il n'y ait qu'une seule instance.
+     * 
      * @return L'instance unique.
      * @throws SQLException Erreur de la base.
      * @throws ClassNotFoundException Driver JDBC non trouvé.
      */
-    public static RequeteGestionStock getInstance() throws SQLException, ClassNotFoundException {
+    public static synchronized RequeteGestionStock getInstance() throws SQLException, ClassNotFoundException {
         // S'il n'y a pas d'instance, on en crée une
         if( requeteGestionStock == null )
             requeteGestionStock = new RequeteGestionStock();
@@ -103,11 +351,22 @@ public class RequeteGestionStock {
      * @throws SQLException Erreur SQL.
      */
     public List<Produit> ensProduits() throws SQLException {
+        return ensProduits(connection);
+    }
+    
+    /**
+     * Obtient la liste de tous les produits sur une connexion donnée.
+     * 
+     * @param cnx La connexion à utiliser.
+     * @return Une liste des produits.
+     * @throws SQLException Erreur SQL.
+     */
+    static List<Produit> ensProduits(Connection cnx) throws SQLException {
         List<Produit> result = new ArrayList();
         
         // On exécute la requête
         String sql = "SELECT * FROM Produit";
-        Statement stmt = connection.createStatement();
+        Statement stmt = cnx.createStatement();
         ResultSet rs = stmt.executeQuery(sql);
         
         // On collecte les résultats
@@ -134,13 +393,26 @@ public class RequeteGestionStock {
      * @throws SQLException Erreur SQL.
      */
     public List<Produit> ensProduits(String nom) throws SQLException {
+        return ensProduits(connection, nom);
+    }
+    
+    /**
+     * Obtient la liste des produits dont le nom commence par nom, sur une
+     * connexion donnée.
+     * 
+     * @param cnx La connexion à utiliser.
+     * @param nom Le début du nom recherché, ou le nom entier. Insensible à la casse.
+     * @return Une liste des produits.
+     * @throws SQLException Erreur SQL.
+     */
+    static List<Produit> ensProduits(Connection cnx, String nom) throws SQLException {
         List<Produit> result = new ArrayList();
         
         // On exécute la requête
         String sql = "SELECT * FROM Produit WHERE UPPER(Produit.nom) LIKE ?";
         String search = nom.toUpperCase() + '%';
         
-        PreparedStatement stmt = connection.prepareStatement(sql);
+        PreparedStatement stmt = cnx.prepareStatement(sql);
         stmt.setString(1, search);
         ResultSet rs = stmt.executeQuery();
         
@@ -160,10 +432,83 @@ public class RequeteGestionStock {
         return result;
     }
     
+    /**
+     * Retrouve un produit par son identifiant.
+     * 
+     * @param nProduit L'identifiant du produit.
+     * @return Le produit, ou null s'il n'existe pas.
+     * @throws SQLException Erreur SQL.
+     */
+    public Produit produit(int nProduit) throws SQLException {
+        return produit(connection, nProduit);
+    }
+    
+    /**
+     * Retrouve un produit par son identifiant, sur une connexion donnée.
+     * 
+     * @param cnx La connexion à utiliser.
+     * @param nProduit L'identifiant du produit.
+     * @return Le produit, ou null s'il n'existe pas.
+     * @throws SQLException Erreur SQL.
+     */
+    static Produit produit(Connection cnx, int nProduit) throws SQLException {
+        Produit result = null;
+        
+        // On exécute la requête
+        String sql = "SELECT * FROM Produit WHERE nProduit = ?";
+        PreparedStatement stmt = cnx.prepareStatement(sql);
+        stmt.setInt(1, nProduit);
+        ResultSet rs = stmt.executeQuery();
+        
+        if( rs.next() ){
+            String nom = rs.getString("nom");
+            int stockMin = rs.getInt("stockMin");
+            int stockMax = rs.getInt("stockMax");
+            result = new Produit(nProduit, nom, stockMin, stockMax);
+        }
+        
+        rs.close();
+        stmt.close();
+        return result;
+    }
+    
+    /**
+     * Crée un nouveau produit.
+     * 
+     * @param nom Nom du produit.
+     * @param stockMin Quantité minimale de stock désirée.
+     * @param stockMax Quantité maximale de stock désirée.
+     * @return Le produit créé, ou null si l'ajout a échoué.
+     * @throws SQLException Erreur SQL.
+     */
+    public Produit ajouteProduit(String nom, int stockMin, int stockMax) throws SQLException {
+        String sql = "INSERT INTO Produit(nom, stockMin, stockMax) VALUES(?, ?, ?)";
+        PreparedStatement stmt = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+        stmt.setString(1, nom);
+        stmt.setInt(2, stockMin);
+        stmt.setInt(3, stockMax);
+        
+        if( stmt.executeUpdate() == 0 ){
+            stmt.close();
+            return null;
+        }
+        
+        // On récupère l'ID généré pour recréer le produit.
+        ResultSet ids = stmt.getGeneratedKeys();
+        Produit result = null;
+        
+        if( ids != null && ids.next() )
+            result = new Produit(ids.getInt(1), nom, stockMin, stockMax);
+        
+        stmt.close();
+        return result;
+    }
+    
     /**
      * Ajoute les mouvements d'un produit.
      * 
-     * Ajoute au produit donné tous ses mouvements.
+     * Ajoute au produit donné tous ses mouvements, lus du plus récent au
+     * plus ancien pour que le tri de l'historique soit immédiat.
      * 
      * @param produit Le produit dont on veut les mouvements.
      * @warning La liste n'est pas vidée auparavant.
@@ -171,21 +516,85 @@ public class RequeteGestionStock {
      */
     public void addAllMouvementsToProduit(Produit produit) throws SQLException {
         // On exécute la requête
-        String sql = "SELECT * FROM Mouvement WHERE nProduit = ?";
+        String sql = "SELECT * FROM Mouvement WHERE nProduit = ? ORDER BY dateMouvement DESC, nMouvement DESC";
         PreparedStatement stmt = connection.prepareStatement(sql);
         stmt.setInt(1, produit.getId());
         ResultSet rs = stmt.executeQuery();
+        ChargementMouvements chargement = new ChargementMouvements(produit);
         
-        while(rs.next()){
-            // On reconstruit le mouvement
-            int id = rs.getInt("nMouvement");
-            int quantite = rs.getInt("quantite");
-            Date date= rs.getDate("dateMouvement");
-            Mouvement m = new Mouvement(id, produit, date, quantite);
-            
-            // Sans oublier de l'ajouter au produit.
-            produit.addMouvement(m);
+        while(rs.next())
+            chargement.ligne(rs.getInt("nMouvement"), rs.getInt("quantite"), rs.getDate("dateMouvement"));
+        
+        rs.close();
+        stmt.close();
+        chargement.termine();
+    }
+    
+    /**
+     * Construction des mouvements d'un produit, ligne par ligne, pour
+     * addAllMouvementsToProduit(). A part pour qu'EmpreinteMemoire mesure ce
+     * même chargement sans base.
+     */
+    static class ChargementMouvements {
+        private final Produit produit;
+        private final List<Mouvement> mouvements = new ArrayList<>();
+        
+        ChargementMouvements(Produit produit) {
+            this.produit = produit;
+        }
+        
+        /**
+         * Reconstruit le mouvement d'une ligne.
+         * 
+         * @param id L'identifiant du mouvement.
+         * @param quantite La quantité déplacée.
+         * @param date La date du mouvement, telle que lue en base.
+         */
+        void ligne(int id, int quantite, Date date){
+            mouvements.add(new Mouvement(id, produit, date, quantite));
         }
+        
+        /**
+         * Ajoute au produit les mouvements reconstruits, en une fois.
+         */
+        void termine(){
+            produit.addAllMouvements(mouvements);
+        }
+    }
+    
+    /**
+     * Calcule la quantité en stock d'un produit directement depuis la base.
+     * 
+     * Contrairement à Produit.getQuantiteEnStock(), le résultat ne dépend pas
+     * de mouvements chargés en mémoire qui pourraient être périmés.
+     * 
+     * @param nProduit L'identifiant du produit.
+     * @return La quantité en stock.
+     * @throws SQLException Erreur SQL.
+     */
+    public int quantiteEnStock(int nProduit) throws SQLException {
+        return quantiteEnStock(connection, nProduit);
+    }
+    
+    /**
+     * Calcule la quantité en stock d'un produit sur une connexion donnée.
+     * 
+     * @param cnx La connexion à utiliser.
+     * @param nProduit L'identifiant du produit.
+     * @return La quantité en stock.
+     * @throws SQLException Erreur SQL.
+     */
+    static int quantiteEnStock(Connection cnx, int nProduit) throws SQLException {
+        String sql = "SELECT COALESCE(SUM(quantite), 0) FROM Mouvement WHERE nProduit = ?";
+        PreparedStatement stmt = cnx.prepareStatement(sql);
+        stmt.setInt(1, nProduit);
+        ResultSet rs = stmt.executeQuery();
+        
+        int result = rs.next() ? rs.getInt(1) : 0;
+        
+        rs.close();
+        stmt.close();
+        return result;
     }
     
     /**
@@ -198,13 +607,183 @@ public class RequeteGestionStock {
      * @throws SQLException Erreur SQL.
      */
     public boolean ajouteMouvement(Produit p, int quantite) throws SQLException {
+        int bande = verrous.bande(p.getId());
+        Lock verrou = verrous.verrouBande(bande);
+        verrou.lock();
+        
+        try {
+            Connection cnx = connexionBande(bande);
+            
+            try {
+                Mouvement m = insereMouvement(cnx, p, quantite);
+                
+                if( m == null ){
+                    cnx.rollback();
+                    return false;
+                }
+                
+                cnx.commit();
+                ajouteAuProduit(m);
+                return true;
+            } catch( SQLException e ){
+                annule(cnx, e);
+                throw e;
+            }
+        } finally {
+            verrou.unlock();
+        }
+    }
+    
+    /**
+     * Ajoute un mouvement à un produit s'il respecte les limites de stock.
+     * 
+     * La ligne du produit est verrouillée en base (voir verrouilleProduit()),
+     * puis le stock est relu et le mouvement inséré dans la même transaction :
+     * ni un autre ajout conditionnel ni un transfert d'une unité de travail
+     * ne peuvent prélever le même stock. Le verrou de la bande évite en plus
+     * que deux threads de ce processus attendent la base pour rien ; les
+     * produits de bandes différentes ne se bloquent pas, chaque bande écrivant
+     * sur sa propre connexion.
+     * 
+     * @param p Le produit en question.
+     * @param quantite La quantité de produit à déplacer.
+     * @param autoriseDepassementMax true pour accepter de dépasser le stock maximal.
+     * @return Le résultat de l'opération.
+     * @throws SQLException Erreur SQL.
+     */
+    public ResultatMouvement ajouteMouvementConditionnel(Produit p, int quantite, boolean autoriseDepassementMax) throws SQLException {
+        return ajouteMouvementConditionnel(p, quantite, autoriseDepassementMax, null);
+    }
+    
+    /**
+     * Même chose que ajouteMouvementConditionnel(Produit, int, boolean), en
+     * donnant à l'appelant le mouvement inséré : c'est le même objet que
+     * reçoivent les écouteurs.
+     * 
+     * @param p Le produit en question.
+     * @param quantite La quantité de produit à déplacer.
+     * @param autoriseDepassementMax true pour accepter de dépasser le stock maximal.
+     * @param ajoutes Reçoit le mouvement inséré s'il a été ajouté. Peut être null.
+     * @return Le résultat de l'opération.
+     * @throws SQLException Erreur SQL.
+     */
+    public ResultatMouvement ajouteMouvementConditionnel(Produit p, int quantite, boolean autoriseDepassementMax, List<Mouvement> ajoutes) throws SQLException {
+        int bande = verrous.bande(p.getId());
+        Lock verrou = verrous.verrouBande(bande);
+        verrou.lock();
+        
+        try {
+            return ajouteSiPossible(connexionBande(bande), p, quantite, autoriseDepassementMax, ajoutes);
+        } finally {
+            verrou.unlock();
+        }
+    }
+    
+    /**
+     * Même chose que ajouteMouvementConditionnel(), mais sous un verrou
+     * global et sur une seule connexion : l'organisation que les bandes ont
+     * remplacée, gardée comme référence pour le test de VerrouProduits.
+     * 
+     * @param p Le produit en question.
+     * @param quantite La quantité de produit à déplacer.
+     * @param autoriseDepassementMax true pour accepter de dépasser le stock maximal.
+     * @return Le résultat de l'opération.
+     * @throws SQLException Erreur SQL.
+     */
+    ResultatMouvement ajouteMouvementConditionnelGlobal(Produit p, int quantite, boolean autoriseDepassementMax) throws SQLException {
+        verrouGlobal.lock();
+        
+        try {
+            if( connexionGlobale == null ){
+                connexionGlobale = nouvelleConnexion();
+                connexionGlobale.setAutoCommit(false);
+            }
+            
+            return ajouteSiPossible(connexionGlobale, p, quantite, autoriseDepassementMax, null);
+        } finally {
+            verrouGlobal.unlock();
+        }
+    }
+    
+    /**
+     * Vérifie les limites de stock puis insère le mouvement, dans une
+     * transaction qui verrouille la ligne du produit. L'appelant doit détenir
+     * le verrou du produit.
+     * 
+     * @param cnx La connexion à utiliser, hors auto-commit.
+     * @param p Le produit en question.
+     * @param quantite La quantité de produit à déplacer.
+     * @param autoriseDepassementMax true pour accepter de dépasser le stock maximal.
+     * @param ajoutes Reçoit le mouvement inséré s'il a été ajouté. Peut être null.
+     * @return Le résultat de l'opération.
+     * @throws SQLException Erreur SQL.
+     */
+    private ResultatMouvement ajouteSiPossible(Connection cnx, Produit p, int quantite, boolean autoriseDepassementMax, List<Mouvement> ajoutes) throws SQLException {
+        Mouvement m = null;
+        int nouveauStock;
+        
+        try {
+            // La ligne du produit reste verrouillée jusqu'à la fin de la
+            // transaction. On part du stock réel, pas de celui de l'objet en
+            // mémoire.
+            verrouilleProduit(cnx, p.getId());
+            int stock = quantiteEnStock(cnx, p.getId());
+            nouveauStock = stock + quantite;
+            
+            ResultatMouvement refus = null;
+            
+            if( nouveauStock < 0 )
+                refus = ResultatMouvement.STOCK_INSUFFISANT;
+            else if( (quantite > 0) && (nouveauStock > p.getStockMax()) && !autoriseDepassementMax )
+                refus = ResultatMouvement.DEPASSEMENT_STOCK_MAX;
+            else {
+                m = insereMouvement(cnx, p, quantite);
+                
+                if( m == null )
+                    refus = ResultatMouvement.ECHEC;
+            }
+            
+            // Un refus relâche aussi le verrou de la ligne.
+            if( refus != null ){
+                cnx.rollback();
+                return refus;
+            }
+            
+            cnx.commit();
+        } catch( SQLException e ){
+            annule(cnx, e);
+            throw e;
+        }
+        
+        ajouteAuProduit(m);
+        
+        if( ajoutes != null )
+            ajoutes.add(m);
+        
+        if( (quantite < 0) && (nouveauStock < p.getStockMin()) )
+            return ResultatMouvement.AJOUTE_SOUS_STOCK_MIN;
+        
+        return ResultatMouvement.AJOUTE;
+    }
+    
+    /**
+     * Insère un mouvement en base, sans valider la transaction.
+     * L'appelant doit détenir le verrou du produit.
+     * 
+     * @param cnx La connexion de la bande du produit.
+     * @param p Le produit en question.
+     * @param quantite La quantité de produit à déplacer.
+     * @return Le mouvement inséré, ou null si l'insertion a échoué.
+     * @throws SQLException Erreur SQL.
+     */
+    private Mouvement insereMouvement(Connection cnx, Produit p, int quantite) throws SQLException {
         // On prend la date maintenant, ne sachant pas combien de temps la requête
         // prendra, autant la prélever une seule fois.
         Date dateCourante = new Date();
         
         // On exécute la requête
         String sql = "INSERT INTO Mouvement(nProduit, quantite, dateMouvement) VALUES(?, ?, ?)";
-        PreparedStatement stmt = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+        PreparedStatement stmt = cnx.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
         stmt.setInt(1, p.getId());
         stmt.setInt(2, quantite);
         stmt.setDate(3, new java.sql.Date(dateCourante.getTime()));
@@ -213,21 +792,92 @@ public class RequeteGestionStock {
         int rowsChanged = stmt.executeUpdate();
         
         if( rowsChanged == 0 )
-            return false;
+            return null;
         
         // On récupère les ID's
         ResultSet ids = stmt.getGeneratedKeys();
         
         if( ids == null || !ids.next() )
-            return false;
+            return null;
         
         // Et enfin on recrée le mouvement
         int id = ids.getInt(1);
-        Mouvement m = new Mouvement(id, p, dateCourante, quantite);
-        
-        // Puis on l'ajoute au produit.
-        p.addMouvement(m);
-        return true;
+        return new Mouvement(id, p, dateCourante, quantite);
+    }
+    
+    /**
+     * Ajoute un mouvement validé à son objet Produit et prévient les
+     * écouteurs. L'appelant doit détenir le verrou du produit.
+     * 
+     * @param m Le mouvement validé.
+     */
+    private void ajouteAuProduit(Mouvement m){
+        m.getProduit().addMouvement(m);
+        notifie(m);
+    }
+    
+    /**
+     * Commence une unité de travail : plusieurs mouvements validés ensemble,
+     * dans une seule transaction sur une connexion qui lui est propre.
+     * 
+     * @return L'unité de travail, à fermer après usage.
+     * @throws SQLException Erreur SQL.
+     */
+    public UniteDeTravail uniteDeTravail() throws SQLException {
+        return new UniteDeTravail(this, nouvelleConnexion());
+    }
+    
+    /**
+     * Ajoute des mouvements validés à leurs objets Produit, chacun sous le
+     * verrou de son produit.
+     * 
+     * @param mouvements Les mouvements validés.
+     */
+    void publie(List<Mouvement> mouvements){
+        for(int i = 0; i < mouvements.size(); i++){
+            Mouvement m = mouvements.get(i);
+            Lock verrou = verrous.verrou(m.getProduit().getId());
+            verrou.lock();
+            
+            try {
+                m.getProduit().addMouvement(m);
+            } finally {
+                verrou.unlock();
+            }
+            
+            notifie(m);
+        }
+    }
+    
+    // Écouteurs
+    
+    /**
+     * Inscrit un écouteur des mouvements validés par cette instance (ajouts
+     * directs, unités de travail et ingestion par lots).
+     * 
+     * @param ecouteur L'écouteur à inscrire.
+     */
+    public void ajouteEcouteur(EcouteurMouvements ecouteur){
+        ecouteurs.add(ecouteur);
+    }
+    
+    /**
+     * Désinscrit un écouteur.
+     * 
+     * @param ecouteur L'écouteur à désinscrire.
+     */
+    public void retireEcouteur(EcouteurMouvements ecouteur){
+        ecouteurs.remove(ecouteur);
+    }
+    
+    /**
+     * Prévient les écouteurs qu'un mouvement a été validé.
+     * 
+     * @param m Le mouvement validé.
+     */
+    void notifie(Mouvement m){
+        for(EcouteurMouvements curr: ecouteurs)
+            curr.mouvementValide(m);
     }
     
     // Tests
@@ -0,0 +1,41 @@
+package metier;
+
+/**
+ * Résultat d'un ajout de mouvement conditionnel.
+ * 
+ * @see RequeteGestionStock#ajouteMouvementConditionnel(modele.Produit, int, boolean)
+ * @author jessy
+ */
+public enum ResultatMouvement {
+    /**
+     * Le mouvement a été ajouté.
+     */
+    AJOUTE,
+    
+    /**
+     * Le mouvement a été ajouté, mais le stock est passé sous le stock minimal.
+     */
+    AJOUTE_SOUS_STOCK_MIN,
+    
+    /**
+     * Le mouvement a été refusé car il rendrait le stock négatif.
+     */
+    STOCK_INSUFFISANT,
+    
+    /**
+     * Le mouvement a été refusé car il dépasserait le stock maximal.
+     */
+    DEPASSEMENT_STOCK_MAX,
+    
+    /**
+     * L'insertion en base a échoué.
+     */
+    ECHEC;
+    
+    /**
+     * @return true si le mouvement a bien été enregistré.
+     */
+    public boolean estAjoute(){
+        return this == AJOUTE || this == AJOUTE_SOUS_STOCK_MIN;
+    }
+}
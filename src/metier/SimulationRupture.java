@@ -0,0 +1,288 @@
+package metier;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import modele.*;
+
+/**
+ * Estimation de la probabilité de rupture de stock par simulation.
+ *
+ * Pour chaque produit, on rejoue de nombreux futurs possibles : chaque jour
+ * simulé consomme la quantité d'un jour de l'historique tiré au hasard. La
+ * probabilité de rupture est la proportion de ces futurs où le stock est
+ * épuisé avant l'horizon.
+ *
+ * Les tirages sont répartis entre les threads par blocs. Chaque tâche reçoit
+ * son propre générateur, obtenu par SplittableRandom.split() selon un
+ * découpage qui ne dépend que du nombre de produits et de tirages : pour une
+ * même graine, le résultat est identique quel que soit le nombre de threads.
+ *
+ * @author jessy
+ */
+public class SimulationRupture {
+    /**
+     * Nombre de tirages simulés par tâche élémentaire.
+     */
+    private final static int TIRAGES_PAR_BLOC = 1024;
+
+    /**
+     * Nombre de tirages par produit.
+     */
+    private final int nbTirages;
+
+    /**
+     * Graine des générateurs aléatoires.
+     */
+    private final long graine;
+
+    /**
+     * Threads utilisés pour la simulation.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * Constructeur par données, sur tous les cœurs disponibles.
+     *
+     * @param nbTirages Nombre de tirages par produit.
+     * @param graine Graine des générateurs aléatoires.
+     */
+    public SimulationRupture(int nbTirages, long graine) {
+        this(nbTirages, graine, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructeur par données.
+     *
+     * @param nbTirages Nombre de tirages par produit.
+     * @param graine Graine des générateurs aléatoires.
+     * @param pool Threads utilisés pour la simulation.
+     */
+    public SimulationRupture(int nbTirages, long graine, ForkJoinPool pool) {
+        if( nbTirages <= 0 )
+            throw new IllegalArgumentException("Nombre de tirages invalide : " + nbTirages);
+
+        this.nbTirages = nbTirages;
+        this.graine = graine;
+        this.pool = pool;
+    }
+
+    /**
+     * Calcule la probabilité de rupture de chaque produit.
+     *
+     * Les mouvements des produits doivent avoir été chargés.
+     *
+     * @param produits Les produits à simuler.
+     * @param horizonJours Nombre de jours simulés.
+     * @param maintenant La date de référence, en millisecondes.
+     * @return La probabilité de rupture de chaque produit, dans le même ordre.
+     */
+    public double[] probabilites(List<Produit> produits, int horizonJours, long maintenant){
+        int[][] historiques = new int[produits.size()][];
+        int[] stocks = new int[produits.size()];
+        TimeZone fuseau = TimeZone.getDefault();
+
+        for(int i = 0; i < produits.size(); i++){
+            historiques[i] = consommationsJournalieres(produits.get(i), maintenant, fuseau);
+            stocks[i] = produits.get(i).getQuantiteEnStock();
+        }
+
+        return probabilites(historiques, stocks, horizonJours);
+    }
+
+    /**
+     * Calcule la probabilité de rupture de chaque produit.
+     *
+     * @param historiques Pour chaque produit, sa consommation de chaque jour passé.
+     * @param stocks Pour chaque produit, son stock actuel.
+     * @param horizonJours Nombre de jours simulés.
+     * @return La probabilité de rupture de chaque produit, dans le même ordre.
+     */
+    public double[] probabilites(int[][] historiques, int[] stocks, int horizonJours){
+        int blocsParProduit = (nbTirages + TIRAGES_PAR_BLOC - 1) / TIRAGES_PAR_BLOC;
+        int[] ruptures = new int[historiques.length * blocsParProduit];
+
+        pool.invoke(new Simulation(historiques, stocks, horizonJours, blocsParProduit, ruptures,
+                0, ruptures.length, new SplittableRandom(graine)));
+
+        // On regroupe les blocs de chaque produit.
+        double[] result = new double[historiques.length];
+
+        for(int p = 0; p < historiques.length; p++){
+            long total = 0;
+
+            for(int b = 0; b < blocsParProduit; b++)
+                total += ruptures[p * blocsParProduit + b];
+
+            result[p] = (double) total / nbTirages;
+        }
+
+        return result;
+    }
+
+    /**
+     * Reconstitue la consommation de chaque jour, depuis le jour du plus
+     * ancien mouvement jusqu'à la veille de la date de référence.
+     *
+     * Les jours sont ceux du calendrier local : un mouvement compte pour le
+     * jour de sa date dans le fuseau, quelle que soit son heure.
+     *
+     * @param produit Le produit, avec ses mouvements.
+     * @param maintenant La date de référence, en millisecondes.
+     * @param fuseau Le fuseau horaire des dates.
+     * @return Les quantités sorties chaque jour (vide si aucun jour complet).
+     */
+    public static int[] consommationsJournalieres(Produit produit, long maintenant, TimeZone fuseau){
+        List<Mouvement> mouvements = produit.getMouvements();
+
+        if( mouvements.isEmpty() )
+            return new int[0];
+
+        // La liste est triée avec les mouvements les plus récents en premiers.
+        long origine = NoyauPrevision.jourLocal(mouvements.get(mouvements.size() - 1).getDate().getTime(), fuseau);
+        int nbJours = (int) Math.max(0, NoyauPrevision.jourLocal(maintenant, fuseau) - origine);
+        int[] result = new int[nbJours];
+
+        for(int i = 0; i < mouvements.size(); i++){
+            Mouvement curr = mouvements.get(i);
+            long jour = NoyauPrevision.jourLocal(curr.getDate().getTime(), fuseau) - origine;
+
+            if( curr.getQuantite() < 0 && jour >= 0 && jour < nbJours )
+                result[(int) jour] -= curr.getQuantite();
+        }
+
+        return result;
+    }
+
+    /**
+     * Simule un bloc de tirages pour un produit.
+     *
+     * @return Le nombre de tirages qui finissent en rupture.
+     */
+    private static int simuleBloc(int[] historique, int stock, int horizonJours, int nbTirages, SplittableRandom rnd){
+        // Déjà en rupture : tous les tirages le sont.
+        if( stock <= 0 )
+            return nbTirages;
+
+        // Sans historique, rien ne permet de prévoir une consommation.
+        if( historique.length == 0 )
+            return 0;
+
+        int ruptures = 0;
+
+        for(int t = 0; t < nbTirages; t++){
+            long reste = stock;
+
+            for(int j = 0; j < horizonJours; j++){
+                reste -= historique[rnd.nextInt(historique.length)];
+
+                if( reste <= 0 ){
+                    ruptures++;
+                    break;
+                }
+            }
+        }
+
+        return ruptures;
+    }
+
+    /**
+     * Tâche de simulation d'une tranche de blocs (produit, tirages).
+     *
+     * La tranche est coupée en deux tant qu'elle contient plusieurs blocs ; la
+     * moitié gauche reçoit un générateur dérivé de celui de la tâche.
+     */
+    private class Simulation extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int[][] historiques;
+        private final int[] stocks;
+        private final int horizonJours;
+        private final int blocsParProduit;
+        private final int[] ruptures;
+        private final int debut, fin;
+        private final SplittableRandom rnd;
+
+        Simulation(int[][] historiques, int[] stocks, int horizonJours, int blocsParProduit,
+                int[] ruptures, int debut, int fin, SplittableRandom rnd) {
+            this.historiques = historiques;
+            this.stocks = stocks;
+            this.horizonJours = horizonJours;
+            this.blocsParProduit = blocsParProduit;
+            this.ruptures = ruptures;
+            this.debut = debut;
+            this.fin = fin;
+            this.rnd = rnd;
+        }
+
+        @Override
+        protected void compute() {
+            if( fin - debut > 1 ){
+                int milieu = (debut + fin) >>> 1;
+                invokeAll(
+                    new Simulation(historiques, stocks, horizonJours, blocsParProduit, ruptures, debut, milieu, rnd.split()),
+                    new Simulation(historiques, stocks, horizonJours, blocsParProduit, ruptures, milieu, fin, rnd)
+                );
+                return;
+            }
+
+            if( fin == debut )
+                return;
+
+            // Un seul bloc : le dernier bloc d'un produit peut être incomplet.
+            int produit = debut / blocsParProduit;
+            int bloc = debut % blocsParProduit;
+            int tirages = Math.min(TIRAGES_PAR_BLOC, nbTirages - bloc * TIRAGES_PAR_BLOC);
+
+            ruptures[debut] = simuleBloc(historiques[produit], stocks[produit], horizonJours, tirages, rnd);
+        }
+    }
+
+    // Tests
+
+    /**
+     * Mesure le débit de la simulation selon le nombre de cœurs.
+     *
+     * @param args [produits] [tirages par produit] [horizon en jours]
+     * @throws Exception Toute exception qui se produit pendant le test.
+     */
+    public static void main(String[] args) throws Exception {
+        int nbProduits = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        int nbTirages = args.length > 1 ? Integer.parseInt(args[1]) : 10000;
+        int horizon = args.length > 2 ? Integer.parseInt(args[2]) : 30;
+
+        // Historiques synthétiques d'un an.
+        SplittableRandom gen = new SplittableRandom(1);
+        int[][] historiques = new int[nbProduits][365];
+        int[] stocks = new int[nbProduits];
+
+        for(int p = 0; p < nbProduits; p++){
+            for(int j = 0; j < 365; j++)
+                historiques[p][j] = gen.nextInt(4) == 0 ? gen.nextInt(10) : 0;
+
+            stocks[p] = gen.nextInt(150);
+        }
+
+        double[] reference = null;
+        System.out.println("coeurs\ttirages/s\tidentique");
+
+        for(int coeurs = 1; coeurs <= Runtime.getRuntime().availableProcessors(); coeurs *= 2){
+            ForkJoinPool pool = new ForkJoinPool(coeurs);
+            SimulationRupture simulation = new SimulationRupture(nbTirages, 42, pool);
+
+            // Un tour de chauffe, puis la mesure.
+            simulation.probabilites(historiques, stocks, horizon);
+
+            long debut = System.nanoTime();
+            double[] result = simulation.probabilites(historiques, stocks, horizon);
+            double secondes = (System.nanoTime() - debut) / 1e9;
+            pool.shutdown();
+
+            if( reference == null )
+                reference = result;
+
+            System.out.printf("%d\t%.3g\t%b\n", coeurs, (double) nbProduits * nbTirages / secondes,
+                    Arrays.equals(reference, result));
+        }
+    }
+}
@@ -0,0 +1,467 @@
+package metier;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import java.util.*;
+import java.util.concurrent.*;
+import modele.*;
+
+/**
+ * Stockage réparti sur plusieurs bases.
+ *
+ * Chaque entrepôt (partition) est une base Derby indépendante, éventuellement
+ * embarquée. Les identifiants de produits sont entrelacés entre partitions :
+ * la partition k (sur n) génère les identifiants k+1, k+1+n, k+1+2n... On
+ * retrouve donc la partition d'un produit à partir de son seul identifiant,
+ * ce qui permet d'y router les écritures.
+ *
+ * Les lectures globales (liste, recherche, prévisions) sont lancées en
+ * parallèle sur toutes les partitions, puis les résultats sont fusionnés dans
+ * le même ordre qu'avec une base unique.
+ *
+ * @author jessy
+ */
+public class StockagePartitionne {
+    /**
+     * Requêtes sur chaque partition, dans l'ordre des indices.
+     */
+    private final RequeteGestionStock[] partitions;
+
+    /**
+     * Threads qui interrogent les partitions en parallèle.
+     */
+    private final ExecutorService executeur;
+
+    /**
+     * Constructeur par données.
+     *
+     * @param urls URL JDBC des partitions, dans l'ordre de leurs indices.
+     * @param utilisateur Utilisateur des bases.
+     * @param motDePasse Mot de passe des bases.
+     * @throws SQLException Erreur de la base.
+     * @throws ClassNotFoundException Driver JDBC non trouvé.
+     */
+    public StockagePartitionne(List<String> urls, String utilisateur, String motDePasse) throws SQLException, ClassNotFoundException {
+        if( urls.isEmpty() )
+            throw new IllegalArgumentException("Aucune partition");
+
+        partitions = new RequeteGestionStock[urls.size()];
+
+        for(int i = 0; i < partitions.length; i++)
+            partitions[i] = new RequeteGestionStock(urls.get(i), utilisateur, motDePasse);
+
+        executeur = Executors.newFixedThreadPool(partitions.length, new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread t = new Thread(r, "partition");
+                t.setDaemon(true);
+                return t;
+            }
+        });
+    }
+
+    /**
+     * Crée ou ouvre des partitions embarquées dans un dossier local.
+     *
+     * Les tables sont créées dans les partitions qui n'en ont pas encore.
+     * Des partitions existantes doivent avoir été créées avec le même nombre
+     * de partitions : sinon les produits ne seraient plus cherchés dans la
+     * partition qui les contient.
+     *
+     * @param dossier Le dossier qui contient les bases.
+     * @param nombre Le nombre de partitions.
+     * @return Le stockage ouvert.
+     * @throws SQLException Erreur de la base.
+     * @throws ClassNotFoundException Driver JDBC non trouvé.
+     * @throws IllegalArgumentException Si le dossier contient des partitions
+     *         créées avec un autre nombre de partitions.
+     */
+    public static StockagePartitionne embarque(File dossier, int nombre) throws SQLException, ClassNotFoundException {
+        // On vérifie avant d'ouvrir quoi que ce soit, pour ne pas créer de
+        // partitions en trop.
+        int existantes = 0;
+
+        while( new File(dossier, "partition-" + existantes).isDirectory() )
+            existantes++;
+
+        if( existantes != 0 && existantes != nombre )
+            throw new IllegalArgumentException(dossier + " contient " + existantes + " partitions, pas " + nombre);
+
+        List<String> urls = new ArrayList<>();
+
+        for(int i = 0; i < nombre; i++)
+            urls.add("jdbc:derby:" + new File(dossier, "partition-" + i).getPath() + ";create=true");
+
+        StockagePartitionne result = new StockagePartitionne(urls, "", "");
+
+        try {
+            for(int i = 0; i < nombre; i++)
+                result.initialiseSchema(i);
+        } catch( SQLException | RuntimeException e ){
+            try {
+                result.fermer();
+            } catch( SQLException f ){
+                e.addSuppressed(f);
+            }
+
+            throw e;
+        }
+
+        return result;
+    }
+
+    /**
+     * Crée les tables d'une partition si elles n'existent pas.
+     *
+     * Le schéma est celui de 01_derbyGestionStock.sql, à l'identité des
+     * produits près.
+     *
+     * @param indice L'indice de la partition.
+     * @throws SQLException Erreur de la base.
+     */
+    private void initialiseSchema(int indice) throws SQLException {
+        Connection cnx = partitions[indice].nouvelleConnexion();
+
+        try {
+            RequeteGestionStock.creeTables(cnx, indice + 1, partitions.length);
+
+            // L'identité des produits dit comment la partition a été créée.
+            Statement stmt = cnx.createStatement();
+            ResultSet rs = stmt.executeQuery("SELECT c.AUTOINCREMENTSTART, c.AUTOINCREMENTINC "
+                    + "FROM SYS.SYSCOLUMNS c JOIN SYS.SYSTABLES t ON c.REFERENCEID = t.TABLEID "
+                    + "WHERE t.TABLENAME = 'PRODUIT' AND c.COLUMNNAME = 'NPRODUIT'");
+            boolean conforme = rs.next() && rs.getLong(1) == indice + 1 && rs.getLong(2) == partitions.length;
+            rs.close();
+            stmt.close();
+
+            if( !conforme )
+                throw new IllegalArgumentException("La partition " + indice + " n'a pas été créée pour "
+                        + partitions.length + " partitions");
+        } finally {
+            cnx.close();
+        }
+    }
+
+    /**
+     * Ferme toutes les partitions.
+     *
+     * @throws SQLException Erreur de la base.
+     */
+    public void fermer() throws SQLException {
+        executeur.shutdown();
+
+        for(RequeteGestionStock curr: partitions)
+            curr.fermer();
+    }
+
+    // Routage
+
+    /**
+     * @return Le nombre de partitions.
+     */
+    public int getNbPartitions(){
+        return partitions.length;
+    }
+
+    /**
+     * Calcule l'indice de la partition qui contient un produit.
+     *
+     * @param nProduit L'identifiant du produit.
+     * @return L'indice de la partition.
+     */
+    public int indicePartition(int nProduit){
+        return Math.floorMod(nProduit - 1, partitions.length);
+    }
+
+    /**
+     * Retrouve la partition qui contient un produit.
+     *
+     * @param nProduit L'identifiant du produit.
+     * @return Les requêtes de cette partition.
+     */
+    public RequeteGestionStock partition(int nProduit){
+        return partitions[indicePartition(nProduit)];
+    }
+
+    // Écritures
+
+    /**
+     * Crée un produit dans un entrepôt donné.
+     *
+     * @param entrepot L'indice de la partition de l'entrepôt.
+     * @param nom Nom du produit.
+     * @param stockMin Quantité minimale de stock désirée.
+     * @param stockMax Quantité maximale de stock désirée.
+     * @return Le produit créé, ou null si l'ajout a échoué.
+     * @throws SQLException Erreur SQL.
+     */
+    public Produit ajouteProduit(int entrepot, String nom, int stockMin, int stockMax) throws SQLException {
+        return partitions[entrepot].ajouteProduit(nom, stockMin, stockMax);
+    }
+
+    /**
+     * Ajoute un mouvement à un produit, dans la partition de celui-ci.
+     *
+     * @see RequeteGestionStock#ajouteMouvement(Produit, int)
+     */
+    public boolean ajouteMouvement(Produit p, int quantite) throws SQLException {
+        return partition(p.getId()).ajouteMouvement(p, quantite);
+    }
+
+    /**
+     * Ajoute un mouvement conditionnel, dans la partition du produit.
+     *
+     * @see RequeteGestionStock#ajouteMouvementConditionnel(Produit, int, boolean)
+     */
+    public ResultatMouvement ajouteMouvementConditionnel(Produit p, int quantite, boolean autoriseDepassementMax) throws SQLException {
+        return partition(p.getId()).ajouteMouvementConditionnel(p, quantite, autoriseDepassementMax);
+    }
+
+    /**
+     * Ajoute au produit tous ses mouvements, lus dans sa partition.
+     *
+     * @see RequeteGestionStock#addAllMouvementsToProduit(Produit)
+     */
+    public void addAllMouvementsToProduit(Produit produit) throws SQLException {
+        partition(produit.getId()).addAllMouvementsToProduit(produit);
+    }
+
+    // Lectures globales
+
+    /**
+     * Une lecture exécutée sur une partition.
+     */
+    private interface Lecture {
+        List<Produit> lire(RequeteGestionStock partition) throws SQLException;
+    }
+
+    /**
+     * Exécute une lecture sur toutes les partitions en parallèle et
+     * concatène les résultats.
+     *
+     * @param lecture La lecture à exécuter.
+     * @return Les produits de toutes les partitions, non triés.
+     * @throws SQLException La première erreur rencontrée.
+     */
+    private List<Produit> dispersion(final Lecture lecture) throws SQLException {
+        List<Future<List<Produit>>> futurs = new ArrayList<>(partitions.length);
+
+        for(final RequeteGestionStock curr: partitions){
+            futurs.add(executeur.submit(new Callable<List<Produit>>() {
+                @Override
+                public List<Produit> call() throws SQLException {
+                    return lecture.lire(curr);
+                }
+            }));
+        }
+
+        List<Produit> result = new ArrayList<>();
+
+        try {
+            for(Future<List<Produit>> f: futurs)
+                result.addAll(f.get());
+        } catch( ExecutionException e ){
+            if( e.getCause() instanceof SQLException )
+                throw (SQLException) e.getCause();
+
+            throw new SQLException(e.getCause());
+        } catch( InterruptedException e ){
+            Thread.currentThread().interrupt();
+            throw new SQLException(e);
+        }
+
+        return result;
+    }
+
+    /**
+     * Trie une liste de produits par identifiant, comme une base unique.
+     */
+    private static List<Produit> parIdentifiant(List<Produit> produits){
+        produits.sort(new Comparator<Produit>() {
+            @Override
+            public int compare(Produit o1, Produit o2) {
+                return Integer.compare(o1.getId(), o2.getId());
+            }
+        });
+        return produits;
+    }
+
+    /**
+     * Obtient la liste de tous les produits de tous les entrepôts.
+     *
+     * @return Une liste des produits, par identifiant croissant.
+     * @throws SQLException Erreur SQL.
+     */
+    public List<Produit> ensProduits() throws SQLException {
+        return parIdentifiant(dispersion(new Lecture() {
+            @Override
+            public List<Produit> lire(RequeteGestionStock partition) throws SQLException {
+                return partition.ensProduits();
+            }
+        }));
+    }
+
+    /**
+     * Obtient la liste de tous les produits dont le nom commence par nom.
+     *
+     * @param nom Le début du nom recherché, ou le nom entier. Insensible à la casse.
+     * @return Une liste des produits, par identifiant croissant.
+     * @throws SQLException Erreur SQL.
+     */
+    public List<Produit> ensProduits(final String nom) throws SQLException {
+        return parIdentifiant(dispersion(new Lecture() {
+            @Override
+            public List<Produit> lire(RequeteGestionStock partition) throws SQLException {
+                return partition.ensProduits(nom);
+            }
+        }));
+    }
+
+    /**
+     * Obtient tous les produits avec leurs mouvements, triés comme dans la
+     * fenêtre Prevision : par date de rupture décroissante.
+     *
+     * Chaque partition charge ses mouvements en parallèle des autres.
+     *
+     * @param maintenant La date de référence des prévisions, en millisecondes.
+     * @return La liste des produits.
+     * @throws SQLException Erreur SQL.
+     */
+    public List<Produit> previsions(long maintenant) throws SQLException {
+        List<Produit> produits = dispersion(new Lecture() {
+            @Override
+            public List<Produit> lire(RequeteGestionStock partition) throws SQLException {
+                List<Produit> result = partition.ensProduits();
+
+                for(Produit curr: result)
+                    partition.addAllMouvementsToProduit(curr);
+
+                return result;
+            }
+        });
+
+        // La date de rupture est calculée une seule fois par produit, puis
+        // on trie les indices sur ces clés.
+        TimeZone fuseau = TimeZone.getDefault();
+        final long[] cles = new long[produits.size()];
+        Integer[] ordre = new Integer[cles.length];
+
+        for(int i = 0; i < cles.length; i++){
+            cles[i] = produits.get(i).dateDeRupture(maintenant, fuseau);
+            ordre[i] = i;
+        }
+
+        Arrays.sort(ordre, new Comparator<Integer>() {
+            @Override
+            public int compare(Integer o1, Integer o2) {
+                return Long.compare(cles[o2], cles[o1]);
+            }
+        });
+
+        List<Produit> result = new ArrayList<>(cles.length);
+
+        for(Integer i: ordre)
+            result.add(produits.get(i));
+
+        return result;
+    }
+
+    // Tests
+
+    /**
+     * Test de montée en charge selon le nombre de partitions.
+     *
+     * Pour chaque nombre de partitions, crée des bases embarquées dans un
+     * dossier temporaire, y répartit un catalogue, puis mesure le débit des
+     * écritures routées (plusieurs threads) et des prévisions globales. Les
+     * bases sont arrêtées et leur dossier supprimé après chaque mesure.
+     *
+     * @param args [produits] [mouvements par produit] [threads d'écriture]
+     * @throws Exception Toute exception qui se produit pendant le test.
+     */
+    public static void main(String[] args) throws Exception {
+        int nbProduits = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+        int parProduit = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+        int nbThreads = args.length > 2 ? Integer.parseInt(args[2]) : 8;
+
+        System.out.println("partitions\tmouvements/s\tprévisions/s");
+
+        try {
+            for(int n = 1; n <= 8; n *= 2){
+                File dossier = Files.createTempDirectory("partitions-").toFile();
+
+                try {
+                    mesure(dossier, n, nbProduits, parProduit, nbThreads);
+                } finally {
+                    // Derby garde les fichiers d'une base ouverts jusqu'à son arrêt.
+                    for(int i = 0; i < n; i++)
+                        GenerateurCatalogue.arreteDerby("jdbc:derby:" + new File(dossier, "partition-" + i).getPath());
+
+                    GenerateurCatalogue.supprime(dossier.toPath());
+                }
+            }
+        } finally {
+            GenerateurCatalogue.arreteDerby("jdbc:derby:");
+        }
+    }
+
+    /**
+     * Mesure les débits pour un nombre de partitions.
+     */
+    private static void mesure(File dossier, int n, int nbProduits, int parProduit, int nbThreads) throws Exception {
+        final StockagePartitionne stockage = embarque(dossier, n);
+
+        try {
+            // Répartition du catalogue entre les entrepôts.
+            final List<Produit> produits = new ArrayList<>();
+
+            for(int i = 0; i < nbProduits; i++)
+                produits.add(stockage.ajouteProduit(i % n, "P" + i, 10, 100));
+
+            // Écritures routées en parallèle.
+            final int total = nbProduits * parProduit;
+            ExecutorService pool = Executors.newFixedThreadPool(nbThreads);
+            List<Future<?>> taches = new ArrayList<>();
+            long debut = System.nanoTime();
+
+            for(int t = 0; t < nbThreads; t++){
+                final int premier = t;
+                final int pas = nbThreads;
+                taches.add(pool.submit(new Callable<Void>() {
+                    @Override
+                    public Void call() throws Exception {
+                        for(int i = premier; i < total; i += pas)
+                            stockage.ajouteMouvement(produits.get(i % produits.size()), i % 3 == 0 ? -1 : 2);
+                        return null;
+                    }
+                }));
+            }
+
+            try {
+                for(Future<?> f: taches)
+                    f.get();
+            } finally {
+                pool.shutdown();
+            }
+
+            double ecritures = total / ((System.nanoTime() - debut) / 1e9);
+
+            // Prévisions globales par dispersion.
+            int tours = 5;
+            debut = System.nanoTime();
+
+            for(int i = 0; i < tours; i++)
+                stockage.previsions(System.currentTimeMillis());
+
+            double lectures = tours / ((System.nanoTime() - debut) / 1e9);
+            System.out.printf("%d\t%.0f\t%.2f\n", n, ecritures, lectures);
+        } finally {
+            stockage.fermer();
+        }
+    }
+}
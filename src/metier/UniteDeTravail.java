@@ -0,0 +1,330 @@
+package metier;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.sql.Statement;
+
+import java.util.*;
+import modele.*;
+
+/**
+ * Unité de travail : un ensemble de mouvements validés ou annulés ensemble.
+ *
+ * Les mouvements sont insérés dans une seule transaction, sur une connexion
+ * propre à l'unité, et ne coûtent qu'une validation au total. Ils ne sont
+ * ajoutés aux objets Produit qu'une fois la transaction validée : une
+ * annulation, totale ou jusqu'à un point de sauvegarde, ne laisse aucune
+ * trace en mémoire.
+ *
+ * Utilisation typique :
+ * <pre>
+ * try( UniteDeTravail uow = requete.uniteDeTravail() ){
+ *     uow.ajouteMouvement(a, 10);
+ *     uow.ajouteMouvement(b, 5);
+ *     uow.valide();
+ * }
+ * </pre>
+ * Une unité fermée sans avoir été validée est annulée.
+ *
+ * Une unité n'est pas prévue pour être partagée entre plusieurs threads.
+ *
+ * @author jessy
+ */
+public class UniteDeTravail implements AutoCloseable {
+    /**
+     * Un point de sauvegarde de l'unité de travail.
+     */
+    public static final class PointDeSauvegarde {
+        private final Savepoint savepoint;
+        private final int nbMouvements;
+
+        private PointDeSauvegarde(Savepoint savepoint, int nbMouvements) {
+            this.savepoint = savepoint;
+            this.nbMouvements = nbMouvements;
+        }
+    }
+
+    /**
+     * Les requêtes qui ont créé l'unité.
+     */
+    private final RequeteGestionStock requete;
+
+    /**
+     * Connexion propre à l'unité, hors auto-commit.
+     */
+    private final Connection connection;
+
+    /**
+     * Requête d'insertion, préparée une fois pour toute l'unité.
+     */
+    private final PreparedStatement insertion;
+
+    /**
+     * Mouvements insérés mais pas encore validés.
+     */
+    private final List<Mouvement> enAttente = new ArrayList<>();
+
+    /**
+     * Passe à true quand l'unité est validée, annulée ou fermée.
+     */
+    private boolean terminee = false;
+
+    /**
+     * Constructeur par données.
+     *
+     * @param requete Les requêtes qui créent l'unité.
+     * @param connection Une connexion dédiée, que l'unité fermera.
+     * @throws SQLException Erreur SQL.
+     */
+    UniteDeTravail(RequeteGestionStock requete, Connection connection) throws SQLException {
+        this.requete = requete;
+        this.connection = connection;
+
+        try {
+            connection.setAutoCommit(false);
+            insertion = connection.prepareStatement(
+                    "INSERT INTO Mouvement(nProduit, quantite, dateMouvement) VALUES(?, ?, ?)",
+                    Statement.RETURN_GENERATED_KEYS);
+        } catch( SQLException e ){
+            connection.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Ajoute un mouvement à l'unité.
+     *
+     * @param p Le produit en question.
+     * @param quantite La quantité de produit à déplacer.
+     * @return Le mouvement, qui ne sera ajouté au produit qu'à la validation.
+     * @throws SQLException Erreur SQL.
+     */
+    public Mouvement ajouteMouvement(Produit p, int quantite) throws SQLException {
+        verifieActive();
+
+        Date dateCourante = new Date();
+        insertion.setInt(1, p.getId());
+        insertion.setInt(2, quantite);
+        insertion.setDate(3, new java.sql.Date(dateCourante.getTime()));
+
+        if( insertion.executeUpdate() == 0 )
+            throw new SQLException("Mouvement non inséré pour le produit " + p.getId());
+
+        ResultSet ids = insertion.getGeneratedKeys();
+
+        if( ids == null || !ids.next() )
+            throw new SQLException("Identifiant du mouvement non retourné");
+
+        Mouvement m = new Mouvement(ids.getInt(1), p, dateCourante, quantite);
+        ids.close();
+        enAttente.add(m);
+        return m;
+    }
+
+    /**
+     * Transfère du stock d'un produit à un autre.
+     *
+     * Le produit source est verrouillé en base jusqu'à la fin de l'unité, puis
+     * son stock est relu en tenant compte des mouvements déjà faits dans
+     * l'unité. RequeteGestionStock.ajouteMouvementConditionnel() prend le
+     * même verrou : ni une autre unité ni un ajout conditionnel ne peuvent
+     * prélever le même stock.
+     *
+     * @param source Le produit dont le stock diminue.
+     * @param destination Le produit dont le stock augmente.
+     * @param quantite La quantité transférée, strictement positive.
+     * @return true si le transfert est fait, false si le stock de la source est insuffisant.
+     * @throws SQLException Erreur SQL (y compris un interblocage détecté par la base).
+     * @warning RequeteGestionStock.ajouteMouvement() ne vérifie pas le stock et
+     *          ne prend pas ce verrou.
+     */
+    public boolean transfere(Produit source, Produit destination, int quantite) throws SQLException {
+        if( quantite <= 0 )
+            throw new IllegalArgumentException("Quantité de transfert invalide : " + quantite);
+
+        verifieActive();
+        RequeteGestionStock.verrouilleProduit(connection, source.getId());
+
+        if( stock(source.getId()) < quantite )
+            return false;
+
+        ajouteMouvement(source, -quantite);
+        ajouteMouvement(destination, quantite);
+        return true;
+    }
+
+    /**
+     * Pose un point de sauvegarde.
+     *
+     * @return Le point, pour revenir à l'état actuel avec retourA().
+     * @throws SQLException Erreur SQL.
+     */
+    public PointDeSauvegarde pointDeSauvegarde() throws SQLException {
+        verifieActive();
+        return new PointDeSauvegarde(connection.setSavepoint(), enAttente.size());
+    }
+
+    /**
+     * Annule les mouvements faits depuis un point de sauvegarde. L'unité
+     * reste active et le point reste utilisable.
+     *
+     * @param point Un point de sauvegarde de cette unité.
+     * @throws SQLException Erreur SQL.
+     */
+    public void retourA(PointDeSauvegarde point) throws SQLException {
+        verifieActive();
+        connection.rollback(point.savepoint);
+        enAttente.subList(point.nbMouvements, enAttente.size()).clear();
+    }
+
+    /**
+     * Valide la transaction, puis ajoute les mouvements à leurs produits.
+     *
+     * @throws SQLException Erreur SQL ; la transaction est alors annulée.
+     */
+    public void valide() throws SQLException {
+        verifieActive();
+        terminee = true;
+
+        try {
+            connection.commit();
+        } catch( SQLException e ){
+            enAttente.clear();
+
+            // L'erreur de validation reste celle qu'on signale, même si
+            // l'annulation échoue aussi.
+            try {
+                connection.rollback();
+            } catch( SQLException r ){
+                e.addSuppressed(r);
+            }
+
+            throw e;
+        }
+
+        requete.publie(enAttente);
+        enAttente.clear();
+    }
+
+    /**
+     * Annule la transaction.
+     *
+     * @throws SQLException Erreur SQL.
+     */
+    public void annule() throws SQLException {
+        verifieActive();
+        terminee = true;
+        enAttente.clear();
+        connection.rollback();
+    }
+
+    /**
+     * @return Le nombre de mouvements en attente de validation.
+     */
+    public int getNbMouvements(){
+        return enAttente.size();
+    }
+
+    /**
+     * Ferme l'unité, en annulant la transaction si elle n'a pas été validée.
+     *
+     * @throws SQLException Erreur SQL.
+     */
+    @Override
+    public void close() throws SQLException {
+        try {
+            if( !terminee )
+                annule();
+        } finally {
+            terminee = true;
+            insertion.close();
+            connection.close();
+        }
+    }
+
+    /**
+     * Relit le stock d'un produit dans la transaction.
+     */
+    private int stock(int nProduit) throws SQLException {
+        PreparedStatement stmt = connection.prepareStatement(
+                "SELECT COALESCE(SUM(quantite), 0) FROM Mouvement WHERE nProduit = ?");
+        stmt.setInt(1, nProduit);
+        ResultSet rs = stmt.executeQuery();
+
+        int result = rs.next() ? rs.getInt(1) : 0;
+
+        rs.close();
+        stmt.close();
+        return result;
+    }
+
+    /**
+     * Vérifie que l'unité n'est pas terminée.
+     */
+    private void verifieActive(){
+        if( terminee )
+            throw new IllegalStateException("Unité de travail terminée");
+    }
+
+    // Tests
+
+    /**
+     * Compare l'ajout de mouvements un par un (une validation chacun) et par
+     * unités de travail, sur une base embarquée temporaire, arrêtée et
+     * supprimée à la fin.
+     *
+     * @param args [mouvements] [mouvements par unité]
+     * @throws Exception Toute exception qui se produit pendant le test.
+     */
+    public static void main(String[] args) throws Exception {
+        int nbMouvements = args.length > 0 ? Integer.parseInt(args[0]) : 5000;
+        int parUnite = args.length > 1 ? Integer.parseInt(args[1]) : 50;
+
+        Path temporaire = Files.createTempDirectory("unite-");
+        Path dossier = temporaire.resolve("base");
+        RequeteGestionStock requete = null;
+
+        try {
+            requete = new GenerateurCatalogue()
+                    .setNbProduits(100)
+                    .setMouvementsParProduit(10)
+                    .creeBaseEmbarquee(dossier);
+            List<Produit> produits = requete.ensProduits();
+
+            // Un mouvement, une validation.
+            long debut = System.nanoTime();
+
+            for(int i = 0; i < nbMouvements; i++)
+                requete.ajouteMouvement(produits.get(i % produits.size()), i % 3 == 0 ? -1 : 2);
+
+            double unParUn = nbMouvements / ((System.nanoTime() - debut) / 1e9);
+
+            // Une validation par unité.
+            int validations = 0;
+            debut = System.nanoTime();
+
+            for(int i = 0; i < nbMouvements; validations++){
+                try( UniteDeTravail uow = requete.uniteDeTravail() ){
+                    for(int j = 0; j < parUnite && i < nbMouvements; j++, i++)
+                        uow.ajouteMouvement(produits.get(i % produits.size()), i % 3 == 0 ? -1 : 2);
+
+                    uow.valide();
+                }
+            }
+
+            double parUnites = nbMouvements / ((System.nanoTime() - debut) / 1e9);
+
+            System.out.printf("Un par un : %d validations, %.0f mouvements/s\n", nbMouvements, unParUn);
+            System.out.printf("Par unités de %d : %d validations, %.0f mouvements/s (x%.1f)\n",
+                    parUnite, validations, parUnites, parUnites / unParUn);
+        } finally {
+            GenerateurCatalogue.supprimeBaseTemporaire(requete, dossier, temporaire);
+            GenerateurCatalogue.arreteDerby("jdbc:derby:");
+        }
+    }
+}
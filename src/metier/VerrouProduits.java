@@ -0,0 +1,172 @@
+package metier;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import modele.*;
+
+/**
+ * Verrous par produit.
+ *
+ * Plutôt qu'un verrou global, on répartit les produits sur un ensemble fixe de
+ * verrous selon leur identifiant. Deux écritures sur des produits différents
+ * ne se bloquent donc (presque) jamais, sans avoir à créer un verrou par
+ * produit. Les bandes sont numérotées, pour associer à chacune une ressource
+ * qu'elle seule utilise (une connexion par exemple).
+ *
+ * @author jessy
+ */
+public class VerrouProduits {
+    /**
+     * Les verrous, en nombre puissance de 2.
+     */
+    private final ReentrantLock[] verrous;
+
+    /**
+     * Masque pour ramener un identifiant à un indice de verrou.
+     */
+    private final int masque;
+
+    /**
+     * Constructeur par données.
+     *
+     * @param nbBandes Nombre de verrous voulu, arrondi à la puissance de 2 supérieure.
+     */
+    public VerrouProduits(int nbBandes) {
+        if( nbBandes <= 0 )
+            throw new IllegalArgumentException("Nombre de verrous invalide : " + nbBandes);
+
+        int taille = Integer.highestOneBit(nbBandes);
+
+        if( taille < nbBandes )
+            taille <<= 1;
+
+        verrous = new ReentrantLock[taille];
+        masque = taille - 1;
+
+        for(int i = 0; i < taille; i++)
+            verrous[i] = new ReentrantLock();
+    }
+
+    /**
+     * @return Le nombre de bandes.
+     */
+    public int getNbBandes(){
+        return verrous.length;
+    }
+
+    /**
+     * Retrouve la bande d'un produit.
+     *
+     * @param nProduit L'identifiant du produit.
+     * @return L'indice de la bande, entre 0 et getNbBandes() exclu.
+     */
+    public int bande(int nProduit){
+        // Les identifiants sont consécutifs : on les mélange un peu pour que
+        // des produits voisins ne tombent pas sur des verrous voisins.
+        int h = nProduit * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & masque;
+    }
+
+    /**
+     * Retrouve le verrou d'une bande.
+     *
+     * @param bande L'indice de la bande.
+     * @return Le verrou associé.
+     */
+    public Lock verrouBande(int bande){
+        return verrous[bande];
+    }
+
+    /**
+     * Retrouve le verrou protégeant un produit.
+     *
+     * @param nProduit L'identifiant du produit.
+     * @return Le verrou associé.
+     */
+    public Lock verrou(int nProduit){
+        return verrous[bande(nProduit)];
+    }
+
+    // Tests
+
+    /**
+     * Compare, selon le nombre de threads et sur la base configurée, le débit
+     * de RequeteGestionStock.ajouteMouvementConditionnel() (un verrou et une
+     * connexion par bande) à celui de la même opération sous un verrou
+     * global, sur la connexion partagée.
+     *
+     * Chaque thread alterne des entrées et des sorties d'une unité sur des
+     * produits tirés au hasard. Le stock des produits est inchangé à la fin.
+     *
+     * @param args [opérations par thread] [threads maximum]
+     * @throws Exception Toute exception qui se produit pendant le test.
+     */
+    public static void main(String[] args) throws Exception {
+        int operations = args.length > 0 ? Integer.parseInt(args[0]) : 500;
+        int maxThreads = args.length > 1 ? Integer.parseInt(args[1]) : 16;
+
+        RequeteGestionStock rq = RequeteGestionStock.getInstance();
+        List<Produit> produits = rq.ensProduits();
+
+        // Un tour de chauffe, qui ouvre aussi les connexions des bandes.
+        mesure(rq, produits, false, 4, operations);
+
+        System.out.println("threads\tverrou global (op/s)\tpar bande (op/s)\trapport");
+
+        for(int threads = 1; threads <= maxThreads; threads *= 2){
+            double global = mesure(rq, produits, true, threads, operations);
+            double raye = mesure(rq, produits, false, threads, operations);
+            System.out.printf("%d\t%.0f\t%.0f\t%.2f\n", threads, global, raye, raye / global);
+        }
+    }
+
+    /**
+     * Mesure le débit des ajouts conditionnels.
+     *
+     * @return Le nombre d'opérations par seconde.
+     */
+    private static double mesure(final RequeteGestionStock rq, final List<Produit> produits,
+            final boolean global, int threads, final int operations) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        final CountDownLatch depart = new CountDownLatch(1);
+        List<Future<?>> taches = new ArrayList<>();
+
+        for(int t = 0; t < threads; t++){
+            final long graine = t;
+            taches.add(pool.submit(new Callable<Void>() {
+                @Override
+                public Void call() throws Exception {
+                    SplittableRandom rnd = new SplittableRandom(graine);
+                    depart.await();
+
+                    // Chaque entrée est suivie d'une sortie sur le même
+                    // produit : la sortie ne peut pas manquer de stock.
+                    for(int i = 0; i < operations; i += 2){
+                        Produit p = produits.get(rnd.nextInt(produits.size()));
+
+                        if( global ){
+                            rq.ajouteMouvementConditionnelGlobal(p, 1, true);
+                            rq.ajouteMouvementConditionnelGlobal(p, -1, true);
+                        } else {
+                            rq.ajouteMouvementConditionnel(p, 1, true);
+                            rq.ajouteMouvementConditionnel(p, -1, true);
+                        }
+                    }
+                    return null;
+                }
+            }));
+        }
+
+        long debut = System.nanoTime();
+        depart.countDown();
+
+        for(Future<?> f: taches)
+            f.get();
+
+        double secondes = (System.nanoTime() - debut) / 1e9;
+        pool.shutdown();
+        return (double) threads * operations / secondes;
+    }
+}
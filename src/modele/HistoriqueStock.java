@@ -0,0 +1,248 @@
+package modele;
+
+import java.util.*;
+
+/**
+ * @brief Évolution du stock d'un produit dans le temps.
+ *
+ * Le stock après chaque mouvement est obtenu par somme cumulée de
+ * l'historique, et rangé avec sa date dans des tableaux de primitives. Pour
+ * l'affichage, la courbe est réduite à une colonne par pixel : chaque colonne
+ * garde le minimum, le maximum et la dernière valeur du stock sur sa période,
+ * si bien qu'aucun pic n'est perdu quel que soit le nombre de mouvements.
+ *
+ * Les dernières courbes réduites sont gardées en cache, par période et
+ * largeur, pour que les zooms et déplacements successifs restent fluides.
+ *
+ * @author jessy
+ */
+public class HistoriqueStock {
+    /**
+     * Une courbe réduite, une colonne par pixel.
+     */
+    public static final class Courbe {
+        private final long debut, fin;
+        private final int[] min, max, dernier;
+        private final int stockMin, stockMax;
+
+        private Courbe(long debut, long fin, int[] min, int[] max, int[] dernier, int stockMin, int stockMax) {
+            this.debut = debut;
+            this.fin = fin;
+            this.min = min;
+            this.max = max;
+            this.dernier = dernier;
+            this.stockMin = stockMin;
+            this.stockMax = stockMax;
+        }
+
+        public long getDebut() {
+            return debut;
+        }
+
+        public long getFin() {
+            return fin;
+        }
+
+        public int getLargeur() {
+            return min.length;
+        }
+
+        /**
+         * @param x Une colonne.
+         * @return Le stock le plus bas atteint pendant la colonne.
+         */
+        public int getMin(int x) {
+            return min[x];
+        }
+
+        /**
+         * @param x Une colonne.
+         * @return Le stock le plus haut atteint pendant la colonne.
+         */
+        public int getMax(int x) {
+            return max[x];
+        }
+
+        /**
+         * @param x Une colonne.
+         * @return Le stock à la fin de la colonne.
+         */
+        public int getDernier(int x) {
+            return dernier[x];
+        }
+
+        /**
+         * @return Le stock le plus bas de toute la courbe.
+         */
+        public int getStockMin() {
+            return stockMin;
+        }
+
+        /**
+         * @return Le stock le plus haut de toute la courbe.
+         */
+        public int getStockMax() {
+            return stockMax;
+        }
+    }
+
+    /**
+     * Nombre de courbes réduites gardées en cache.
+     */
+    private final static int TAILLE_CACHE = 32;
+
+    /**
+     * Nombre de mouvements.
+     */
+    private final int n;
+
+    /**
+     * Date de chaque mouvement en millisecondes, dans l'ordre chronologique.
+     */
+    private final long[] dates;
+
+    /**
+     * Stock juste après chaque mouvement.
+     */
+    private final int[] stocks;
+
+    /**
+     * Dernières courbes réduites, la plus récemment utilisée en dernier.
+     */
+    private final Map<String, Courbe> cache = new LinkedHashMap<String, Courbe>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Courbe> eldest) {
+            return size() > TAILLE_CACHE;
+        }
+    };
+
+    /**
+     * Construit l'historique d'un produit, en un seul parcours de ses
+     * mouvements.
+     *
+     * @param produit Le produit, avec ses mouvements.
+     */
+    public HistoriqueStock(Produit produit) {
+        List<Mouvement> mouvements = produit.getMouvements();
+        n = mouvements.size();
+        dates = new long[n];
+        stocks = new int[n];
+
+        // La liste est triée avec les mouvements les plus récents en premiers.
+        int stock = 0;
+
+        for(int i = 0; i < n; i++){
+            Mouvement curr = mouvements.get(n - 1 - i);
+            stock += curr.getQuantite();
+            dates[i] = curr.getDate().getTime();
+            stocks[i] = stock;
+        }
+    }
+
+    /**
+     * @return Le nombre de mouvements de l'historique.
+     */
+    public int getNbMouvements(){
+        return n;
+    }
+
+    /**
+     * @return La date du premier mouvement, ou NoyauPrevision.AUCUNE_DATE.
+     */
+    public long getPremiereDate(){
+        return n == 0 ? NoyauPrevision.AUCUNE_DATE : dates[0];
+    }
+
+    /**
+     * @return La date du dernier mouvement, ou NoyauPrevision.AUCUNE_DATE.
+     */
+    public long getDerniereDate(){
+        return n == 0 ? NoyauPrevision.AUCUNE_DATE : dates[n - 1];
+    }
+
+    /**
+     * Réduit la courbe du stock sur une période à une colonne par pixel.
+     *
+     * Le calcul est un seul parcours des mouvements de la période, après une
+     * recherche dichotomique du premier.
+     *
+     * @param debut Début de la période, en millisecondes.
+     * @param fin Fin de la période (exclue), en millisecondes.
+     * @param largeur Nombre de colonnes.
+     * @return La courbe réduite.
+     */
+    public synchronized Courbe echantillonne(long debut, long fin, int largeur){
+        if( largeur <= 0 || fin <= debut )
+            throw new IllegalArgumentException("Période ou largeur invalide");
+
+        String cle = debut + "/" + fin + "/" + largeur;
+        Courbe result = cache.get(cle);
+
+        if( result == null ){
+            result = calcule(debut, fin, largeur);
+            cache.put(cle, result);
+        }
+
+        return result;
+    }
+
+    /**
+     * Calcule une courbe réduite, sans cache.
+     */
+    private Courbe calcule(long debut, long fin, int largeur){
+        int[] min = new int[largeur];
+        int[] max = new int[largeur];
+        int[] dernier = new int[largeur];
+
+        // Premier mouvement de la période ; le stock avant lui est reporté.
+        int i = premierApres(debut);
+        int courant = i > 0 ? stocks[i - 1] : 0;
+        int stockMin = courant, stockMax = courant;
+        double pas = (double) (fin - debut) / largeur;
+
+        for(int x = 0; x < largeur; x++){
+            long limite = x == largeur - 1 ? fin : debut + (long) ((x + 1) * pas);
+            int mn = courant, mx = courant;
+
+            while( i < n && dates[i] < limite ){
+                courant = stocks[i++];
+
+                if( courant < mn )
+                    mn = courant;
+
+                if( courant > mx )
+                    mx = courant;
+            }
+
+            min[x] = mn;
+            max[x] = mx;
+            dernier[x] = courant;
+
+            if( mn < stockMin )
+                stockMin = mn;
+
+            if( mx > stockMax )
+                stockMax = mx;
+        }
+
+        return new Courbe(debut, fin, min, max, dernier, stockMin, stockMax);
+    }
+
+    /**
+     * Indice du premier mouvement daté de debut ou après.
+     */
+    private int premierApres(long debut){
+        int bas = 0, haut = n;
+
+        while( bas < haut ){
+            int milieu = (bas + haut) >>> 1;
+
+            if( dates[milieu] < debut )
+                bas = milieu + 1;
+            else
+                haut = milieu;
+        }
+
+        return bas;
+    }
+}
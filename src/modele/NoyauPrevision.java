@@ -0,0 +1,120 @@
+package modele;
+
+import java.util.TimeZone;
+
+/**
+ * @brief Calculs de prévision sur des valeurs primitives.
+ *
+ * Ces fonctions reprennent les calculs de prévision de Produit sans créer
+ * aucun objet : les dates sont manipulées en millisecondes depuis l'époque et
+ * les durées en nombres de jours entiers. La date de référence ("maintenant")
+ * est toujours passée en paramètre, ce qui rend les résultats reproductibles.
+ *
+ * @author jessy
+ */
+public final class NoyauPrevision {
+    /**
+     * Nombre de millisecondes dans une journée.
+     */
+    public final static long MS_PAR_JOUR = 1000L * 60 * 60 * 24;
+
+    /**
+     * Valeur utilisée en l'absence de date (pas d'entrée, pas de rupture prévisible).
+     */
+    public final static long AUCUNE_DATE = Long.MIN_VALUE;
+
+    /**
+     * Classe utilitaire, pas d'instance.
+     */
+    private NoyauPrevision() {
+    }
+
+    /**
+     * Calcule le nombre de jours entiers écoulés entre deux instants.
+     *
+     * On arrondit au plus bas pour ne pas être influencés si la journée
+     * actuelle n'est pas complète.
+     *
+     * @param debut L'instant de départ, en millisecondes.
+     * @param maintenant L'instant de référence, en millisecondes.
+     * @return Le nombre de jours écoulés.
+     */
+    public static int joursEcoules(long debut, long maintenant){
+        return (int) Math.floorDiv(maintenant - debut, MS_PAR_JOUR);
+    }
+
+    /**
+     * Calcule le jour local d'un instant, comme LocalDate.toEpochDay() dans
+     * le fuseau donné.
+     *
+     * @param instant L'instant, en millisecondes.
+     * @param fuseau Le fuseau horaire des dates.
+     * @return Le numéro du jour, en jours depuis le 1er janvier 1970.
+     */
+    public static long jourLocal(long instant, TimeZone fuseau){
+        return Math.floorDiv(instant + fuseau.getOffset(instant), MS_PAR_JOUR);
+    }
+
+    /**
+     * Calcule la consommation journalière.
+     *
+     * @param quantiteConsommee Quantité totale sortie du stock.
+     * @param nbJours Nombre de jours depuis la première entrée.
+     * @return La consommation par jour, ou 0 si nbJours est nul.
+     */
+    public static float consommationJournaliere(int quantiteConsommee, int nbJours){
+        // Continuer causerait une division par 0, donc on traite ce cas séparément.
+        if( nbJours == 0 )
+            return 0;
+
+        return (float) quantiteConsommee / (float) nbJours;
+    }
+
+    /**
+     * Calcule le nombre de jours restants avant une rupture de stock.
+     *
+     * @param stock La quantité en stock.
+     * @param consommation La consommation journalière.
+     * @return Le nombre de jours (infini ou NaN si la consommation est nulle).
+     */
+    public static float joursAvantRupture(int stock, float consommation){
+        return (float) stock / consommation;
+    }
+
+    /**
+     * Calcule la date de rupture de stock.
+     *
+     * Comme GregorianCalendar.add(Calendar.DATE, ...), on avance de jours
+     * calendaires en conservant l'heure locale, donc en tenant compte des
+     * changements d'heure du fuseau.
+     *
+     * @param maintenant L'instant de référence, en millisecondes.
+     * @param stock La quantité en stock.
+     * @param consommation La consommation journalière.
+     * @param fuseau Le fuseau horaire des dates.
+     * @return La date de rupture en millisecondes, ou AUCUNE_DATE si la consommation est nulle.
+     */
+    public static long dateDeRupture(long maintenant, int stock, float consommation, TimeZone fuseau){
+        if( consommation == 0 )
+            return AUCUNE_DATE;
+
+        int jours = (int) joursAvantRupture(stock, consommation);
+
+        // On avance d'un nombre entier de journées, puis on corrige si le
+        // décalage horaire a changé entre temps (même règle que le calendrier :
+        // la correction est abandonnée si elle fait changer de jour).
+        int decalage = fuseau.getOffset(maintenant);
+        long jourCible = Math.floorDiv(maintenant + decalage, MS_PAR_JOUR) + jours;
+        long result = maintenant + jours * MS_PAR_JOUR;
+        int difference = decalage - fuseau.getOffset(result);
+
+        if( difference != 0 ){
+            long corrige = result + difference;
+
+            if( Math.floorDiv(corrige + fuseau.getOffset(corrige), MS_PAR_JOUR) == jourCible )
+                result = corrige;
+        }
+
+        return result;
+    }
+}
@@ -35,6 +35,11 @@ public class Produit {
      * Historique des mouvements.
      */
     private List<Mouvement> mouvements;
+    
+    /**
+     * Statistiques de consommation, tenues à jour avec l'historique.
+     */
+    private final StatistiquesConsommation statistiques = new StatistiquesConsommation();
 
     /**
      * 
@@ -70,6 +75,13 @@ public class Produit {
     public List<Mouvement> getMouvements() {
         return mouvements;
     }
+
+    /**
+     * @return Les statistiques de consommation, tenues à jour à chaque mouvement.
+     */
+    public StatistiquesConsommation getStatistiques() {
+        return statistiques;
+    }
     
     /**
      * Ajoute un mouvement à l'historique.
@@ -83,6 +95,30 @@ public class Produit {
         // TODO: Inefficace, voir pour utiliser un TreeSet qui sera déjà trié.
         //       Aussi, implémenter Comparable dans Mouvement
         Collections.sort(mouvements);
+        
+        // Les statistiques suivent en O(1).
+        statistiques.ajoute(m.getDate().getTime(), m.getQuantite());
+    }
+    
+    /**
+     * Ajoute plusieurs mouvements à l'historique.
+     * 
+     * L'historique n'est trié qu'une fois, puis les statistiques sont
+     * recalculées en un seul parcours chronologique.
+     * 
+     * @param liste Les mouvements à ajouter.
+     */
+    public void addAllMouvements(List<Mouvement> liste){
+        mouvements.addAll(liste);
+        Collections.sort(mouvements);
+        
+        // Les plus récents sont en premiers : on parcourt à l'envers.
+        statistiques.vide();
+        
+        for(int i = mouvements.size() - 1; i >= 0; i--){
+            Mouvement curr = mouvements.get(i);
+            statistiques.ajoute(curr.getDate().getTime(), curr.getQuantite());
+        }
     }
 
     /**
@@ -96,8 +132,9 @@ public class Produit {
     public int getQuantiteEnStock(){
         int result = 0;
         
-        for(Mouvement curr: mouvements)
-            result += curr.getQuantite();
+        // Parcours indexé : pas d'itérateur à créer.
+        for(int i = 0; i < mouvements.size(); i++)
+            result += mouvements.get(i).getQuantite();
         
         return result;
     }
@@ -108,46 +145,38 @@ public class Produit {
     }
     
     /**
-     * Retrouve le mouvement d'entrée pour ce produit ayant la date la plus reculée.
-     * @return Le mouvement trouvé, ou null si non trouvé.
+     * Retrouve la date du mouvement d'entrée le plus ancien pour ce produit.
+     * @return La date en millisecondes, ou NoyauPrevision.AUCUNE_DATE si non trouvé.
      */
-    private Mouvement premiereEntree(){
+    private long datePremiereEntree(){
         // La liste est triée avec les mouvements les plus récents en premiers,
         // donc on la parcourt en sens inverse pour trouver plus vite.
-        ListIterator<Mouvement> it = mouvements.listIterator(mouvements.size());
-        
-        while( it.hasPrevious() ){
-            Mouvement curr = it.previous();
+        for(int i = mouvements.size() - 1; i >= 0; i--){
+            Mouvement curr = mouvements.get(i);
             
             // On se content du premier mouvement positif qu'on trouve.
             if( curr.getQuantite() > 0 )
-                return curr;
+                return curr.getDate().getTime();
         }
         
-        return null;
+        return NoyauPrevision.AUCUNE_DATE;
     }
     
     /**
      * Calcule le nombre de jours passés depuis la première entrée du produit
      * en magasin.
      * 
+     * @param maintenant La date de référence, en millisecondes.
      * @return La valeur trouvée, ou 0 si le produit n'au aucune entrée.
      */
-    private int joursDepuisPremiereEntree(){
+    private int joursDepuisPremiereEntree(long maintenant){
         // On retrouve la première entrée.
-        Mouvement premierMouvement = premiereEntree();
+        long premiereEntree = datePremiereEntree();
         
-        if( premierMouvement == null )
+        if( premiereEntree == NoyauPrevision.AUCUNE_DATE )
             return 0;
         
-        // On calcule le temps passé depuis
-        Date now = new Date();
-        long span = now.getTime() - premierMouvement.getDate().getTime();
-        
-        // On ramène cette valeur en jours, en arrondissant au plus bas pour
-        // ne pas être influencés si la journée actuelle n'est pas complète.
-        double msPerDay = 1000 * 60 * 60 * 24;
-        return (int) Math.floor( (double) span / msPerDay );
+        return NoyauPrevision.joursEcoules(premiereEntree, maintenant);
     }
     
     /**
@@ -158,9 +187,11 @@ public class Produit {
         int quantiteTotale = 0;
         
         // On accumule simplement les mouvements négatifs.
-        for(Mouvement curr: mouvements){
-            if( curr.getQuantite() < 0 )
-                quantiteTotale += -curr.getQuantite();
+        for(int i = 0; i < mouvements.size(); i++){
+            int quantite = mouvements.get(i).getQuantite();
+            
+            if( quantite < 0 )
+                quantiteTotale += -quantite;
         }
         
         return quantiteTotale;
@@ -172,15 +203,18 @@ public class Produit {
      * @return La consommation trouvée.
      */
     public float getConsommationJournalière(){
-        int qConso = quantiteConsommee();
-        int nbJours = joursDepuisPremiereEntree();
-        
-        // S'il n'y a aucune entrée, nbJours=0. Continuer causerait une division
-        // par 0, donc on traite ce cas séparément.
-        if( nbJours == 0 )
-            return 0;
-        
-        return (float) qConso / (float) nbJours;
+        return getConsommationJournalière(System.currentTimeMillis());
+    }
+    
+    /**
+     * Calcule la consommation journalière du produit à une date donnée.
+     * 
+     * @param maintenant La date de référence, en millisecondes.
+     * @return La consommation trouvée.
+     */
+    public float getConsommationJournalière(long maintenant){
+        // S'il n'y a aucune entrée, nbJours=0 et la consommation est nulle.
+        return NoyauPrevision.consommationJournaliere(quantiteConsommee(), joursDepuisPremiereEntree(maintenant));
     }
     
     /**
@@ -188,7 +222,16 @@ public class Produit {
      * @return Le nombre de jours, ou 0 s'il n'y a aucun stock.
      */
     public float joursAvantRupture(){
-        return (float) getQuantiteEnStock() / (float) getConsommationJournalière();
+        return joursAvantRupture(System.currentTimeMillis());
+    }
+    
+    /**
+     * Calcule le nombre de jours restants avant une rupture de stock, à une date donnée.
+     * @param maintenant La date de référence, en millisecondes.
+     * @return Le nombre de jours, ou 0 s'il n'y a aucun stock.
+     */
+    public float joursAvantRupture(long maintenant){
+        return NoyauPrevision.joursAvantRupture(getQuantiteEnStock(), getConsommationJournalière(maintenant));
     }
     
     /**
@@ -197,12 +240,34 @@ public class Produit {
      * @return La date calculée.
      */
     public Date getDateDeRupture(){
-        if( getConsommationJournalière() == 0 )
+        return getDateDeRupture(System.currentTimeMillis());
+    }
+    
+    /**
+     * Calcule la date de rupture de stock à partir d'une date donnée.
+     * 
+     * @param maintenant La date de référence, en millisecondes.
+     * @return La date calculée, ou null si la consommation est nulle.
+     */
+    public Date getDateDeRupture(long maintenant){
+        long rupture = dateDeRupture(maintenant, TimeZone.getDefault());
+        
+        if( rupture == NoyauPrevision.AUCUNE_DATE )
             return null;
         
-        GregorianCalendar calendar = new GregorianCalendar();
-        calendar.setTime(new Date());
-        calendar.add(Calendar.DATE, (int) joursAvantRupture());
-        return calendar.getTime();
+        return new Date(rupture);
+    }
+    
+    /**
+     * Calcule la date de rupture de stock sans créer d'objet.
+     * 
+     * @param maintenant La date de référence, en millisecondes.
+     * @param fuseau Le fuseau horaire des dates.
+     * @return La date calculée en millisecondes, ou NoyauPrevision.AUCUNE_DATE
+     *         si la consommation est nulle.
+     */
+    public long dateDeRupture(long maintenant, TimeZone fuseau){
+        return NoyauPrevision.dateDeRupture(maintenant, getQuantiteEnStock(),
+                getConsommationJournalière(maintenant), fuseau);
     }
 }
@@ -0,0 +1,277 @@
+package modele;
+
+import java.util.TimeZone;
+
+/**
+ * @brief Statistiques de la consommation journalière d'un produit.
+ *
+ * Les statistiques sont tenues à jour au fil des mouvements, sans garder
+ * l'historique : moyenne et variance des consommations journalières
+ * (algorithme de Welford), et deux moyennes mobiles exponentielles, l'une
+ * courte et l'autre longue, dont l'écart donne la tendance récente.
+ *
+ * La série commence le jour du premier mouvement. Chaque jour compte, même
+ * sans sortie : une suite de jours vides est ajoutée d'un coup en O(1). La
+ * journée en cours n'est prise en compte qu'une fois terminée.
+ *
+ * Les mouvements doivent arriver dans l'ordre chronologique. Un mouvement
+ * plus ancien que le dernier reçu est compté dans la journée de ce dernier.
+ *
+ * @author jessy
+ */
+public class StatistiquesConsommation {
+    /**
+     * Poids d'un nouveau jour dans la moyenne mobile courte (environ une semaine).
+     */
+    public final static double ALPHA_COURT = 2.0 / (7 + 1);
+
+    /**
+     * Poids d'un nouveau jour dans la moyenne mobile longue (environ un mois).
+     */
+    public final static double ALPHA_LONG = 2.0 / (30 + 1);
+
+    /**
+     * Fuseau horaire qui découpe les journées.
+     */
+    private final TimeZone fuseau;
+
+    /**
+     * Nombre de jours terminés.
+     */
+    private long nbJours = 0;
+
+    /**
+     * Moyenne des jours terminés.
+     */
+    private double moyenne = 0;
+
+    /**
+     * Somme des carrés des écarts à la moyenne des jours terminés.
+     */
+    private double m2 = 0;
+
+    private double ewmaCourt = 0;
+    private double ewmaLong = 0;
+
+    /**
+     * Jour ouvert (le dernier qui a reçu un mouvement), en jours depuis l'époque.
+     */
+    private long jourCourant = 0;
+
+    /**
+     * Quantité sortie pendant le jour ouvert.
+     */
+    private long consoCourante = 0;
+
+    /**
+     * Passe à false au premier mouvement.
+     */
+    private boolean vide = true;
+
+    /**
+     * Constructeur par défaut, dans le fuseau horaire local.
+     */
+    public StatistiquesConsommation() {
+        this(TimeZone.getDefault());
+    }
+
+    /**
+     * Constructeur par données.
+     *
+     * @param fuseau Fuseau horaire qui découpe les journées.
+     */
+    public StatistiquesConsommation(TimeZone fuseau) {
+        this.fuseau = fuseau;
+    }
+
+    /**
+     * Remet les statistiques à zéro.
+     */
+    public void vide(){
+        nbJours = 0;
+        moyenne = m2 = ewmaCourt = ewmaLong = 0;
+        jourCourant = consoCourante = 0;
+        vide = true;
+    }
+
+    /**
+     * Prend en compte un mouvement.
+     *
+     * @param date La date du mouvement, en millisecondes.
+     * @param quantite La quantité du mouvement (les entrées ne comptent que
+     *        pour ouvrir la série).
+     */
+    public void ajoute(long date, int quantite){
+        long jour = jour(date);
+        long sortie = quantite < 0 ? -(long) quantite : 0;
+
+        if( vide ){
+            vide = false;
+            jourCourant = jour;
+            consoCourante = sortie;
+            return;
+        }
+
+        if( jour > jourCourant ){
+            // Le jour ouvert est terminé, suivi de jours sans mouvement.
+            ajouteJour(consoCourante);
+            ajouteJoursVides(jour - jourCourant - 1);
+            jourCourant = jour;
+            consoCourante = 0;
+        }
+
+        consoCourante += sortie;
+    }
+
+    /**
+     * @param maintenant La date de référence, en millisecondes.
+     * @return Le nombre de jours terminés de la série.
+     */
+    public long getNbJours(long maintenant){
+        return nbJours + joursAClore(maintenant);
+    }
+
+    /**
+     * @param maintenant La date de référence, en millisecondes.
+     * @return La consommation journalière moyenne, 0 si aucun jour terminé.
+     */
+    public double getMoyenne(long maintenant){
+        long k = joursAClore(maintenant);
+
+        if( k == 0 )
+            return moyenne;
+
+        // Le jour ouvert, puis k - 1 jours vides.
+        long n = nbJours + 1;
+        double m = moyenne + (consoCourante - moyenne) / n;
+        return m * n / (n + k - 1);
+    }
+
+    /**
+     * @param maintenant La date de référence, en millisecondes.
+     * @return La variance (non biaisée) de la consommation journalière, 0 s'il y a moins de deux jours.
+     */
+    public double getVariance(long maintenant){
+        long k = joursAClore(maintenant);
+        long n = nbJours;
+        double m = moyenne;
+        double s = m2;
+
+        if( k > 0 ){
+            // Le jour ouvert...
+            n++;
+            double delta = consoCourante - m;
+            m += delta / n;
+            s += delta * (consoCourante - m);
+
+            // ...puis k - 1 jours vides, fusionnés d'un coup.
+            long vides = k - 1;
+
+            if( vides > 0 ){
+                s += m * m * n * vides / (n + vides);
+                n += vides;
+            }
+        }
+
+        return n < 2 ? 0 : s / (n - 1);
+    }
+
+    /**
+     * @param maintenant La date de référence, en millisecondes.
+     * @return L'écart-type de la consommation journalière.
+     */
+    public double getEcartType(long maintenant){
+        return Math.sqrt(getVariance(maintenant));
+    }
+
+    /**
+     * @param maintenant La date de référence, en millisecondes.
+     * @return La consommation journalière récente (moyenne mobile courte).
+     */
+    public double getMoyenneRecente(long maintenant){
+        return ewma(ewmaCourt, ALPHA_COURT, maintenant);
+    }
+
+    /**
+     * @param maintenant La date de référence, en millisecondes.
+     * @return La consommation de fond (moyenne mobile longue).
+     */
+    public double getMoyenneLongue(long maintenant){
+        return ewma(ewmaLong, ALPHA_LONG, maintenant);
+    }
+
+    /**
+     * Tendance récente : positive si la consommation accélère, négative si
+     * elle ralentit.
+     *
+     * @param maintenant La date de référence, en millisecondes.
+     * @return L'écart entre les moyennes mobiles courte et longue, par jour.
+     */
+    public double getTendance(long maintenant){
+        return getMoyenneRecente(maintenant) - getMoyenneLongue(maintenant);
+    }
+
+    // Calculs internes
+
+    /**
+     * Numéro du jour local d'une date.
+     */
+    private long jour(long date){
+        return Math.floorDiv(date + fuseau.getOffset(date), NoyauPrevision.MS_PAR_JOUR);
+    }
+
+    /**
+     * Nombre de jours à clore pour être à jour à une date : le jour ouvert et
+     * les jours vides qui le suivent, hors journée en cours.
+     */
+    private long joursAClore(long maintenant){
+        if( vide )
+            return 0;
+
+        return Math.max(0, jour(maintenant) - jourCourant);
+    }
+
+    /**
+     * Moyenne mobile à jour à une date donnée.
+     */
+    private double ewma(double valeur, double alpha, long maintenant){
+        long k = joursAClore(maintenant);
+
+        if( k == 0 )
+            return valeur;
+
+        double e = nbJours == 0 ? consoCourante : valeur + alpha * (consoCourante - valeur);
+        return e * Math.pow(1 - alpha, k - 1);
+    }
+
+    /**
+     * Ajoute un jour terminé.
+     */
+    private void ajouteJour(long conso){
+        nbJours++;
+        double delta = conso - moyenne;
+        moyenne += delta / nbJours;
+        m2 += delta * (conso - moyenne);
+
+        if( nbJours == 1 ){
+            ewmaCourt = ewmaLong = conso;
+        } else {
+            ewmaCourt += ALPHA_COURT * (conso - ewmaCourt);
+            ewmaLong += ALPHA_LONG * (conso - ewmaLong);
+        }
+    }
+
+    /**
+     * Ajoute k jours sans sortie, en O(1).
+     */
+    private void ajouteJoursVides(long k){
+        if( k <= 0 )
+            return;
+
+        m2 += moyenne * moyenne * nbJours * k / (nbJours + k);
+        moyenne = moyenne * nbJours / (nbJours + k);
+        nbJours += k;
+        ewmaCourt *= Math.pow(1 - ALPHA_COURT, k);
+        ewmaLong *= Math.pow(1 - ALPHA_LONG, k);
+    }
+}
@@ -0,0 +1,180 @@
+package serveur;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import metier.Latences;
+import metier.RequeteGestionStock;
+import modele.*;
+
+/**
+ * Générateur de charge local pour le serveur HTTP.
+ *
+ * Démarre un ServeurStock sur un port libre, puis plusieurs clients envoient
+ * en boucle un mélange de lectures (recherches, consultations de stock et
+ * prévisions) et d'écritures (ajouts de mouvements), dans une proportion
+ * configurable. Affiche le nombre de requêtes par seconde et les percentiles
+ * de latence, séparément pour les lectures et les écritures.
+ *
+ * Chaque client alterne des entrées et des sorties d'une unité sur le même
+ * produit : le stock des produits est inchangé à la fin du test.
+ *
+ * @author jessy
+ */
+public class ChargeHttp {
+    /**
+     * Lance le test de charge.
+     *
+     * @param args [clients] [requêtes par client] [threads serveur] [proportion d'écritures, entre 0 et 1]
+     * @throws Exception Toute exception qui se produit pendant le test.
+     */
+    public static void main(String[] args) throws Exception {
+        int nbClients = args.length > 0 ? Integer.parseInt(args[0]) : 16;
+        final int parClient = args.length > 1 ? Integer.parseInt(args[1]) : 2000;
+        int threadsServeur = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors() * 2;
+        final double proportionEcritures = args.length > 3 ? Double.parseDouble(args[3]) : 0.1;
+
+        if( proportionEcritures < 0 || proportionEcritures > 1 )
+            throw new IllegalArgumentException("Proportion d'écritures invalide : " + proportionEcritures);
+
+        RequeteGestionStock rq = RequeteGestionStock.getInstance();
+        final List<Produit> produits = rq.ensProduits();
+
+        ServeurStock serveur = new ServeurStock(rq, 0, threadsServeur, 1024);
+        serveur.demarrer();
+        final String base = "http://localhost:" + serveur.getPort();
+
+        final Latences latencesLecture = new Latences();
+        final Latences latencesEcriture = new Latences();
+        final AtomicLong erreurs = new AtomicLong();
+        ExecutorService clients = Executors.newFixedThreadPool(nbClients);
+        List<Future<?>> taches = new ArrayList<>();
+
+        long debut = System.nanoTime();
+
+        for(int c = 0; c < nbClients; c++){
+            final long graine = c;
+            taches.add(clients.submit(new Callable<Void>() {
+                @Override
+                public Void call() throws Exception {
+                    SplittableRandom rnd = new SplittableRandom(graine);
+
+                    // Produit de l'entrée en attente de sa sortie, s'il y en a une.
+                    Produit entree = null;
+
+                    for(int i = 0; i < parClient; i++){
+                        Produit p = produits.get(rnd.nextInt(produits.size()));
+                        long t0 = System.nanoTime();
+                        int code;
+
+                        if( rnd.nextDouble() < proportionEcritures ){
+                            // Une entrée forcée, puis la sortie correspondante
+                            // qui ne peut pas manquer de stock.
+                            int quantite;
+
+                            if( entree == null ){
+                                quantite = 1;
+                                entree = p;
+                            } else {
+                                quantite = -1;
+                                p = entree;
+                                entree = null;
+                            }
+
+                            code = post(base + "/mouvements", "id=" + p.getId() + "&quantite=" + quantite + "&forcer=true");
+                            latencesEcriture.ajoute(System.nanoTime() - t0);
+
+                            if( code != 201 )
+                                erreurs.incrementAndGet();
+
+                            continue;
+                        }
+
+                        // Parmi les lectures : un quart de recherches, un
+                        // huitième de prévisions, le reste en consultations de stock.
+                        int tirage = rnd.nextInt(8);
+                        String url = tirage < 2
+                                ? base + "/produits?nom=" + java.net.URLEncoder.encode(p.getNom().substring(0, 1), "UTF-8")
+                                : tirage == 2 ? base + "/previsions?id=" + p.getId() : base + "/stock?id=" + p.getId();
+
+                        code = get(url);
+                        latencesLecture.ajoute(System.nanoTime() - t0);
+
+                        if( code != 200 )
+                            erreurs.incrementAndGet();
+                    }
+
+                    // On rend l'unité entrée en dernier, hors mesure.
+                    if( entree != null )
+                        post(base + "/mouvements", "id=" + entree.getId() + "&quantite=-1&forcer=true");
+
+                    return null;
+                }
+            }));
+        }
+
+        for(Future<?> f: taches)
+            f.get();
+
+        double secondes = (System.nanoTime() - debut) / 1e9;
+        clients.shutdown();
+        serveur.arreter();
+
+        long total = (long) nbClients * parClient;
+        System.out.printf("%d requêtes en %.2fs : %.0f requêtes/s (%d erreurs)\n", total, secondes, total / secondes, erreurs.get());
+        System.out.printf("Latence des lectures : %s\n", latencesLecture);
+        System.out.printf("Latence des écritures : %s\n", latencesEcriture);
+    }
+
+    /**
+     * Envoie une requête GET et lit entièrement la réponse.
+     *
+     * @return Le code HTTP reçu.
+     */
+    private static int get(String url) throws Exception {
+        return reponse((HttpURLConnection) new URL(url).openConnection());
+    }
+
+    /**
+     * Envoie une requête POST avec des paramètres de formulaire et lit
+     * entièrement la réponse.
+     *
+     * @return Le code HTTP reçu.
+     */
+    private static int post(String url, String corps) throws Exception {
+        HttpURLConnection cnx = (HttpURLConnection) new URL(url).openConnection();
+        cnx.setRequestMethod("POST");
+        cnx.setDoOutput(true);
+        cnx.setRequestProperty("Content-Type", "application/x-www-form-urlencoded");
+
+        OutputStream out = cnx.getOutputStream();
+        out.write(corps.getBytes("UTF-8"));
+        out.close();
+
+        return reponse(cnx);
+    }
+
+    /**
+     * Lit entièrement la réponse d'une requête envoyée.
+     *
+     * @return Le code HTTP reçu.
+     */
+    private static int reponse(HttpURLConnection cnx) throws Exception {
+        int code = cnx.getResponseCode();
+        InputStream in = code < 400 ? cnx.getInputStream() : cnx.getErrorStream();
+        byte[] tampon = new byte[4096];
+
+        // On vide le flux pour que la connexion puisse être réutilisée.
+        if( in != null ){
+            while( in.read(tampon) > 0 ){}
+            in.close();
+        }
+
+        return code;
+    }
+}
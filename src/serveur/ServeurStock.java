@@ -0,0 +1,439 @@
+package serveur;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.ByteArrayOutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.text.SimpleDateFormat;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import metier.LectureStock;
+import metier.RequeteGestionStock;
+import metier.ResultatMouvement;
+import modele.*;
+
+/**
+ * Serveur HTTP sans interface graphique.
+ *
+ * Expose les requêtes de gestion de stock aux systèmes de caisse et
+ * d'entrepôt, en s'appuyant sur le serveur HTTP fourni avec le JDK. Les
+ * réponses sont en JSON.
+ *
+ * Chaque thread de traitement lit sur sa propre connexion : les lectures
+ * parallèles ne s'attendent pas. Les ajouts de mouvements passent par la
+ * requête partagée, qui vérifie les limites de stock et prévient ses
+ * écouteurs.
+ *
+ * <ul>
+ * <li>GET /produits?nom=... : recherche de produits (tous si nom est absent).</li>
+ * <li>GET /stock?id=... : quantité en stock d'un produit.</li>
+ * <li>POST /mouvements?id=...&amp;quantite=... : ajout d'un mouvement, avec
+ *     vérification des limites de stock (forcer=true pour dépasser le maximum).</li>
+ * <li>GET /previsions?id=... : prévision de rupture d'un produit (tous si id est absent).</li>
+ * </ul>
+ *
+ * @author jessy
+ */
+public class ServeurStock {
+    /**
+     * Port d'écoute par défaut.
+     */
+    public final static int PORT_DEFAUT = 8080;
+
+    /**
+     * Serveur HTTP du JDK.
+     */
+    private final HttpServer serveur;
+
+    /**
+     * Exécuteur borné qui traite les requêtes.
+     */
+    private final ThreadPoolExecutor executeur;
+
+    /**
+     * Requête de gestion de stock partagée, pour les écritures.
+     */
+    private final RequeteGestionStock requete;
+
+    /**
+     * Lectures du thread courant, ouvertes à la première requête traitée.
+     */
+    private final ThreadLocal<LectureStock> lectures = new ThreadLocal<>();
+
+    /**
+     * Toutes les lectures ouvertes, fermées à l'arrêt.
+     */
+    private final List<LectureStock> ouvertes = new CopyOnWriteArrayList<>();
+
+    /**
+     * Constructeur par données.
+     *
+     * @param requete La requête de gestion de stock à utiliser.
+     * @param port Le port d'écoute, 0 pour en choisir un libre.
+     * @param nbThreads Nombre de threads de traitement.
+     * @param capacite Nombre de requêtes en attente au-delà duquel le thread
+     *        d'acceptation les traite lui-même, ce qui ralentit les clients.
+     * @throws IOException Si le port ne peut pas être ouvert.
+     */
+    public ServeurStock(RequeteGestionStock requete, int port, int nbThreads, int capacite) throws IOException {
+        this.requete = requete;
+
+        this.executeur = new ThreadPoolExecutor(nbThreads, nbThreads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<Runnable>(capacite),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+
+        this.serveur = HttpServer.create(new InetSocketAddress(port), 0);
+        this.serveur.setExecutor(executeur);
+
+        this.serveur.createContext("/produits", new Routeur("GET") {
+            @Override
+            protected void traite(HttpExchange echange, Map<String, String> params) throws IOException, SQLException {
+                produits(echange, params);
+            }
+        });
+        this.serveur.createContext("/stock", new Routeur("GET") {
+            @Override
+            protected void traite(HttpExchange echange, Map<String, String> params) throws IOException, SQLException {
+                stock(echange, params);
+            }
+        });
+        this.serveur.createContext("/mouvements", new Routeur("POST") {
+            @Override
+            protected void traite(HttpExchange echange, Map<String, String> params) throws IOException, SQLException {
+                mouvement(echange, params);
+            }
+        });
+        this.serveur.createContext("/previsions", new Routeur("GET") {
+            @Override
+            protected void traite(HttpExchange echange, Map<String, String> params) throws IOException, SQLException {
+                previsions(echange, params);
+            }
+        });
+    }
+
+    /**
+     * Démarre le serveur.
+     */
+    public void demarrer(){
+        serveur.start();
+    }
+
+    /**
+     * Arrête le serveur et son exécuteur, puis ferme les connexions des
+     * threads de traitement.
+     */
+    public void arreter(){
+        serveur.stop(0);
+        executeur.shutdown();
+
+        try {
+            executeur.awaitTermination(5, TimeUnit.SECONDS);
+        } catch( InterruptedException e ){
+            Thread.currentThread().interrupt();
+        }
+
+        for(LectureStock curr: ouvertes){
+            try {
+                curr.close();
+            } catch( SQLException e ){
+                Logger.getLogger(ServeurStock.class.getName()).log(Level.WARNING, null, e);
+            }
+        }
+
+        ouvertes.clear();
+    }
+
+    /**
+     * @return Le port sur lequel le serveur écoute.
+     */
+    public int getPort(){
+        return serveur.getAddress().getPort();
+    }
+
+    /**
+     * @return Les lectures du thread courant.
+     * @throws SQLException Si la connexion ne peut pas être ouverte.
+     */
+    private LectureStock lecture() throws SQLException {
+        LectureStock result = lectures.get();
+
+        if( result == null ){
+            result = new LectureStock(requete);
+            ouvertes.add(result);
+            lectures.set(result);
+        }
+
+        return result;
+    }
+
+    // Points d'entrée
+
+    /**
+     * Recherche de produits.
+     */
+    private void produits(HttpExchange echange, Map<String, String> params) throws IOException, SQLException {
+        String nom = params.get("nom");
+        LectureStock lecture = lecture();
+        List<Produit> produits = (nom == null || nom.isEmpty()) ? lecture.ensProduits() : lecture.ensProduits(nom);
+
+        StringBuilder json = new StringBuilder("[");
+
+        for(Produit curr: produits){
+            if( json.length() > 1 )
+                json.append(',');
+
+            json.append("{\"id\":").append(curr.getId())
+                .append(",\"nom\":").append(chaine(curr.getNom()))
+                .append(",\"stockMin\":").append(curr.getStockMin())
+                .append(",\"stockMax\":").append(curr.getStockMax())
+                .append('}');
+        }
+
+        json.append(']');
+        repond(echange, 200, json.toString());
+    }
+
+    /**
+     * Quantité en stock d'un produit.
+     */
+    private void stock(HttpExchange echange, Map<String, String> params) throws IOException, SQLException {
+        LectureStock lecture = lecture();
+        Produit produit = lecture.produit(entier(params, "id"));
+
+        if( produit == null ){
+            erreur(echange, 404, "Produit inconnu");
+            return;
+        }
+
+        int stock = lecture.quantiteEnStock(produit.getId());
+        repond(echange, 200, "{\"id\":" + produit.getId() + ",\"stock\":" + stock + "}");
+    }
+
+    /**
+     * Ajout d'un mouvement.
+     */
+    private void mouvement(HttpExchange echange, Map<String, String> params) throws IOException, SQLException {
+        Produit produit = lecture().produit(entier(params, "id"));
+        int quantite = entier(params, "quantite");
+        boolean forcer = Boolean.parseBoolean(params.get("forcer"));
+
+        if( produit == null ){
+            erreur(echange, 404, "Produit inconnu");
+            return;
+        }
+
+        if( quantite == 0 ){
+            erreur(echange, 400, "Une quantité nulle a été entrée");
+            return;
+        }
+
+        ResultatMouvement resultat = requete.ajouteMouvementConditionnel(produit, quantite, forcer);
+
+        // Un refus est un conflit avec l'état du stock, pas une erreur du client.
+        int code = resultat.estAjoute() ? 201 : (resultat == ResultatMouvement.ECHEC ? 500 : 409);
+        repond(echange, code, "{\"id\":" + produit.getId() + ",\"resultat\":" + chaine(resultat.name()) + "}");
+    }
+
+    /**
+     * Prévisions de rupture, calculées sur les agrégats de la base.
+     */
+    private void previsions(HttpExchange echange, Map<String, String> params) throws IOException, SQLException {
+        LectureStock lecture = lecture();
+        long maintenant = System.currentTimeMillis();
+        TimeZone fuseau = TimeZone.getDefault();
+        List<LectureStock.PrevisionProduit> previsions;
+
+        if( params.containsKey("id") ){
+            LectureStock.PrevisionProduit prevision = lecture.prevision(entier(params, "id"), maintenant, fuseau);
+
+            if( prevision == null ){
+                erreur(echange, 404, "Produit inconnu");
+                return;
+            }
+
+            previsions = Collections.singletonList(prevision);
+        } else {
+            previsions = lecture.previsions(maintenant, fuseau);
+        }
+
+        // Même format de date que la fenêtre Prevision.
+        SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
+        dateFormat.setTimeZone(fuseau);
+        StringBuilder json = new StringBuilder("[");
+
+        for(LectureStock.PrevisionProduit curr: previsions){
+            if( json.length() > 1 )
+                json.append(',');
+
+            json.append("{\"id\":").append(curr.getId())
+                .append(",\"nom\":").append(chaine(curr.getNom()))
+                .append(",\"stock\":").append(curr.getStock())
+                .append(",\"consommation\":").append(curr.getConsommation())
+                .append(",\"rupture\":").append(curr.getRupture() != NoyauPrevision.AUCUNE_DATE
+                        ? chaine(dateFormat.format(new Date(curr.getRupture()))) : "null")
+                .append('}');
+        }
+
+        json.append(']');
+        repond(echange, 200, json.toString());
+    }
+
+    // Outils
+
+    /**
+     * Gestionnaire de base : vérifie la méthode, décode les paramètres et
+     * transforme les exceptions en réponses d'erreur.
+     */
+    private abstract class Routeur implements HttpHandler {
+        private final String methode;
+
+        Routeur(String methode) {
+            this.methode = methode;
+        }
+
+        @Override
+        public void handle(HttpExchange echange) throws IOException {
+            try {
+                if( !methode.equals(echange.getRequestMethod()) ){
+                    echange.getResponseHeaders().set("Allow", methode);
+                    erreur(echange, 405, "Méthode non autorisée");
+                    return;
+                }
+
+                traite(echange, parametres(echange));
+            } catch( IllegalArgumentException e ){
+                erreur(echange, 400, e.getMessage());
+            } catch( SQLException e ){
+                Logger.getLogger(ServeurStock.class.getName()).log(Level.SEVERE, null, e);
+                erreur(echange, 500, e.getMessage());
+            } finally {
+                echange.close();
+            }
+        }
+
+        protected abstract void traite(HttpExchange echange, Map<String, String> params) throws IOException, SQLException;
+    }
+
+    /**
+     * Décode les paramètres de l'URL et, pour un POST, ceux du corps.
+     */
+    private static Map<String, String> parametres(HttpExchange echange) throws IOException {
+        Map<String, String> result = new HashMap<>();
+        decode(echange.getRequestURI().getRawQuery(), result);
+
+        if( "POST".equals(echange.getRequestMethod()) ){
+            InputStream in = echange.getRequestBody();
+            ByteArrayOutputStream corps = new ByteArrayOutputStream();
+            byte[] tampon = new byte[1024];
+            int lus;
+
+            while( (lus = in.read(tampon)) > 0 )
+                corps.write(tampon, 0, lus);
+
+            decode(new String(corps.toByteArray(), StandardCharsets.UTF_8), result);
+        }
+
+        return result;
+    }
+
+    /**
+     * Décode une chaîne de la forme a=1&amp;b=2.
+     */
+    private static void decode(String requete, Map<String, String> result) throws IOException {
+        if( requete == null || requete.isEmpty() )
+            return;
+
+        for(String paire: requete.split("&")){
+            int egal = paire.indexOf('=');
+
+            if( egal < 0 )
+                continue;
+
+            result.put(URLDecoder.decode(paire.substring(0, egal), "UTF-8"),
+                    URLDecoder.decode(paire.substring(egal + 1), "UTF-8"));
+        }
+    }
+
+    /**
+     * Lit un paramètre entier obligatoire.
+     */
+    private static int entier(Map<String, String> params, String nom){
+        String valeur = params.get(nom);
+
+        if( valeur == null )
+            throw new IllegalArgumentException("Paramètre manquant : " + nom);
+
+        try {
+            return Integer.parseInt(valeur);
+        } catch( NumberFormatException e ){
+            throw new IllegalArgumentException("Paramètre invalide : " + nom);
+        }
+    }
+
+    /**
+     * Représente une chaîne en JSON.
+     */
+    private static String chaine(String s){
+        StringBuilder result = new StringBuilder("\"");
+
+        for(int i = 0; i < s.length(); i++){
+            char c = s.charAt(i);
+
+            if( c == '"' || c == '\\' )
+                result.append('\\').append(c);
+            else if( c < 0x20 )
+                result.append(String.format("\\u%04x", (int) c));
+            else
+                result.append(c);
+        }
+
+        return result.append('"').toString();
+    }
+
+    /**
+     * Envoie une réponse d'erreur.
+     */
+    private static void erreur(HttpExchange echange, int code, String message) throws IOException {
+        repond(echange, code, "{\"erreur\":" + chaine(String.valueOf(message)) + "}");
+    }
+
+    /**
+     * Envoie une réponse JSON.
+     */
+    private static void repond(HttpExchange echange, int code, String json) throws IOException {
+        byte[] corps = json.getBytes(StandardCharsets.UTF_8);
+        echange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        echange.sendResponseHeaders(code, corps.length);
+
+        OutputStream out = echange.getResponseBody();
+        out.write(corps);
+        out.close();
+    }
+
+    /**
+     * Lance le serveur.
+     *
+     * @param args [port] [threads] [file d'attente]
+     * @throws Exception Toute exception qui se produit au démarrage.
+     */
+    public static void main(String[] args) throws Exception {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : PORT_DEFAUT;
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors() * 2;
+        int capacite = args.length > 2 ? Integer.parseInt(args[2]) : 1024;
+
+        ServeurStock serveur = new ServeurStock(RequeteGestionStock.getInstance(), port, threads, capacite);
+        serveur.demarrer();
+        System.out.printf("Serveur à l'écoute sur le port %d (%d threads)\n", serveur.getPort(), threads);
+    }
+}
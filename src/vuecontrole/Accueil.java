@@ -1,15 +1,25 @@
 package vuecontrole;
 
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
 import java.sql.SQLException;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import javax.swing.DefaultListModel;
 import javax.swing.JOptionPane;
 import javax.swing.SpinnerNumberModel;
+import javax.swing.SwingUtilities;
+import javax.swing.SwingWorker;
 import javax.swing.event.ListSelectionEvent;
 import javax.swing.event.ListSelectionListener;
+import metier.MoteurAlertes;
 import metier.RequeteGestionStock;
+import metier.ResultatMouvement;
 import modele.*;
 
 /**
@@ -21,23 +31,66 @@ import modele.*;
  * @author jessy
  */
 public class Accueil extends javax.swing.JFrame {
-    private RequeteGestionStock requete = null;
+    // Instant de lancement de l'application, pour mesurer le démarrage.
+    private final static long DEMARRAGE = System.nanoTime();
+    
+    // Nombre de produits ajoutés à la liste à la fois pendant le chargement.
+    private final static int TAILLE_PAGE = 50;
+    
+    // Connexion, ouverte par le premier chargement.
+    private volatile RequeteGestionStock requete = null;
+    
+    // Moteur d'alertes, démarré une fois la première page affichée et
+    // arrêté avec la fenêtre. Lu et écrit dans le thread Swing seulement.
+    private DemarrageAlertes demarrageAlertes = null;
+    private MoteurAlertes alertes = null;
+    
+    // Chargement en cours, remplacé à chaque nouvelle recherche.
+    private ChargementProduits chargement = null;
+    
+    // Passe à false à la fin du premier chargement.
+    private boolean demarrage = true;
+    
+    // Mouvements de cette fenêtre déjà signalés sous le stock minimal, que
+    // le moteur d'alertes ne doit pas signaler une deuxième fois. Les
+    // références sont faibles : un mouvement pour lequel le moteur ne lève
+    // pas d'alerte disparaît dès que plus personne ne le garde.
+    private final Set<Mouvement> dejaSignales = Collections.newSetFromMap(new WeakHashMap<Mouvement, Boolean>());
     
     /**
      * Constructeur par défaut.
      * 
-     * Récupère la requête et peuple la liste des produits.
-     * 
-     * @throws SQLException Exception de base de données.
-     * @throws ClassNotFoundException Driver JDBC non trouvé.
+     * La fenêtre s'affiche tout de suite : la connexion et la liste des
+     * produits sont chargées en fond, et les produits apparaissent par pages
+     * au fur et à mesure.
      */
-    public Accueil() throws SQLException, ClassNotFoundException {
-        // On récupère la liste des produits.
-        requete = RequeteGestionStock.getInstance();
-        
+    public Accueil() {
         // On laisse Swing initialiser les composants.
         initComponents();
         
+        // Rien n'est utilisable avant la fin du premier chargement.
+        searchField.setEnabled(false);
+        previewButton.setEnabled(false);
+        
+        // Mesure du premier affichage de la fenêtre, et arrêt du moteur
+        // d'alertes à sa fermeture.
+        addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowOpened(WindowEvent e) {
+                mesure("fenêtre affichée");
+            }
+            
+            @Override
+            public void windowClosing(WindowEvent e) {
+                arreteAlertes();
+            }
+            
+            @Override
+            public void windowClosed(WindowEvent e) {
+                arreteAlertes();
+            }
+        });
+        
         // Puis on remplit la liste des produits.
         updateProductList();
         
@@ -49,39 +102,233 @@ public class Accueil extends javax.swing.JFrame {
                 updateSpinner();
             }
         });
+        
+        // Un double-clic sur un produit ouvre l'historique de son stock.
+        productList.addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                Produit produit = productList.getSelectedValue();
+                
+                if( e.getClickCount() == 2 && produit != null )
+                    new Historique(produit).setVisible(true);
+            }
+        });
+        
+    }
+    
+    /**
+     * Journalise le temps écoulé depuis le lancement de l'application.
+     * 
+     * @param etape L'étape atteinte.
+     */
+    private static void mesure(String etape){
+        Logger.getLogger(Accueil.class.getName()).log(Level.INFO, "Démarrage : {0} après {1} ms",
+                new Object[]{ etape, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - DEMARRAGE) });
+    }
+    
+    /**
+     * Démarre le moteur d'alertes en fond, si ce n'est pas déjà fait.
+     * Appelée à l'affichage de la première page de produits : la lecture des
+     * stocks de départ ne retarde pas celle-ci.
+     */
+    private void demarreAlertes(){
+        if( demarrageAlertes != null || !isDisplayable() )
+            return;
+        
+        demarrageAlertes = new DemarrageAlertes();
+        demarrageAlertes.execute();
+    }
+    
+    /**
+     * Arrête le moteur d'alertes, s'il a démarré. Un démarrage encore en
+     * cours est arrêté à sa fin.
+     */
+    private void arreteAlertes(){
+        if( alertes == null )
+            return;
+        
+        try {
+            alertes.fermer();
+        } catch( InterruptedException e ){
+            Thread.currentThread().interrupt();
+        }
+        
+        alertes = null;
+    }
+    
+    /**
+     * Démarrage en fond du moteur d'alertes.
+     * 
+     * Un mouvement ajouté depuis cette fenêtre est signalé tout de suite
+     * s'il laisse le stock sous le minimum. Le moteur d'alertes signale ceux
+     * des autres sources (ingestion, serveur, unités de travail...).
+     */
+    private class DemarrageAlertes extends SwingWorker<MoteurAlertes, Void> {
+        @Override
+        protected MoteurAlertes doInBackground() throws Exception {
+            MoteurAlertes moteur = MoteurAlertes.surveille(requete);
+            moteur.ajouteEcouteur(new MoteurAlertes.Ecouteur() {
+                @Override
+                public void alertes(final List<MoteurAlertes.Alerte> liste) {
+                    SwingUtilities.invokeLater(new Runnable() {
+                        @Override
+                        public void run() {
+                            afficheAlertes(liste);
+                        }
+                    });
+                }
+            });
+            return moteur;
+        }
+        
+        @Override
+        protected void done() {
+            try {
+                alertes = get();
+                mesure("moteur d'alertes démarré");
+                
+                // La fenêtre a été fermée pendant le démarrage.
+                if( !isDisplayable() )
+                    arreteAlertes();
+            } catch( InterruptedException | ExecutionException e ){
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                Logger.getLogger(Accueil.class.getName()).log(Level.SEVERE, null, cause);
+            }
+        }
+    }
+    
+    /**
+     * Affiche en une seule fois les produits passés sous leur stock minimal.
+     * 
+     * @param liste Un lot d'alertes du moteur.
+     */
+    private void afficheAlertes(List<MoteurAlertes.Alerte> liste){
+        StringBuilder noms = new StringBuilder();
+        
+        for(MoteurAlertes.Alerte curr: liste){
+            if( curr.getNiveau() != MoteurAlertes.Niveau.SOUS_STOCK_MIN )
+                continue;
+            
+            // Déjà signalé par addButtonActionPerformed.
+            if( dejaSignales.remove(curr.getMouvement()) )
+                continue;
+            
+            if( noms.length() > 0 )
+                noms.append(", ");
+            
+            noms.append(curr.getProduit().getNom());
+        }
+        
+        if( noms.length() > 0 )
+            JOptionPane.showMessageDialog(this, "N'oubliez pas de passer une commande de " + noms, "AVERTISSEMENT", JOptionPane.WARNING_MESSAGE);
     }
     
     /**
      * Met à jour la liste des produits affichée pour prendre en compte la
      * valeur du champ de texte.
+     * 
+     * Le chargement se fait en fond ; un chargement précédent encore en cours
+     * est abandonné.
      */
     private void updateProductList(){
-        // On récupère la saisie
-        String search = searchField.getText();
+        if( chargement != null )
+            chargement.cancel(false);
         
-        try {
-            List<Produit> produits = null;
+        // On part d'une liste vide, remplie au fur et à mesure.
+        DefaultListModel<Produit> model = new DefaultListModel<>();
+        productList.setModel(model);
+        setTitle("Accueil - chargement...");
+        
+        chargement = new ChargementProduits(searchField.getText(), model);
+        chargement.execute();
+    }
+    
+    /**
+     * Chargement en fond des produits correspondant à une recherche.
+     * 
+     * Les produits sont publiés par pages de TAILLE_PAGE, une fois leurs
+     * mouvements chargés. Le premier chargement ouvre aussi la connexion ;
+     * le moteur d'alertes est démarré à part, une fois la première page
+     * publiée.
+     */
+    private class ChargementProduits extends SwingWorker<Integer, Produit> {
+        private final String recherche;
+        private final DefaultListModel<Produit> model;
+        private boolean premierePage = true;
+        
+        ChargementProduits(String recherche, DefaultListModel<Produit> model) {
+            this.recherche = recherche;
+            this.model = model;
+        }
+        
+        @Override
+        protected Integer doInBackground() throws Exception {
+            if( requete == null )
+                requete = RequeteGestionStock.getInstance();
             
             // Si la saisie est vide, on montre tout, sinon on filtre.
-            if( search.isEmpty() )
-                produits = requete.ensProduits();
-            else
-                produits = requete.ensProduits(search);
-            
-            // On ajoute chaque produit au modèle.
-            DefaultListModel model = new DefaultListModel();
+            List<Produit> produits = recherche.isEmpty() ? requete.ensProduits() : requete.ensProduits(recherche);
+            List<Produit> page = new ArrayList<>(TAILLE_PAGE);
             
             for(Produit curr: produits){
+                if( isCancelled() )
+                    return model.getSize();
+                
                 // Pour pouvoir afficher les quantités en stock, on doit
                 // récupérer tous les mouvements avant d'afficher.
                 requete.addAllMouvementsToProduit(curr);
+                page.add(curr);
+                
+                if( page.size() == TAILLE_PAGE ){
+                    publish(page.toArray(new Produit[page.size()]));
+                    page.clear();
+                }
+            }
+            
+            publish(page.toArray(new Produit[page.size()]));
+            return produits.size();
+        }
+        
+        @Override
+        protected void process(List<Produit> produits) {
+            // Un chargement abandonné ne touche plus à la liste.
+            if( isCancelled() )
+                return;
+            
+            for(Produit curr: produits)
                 model.addElement(curr);
+            
+            demarreAlertes();
+            
+            if( demarrage && premierePage && !produits.isEmpty() ){
+                premierePage = false;
+                mesure("premiers produits affichés");
             }
+        }
+        
+        @Override
+        protected void done() {
+            if( isCancelled() )
+                return;
             
-            // Puis on associe le tout à la liste.
-            productList.setModel(model);
-        } catch(SQLException e){
-            JOptionPane.showMessageDialog(this, e.getMessage(), "Erreur", JOptionPane.ERROR_MESSAGE);
+            setTitle("Accueil");
+            
+            try {
+                int nb = get();
+                
+                // Fin du premier chargement : la fenêtre devient utilisable.
+                if( demarrage ){
+                    demarrage = false;
+                    searchField.setEnabled(true);
+                    previewButton.setEnabled(true);
+                    searchField.requestFocusInWindow();
+                    mesure("fenêtre interactive, " + nb + " produits");
+                }
+            } catch( InterruptedException | ExecutionException e ){
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                Logger.getLogger(Accueil.class.getName()).log(Level.SEVERE, null, cause);
+                JOptionPane.showMessageDialog(Accueil.this, cause.getMessage(), "Erreur", JOptionPane.ERROR_MESSAGE);
+            }
         }
     }
     
@@ -207,7 +454,6 @@ public class Accueil extends javax.swing.JFrame {
         // On récupère la sélection et la valeur du spinner.
         Produit produit = productList.getSelectedValue();
         int quantity = (Integer) quantitySpinner.getValue();
-        int stock = produit.getQuantiteEnStock();
         
         // Dans tous les cas, on remet le spinner à 0.
         quantitySpinner.setValue(0);
@@ -225,35 +471,46 @@ public class Accueil extends javax.swing.JFrame {
             return;
         }
         
-        // Si on va dépasser le stock minimal, avertissement
-        if( (quantity < 0) && (stock + quantity < produit.getStockMin()) )
-            JOptionPane.showMessageDialog(this, "N'oubliez pas de passer une commande de " + produit.getNom(), "AVERTISSEMENT", JOptionPane.WARNING_MESSAGE);
-        
-        // Si on va dépasser le stock maximal, confirmation
-        if( (quantity > 0) && (stock + quantity > produit.getStockMax()) ){
-            if( JOptionPane.showConfirmDialog(this, "Vous allez dépasser le stock maximal, continuer?", "AVERTISSEMENT", JOptionPane.YES_NO_OPTION) == JOptionPane.NO_OPTION )
-                return;
-        }
-        
-        // Enregistrement en base & mise à jour du modèle.
+        // Enregistrement en base & mise à jour du modèle. Les limites sont
+        // vérifiées par la requête sur le stock réel, pas sur celui affiché
+        // qui a pu changer depuis.
         try {
-            if( requete.ajouteMouvement(produit, quantity) ){
-                // Pas vraiment optimal, mais c'est plus simple comme ça :/
-                updateProductList();
+            List<Mouvement> ajoutes = new ArrayList<>(1);
+            ResultatMouvement resultat = requete.ajouteMouvementConditionnel(produit, quantity, false, ajoutes);
+            
+            // Si on va dépasser le stock maximal, confirmation
+            if( resultat == ResultatMouvement.DEPASSEMENT_STOCK_MAX ){
+                if( JOptionPane.showConfirmDialog(this, "Vous allez dépasser le stock maximal, continuer?", "AVERTISSEMENT", JOptionPane.YES_NO_OPTION) == JOptionPane.NO_OPTION )
+                    return;
+                
+                resultat = requete.ajouteMouvementConditionnel(produit, quantity, true, ajoutes);
             }
+            
+            // Le stock ne peut pas devenir négatif
+            if( resultat == ResultatMouvement.STOCK_INSUFFISANT )
+                JOptionPane.showMessageDialog(this, "Stock insuffisant pour " + produit.getNom(), "AVERTISSEMENT", JOptionPane.WARNING_MESSAGE);
+            
+            // Si on a dépassé le stock minimal, avertissement
+            if( resultat == ResultatMouvement.AJOUTE_SOUS_STOCK_MIN ){
+                // Les alertes du moteur arrivent par invokeLater, donc
+                // après ceci.
+                dejaSignales.addAll(ajoutes);
+                
+                JOptionPane.showMessageDialog(this, "N'oubliez pas de passer une commande de " + produit.getNom(), "AVERTISSEMENT", JOptionPane.WARNING_MESSAGE);
+            }
+            
+            // Pas vraiment optimal, mais c'est plus simple comme ça :/
+            // On recharge aussi en cas de refus, l'affichage étant périmé.
+            if( resultat != ResultatMouvement.ECHEC )
+                updateProductList();
         } catch( SQLException e ){
             JOptionPane.showMessageDialog(this, e.getMessage(), "Erreur", JOptionPane.ERROR_MESSAGE);
         }
     }//GEN-LAST:event_addButtonActionPerformed
 
     private void previewButtonActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_previewButtonActionPerformed
-        try {
-            // On affiche simplement la fenêtre Prevision.
-            Prevision.getInstance().setVisible(true);
-        } catch(SQLException|ClassNotFoundException ex){
-            Logger.getLogger(Accueil.class.getName()).log(Level.SEVERE, null, ex);
-            JOptionPane.showMessageDialog(null, ex.getMessage(), "Erreur", JOptionPane.ERROR_MESSAGE);
-        }
+        // On affiche simplement la fenêtre Prevision, qui se charge en fond.
+        Prevision.getInstance().setVisible(true);
     }//GEN-LAST:event_previewButtonActionPerformed
 
     /**
@@ -286,12 +543,7 @@ public class Accueil extends javax.swing.JFrame {
         // Puis on crée et lance l'accueil.
         java.awt.EventQueue.invokeLater(new Runnable() {
             public void run() {
-                try {
-                    new Accueil().setVisible(true);
-                } catch (SQLException|ClassNotFoundException ex) {
-                    Logger.getLogger(Accueil.class.getName()).log(Level.SEVERE, null, ex);
-                    JOptionPane.showMessageDialog(null, ex.getMessage(), "Erreur", JOptionPane.ERROR_MESSAGE);
-                }
+                new Accueil().setVisible(true);
             }
         });
     }
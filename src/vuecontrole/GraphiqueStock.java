@@ -0,0 +1,223 @@
+package vuecontrole;
+
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Graphics;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.awt.event.MouseWheelEvent;
+import java.text.SimpleDateFormat;
+import java.util.*;
+import modele.*;
+
+/**
+ * Graphique de l'évolution du stock d'un produit.
+ *
+ * La courbe est demandée à HistoriqueStock à la largeur exacte de la zone de
+ * tracé : le dessin coûte une colonne par pixel, quel que soit le nombre de
+ * mouvements. La molette zoome autour du curseur, un glisser déplace la
+ * période et un double-clic revient à l'historique complet.
+ *
+ * Les niveaux de zoom sont des puissances de deux de la période complète, et
+ * le début de la période est aligné sur la largeur d'un pixel : on retombe
+ * souvent sur des courbes déjà dans le cache de l'historique.
+ *
+ * @author jessy
+ */
+public class GraphiqueStock extends javax.swing.JPanel {
+    private static final long serialVersionUID = 1L;
+
+    private final static int MARGE_GAUCHE = 50;
+    private final static int MARGE_DROITE = 10;
+    private final static int MARGE_HAUT = 10;
+    private final static int MARGE_BAS = 25;
+
+    /**
+     * Niveau de zoom maximal : la période complète divisée par 2^ZOOM_MAX.
+     */
+    private final static int ZOOM_MAX = 30;
+
+    private final SimpleDateFormat formatDate = new SimpleDateFormat("yyyy-MM-dd");
+
+    private Produit produit = null;
+    private HistoriqueStock historique = null;
+
+    // Période complète et période affichée.
+    private long debutTotal, dureeTotale;
+    private long debut;
+    private int zoom = 0;
+
+    // Début d'un glisser.
+    private int glisserX;
+    private long glisserDebut;
+
+    /**
+     * Constructeur par défaut.
+     */
+    public GraphiqueStock() {
+        setBackground(Color.WHITE);
+        setPreferredSize(new Dimension(600, 300));
+
+        MouseAdapter souris = new MouseAdapter() {
+            @Override
+            public void mouseWheelMoved(MouseWheelEvent e) {
+                zoome(e.getWheelRotation(), e.getX());
+            }
+
+            @Override
+            public void mousePressed(MouseEvent e) {
+                glisserX = e.getX();
+                glisserDebut = debut;
+            }
+
+            @Override
+            public void mouseDragged(MouseEvent e) {
+                deplace(glisserDebut - (long) ((e.getX() - glisserX) * msParPixel()));
+            }
+
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                if( e.getClickCount() == 2 )
+                    toutAfficher();
+            }
+        };
+
+        addMouseListener(souris);
+        addMouseMotionListener(souris);
+        addMouseWheelListener(souris);
+    }
+
+    /**
+     * Change le produit affiché.
+     *
+     * @param produit Le produit.
+     * @param historique Son historique de stock.
+     */
+    public void setHistorique(Produit produit, HistoriqueStock historique){
+        this.produit = produit;
+        this.historique = historique;
+
+        if( historique.getNbMouvements() > 0 ){
+            // Jusqu'à aujourd'hui, et au moins un jour.
+            debutTotal = historique.getPremiereDate();
+            long finTotale = Math.max(System.currentTimeMillis(), historique.getDerniereDate() + 1);
+            dureeTotale = Math.max(finTotale - debutTotal, NoyauPrevision.MS_PAR_JOUR);
+        }
+
+        toutAfficher();
+    }
+
+    /**
+     * Affiche l'historique complet.
+     */
+    public void toutAfficher(){
+        zoom = 0;
+        debut = debutTotal;
+        repaint();
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        super.paintComponent(g);
+
+        int largeur = getWidth() - MARGE_GAUCHE - MARGE_DROITE;
+        int hauteur = getHeight() - MARGE_HAUT - MARGE_BAS;
+
+        if( historique == null || largeur <= 0 || hauteur <= 0 )
+            return;
+
+        if( historique.getNbMouvements() == 0 ){
+            g.setColor(Color.GRAY);
+            g.drawString("Aucun mouvement", MARGE_GAUCHE, MARGE_HAUT + hauteur / 2);
+            return;
+        }
+
+        HistoriqueStock.Courbe courbe = historique.echantillonne(debut, debut + duree(), largeur);
+
+        // Échelle verticale : la courbe et les seuils du produit, à partir de 0.
+        int bas = Math.min(0, courbe.getStockMin());
+        int haut = Math.max(Math.max(courbe.getStockMax(), produit.getStockMax()), bas + 1);
+        double echelle = (double) hauteur / (haut - bas);
+
+        // Seuils
+        g.setColor(Color.ORANGE);
+        int yMin = MARGE_HAUT + hauteur - (int) ((produit.getStockMin() - bas) * echelle);
+        g.drawLine(MARGE_GAUCHE, yMin, MARGE_GAUCHE + largeur, yMin);
+        g.setColor(Color.RED);
+        int yMax = MARGE_HAUT + hauteur - (int) ((produit.getStockMax() - bas) * echelle);
+        g.drawLine(MARGE_GAUCHE, yMax, MARGE_GAUCHE + largeur, yMax);
+
+        // Courbe : un trait vertical par colonne, du minimum au maximum. Le
+        // stock reporté de la colonne précédente y est inclus, donc les
+        // colonnes se raccordent.
+        g.setColor(Color.BLUE);
+
+        for(int x = 0; x < largeur; x++){
+            int y1 = MARGE_HAUT + hauteur - (int) ((courbe.getMax(x) - bas) * echelle);
+            int y2 = MARGE_HAUT + hauteur - (int) ((courbe.getMin(x) - bas) * echelle);
+            g.drawLine(MARGE_GAUCHE + x, y1, MARGE_GAUCHE + x, y2);
+        }
+
+        // Axes et étiquettes
+        g.setColor(Color.BLACK);
+        g.drawLine(MARGE_GAUCHE, MARGE_HAUT, MARGE_GAUCHE, MARGE_HAUT + hauteur);
+        g.drawLine(MARGE_GAUCHE, MARGE_HAUT + hauteur, MARGE_GAUCHE + largeur, MARGE_HAUT + hauteur);
+        g.drawString(String.valueOf(haut), 5, MARGE_HAUT + 10);
+        g.drawString(String.valueOf(bas), 5, MARGE_HAUT + hauteur);
+
+        String fin = formatDate.format(new Date(courbe.getFin()));
+        g.drawString(formatDate.format(new Date(courbe.getDebut())), MARGE_GAUCHE, getHeight() - 8);
+        g.drawString(fin, MARGE_GAUCHE + largeur - g.getFontMetrics().stringWidth(fin), getHeight() - 8);
+    }
+
+    /**
+     * Zoome autour d'un point.
+     *
+     * @param crans Crans de molette : négatif pour zoomer, positif pour dézoomer.
+     * @param x Abscisse du point fixe.
+     */
+    private void zoome(int crans, int x){
+        int nouveau = Math.max(0, Math.min(ZOOM_MAX, zoom - crans));
+
+        if( nouveau == zoom || historique == null )
+            return;
+
+        // La date sous le curseur reste sous le curseur.
+        long pointe = debut + (long) ((x - MARGE_GAUCHE) * msParPixel());
+        double rapport = Math.pow(2, zoom - nouveau);
+        zoom = nouveau;
+        deplace(pointe - (long) ((pointe - debut) * rapport));
+    }
+
+    /**
+     * Déplace la période affichée, sans sortir de la période complète.
+     *
+     * @param nouveauDebut Le début voulu.
+     */
+    private void deplace(long nouveauDebut){
+        if( historique == null )
+            return;
+
+        long duree = duree();
+        nouveauDebut = Math.max(debutTotal, Math.min(nouveauDebut, debutTotal + dureeTotale - duree));
+
+        // Alignement sur un pixel, pour réutiliser les courbes en cache.
+        long pixel = Math.max(1, (long) msParPixel());
+        debut = debutTotal + (nouveauDebut - debutTotal) / pixel * pixel;
+        repaint();
+    }
+
+    /**
+     * Durée de la période affichée.
+     */
+    private long duree(){
+        return Math.max(1, dureeTotale >> zoom);
+    }
+
+    /**
+     * Durée représentée par un pixel.
+     */
+    private double msParPixel(){
+        return (double) duree() / Math.max(1, getWidth() - MARGE_GAUCHE - MARGE_DROITE);
+    }
+}
@@ -0,0 +1,107 @@
+package vuecontrole;
+
+import java.util.*;
+import modele.*;
+
+/**
+ * Fenêtre d'historique du stock d'un produit.
+ *
+ * Cette fenêtre trace l'évolution du stock d'un produit depuis son premier
+ * mouvement. Une fenêtre est ouverte par produit consulté.
+ *
+ * @author jessy
+ */
+public class Historique extends javax.swing.JFrame {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Nombre d'historiques de produits gardés en cache.
+     */
+    private final static int TAILLE_CACHE = 16;
+
+    /**
+     * Historiques des derniers produits consultés, par identifiant. Un
+     * historique n'est réutilisé que si le produit a toujours le même nombre
+     * de mouvements.
+     */
+    private final static Map<Integer, HistoriqueStock> historiques = new LinkedHashMap<Integer, HistoriqueStock>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, HistoriqueStock> eldest) {
+            return size() > TAILLE_CACHE;
+        }
+    };
+
+    /**
+     * Constructeur par données.
+     *
+     * @param produit Le produit, avec ses mouvements.
+     */
+    public Historique(Produit produit) {
+        // On laisse Swing initialiser les composants.
+        initComponents();
+
+        setTitle("Historique - " + produit.getNom());
+        graphique.setHistorique(produit, historique(produit));
+    }
+
+    /**
+     * Retrouve ou construit l'historique d'un produit.
+     *
+     * @param produit Le produit, avec ses mouvements.
+     * @return Son historique.
+     */
+    private static HistoriqueStock historique(Produit produit){
+        HistoriqueStock result = historiques.get(produit.getId());
+
+        if( result == null || result.getNbMouvements() != produit.getMouvements().size() ){
+            result = new HistoriqueStock(produit);
+            historiques.put(produit.getId(), result);
+        }
+
+        return result;
+    }
+
+    /**
+     * This method is called from within the constructor to initialize the form.
+     * WARNING: Do NOT modify this code. The content of this method is always
+     * regenerated by the Form Editor.
+     */
+    @SuppressWarnings("unchecked")
+    // <editor-fold defaultstate="collapsed" desc="Generated Code">//GEN-BEGIN:initComponents
+    private void initComponents() {
+
+        graphique = new vuecontrole.GraphiqueStock();
+        aideLabel = new javax.swing.JLabel();
+
+        setDefaultCloseOperation(javax.swing.WindowConstants.DISPOSE_ON_CLOSE);
+        setTitle("Historique");
+
+        aideLabel.setText("Molette : zoom, glisser : déplacer, double-clic : tout afficher");
+
+        javax.swing.GroupLayout layout = new javax.swing.GroupLayout(getContentPane());
+        getContentPane().setLayout(layout);
+        layout.setHorizontalGroup(
+            layout.createParallelGroup(javax.swing.GroupLayout.Alignment.LEADING)
+            .addComponent(graphique, javax.swing.GroupLayout.DEFAULT_SIZE, 600, Short.MAX_VALUE)
+            .addGroup(layout.createSequentialGroup()
+                .addContainerGap()
+                .addComponent(aideLabel)
+                .addGap(0, 0, Short.MAX_VALUE))
+        );
+        layout.setVerticalGroup(
+            layout.createParallelGroup(javax.swing.GroupLayout.Alignment.LEADING)
+            .addGroup(layout.createSequentialGroup()
+                .addComponent(graphique, javax.swing.GroupLayout.DEFAULT_SIZE, 300, Short.MAX_VALUE)
+                .addPreferredGap(javax.swing.LayoutStyle.ComponentPlacement.RELATED)
+                .addComponent(aideLabel)
+                .addContainerGap())
+        );
+
+        pack();
+    }// </editor-fold>//GEN-END:initComponents
+
+    // Variables declaration - do not modify//GEN-BEGIN:variables
+    private javax.swing.JLabel aideLabel;
+    private vuecontrole.GraphiqueStock graphique;
+    // End of variables declaration//GEN-END:variables
+}
@@ -1,11 +1,22 @@
 package vuecontrole;
 
-import java.sql.SQLException;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.io.File;
+import java.nio.file.Path;
 import java.text.SimpleDateFormat;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import metier.ExportPrevisions;
 import metier.RequeteGestionStock;
+import metier.SimulationRupture;
 import modele.*;
 import java.util.*;
+import javax.swing.JFileChooser;
 import javax.swing.JOptionPane;
+import javax.swing.SwingWorker;
 import javax.swing.table.DefaultTableModel;
 
 /**
@@ -23,10 +34,10 @@ public class Prevision extends javax.swing.JFrame {
     /**
      * Retourne l'unique instance de cette classe.
      * 
-     * @throws SQLException Erreur de BDD.
-     * @throws ClassNotFoundException Driver JDBC non trouvé.
+     * La fenêtre est créée vide si nécessaire ; les prévisions se chargent en
+     * fond.
      */
-    public static Prevision getInstance() throws SQLException, ClassNotFoundException{
+    public static Prevision getInstance(){
         // Si l'instance n'existe pas encore, la créer.
         if( singleton == null )
             singleton = new Prevision();
@@ -35,99 +46,207 @@ public class Prevision extends javax.swing.JFrame {
         return singleton;
     }
     
-    // Requête
-    private RequeteGestionStock requete = null;
+    // Requête, obtenue par le chargement en fond.
+    private volatile RequeteGestionStock requete = null;
+    
+    // Paramètres de la simulation des ruptures : graine fixe pour que deux
+    // affichages successifs donnent les mêmes probabilités.
+    private final static int HORIZON_RUPTURE = 30;
+    private final static int NB_TIRAGES = 10000;
+    private final static long GRAINE = 42;
+    
+    // Nombre de lignes ajoutées au tableau à la fois pendant le chargement.
+    private final static int TAILLE_PAGE = 50;
+    
+    // Instant de création de la fenêtre, pour mesurer son chargement.
+    private final long creation = System.nanoTime();
 
     /**
      * Constructuer par défaut.
      * 
-     * Initialise la fenêtre et affiche les données.
-     * 
-     * @throws SQLException Erreur de BDD.
-     * @throws ClassNotFoundException Driver JDBC non trouvé.
+     * Initialise la fenêtre et lance le chargement des données.
      */
-    private Prevision() throws SQLException, ClassNotFoundException {
-        // On récupère la requête.
-        requete = RequeteGestionStock.getInstance();
-        
+    private Prevision() {
         // On laisse Swing initialiser les composants.
         initComponents();
         
+        // Mesure du premier affichage de la fenêtre.
+        addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowOpened(WindowEvent e) {
+                mesure("fenêtre affichée");
+            }
+        });
+        
         // Puis on charge les données dans le JTable.
         updatePrevisions();
     }
     
     /**
-     * Récupère la liste des produits dans l'ordre.
+     * Journalise le temps écoulé depuis la création de la fenêtre.
      * 
-     * Les produits sont triés par date de rupture de stock décroissante.
+     * @param etape L'étape atteinte.
+     */
+    private void mesure(String etape){
+        Logger.getLogger(Prevision.class.getName()).log(Level.INFO, "Prévisions : {0} après {1} ms",
+                new Object[]{ etape, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - creation) });
+    }
+    
+    /**
+     * Crée un modèle vide avec les colonnes du tableau.
      * 
-     * @return La liste des produits.
-     * @throws SQLException Erreur de BDD.
+     * @return Le modèle.
      */
-    private List<Produit> recupererProduits() throws SQLException {
-        // On récupère la liste des produits.
-        List<Produit> produits = requete.ensProduits();
+    private static DefaultTableModel nouveauModele(){
+        DefaultTableModel model = new DefaultTableModel();
+        model.addColumn("Produit");
+        model.addColumn("Quantité");
+        model.addColumn("Conso. Moyenne");
+        model.addColumn("Écart-type");
+        model.addColumn("Tendance");
+        model.addColumn("Date Rupture");
+        model.addColumn("Proba. Rupture " + HORIZON_RUPTURE + "j");
+        return model;
+    }
+    
+    /**
+     * Construit la ligne du tableau d'un produit.
+     * 
+     * @param curr Le produit, avec ses mouvements.
+     * @param maintenant La date de référence des prévisions, en millisecondes.
+     * @param probabilite Texte de la probabilité de rupture.
+     * @param dateFormat Le formatteur des dates.
+     * @return La ligne.
+     */
+    private static Object[] ligne(Produit curr, long maintenant, String probabilite, SimpleDateFormat dateFormat){
+        // On récupère toutes les informations à afficher.
+        String nom = curr.getNom();
+        int quantite = curr.getQuantiteEnStock();
+        float conso = curr.getConsommationJournalière(maintenant);
+        Date rupture = curr.getDateDeRupture(maintenant);
         
-        // Pour chaque produit, on récupère tous les mouvements
-        for(Produit curr: produits)
-            requete.addAllMouvementsToProduit(curr);
+        // Dispersion et tendance viennent des statistiques tenues à
+        // jour par le produit, sans reparcourir l'historique.
+        StatistiquesConsommation stats = curr.getStatistiques();
         
-        // Puis on trie la liste par dates de rupture de stock décroissantes.
-        produits.sort(new Comparator<Produit>() {
-            @Override
-            public int compare(Produit o1, Produit o2) {
-                return o2.getDateDeRupture().compareTo(o1.getDateDeRupture());
-            }
-        });
+        // Puis on les place dans un tableau qui servira de ligne dans le modèle.
+        Object[] row = {
+            nom, 
+            quantite, 
+            String.format("%.2f", conso), 
+            String.format("%.2f", stats.getEcartType(maintenant)), 
+            String.format("%+.2f", stats.getTendance(maintenant)), 
+            rupture != null ? dateFormat.format(rupture) : "",
+            probabilite
+        };
         
-        return produits;
+        return row;
     }
     
     /**
      * Récupère les données et met à jour le JTable.
+     * 
+     * Les lignes apparaissent par pages au fil du chargement des produits,
+     * puis le tableau est remplacé par sa version triée par date de rupture,
+     * avec les probabilités de rupture.
      */
     private void updatePrevisions(){
+        // Toutes les prévisions sont calculées par rapport au même instant.
+        final long maintenant = System.currentTimeMillis();
+        final DefaultTableModel partiel = nouveauModele();
         
-        try {
-            // On récupère l'ensemble des produits triés.
-            List<Produit> produits = recupererProduits();
-            
-            // On crée un modèle avec nos colonnes.
-            DefaultTableModel model = new DefaultTableModel();
-            model.addColumn("Produit");
-            model.addColumn("Quantité");
-            model.addColumn("Conso. Moyenne");
-            model.addColumn("Date Rupture");
-            
-            // On utilise ce formatteur pour afficher les dates proprement.
-            SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
+        table.setModel(partiel);
+        exportButton.setEnabled(false);
+        setTitle("Gestion Ruptures - chargement...");
+        
+        new SwingWorker<DefaultTableModel, Object[]>() {
+            private boolean premierePage = true;
             
-            // Puis on ajoute chaque produit comme une ligne dans le JTable.
-            for(Produit curr: produits){
-                // On récupère toutes les informations à afficher.
-                String nom = curr.getNom();
-                int quantite = curr.getQuantiteEnStock();
-                float conso = curr.getConsommationJournalière();
-                Date rupture = curr.getDateDeRupture();
+            @Override
+            protected DefaultTableModel doInBackground() throws Exception {
+                if( requete == null )
+                    requete = RequeteGestionStock.getInstance();
+                
+                // On utilise ce formatteur pour afficher les dates proprement.
+                SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
+                
+                // On récupère la liste des produits, puis pour chaque produit
+                // tous ses mouvements, en montrant les lignes au fur et à mesure.
+                List<Produit> produits = requete.ensProduits();
+                List<Object[]> page = new ArrayList<>(TAILLE_PAGE);
+                
+                for(Produit curr: produits){
+                    requete.addAllMouvementsToProduit(curr);
+                    page.add(ligne(curr, maintenant, "...", dateFormat));
+                    
+                    if( page.size() == TAILLE_PAGE ){
+                        publish(page.toArray(new Object[page.size()][]));
+                        page.clear();
+                    }
+                }
+                
+                publish(page.toArray(new Object[page.size()][]));
+                
+                // Puis on trie la liste par dates de rupture décroissantes.
+                trie(produits, maintenant);
                 
-                // Puis on les place dans un tableau qui servira de ligne dans le modèle.
-                Object[] row = {
-                    nom, 
-                    quantite, 
-                    String.format("%.2f", conso), 
-                    rupture != null ? dateFormat.format(rupture) : ""
-                };
+                // Probabilité de rupture de chaque produit, dans l'ordre de la liste.
+                SimulationRupture simulation = new SimulationRupture(NB_TIRAGES, GRAINE);
+                double[] probabilites = simulation.probabilites(produits, HORIZON_RUPTURE, maintenant);
                 
-                model.addRow(row);
+                // Le tableau final est construit ici, et associé à la table
+                // une fois terminé.
+                DefaultTableModel model = nouveauModele();
+                
+                for(int i = 0; i < produits.size(); i++)
+                    model.addRow(ligne(produits.get(i), maintenant, String.format("%.1f %%", 100 * probabilites[i]), dateFormat));
+                
+                return model;
             }
             
-            // Et on n'oublie pas d'associer ce modèle à notre table.
-            table.setModel(model);
-        } catch(SQLException e){
-            JOptionPane.showMessageDialog(this, e.getMessage(), "Erreur", JOptionPane.ERROR_MESSAGE);
-        }
-        
+            @Override
+            protected void process(List<Object[]> lignes) {
+                for(Object[] curr: lignes)
+                    partiel.addRow(curr);
+                
+                if( premierePage && !lignes.isEmpty() ){
+                    premierePage = false;
+                    mesure("premières lignes affichées");
+                }
+            }
+            
+            @Override
+            protected void done() {
+                setTitle("Gestion Ruptures");
+                
+                try {
+                    DefaultTableModel model = get();
+                    table.setModel(model);
+                    exportButton.setEnabled(true);
+                    mesure("tableau complet, " + model.getRowCount() + " produits");
+                } catch( InterruptedException | ExecutionException e ){
+                    Throwable cause = e.getCause() != null ? e.getCause() : e;
+                    JOptionPane.showMessageDialog(Prevision.this, cause.getMessage(), "Erreur", JOptionPane.ERROR_MESSAGE);
+                }
+            }
+        }.execute();
+    }
+    
+    /**
+     * Trie les produits par date de rupture de stock décroissante. Les
+     * produits sans rupture prévisible se retrouvent en fin de liste.
+     * 
+     * @param produits Les produits, avec leurs mouvements.
+     * @param maintenant La date de référence des prévisions, en millisecondes.
+     */
+    private static void trie(List<Produit> produits, final long maintenant){
+        final TimeZone fuseau = TimeZone.getDefault();
+        produits.sort(new Comparator<Produit>() {
+            @Override
+            public int compare(Produit o1, Produit o2) {
+                return Long.compare(o2.dateDeRupture(maintenant, fuseau), o1.dateDeRupture(maintenant, fuseau));
+            }
+        });
     }
 
     /**
@@ -141,6 +260,7 @@ public class Prevision extends javax.swing.JFrame {
 
         jScrollPane1 = new javax.swing.JScrollPane();
         table = new javax.swing.JTable();
+        exportButton = new javax.swing.JButton();
 
         setTitle("Gestion Ruptures");
 
@@ -159,21 +279,72 @@ public class Prevision extends javax.swing.JFrame {
         ));
         jScrollPane1.setViewportView(table);
 
+        exportButton.setText("Exporter CSV...");
+        exportButton.addActionListener(new java.awt.event.ActionListener() {
+            public void actionPerformed(java.awt.event.ActionEvent evt) {
+                exportButtonActionPerformed(evt);
+            }
+        });
+
         javax.swing.GroupLayout layout = new javax.swing.GroupLayout(getContentPane());
         getContentPane().setLayout(layout);
         layout.setHorizontalGroup(
             layout.createParallelGroup(javax.swing.GroupLayout.Alignment.LEADING)
             .addComponent(jScrollPane1, javax.swing.GroupLayout.DEFAULT_SIZE, 400, Short.MAX_VALUE)
+            .addGroup(javax.swing.GroupLayout.Alignment.TRAILING, layout.createSequentialGroup()
+                .addGap(0, 0, Short.MAX_VALUE)
+                .addComponent(exportButton)
+                .addContainerGap())
         );
         layout.setVerticalGroup(
             layout.createParallelGroup(javax.swing.GroupLayout.Alignment.LEADING)
-            .addComponent(jScrollPane1, javax.swing.GroupLayout.DEFAULT_SIZE, 300, Short.MAX_VALUE)
+            .addGroup(layout.createSequentialGroup()
+                .addComponent(jScrollPane1, javax.swing.GroupLayout.DEFAULT_SIZE, 300, Short.MAX_VALUE)
+                .addPreferredGap(javax.swing.LayoutStyle.ComponentPlacement.RELATED)
+                .addComponent(exportButton)
+                .addContainerGap())
         );
 
         pack();
     }// </editor-fold>//GEN-END:initComponents
 
+    private void exportButtonActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_exportButtonActionPerformed
+        // On demande où enregistrer le fichier.
+        JFileChooser chooser = new JFileChooser();
+        chooser.setSelectedFile(new File("previsions.csv"));
+        
+        if( chooser.showSaveDialog(this) != JFileChooser.APPROVE_OPTION )
+            return;
+        
+        final Path fichier = chooser.getSelectedFile().toPath();
+        final long maintenant = System.currentTimeMillis();
+        exportButton.setEnabled(false);
+        
+        // L'export peut être long sur un gros catalogue : on le fait hors du
+        // thread de Swing pour ne pas figer la fenêtre.
+        new SwingWorker<Long, Void>() {
+            @Override
+            protected Long doInBackground() throws Exception {
+                return ExportPrevisions.exporte(requete, fichier, maintenant);
+            }
+            
+            @Override
+            protected void done() {
+                exportButton.setEnabled(true);
+                
+                try {
+                    long lignes = get();
+                    JOptionPane.showMessageDialog(Prevision.this, lignes + " produits exportés", "Export", JOptionPane.INFORMATION_MESSAGE);
+                } catch( InterruptedException | ExecutionException e ){
+                    Throwable cause = e.getCause() != null ? e.getCause() : e;
+                    JOptionPane.showMessageDialog(Prevision.this, cause.getMessage(), "Erreur", JOptionPane.ERROR_MESSAGE);
+                }
+            }
+        }.execute();
+    }//GEN-LAST:event_exportButtonActionPerformed
+
     // Variables declaration - do not modify//GEN-BEGIN:variables
+    private javax.swing.JButton exportButton;
     private javax.swing.JScrollPane jScrollPane1;
     private javax.swing.JTable table;
     // End of variables declaration//GEN-END:variables